@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.benchmark;
+
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserializes whole sheets and serializes batches of rows with {@link JacksonJsonSerializer}, which exercises the
+ * custom (de)serializers for object values, formats and cells.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializerBenchmark {
+
+    /**
+     * The number of rows in the sheet, and in the row batch.
+     */
+    @Param({"1000", "10000", "50000"})
+    public int rows;
+
+    private JacksonJsonSerializer serializer;
+    private byte[] sheetJson;
+    private List<Row> rowBatch;
+
+    /**
+     * Build the fixtures.
+     */
+    @Setup
+    public void setUp() {
+        serializer = new JacksonJsonSerializer();
+        sheetJson = SheetFixtures.sheetJson(rows);
+        rowBatch = SheetFixtures.rows(rows);
+    }
+
+    /**
+     * Deserialize a sheet, as {@code getSheet} does.
+     *
+     * @return the sheet
+     * @throws IOException if the fixture is invalid
+     */
+    @Benchmark
+    public Sheet deserializeSheet() throws IOException {
+        return serializer.deserialize(Sheet.class, new ByteArrayInputStream(sheetJson));
+    }
+
+    /**
+     * Serialize a batch of rows, as {@code addRows} does.
+     *
+     * @return the number of bytes written
+     * @throws Exception if the rows can't be serialized
+     */
+    @Benchmark
+    public int serializeRows() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.serialize(rowBatch, out);
+        return out.size();
+    }
+}
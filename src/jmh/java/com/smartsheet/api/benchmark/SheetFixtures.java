@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.benchmark;
+
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.ContactObjectValue;
+import com.smartsheet.api.models.MultiContactObjectValue;
+import com.smartsheet.api.models.MultiPicklistObjectValue;
+import com.smartsheet.api.models.Predecessor;
+import com.smartsheet.api.models.PredecessorList;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.format.Format;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Builds realistic sheets for the benchmarks: a task list whose rows have a contact, several reviewers, predecessors,
+ * multi-picklist tags, a date, a number and a checkbox, with cell formats on some of them. The content is derived
+ * from the row number, so every run sees the same data.
+ */
+public final class SheetFixtures {
+    static final long TASK_COLUMN = 1001;
+    static final long OWNER_COLUMN = 1002;
+    static final long REVIEWERS_COLUMN = 1003;
+    static final long PREDECESSORS_COLUMN = 1004;
+    static final long TAGS_COLUMN = 1005;
+    static final long DUE_COLUMN = 1006;
+    static final long ESTIMATE_COLUMN = 1007;
+    static final long DONE_COLUMN = 1008;
+
+    static final String[] FORMATS = {
+        ",,1,,,,,,,3,,,,,,,",
+        ",,,,,,,,,18,,,,,,,",
+        "0,2,1,1,1,2,0,1,4,22,1,0,0,0,0,0,",
+        ",,,,,,1,,,,,,,,,,",
+    };
+
+    private static final String[] TAGS = {"backend", "frontend", "infra", "urgent", "blocked", "review", "docs"};
+    private static final String CONTACT_OBJECT = "{\"objectType\":\"CONTACT\",\"email\":\"";
+    private static final String EMAIL_DOMAIN = "@example.com";
+    private static final String CELL_VALUE = ",\"value\":\"";
+    private static final String CELL_OBJECT_VALUE = "\",\"objectValue\":";
+    private static final String CELL_END = "},";
+
+    private SheetFixtures() {
+    }
+
+    /**
+     * Build the JSON a GET of a sheet returns (with {@code include=objectValue,format}).
+     *
+     * @param rowCount the number of rows
+     * @return the UTF-8 JSON
+     */
+    public static byte[] sheetJson(int rowCount) {
+        StringBuilder json = new StringBuilder(rowCount * 900);
+        json.append("{\"id\":4583173393803140,\"name\":\"Release plan\",\"version\":42,\"totalRowCount\":").append(rowCount)
+                .append(",\"accessLevel\":\"OWNER\",\"columns\":[")
+                .append(column(TASK_COLUMN, 0, "Task", "TEXT_NUMBER", ",\"primary\":true"))
+                .append(column(OWNER_COLUMN, 1, "Owner", "CONTACT_LIST", ""))
+                .append(column(REVIEWERS_COLUMN, 2, "Reviewers", "MULTI_CONTACT_LIST", ""))
+                .append(column(PREDECESSORS_COLUMN, 3, "Predecessors", "PREDECESSOR", ""))
+                .append(column(TAGS_COLUMN, 4, "Tags", "MULTI_PICKLIST", ",\"options\":[\"" + String.join("\",\"", TAGS) + "\"]"))
+                .append(column(DUE_COLUMN, 5, "Due", "DATE", ""))
+                .append(column(ESTIMATE_COLUMN, 6, "Estimate", "TEXT_NUMBER", ""))
+                .append(column(DONE_COLUMN, 7, "Done", "CHECKBOX", ""));
+        json.setLength(json.length() - 1);
+        json.append("],\"rows\":[");
+        for (int i = 1; i <= rowCount; i++) {
+            appendRow(json, i);
+        }
+        json.setLength(json.length() - 1);
+        json.append("]}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Build rows to add or update, with the same kind of content as {@link #sheetJson(int)}.
+     *
+     * @param rowCount the number of rows
+     * @return the rows
+     */
+    public static List<Row> rows(int rowCount) {
+        List<Row> rows = new ArrayList<>(rowCount);
+        for (int i = 1; i <= rowCount; i++) {
+            List<Cell> cells = new ArrayList<>();
+            cells.add(new Cell(TASK_COLUMN).setValue("Task " + i).setFormat(new Format(FORMATS[i % FORMATS.length])));
+            cells.add(new Cell(OWNER_COLUMN).setObjectValue(contact(i)));
+            cells.add(new Cell(REVIEWERS_COLUMN).setObjectValue(new MultiContactObjectValue(Arrays.asList(contact(i + 1),
+                    contact(i + 2)))));
+            if (i > 1) {
+                cells.add(new Cell(PREDECESSORS_COLUMN).setObjectValue(new PredecessorList(Arrays.asList(
+                        new Predecessor().setRowId(rowId(i - 1)).setType("FS")))));
+            }
+            cells.add(new Cell(TAGS_COLUMN).setObjectValue(new MultiPicklistObjectValue(Arrays.asList(tag(i), tag(i + 3)))));
+            cells.add(new Cell(DUE_COLUMN).setValue(date(i)));
+            cells.add(new Cell(ESTIMATE_COLUMN).setValue(i % 40));
+            cells.add(new Cell(DONE_COLUMN).setValue(i % 3 == 0));
+            Row row = new Row();
+            row.setToBottom(true);
+            row.setCells(cells);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    static long rowId(int rowNumber) {
+        return 7_000_000_000_000L + rowNumber;
+    }
+
+    private static String column(long id, int index, String title, String type, String extra) {
+        return "{\"id\":" + id + ",\"index\":" + index + ",\"title\":\"" + title + "\",\"type\":\"" + type + "\"" + extra +
+                ",\"validation\":false,\"width\":150},";
+    }
+
+    private static void appendRow(StringBuilder json, int i) {
+        String owner = "user" + (i % 50);
+        json.append("{\"id\":").append(rowId(i)).append(",\"rowNumber\":").append(i)
+                .append(",\"expanded\":true,\"createdAt\":\"2024-01-0").append(1 + i % 9).append("T10:15:30Z\"")
+                .append(",\"modifiedAt\":\"2024-03-1").append(i % 10).append("T08:00:00Z\",\"cells\":[");
+        json.append("{\"columnId\":").append(TASK_COLUMN).append(CELL_VALUE).append("Task ").append(i)
+                .append("\",\"displayValue\":\"Task ").append(i).append("\",\"format\":\"").append(FORMATS[i % FORMATS.length])
+                .append('"').append(CELL_END);
+        json.append("{\"columnId\":").append(OWNER_COLUMN).append(CELL_VALUE).append(owner).append(EMAIL_DOMAIN)
+                .append("\",\"displayValue\":\"User ").append(i % 50).append(CELL_OBJECT_VALUE).append(CONTACT_OBJECT)
+                .append(owner).append(EMAIL_DOMAIN).append("\",\"name\":\"User ").append(i % 50).append("\"}").append(CELL_END);
+        json.append("{\"columnId\":").append(REVIEWERS_COLUMN).append(",\"displayValue\":\"Reviewer A, Reviewer B\",\"objectValue\":")
+                .append("{\"objectType\":\"MULTI_CONTACT\",\"values\":[").append(CONTACT_OBJECT).append("a").append(i % 7)
+                .append(EMAIL_DOMAIN).append("\",\"name\":\"Reviewer A\"},").append(CONTACT_OBJECT).append("b").append(i % 11)
+                .append(EMAIL_DOMAIN).append("\",\"name\":\"Reviewer B\"}]}").append(CELL_END);
+        if (i > 1) {
+            json.append("{\"columnId\":").append(PREDECESSORS_COLUMN).append(CELL_VALUE).append(i - 1).append("FS")
+                    .append(CELL_OBJECT_VALUE).append("{\"objectType\":\"PREDECESSOR_LIST\",\"predecessors\":[{\"rowId\":")
+                    .append(rowId(i - 1)).append(",\"rowNumber\":").append(i - 1)
+                    .append(",\"type\":\"FS\",\"inCriticalPath\":false,\"invalid\":false}]}").append(CELL_END);
+        }
+        json.append("{\"columnId\":").append(TAGS_COLUMN).append(CELL_VALUE).append(tag(i)).append(", ").append(tag(i + 3))
+                .append(CELL_OBJECT_VALUE).append("{\"objectType\":\"MULTI_PICKLIST\",\"values\":[\"").append(tag(i))
+                .append("\",\"").append(tag(i + 3)).append("\"]}").append(CELL_END);
+        json.append("{\"columnId\":").append(DUE_COLUMN).append(CELL_VALUE).append(date(i)).append("\",\"format\":\"")
+                .append(FORMATS[(i + 1) % FORMATS.length]).append('"').append(CELL_END);
+        json.append("{\"columnId\":").append(ESTIMATE_COLUMN).append(",\"value\":").append(i % 40)
+                .append(",\"displayValue\":\"").append(i % 40).append('"').append(CELL_END);
+        json.append("{\"columnId\":").append(DONE_COLUMN).append(",\"value\":").append(i % 3 == 0).append("}]},");
+    }
+
+    private static ContactObjectValue contact(int i) {
+        ContactObjectValue contact = new ContactObjectValue();
+        contact.setEmail("user" + (i % 50) + EMAIL_DOMAIN);
+        contact.setName("User " + (i % 50));
+        return contact;
+    }
+
+    private static String tag(int i) {
+        return TAGS[i % TAGS.length];
+    }
+
+    private static String date(int i) {
+        return String.format("2024-%02d-%02d", 1 + i % 12, 1 + i % 28);
+    }
+}
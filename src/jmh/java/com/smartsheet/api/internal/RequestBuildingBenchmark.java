@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal;
+
+import com.smartsheet.api.internal.http.HttpEntity;
+import com.smartsheet.api.internal.http.HttpEntitySnapshot;
+import com.smartsheet.api.internal.http.HttpMethod;
+import com.smartsheet.api.internal.http.HttpRequest;
+import com.smartsheet.api.internal.util.QueryUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds requests the way the resources do before anything is sent: query strings, headers, the request itself, and
+ * the entity snapshots taken for logging.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestBuildingBenchmark {
+    private static final String SHEET_PATH = "sheets/4583173393803140";
+    private static final String ROW_PATH = SHEET_PATH + "/rows/7000000000001";
+
+    private SmartsheetImpl smartsheet;
+    private SheetResourcesImpl resources;
+    private Map<String, Object> parameters;
+    private byte[] body;
+
+    /**
+     * Build the client and request parts.
+     */
+    @Setup
+    public void setUp() {
+        smartsheet = new SmartsheetImpl("https://api.smartsheet.com/2.0/", "8t2w9qj5h4x7m1c3v6b0n8z2k4");
+        smartsheet.setAssumedUser("john.doe@example.com");
+        smartsheet.setChangeAgent("sync-job");
+        resources = new SheetResourcesImpl(smartsheet);
+        parameters = new HashMap<>();
+        parameters.put("include", "objectValue,format,discussions");
+        parameters.put("columnIds", QueryUtil.generateCommaSeparatedList(Arrays.asList(1001L, 1002L, 1003L, 1004L)));
+        parameters.put("pageSize", 500);
+        parameters.put("page", 3);
+        parameters.put("ifVersionAfter", 41);
+        body = new String(new char[8 * 1024]).replace('\0', 'x').getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Close the client.
+     *
+     * @throws IOException never
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        smartsheet.getHttpClient().close();
+    }
+
+    /**
+     * Build a URL with a query string.
+     *
+     * @return the URL
+     */
+    @Benchmark
+    public String generateUrl() {
+        return QueryUtil.generateUrl(SHEET_PATH, parameters);
+    }
+
+    /**
+     * Build the headers every request carries.
+     *
+     * @return the headers
+     */
+    @Benchmark
+    public Map<String, String> createHeaders() {
+        return resources.createHeaders();
+    }
+
+    /**
+     * Build a complete GET request.
+     *
+     * @return the request
+     */
+    @Benchmark
+    public HttpRequest createRequest() {
+        URI uri = smartsheet.resolve(QueryUtil.generateUrl(SHEET_PATH, parameters));
+        return resources.createHttpRequest(uri, HttpMethod.GET);
+    }
+
+    /**
+     * Build a complete GET request with a header of its own, which copies the shared headers.
+     *
+     * @return the request
+     */
+    @Benchmark
+    public HttpRequest createRequestWithExtraHeader() {
+        HttpRequest request = resources.createHttpRequest(smartsheet.resolve(SHEET_PATH), HttpMethod.GET);
+        request.getHeaders().put("Accept", "text/csv");
+        return request;
+    }
+
+    /**
+     * Resolve a path against the base URI.
+     *
+     * @return the URI
+     */
+    @Benchmark
+    public URI resolve() {
+        return smartsheet.resolve(ROW_PATH);
+    }
+
+    /**
+     * Snapshot an entity whose stream can be reset (the common case for request bodies).
+     *
+     * @return the snapshot
+     * @throws IOException never
+     */
+    @Benchmark
+    public HttpEntitySnapshot snapshotMarkableEntity() throws IOException {
+        return new HttpEntitySnapshot(entity(new ByteArrayInputStream(body)));
+    }
+
+    /**
+     * Snapshot an entity whose stream can't be reset, so it has to be read fully (as for response bodies).
+     *
+     * @return the snapshot
+     * @throws IOException never
+     */
+    @Benchmark
+    public HttpEntitySnapshot snapshotStreamingEntity() throws IOException {
+        InputStream streaming = new FilterInputStream(new ByteArrayInputStream(body)) {
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+        };
+        return new HttpEntitySnapshot(entity(streaming));
+    }
+
+    private HttpEntity entity(InputStream content) {
+        HttpEntity entity = new HttpEntity();
+        entity.setContentType("application/json");
+        entity.setContentLength(body.length);
+        entity.setContent(content);
+        return entity;
+    }
+}
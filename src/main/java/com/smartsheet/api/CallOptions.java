@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>Options for the calls made through a client view created with {@link Smartsheet#withCallOptions(CallOptions)}:
+ * a deadline, and a way to cancel them.</p>
+ *
+ * <p>The deadline bounds a whole call: waiting for a connection from the pool or a slot of the concurrency limiter,
+ * connecting, reading the response and the retries and backoff in between (the retries stop at whichever comes first
+ * of the deadline and the client's max retry time). A call that runs out of time fails with
+ * {@code DeadlineExceededException}. A timeout applies to each call separately; an absolute deadline to all calls
+ * made with the options.</p>
+ *
+ * <p>{@link #cancel()}, which may be called from any thread (e.g. when the caller that wanted a result is gone),
+ * aborts the requests in flight, including the reading of their responses and the backoff between retries, and
+ * fails the calls made with the options, now and later, with {@code RequestCancelledException}. Running out of time
+ * aborts a request the same way. Uploads of files bypass the options.</p>
+ *
+ * <p>Thread Safety: This class is thread safe.</p>
+ */
+public final class CallOptions {
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final long timeoutNanos;
+    private final long deadlineNanos;
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private final Set<Runnable> cancelListeners = ConcurrentHashMap.newKeySet();
+
+    private CallOptions(long timeoutNanos, long deadlineNanos) {
+        this.timeoutNanos = timeoutNanos;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Create options giving each call the same amount of time.
+     *
+     * @param timeoutMillis the time each call may take
+     * @return the options
+     * @throws IllegalArgumentException if the timeout is not positive
+     */
+    public static CallOptions timeout(long timeoutMillis) {
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        return new CallOptions(TimeUnit.MILLISECONDS.toNanos(timeoutMillis), 0);
+    }
+
+    /**
+     * Create options making all calls finish by the same time.
+     *
+     * @param deadline the time by which calls must finish
+     * @return the options
+     */
+    public static CallOptions deadline(Instant deadline) {
+        long remainingMillis = deadline.toEpochMilli() - System.currentTimeMillis();
+        return new CallOptions(0, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(remainingMillis));
+    }
+
+    /**
+     * Create options without a deadline, only to be able to cancel the calls.
+     *
+     * @return the options
+     */
+    public static CallOptions cancellable() {
+        return new CallOptions(0, 0);
+    }
+
+    /**
+     * Cancel the calls made with these options, aborting the requests in flight. Calls made with them afterwards
+     * fail right away.
+     */
+    public void cancel() {
+        if (cancelled.compareAndSet(false, true)) {
+            for (Runnable listener : cancelListeners) {
+                listener.run();
+            }
+        }
+    }
+
+    /**
+     * Check whether the calls have been cancelled.
+     *
+     * @return true if {@link #cancel()} has been called
+     */
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    /**
+     * Get the time left for a call, e.g. to bound a step of it.
+     *
+     * @param callStartNanos when the call started, on the {@link System#nanoTime()} scale
+     * @return the time left in nanoseconds (zero or less once the deadline has passed), or {@code Long.MAX_VALUE}
+     *     if there is no deadline
+     */
+    public long remainingNanos(long callStartNanos) {
+        long now = System.nanoTime();
+        if (timeoutNanos > 0) {
+            return timeoutNanos - (now - callStartNanos);
+        }
+        if (deadlineNanos != 0) {
+            return deadlineNanos - now;
+        }
+        return NO_DEADLINE;
+    }
+
+    /**
+     * Run a listener when the calls are cancelled, e.g. to abort a request in flight; it runs right away if they
+     * already are. HTTP clients use this to make cancellation reach the transport.
+     *
+     * @param listener the listener
+     */
+    public void addCancelListener(Runnable listener) {
+        cancelListeners.add(listener);
+        if (isCancelled() && cancelListeners.remove(listener)) {
+            listener.run();
+        }
+    }
+
+    /**
+     * Stop notifying a listener, e.g. once its request has completed.
+     *
+     * @param listener the listener
+     */
+    public void removeCancelListener(Runnable listener) {
+        cancelListeners.remove(listener);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api;
+
+import com.smartsheet.api.internal.http.AdaptiveConcurrencyLimiter;
+
+/**
+ * <p>An adaptive limit on the number of requests in flight, set with {@link SmartsheetBuilder#setConcurrencyLimit}
+ * (the DefaultHttpClient is required).</p>
+ *
+ * <p>The limit grows while requests come back about as fast as usual and shrinks as they slow down, i.e. queue up on
+ * the server; a request the API rejects as overloaded (errors 4002, 4003 and 4004) cuts it multiplicatively. Callers
+ * over the limit wait in line, in arrival order. The current limit, requests in flight and queue depth can be read
+ * at any time, e.g. for dashboards.</p>
+ *
+ * <p>Thread Safety: This class is thread safe.</p>
+ */
+public final class ConcurrencyLimit {
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    private ConcurrencyLimit(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    /**
+     * Create a builder.
+     *
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the current limit.
+     *
+     * @return the number of requests that may be in flight
+     */
+    public int getLimit() {
+        return limiter.getLimit();
+    }
+
+    /**
+     * Get the number of requests in flight.
+     *
+     * @return the requests in flight
+     */
+    public int getInFlight() {
+        return limiter.getInFlight();
+    }
+
+    /**
+     * Get the number of callers waiting to send a request.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return limiter.getQueueDepth();
+    }
+
+    AdaptiveConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    /**
+     * Builds a {@link ConcurrencyLimit}.
+     */
+    public static final class Builder {
+        private final AdaptiveConcurrencyLimiter.Builder limiter = AdaptiveConcurrencyLimiter.builder();
+
+        private Builder() {
+        }
+
+        /**
+         * Set the limit to start with (8 by default).
+         *
+         * @param initialLimit the initial limit
+         * @return the builder
+         */
+        public Builder setInitialLimit(int initialLimit) {
+            limiter.setInitialLimit(initialLimit);
+            return this;
+        }
+
+        /**
+         * Set the lowest limit (1 by default).
+         *
+         * @param minLimit the minimum limit
+         * @return the builder
+         */
+        public Builder setMinLimit(int minLimit) {
+            limiter.setMinLimit(minLimit);
+            return this;
+        }
+
+        /**
+         * Set the highest limit, e.g. the size of the connection pool (64 by default).
+         *
+         * @param maxLimit the maximum limit
+         * @return the builder
+         */
+        public Builder setMaxLimit(int maxLimit) {
+            limiter.setMaxLimit(maxLimit);
+            return this;
+        }
+
+        /**
+         * Set the factor applied to the limit when the API reports overload (0.7 by default).
+         *
+         * @param backoffRatio the backoff ratio, between 0 and 1
+         * @return the builder
+         */
+        public Builder setBackoffRatio(double backoffRatio) {
+            limiter.setBackoffRatio(backoffRatio);
+            return this;
+        }
+
+        /**
+         * Set the ratio of the latest to the long-term round-trip time up to which the limit keeps growing (1.5 by
+         * default).
+         *
+         * @param rttTolerance the tolerance, at least 1
+         * @return the builder
+         */
+        public Builder setRttTolerance(double rttTolerance) {
+            limiter.setRttTolerance(rttTolerance);
+            return this;
+        }
+
+        /**
+         * Build the limit.
+         *
+         * @return the limit
+         * @throws IllegalArgumentException if a setting is out of range
+         */
+        public ConcurrencyLimit build() {
+            return new ConcurrencyLimit(limiter.build());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api;
+
+import com.smartsheet.api.internal.RequestCoalescer;
+
+/**
+ * <p>Coalescing of identical concurrent GET requests, set with {@link SmartsheetBuilder#setRequestCoalescing}: the
+ * callers that make the same request while it is in flight share a single HTTP call and its parsed result.</p>
+ *
+ * <p>Requests are identical when they have the same method, URI, headers (and so the same identity) and result type.
+ * With a TTL, a completed result is also shared with identical requests made within that time, which absorbs bursts
+ * that aren't quite concurrent. Failures are only shared with the callers already waiting. Because results are
+ * shared, objects returned from coalesced reads must be treated as read-only.</p>
+ *
+ * <p>Thread Safety: This class is thread safe.</p>
+ */
+public final class RequestCoalescing {
+    private final RequestCoalescer coalescer;
+
+    private RequestCoalescing(RequestCoalescer coalescer) {
+        this.coalescer = coalescer;
+    }
+
+    /**
+     * Create coalescing that only shares requests in flight.
+     *
+     * @return the coalescing
+     */
+    public static RequestCoalescing inFlight() {
+        return new RequestCoalescing(new RequestCoalescer());
+    }
+
+    /**
+     * Create coalescing that also shares completed results for a while.
+     *
+     * @param ttlMillis how long a completed result keeps being shared with identical requests (0 to only share
+     *                  requests in flight)
+     * @return the coalescing
+     * @throws IllegalArgumentException if ttlMillis is negative
+     */
+    public static RequestCoalescing withTtl(long ttlMillis) {
+        return new RequestCoalescing(new RequestCoalescer(ttlMillis));
+    }
+
+    /**
+     * @return the number of requests that were actually executed
+     */
+    public long getExecutedCount() {
+        return coalescer.getExecutedCount();
+    }
+
+    /**
+     * @return the number of requests that were answered with the result of another request
+     */
+    public long getCoalescedCount() {
+        return coalescer.getCoalescedCount();
+    }
+
+    RequestCoalescer getCoalescer() {
+        return coalescer;
+    }
+}
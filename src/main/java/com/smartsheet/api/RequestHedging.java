@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api;
+
+import com.smartsheet.api.internal.RequestHedger;
+
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>Hedging of slow idempotent GET requests, set with {@link SmartsheetBuilder#setRequestHedging}: a request that
+ * has not completed after the usual time for its route is sent again, the first response wins and the other request
+ * is cancelled.</p>
+ *
+ * <p>Only the requests to the hedged routes (by default those of {@code getSheet}, {@code getRow} and
+ * {@code getReport}) are hedged, once a percentile of the recent latencies of their route has passed. A budget caps
+ * the extra load, and no hedge is sent while callers wait for the {@link ConcurrencyLimit}. Calls with their own
+ * {@link CallOptions} aren't hedged.</p>
+ *
+ * <p>Thread Safety: This class is thread safe.</p>
+ */
+public final class RequestHedging {
+
+    /**
+     * The routes of getSheet, getRow and getReport, which are hedged by default.
+     */
+    public static final Set<String> DEFAULT_ROUTES = RequestHedger.DEFAULT_ROUTES;
+
+    private final RequestHedger hedger;
+
+    private RequestHedging(RequestHedger hedger) {
+        this.hedger = hedger;
+    }
+
+    /**
+     * Create a builder.
+     *
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the number of hedges sent
+     */
+    public long getHedgedCount() {
+        return hedger.getHedgedCount();
+    }
+
+    /**
+     * @return the number of hedges that completed before the request they hedged
+     */
+    public long getWonCount() {
+        return hedger.getWonCount();
+    }
+
+    /**
+     * @return the number of hedges not sent because the budget was spent or the concurrency limit was saturated
+     */
+    public long getThrottledCount() {
+        return hedger.getThrottledCount();
+    }
+
+    /**
+     * Get the current delay before the requests to a route are hedged.
+     *
+     * @param route the route, e.g. {@code GET /sheets/{id}}
+     * @return the delay in milliseconds, or -1 if the route isn't hedged (yet)
+     */
+    public long getDelayMillis(String route) {
+        return hedger.getDelayMillis(route);
+    }
+
+    RequestHedger getHedger() {
+        return hedger;
+    }
+
+    /**
+     * Builds a {@link RequestHedging}.
+     */
+    public static final class Builder {
+        private final RequestHedger.Builder hedger = RequestHedger.builder();
+
+        private Builder() {
+        }
+
+        /**
+         * Set the routes whose requests are hedged, e.g. {@code GET /sheets/{id}} ({@link #DEFAULT_ROUTES} by
+         * default). They must be idempotent.
+         *
+         * @param routes the routes, as normalized for metrics
+         * @return the builder
+         */
+        public Builder setRoutes(Set<String> routes) {
+            hedger.setRoutes(routes);
+            return this;
+        }
+
+        /**
+         * Set the percentile of a route's latencies after which its requests are hedged (0.95 by default).
+         *
+         * @param percentile the percentile, between 0 (exclusive) and 1
+         * @return the builder
+         */
+        public Builder setPercentile(double percentile) {
+            hedger.setPercentile(percentile);
+            return this;
+        }
+
+        /**
+         * Set the shortest delay before a hedge, whatever the latencies of the route (10 ms by default).
+         *
+         * @param minDelayMillis the minimum delay
+         * @return the builder
+         */
+        public Builder setMinDelayMillis(long minDelayMillis) {
+            hedger.setMinDelayMillis(minDelayMillis);
+            return this;
+        }
+
+        /**
+         * Set the number of hedges earned per hedged request, e.g. 0.1 (the default) for at most 10% more requests.
+         *
+         * @param budgetRatio the budget ratio, between 0 (exclusive) and 1
+         * @return the builder
+         */
+        public Builder setBudgetRatio(double budgetRatio) {
+            hedger.setBudgetRatio(budgetRatio);
+            return this;
+        }
+
+        /**
+         * Set the number of hedges that may be saved up for a burst of slow requests (10 by default).
+         *
+         * @param maxBurst the maximum burst, at least 1
+         * @return the builder
+         */
+        public Builder setMaxBurst(int maxBurst) {
+            hedger.setMaxBurst(maxBurst);
+            return this;
+        }
+
+        /**
+         * Set the number of completed requests of a route needed before it is hedged (20 by default).
+         *
+         * @param minSamples the minimum number of samples, between 1 and 256
+         * @return the builder
+         */
+        public Builder setMinSamples(int minSamples) {
+            hedger.setMinSamples(minSamples);
+            return this;
+        }
+
+        /**
+         * Set the executor the hedges run on (by default a pool of daemon threads).
+         *
+         * @param executor the executor
+         * @return the builder
+         */
+        public Builder setExecutor(Executor executor) {
+            hedger.setExecutor(executor);
+            return this;
+        }
+
+        /**
+         * Build the hedging.
+         *
+         * @return the hedging
+         * @throws IllegalArgumentException if a setting is out of range
+         */
+        public RequestHedging build() {
+            return new RequestHedging(hedger.build());
+        }
+    }
+}
@@ -231,6 +231,69 @@ public interface SheetResources {
      */
     Sheet getSheet(long sheetId) throws SmartsheetException;
 
+    /**
+     * <p>Get a sheet through the sheet cache configured on the client.</p>
+     *
+     * <p>The first read of a sheet/projection fetches it in full; later reads send a conditional fetch
+     * (ifVersionAfter) and reuse the cached copy when the sheet hasn't changed. Without a configured cache this
+     * behaves like {@link #getSheet(long, EnumSet, EnumSet, Set, Set, Set, Integer, Integer)}, which is also what
+     * the default implementation does.</p>
+     *
+     * <p>The returned sheet may be shared with other callers and must be treated as read-only.</p>
+     *
+     * @param id        the id of the sheet
+     * @param includes  used to specify the optional objects to include.
+     * @param excludes  the exclude parameters
+     * @param columnIds the column ids
+     * @return the sheet resource (note that if there is no such resource, this method will throw
+     * ResourceNotFoundException rather than returning null).
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    default Sheet getSheetCached(long id,
+                                 EnumSet<SheetInclusion> includes,
+                                 EnumSet<ObjectExclusion> excludes,
+                                 Set<Long> columnIds) throws SmartsheetException {
+        return getSheet(id, includes, excludes, null, null, columnIds, null, null);
+    }
+
+    /**
+     * <p>Bring a previously fetched sheet up to date, downloading only the rows modified since it was fetched.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}?rowsModifiedSince=...&amp;ifVersionAfter=...</p>
+     *
+     * <p>The changed rows are merged into a new sheet; the previous sheet is not modified. Added, moved and deleted
+     * rows are reconciled against the current row ids, and a change to the columns falls back to a full fetch. The
+     * projection (includes, excludes and columnIds) must match the one the previous sheet was fetched with.</p>
+     *
+     * <p>The default implementation fetches the sheet in full.</p>
+     *
+     * @param sheet     the previously fetched sheet
+     * @param includes  used to specify the optional objects to include.
+     * @param excludes  the exclude parameters
+     * @param columnIds the column ids
+     * @return the up-to-date sheet, or the given sheet itself if it hasn't changed
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    default Sheet refreshSheet(Sheet sheet,
+                               EnumSet<SheetInclusion> includes,
+                               EnumSet<ObjectExclusion> excludes,
+                               Set<Long> columnIds) throws SmartsheetException {
+        if (sheet == null || sheet.getId() == null) {
+            throw new IllegalArgumentException("A previously fetched sheet with an id is required");
+        }
+        return getSheet(sheet.getId(), includes, excludes, null, null, columnIds, null, null);
+    }
+
     /**
      * <p>Get a sheet as an Excel file.</p>
      *
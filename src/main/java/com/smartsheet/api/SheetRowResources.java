@@ -284,8 +284,8 @@ public interface SheetRowResources {
 
     /**
      * <p>Helper method: Update a single with a string value</p>
-     * <p>NOTE: This method internally fetches the sheet. To avoid this step, fetch the sheet in
-     * advance and use the method by the same name</p>
+     * <p>NOTE: This method resolves the indexes through a cached copy of the sheet structure, which is validated
+     * against the sheet version (a single small request) and only reloaded when the sheet has changed.</p>
      *
      * @param sheetId  the sheet ID the cell should be written to
      * @param rowIdx   the row index of the cell (base 1 indexed)
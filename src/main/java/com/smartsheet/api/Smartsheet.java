@@ -54,6 +54,39 @@ public interface Smartsheet {
      */
     void setAssumedUser(String assumedUser);
 
+    /**
+     * <p>Create a view of this client that makes its calls as another identity, e.g. for one tenant of a multi-tenant
+     * service. The view shares this client's connections, serializer, caches and settings, so thousands of identities
+     * can share one connection pool; only the identity is its own.</p>
+     *
+     * <p>The default implementation throws UnsupportedOperationException, for implementations that can't share
+     * their connections.</p>
+     *
+     * @param accessToken the access token
+     * @param assumedUser the email of the user to assume (optional)
+     * @param changeAgent the change agent identifier (optional)
+     * @return the view
+     * @throws UnsupportedOperationException if the implementation doesn't support views
+     */
+    default Smartsheet withIdentity(String accessToken, String assumedUser, String changeAgent) {
+        throw new UnsupportedOperationException("withIdentity is not supported by " + getClass().getName());
+    }
+
+    /**
+     * <p>Create a view of this client whose calls have the given options, e.g. a deadline, or a way to cancel them
+     * from another thread. The view shares everything else with this client, including its identity.</p>
+     *
+     * <p>The default implementation throws UnsupportedOperationException, for implementations that can't apply call
+     * options.</p>
+     *
+     * @param callOptions the call options
+     * @return the view
+     * @throws UnsupportedOperationException if the implementation doesn't support call options
+     */
+    default Smartsheet withCallOptions(CallOptions callOptions) {
+        throw new UnsupportedOperationException("withCallOptions is not supported by " + getClass().getName());
+    }
+
     /**
      * <p>Set the change agent identifier.</p>
      *
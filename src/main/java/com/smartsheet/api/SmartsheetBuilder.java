@@ -16,9 +16,17 @@
 
 package com.smartsheet.api;
 
+import com.smartsheet.api.cache.SheetCache;
+import com.smartsheet.api.interceptors.SmartsheetInterceptor;
 import com.smartsheet.api.internal.SmartsheetImpl;
 import com.smartsheet.api.internal.http.HttpClient;
 import com.smartsheet.api.internal.json.JsonSerializer;
+import com.smartsheet.api.metrics.SmartsheetMetrics;
+import com.smartsheet.api.oauth.OAuthTokenManager;
+import com.smartsheet.api.tracing.SmartsheetTracer;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * <p>A convenience class to help create a {@link Smartsheet} instance with the appropriate fields.</p>
@@ -62,6 +70,13 @@ public class SmartsheetBuilder {
      */
     private Long maxRetryTimeMillis;
 
+    /**
+     * <p>Represents the concurrency limit.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private ConcurrencyLimit concurrencyLimit;
+
     /**
      * <p>Represents the assumed user.</p>
      *
@@ -76,6 +91,55 @@ public class SmartsheetBuilder {
      */
     private String changeAgent;
 
+    /**
+     * <p>Represents the sheet cache.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private SheetCache sheetCache;
+
+    /**
+     * <p>Represents the request coalescing.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private RequestCoalescing requestCoalescing;
+
+    /**
+     * <p>Represents the request hedging.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private RequestHedging requestHedging;
+
+    /**
+     * <p>Represents the metrics.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private SmartsheetMetrics metrics;
+
+    /**
+     * <p>Represents the tracer.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private SmartsheetTracer tracer;
+
+    /**
+     * <p>Represents the interceptors, in order.</p>
+     *
+     * <p>They can be added using corresponding method.</p>
+     */
+    private final List<SmartsheetInterceptor> interceptors = new ArrayList<>();
+
+    /**
+     * <p>Represents the OAuth token manager.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private OAuthTokenManager tokenManager;
+
     /** URI to prod-us API endpoints */
     public static final String US_BASE_URI = "https://api.smartsheet.com/2.0/";
     /** URI to prod-eu API endpoints */
@@ -157,6 +221,19 @@ public class SmartsheetBuilder {
         return this;
     }
 
+    /**
+     * <p>Set the limit that adapts the number of requests in flight to the API's latency and overload errors.</p>
+     *
+     * <p>This interface is only valid when the DefaultHttpClient is used.</p>
+     *
+     * @param concurrencyLimit the concurrency limit
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setConcurrencyLimit(ConcurrencyLimit concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit;
+        return this;
+    }
+
     /**
      * <p>Set the assumed user.</p>
      *
@@ -180,6 +257,95 @@ public class SmartsheetBuilder {
         return this;
     }
 
+    /**
+     * <p>Set the cache used by {@link SheetResources#getSheetCached}.</p>
+     *
+     * @param sheetCache the sheet cache (for example a {@link com.smartsheet.api.cache.LruSheetCache})
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setSheetCache(SheetCache sheetCache) {
+        this.sheetCache = sheetCache;
+        return this;
+    }
+
+    /**
+     * <p>Collapse identical concurrent GET requests into a single HTTP call whose result is shared by the callers.</p>
+     *
+     * <p>Objects returned from coalesced reads may be shared between callers and must be treated as read-only.</p>
+     *
+     * @param requestCoalescing the request coalescing (optionally with a TTL that also absorbs short bursts)
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setRequestCoalescing(RequestCoalescing requestCoalescing) {
+        this.requestCoalescing = requestCoalescing;
+        return this;
+    }
+
+    /**
+     * <p>Hedge slow idempotent GET requests (by default those of getSheet, getRow and getReport): send an identical
+     * request once one takes longer than usual for its route, use the first response and cancel the other.</p>
+     *
+     * @param requestHedging the request hedging
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setRequestHedging(RequestHedging requestHedging) {
+        this.requestHedging = requestHedging;
+        return this;
+    }
+
+    /**
+     * <p>Report request latency by route and status, retries, and JSON serialize/deserialize time and size.</p>
+     *
+     * <p>Request attempts and retries are reported by the default HttpClient only. To also report connection pool
+     * waits, build the Apache client with a {@code MeteredConnectionManager}.</p>
+     *
+     * @param metrics the metrics, e.g. an {@link com.smartsheet.api.metrics.InMemoryMetricsRegistry}
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setMetrics(SmartsheetMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * <p>Create a span for each resource method call, with child spans for each HTTP attempt, each backoff before a
+     * retry, and JSON serialization and deserialization.</p>
+     *
+     * <p>Attempt and backoff spans are created by the default HttpClient only.</p>
+     *
+     * @param tracer the tracer, e.g. an {@link com.smartsheet.api.tracing.InMemorySpanExporter}
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setTracer(SmartsheetTracer tracer) {
+        this.tracer = tracer;
+        return this;
+    }
+
+    /**
+     * <p>Add an interceptor that every call to the REST API passes through, e.g. to serve reads from a cache, limit
+     * the request rate or record calls. Calls pass through the interceptors in the order they were added.</p>
+     *
+     * @param interceptor the interceptor
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder addInterceptor(SmartsheetInterceptor interceptor) {
+        this.interceptors.add(interceptor);
+        return this;
+    }
+
+    /**
+     * <p>Set the OAuth token manager that provides the access token and keeps it fresh: the client starts with its
+     * access token (unless one is set), is updated with each refreshed one, and passes its calls through the manager
+     * after the other interceptors, so that they wait for or are retried after a refresh.</p>
+     *
+     * @param tokenManager the token manager
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setTokenManager(OAuthTokenManager tokenManager) {
+        this.tokenManager = tokenManager;
+        return this;
+    }
+
     /**
      * <p>Gets the http client.</p>
      *
@@ -243,6 +409,78 @@ public class SmartsheetBuilder {
         return changeAgent;
     }
 
+    /**
+     * <p>Gets the sheet cache.</p>
+     *
+     * @return the sheet cache
+     */
+    public SheetCache getSheetCache() {
+        return sheetCache;
+    }
+
+    /**
+     * <p>Gets the request coalescing.</p>
+     *
+     * @return the request coalescing
+     */
+    public RequestCoalescing getRequestCoalescing() {
+        return requestCoalescing;
+    }
+
+    /**
+     * <p>Gets the request hedging.</p>
+     *
+     * @return the request hedging
+     */
+    public RequestHedging getRequestHedging() {
+        return requestHedging;
+    }
+
+    /**
+     * <p>Gets the metrics.</p>
+     *
+     * @return the metrics
+     */
+    public SmartsheetMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * <p>Gets the tracer.</p>
+     *
+     * @return the tracer
+     */
+    public SmartsheetTracer getTracer() {
+        return tracer;
+    }
+
+    /**
+     * <p>Gets the interceptors.</p>
+     *
+     * @return the interceptors, in order
+     */
+    public List<SmartsheetInterceptor> getInterceptors() {
+        return interceptors;
+    }
+
+    /**
+     * <p>Gets the concurrency limit.</p>
+     *
+     * @return the concurrency limit
+     */
+    public ConcurrencyLimit getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    /**
+     * <p>Gets the OAuth token manager.</p>
+     *
+     * @return the token manager
+     */
+    public OAuthTokenManager getTokenManager() {
+        return tokenManager;
+    }
+
     /**
      * <p>Build the Smartsheet instance.</p>
      *
@@ -254,6 +492,9 @@ public class SmartsheetBuilder {
             baseURI = DEFAULT_BASE_URI;
         }
 
+        if (accessToken == null && tokenManager != null) {
+            accessToken = tokenManager.getAccessToken();
+        }
         if (accessToken == null) {
             accessToken = System.getenv("SMARTSHEET_ACCESS_TOKEN");
         }
@@ -269,6 +510,31 @@ public class SmartsheetBuilder {
         if (maxRetryTimeMillis != null) {
             smartsheet.setMaxRetryTimeMillis(maxRetryTimeMillis);
         }
+        if (concurrencyLimit != null) {
+            smartsheet.setConcurrencyLimiter(concurrencyLimit.getLimiter());
+        }
+        if (sheetCache != null) {
+            smartsheet.setSheetCache(sheetCache);
+        }
+        if (requestCoalescing != null) {
+            smartsheet.setRequestCoalescer(requestCoalescing.getCoalescer());
+        }
+        if (requestHedging != null) {
+            smartsheet.setRequestHedger(requestHedging.getHedger());
+        }
+        if (metrics != null) {
+            smartsheet.setMetrics(metrics);
+        }
+        if (tracer != null) {
+            smartsheet.setTracer(tracer);
+        }
+        for (SmartsheetInterceptor interceptor : interceptors) {
+            smartsheet.addInterceptor(interceptor);
+        }
+        if (tokenManager != null) {
+            smartsheet.addInterceptor(tokenManager);
+            tokenManager.attach(smartsheet);
+        }
 
         return smartsheet;
     }
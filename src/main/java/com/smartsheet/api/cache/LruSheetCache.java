@@ -0,0 +1,310 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.cache;
+
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>The default {@link SheetCache}: an in-memory LRU cache bounded by entry count and by weight, where the weight
+ * of a sheet approximates its memory footprint as the number of rows, columns and cells it holds.</p>
+ *
+ * <p>Every read revalidates the cached copy through {@link SheetLoader#refresh(Sheet)} (a conditional fetch with
+ * ifVersionAfter by default) unless it was validated less than revalidateAfterMillis ago. Concurrent loads of the
+ * same key are collapsed into a single request whose result is shared by all waiting callers.</p>
+ *
+ * <p>Thread Safety: This class is thread safe.</p>
+ */
+public class LruSheetCache implements SheetCache {
+
+    /**
+     * Default maximum number of cached sheets.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+
+    /**
+     * Default maximum total weight (roughly the number of cells) of cached sheets.
+     */
+    public static final long DEFAULT_MAX_WEIGHT = 5_000_000L;
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final long revalidateAfterNanos;
+
+    /**
+     * The entries in access order (least recently used first); guarded by itself.
+     */
+    private final Map<SheetCacheKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight;
+
+    /**
+     * Loads currently in progress, used to collapse concurrent loads of the same key.
+     */
+    private final ConcurrentMap<SheetCacheKey, CompletableFuture<Sheet>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder reloads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructor using the default bounds, revalidating on every read.
+     */
+    public LruSheetCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_WEIGHT, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxEntries            the maximum number of cached sheets
+     * @param maxWeight             the maximum total weight (roughly the number of cells) of cached sheets
+     * @param revalidateAfterMillis how long a validated entry is served without a version check (0 to always check)
+     * @throws IllegalArgumentException if any bound is not positive
+     */
+    public LruSheetCache(int maxEntries, long maxWeight, long revalidateAfterMillis) {
+        if (maxEntries <= 0 || maxWeight <= 0 || revalidateAfterMillis < 0) {
+            throw new IllegalArgumentException("cache bounds must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.revalidateAfterNanos = TimeUnit.MILLISECONDS.toNanos(revalidateAfterMillis);
+    }
+
+    @Override
+    public Sheet get(SheetCacheKey key, SheetLoader loader) throws SmartsheetException {
+        Util.throwIfNull(key, loader);
+
+        Entry entry = lookup(key);
+        if (entry != null && System.nanoTime() - entry.validatedAt < revalidateAfterNanos) {
+            hits.increment();
+            return entry.sheet;
+        }
+
+        CompletableFuture<Sheet> load = new CompletableFuture<>();
+        CompletableFuture<Sheet> existing = inFlight.putIfAbsent(key, load);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        try {
+            Sheet sheet = entry == null ? loadMissing(key, loader) : revalidate(key, entry, loader);
+            load.complete(sheet);
+            return sheet;
+        } catch (SmartsheetException | RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    @Override
+    public Sheet getIfPresent(SheetCacheKey key) {
+        Entry entry = lookup(key);
+        return entry == null ? null : entry.sheet;
+    }
+
+    @Override
+    public void put(SheetCacheKey key, Sheet sheet) {
+        Util.throwIfNull(key, sheet);
+        if (sheet.getVersion() == null) {
+            return;
+        }
+        Entry entry = new Entry(sheet, weigh(sheet));
+        synchronized (entries) {
+            store(key, entry);
+        }
+    }
+
+    @Override
+    public boolean replace(SheetCacheKey key, Sheet expected, Sheet sheet) {
+        Util.throwIfNull(key, sheet);
+        if (sheet.getVersion() == null) {
+            return false;
+        }
+        Entry entry = new Entry(sheet, weigh(sheet));
+        synchronized (entries) {
+            Entry current = entries.get(key);
+            if (current == null || current.sheet != expected) {
+                return false;
+            }
+            store(key, entry);
+            return true;
+        }
+    }
+
+    @Override
+    public void invalidate(long sheetId) {
+        synchronized (entries) {
+            Iterator<Map.Entry<SheetCacheKey, Entry>> it = entries.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<SheetCacheKey, Entry> next = it.next();
+                if (next.getKey().getSheetId() == sheetId) {
+                    totalWeight -= next.getValue().weight;
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            totalWeight = 0;
+        }
+    }
+
+    @Override
+    public SheetCacheStats getStats() {
+        long entryCount;
+        long weight;
+        synchronized (entries) {
+            entryCount = entries.size();
+            weight = totalWeight;
+        }
+        return new SheetCacheStats(hits.sum(), misses.sum(), revalidations.sum(), reloads.sum(), coalesced.sum(),
+                evictions.sum(), entryCount, weight);
+    }
+
+    /**
+     * Approximate the memory footprint of a sheet as the number of rows, columns and cells it holds.
+     *
+     * @param sheet the sheet
+     * @return the weight of the sheet
+     */
+    protected long weigh(Sheet sheet) {
+        long weight = 1;
+        if (sheet.getColumns() != null) {
+            weight += sheet.getColumns().size();
+        }
+        if (sheet.getRows() != null) {
+            for (Row row : sheet.getRows()) {
+                weight += 1 + (row.getCells() == null ? 0 : row.getCells().size());
+            }
+        }
+        return weight;
+    }
+
+    /**
+     * Whether a sheet returned from a conditional fetch is the abbreviated form (id and version only) that signals
+     * the cached copy is still current.
+     *
+     * @param sheet the fetched sheet
+     * @return true if the sheet is abbreviated
+     */
+    static boolean isAbbreviated(Sheet sheet) {
+        return sheet.getRows() == null && sheet.getColumns() == null;
+    }
+
+    private Entry lookup(SheetCacheKey key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    private Sheet loadMissing(SheetCacheKey key, SheetLoader loader) throws SmartsheetException {
+        misses.increment();
+        Sheet sheet = loader.load(null);
+        put(key, sheet);
+        return sheet;
+    }
+
+    private Sheet revalidate(SheetCacheKey key, Entry entry, SheetLoader loader) throws SmartsheetException {
+        Sheet sheet = loader.refresh(entry.sheet);
+        if (sheet == entry.sheet || isAbbreviated(sheet)) {
+            revalidations.increment();
+            entry.validatedAt = System.nanoTime();
+            return entry.sheet;
+        }
+        reloads.increment();
+        put(key, sheet);
+        return sheet;
+    }
+
+    // guarded by entries
+    private void store(SheetCacheKey key, Entry entry) {
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            totalWeight -= previous.weight;
+        }
+        totalWeight += entry.weight;
+        evictIfNeeded(key);
+    }
+
+    private void evictIfNeeded(SheetCacheKey justAdded) {
+        Iterator<Map.Entry<SheetCacheKey, Entry>> it = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || totalWeight > maxWeight) && it.hasNext()) {
+            Map.Entry<SheetCacheKey, Entry> eldest = it.next();
+            if (eldest.getKey().equals(justAdded) && entries.size() > 1) {
+                continue;
+            }
+            totalWeight -= eldest.getValue().weight;
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    private static Sheet await(CompletableFuture<Sheet> load) throws SmartsheetException {
+        try {
+            return load.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SmartsheetException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SmartsheetException) {
+                throw (SmartsheetException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new SmartsheetException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * A cached sheet.
+     */
+    private static final class Entry {
+        private final Sheet sheet;
+        private final long weight;
+        private volatile long validatedAt;
+
+        private Entry(Sheet sheet, long weight) {
+            this.sheet = sheet;
+            this.weight = weight;
+            this.validatedAt = System.nanoTime();
+        }
+    }
+}
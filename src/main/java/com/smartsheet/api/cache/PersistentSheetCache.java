@@ -0,0 +1,241 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.cache;
+
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.Sheet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>A {@link SheetCache} that keeps a snapshot of every cached sheet in a {@link SheetSnapshotStore}, so that the
+ * sheets cached by a previous process are available again after a restart.</p>
+ *
+ * <p>On construction only the snapshot headers are read. A snapshot is decoded the first time its sheet is requested
+ * and is then revalidated through {@link SheetCache.SheetLoader#refresh(Sheet)}, so that a sheet which hasn't changed
+ * costs a single conditional fetch and one which has changed only downloads the modified rows. A snapshot is
+ * rewritten whenever the cached version of its sheet changes.</p>
+ *
+ * <p>Snapshots are compressed and written on a background thread, so callers don't wait for the disk. A sheet that
+ * changes again before its snapshot is written is only written once, at its latest version, and a restart only loses
+ * the snapshots still queued. Deletions go through the same thread, after the writes queued before them. Call
+ * {@link #flush()} to wait for the queued writes, e.g. before shutting down.</p>
+ *
+ * <p>The snapshot store is best effort: a snapshot that can't be read or written is logged and ignored.</p>
+ *
+ * <p>Thread Safety: This class is thread safe if its delegate is.</p>
+ */
+public class PersistentSheetCache implements SheetCache {
+    private static final Logger log = LoggerFactory.getLogger(PersistentSheetCache.class);
+
+    private final SheetCache delegate;
+    private final SheetSnapshotStore store;
+
+    /**
+     * The version of the snapshot on disk for each key.
+     */
+    private final ConcurrentMap<SheetCacheKey, Integer> persisted;
+
+    /**
+     * The latest sheet to write for each key whose write is queued.
+     */
+    private final ConcurrentMap<SheetCacheKey, Sheet> pendingWrites = new ConcurrentHashMap<>();
+
+    /**
+     * Writes and deletes snapshots in order, on a single thread that exits when idle.
+     */
+    private final ThreadPoolExecutor writer;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate the in-memory cache
+     * @param store    the snapshot store
+     * @throws IOException if the snapshot store can't be listed
+     */
+    public PersistentSheetCache(SheetCache delegate, SheetSnapshotStore store) throws IOException {
+        Util.throwIfNull(delegate, store);
+        this.delegate = delegate;
+        this.store = store;
+        this.persisted = new ConcurrentHashMap<>(store.listSheets());
+        this.writer = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "smartsheet-snapshot-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.writer.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public Sheet get(SheetCacheKey key, SheetLoader loader) throws SmartsheetException {
+        Util.throwIfNull(key, loader);
+        Sheet sheet = delegate.get(key, new SnapshotLoader(key, loader));
+        persist(key, sheet);
+        return sheet;
+    }
+
+    @Override
+    public Sheet getIfPresent(SheetCacheKey key) {
+        return delegate.getIfPresent(key);
+    }
+
+    @Override
+    public void put(SheetCacheKey key, Sheet sheet) {
+        delegate.put(key, sheet);
+        persist(key, sheet);
+    }
+
+    @Override
+    public boolean replace(SheetCacheKey key, Sheet expected, Sheet sheet) {
+        if (!delegate.replace(key, expected, sheet)) {
+            return false;
+        }
+        persist(key, sheet);
+        return true;
+    }
+
+    @Override
+    public void invalidate(long sheetId) {
+        delegate.invalidate(sheetId);
+        persisted.keySet().removeIf(key -> key.getSheetId() == sheetId);
+        pendingWrites.keySet().removeIf(key -> key.getSheetId() == sheetId);
+        writer.execute(() -> {
+            try {
+                store.delete(sheetId);
+            } catch (IOException e) {
+                log.warn("Failed to delete the snapshots of sheet {}", sheetId, e);
+            }
+        });
+    }
+
+    @Override
+    public void invalidateAll() {
+        delegate.invalidateAll();
+        persisted.clear();
+        pendingWrites.clear();
+        writer.execute(() -> {
+            try {
+                store.clear();
+            } catch (IOException e) {
+                log.warn("Failed to delete the sheet snapshots", e);
+            }
+        });
+    }
+
+    /**
+     * Wait until the snapshot writes and deletes queued so far are done.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void flush() throws InterruptedException {
+        try {
+            writer.submit(() -> null).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public SheetCacheStats getStats() {
+        return delegate.getStats();
+    }
+
+    private void persist(SheetCacheKey key, Sheet sheet) {
+        Integer version = sheet.getVersion();
+        // sheets fetched by identity views stay in memory: the store's files are not kept apart by identity
+        if (version == null || key.getScope() != null || version.equals(persisted.get(key))) {
+            return;
+        }
+        persisted.put(key, version);
+        // a write already queued for the key picks up this sheet instead
+        if (pendingWrites.put(key, sheet) == null) {
+            writer.execute(() -> write(key));
+        }
+    }
+
+    private void write(SheetCacheKey key) {
+        Sheet sheet = pendingWrites.remove(key);
+        if (sheet == null) {
+            // invalidated while queued
+            return;
+        }
+        try {
+            store.saveSheet(key, sheet);
+        } catch (IOException e) {
+            log.warn("Failed to write the snapshot of {}", key, e);
+            persisted.remove(key, sheet.getVersion());
+        }
+    }
+
+    private Sheet restore(SheetCacheKey key) {
+        if (!persisted.containsKey(key)) {
+            return null;
+        }
+        Sheet pending = pendingWrites.get(key);
+        if (pending != null) {
+            return pending;
+        }
+        try {
+            Sheet snapshot = store.loadSheet(key);
+            if (snapshot == null) {
+                persisted.remove(key);
+            }
+            return snapshot;
+        } catch (IOException e) {
+            log.warn("Failed to read the snapshot of {}", key, e);
+            persisted.remove(key);
+            return null;
+        }
+    }
+
+    /**
+     * Answers a cache miss from the snapshot store (revalidated through the real loader) when it has the sheet.
+     */
+    private final class SnapshotLoader implements SheetLoader {
+        private final SheetCacheKey key;
+        private final SheetLoader loader;
+
+        private SnapshotLoader(SheetCacheKey key, SheetLoader loader) {
+            this.key = key;
+            this.loader = loader;
+        }
+
+        @Override
+        public Sheet load(Integer ifVersionAfter) throws SmartsheetException {
+            Sheet snapshot = ifVersionAfter == null ? restore(key) : null;
+            if (snapshot == null) {
+                return loader.load(ifVersionAfter);
+            }
+            Sheet current = loader.refresh(snapshot);
+            return current == snapshot || LruSheetCache.isAbbreviated(current) ? snapshot : current;
+        }
+
+        @Override
+        public Sheet refresh(Sheet cached) throws SmartsheetException {
+            return loader.refresh(cached);
+        }
+    }
+}
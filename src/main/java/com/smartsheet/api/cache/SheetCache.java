@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.cache;
+
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.models.Sheet;
+
+/**
+ * <p>SheetCache holds previously fetched sheets so that repeated reads of the same sheet can be answered with a
+ * version check (GET /sheets/{id}?ifVersionAfter=...) instead of a full download.</p>
+ *
+ * <p>Sheets returned from a cache are shared between callers and must be treated as read-only.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface SheetCache {
+
+    /**
+     * <p>Get a sheet, loading or revalidating it through the loader as needed.</p>
+     *
+     * <p>Implementations are expected to revalidate a cached copy through {@link SheetLoader#refresh(Sheet)}, and to
+     * call {@link SheetLoader#load(Integer)} with null on a miss.</p>
+     *
+     * @param key    the cache key
+     * @param loader the loader used to fetch the sheet
+     * @return the sheet
+     * @throws SmartsheetException if there is any error loading the sheet
+     */
+    Sheet get(SheetCacheKey key, SheetLoader loader) throws SmartsheetException;
+
+    /**
+     * <p>Get a cached sheet without loading or revalidating it.</p>
+     *
+     * @param key the cache key
+     * @return the cached sheet, or null if there is none
+     */
+    Sheet getIfPresent(SheetCacheKey key);
+
+    /**
+     * <p>Store a sheet, replacing any cached copy.</p>
+     *
+     * @param key   the cache key
+     * @param sheet the sheet (must include its version)
+     */
+    void put(SheetCacheKey key, Sheet sheet);
+
+    /**
+     * <p>Store a sheet only if the cached copy is still the given one, e.g. to store a change made to a cached sheet
+     * without overwriting a newer copy stored meanwhile.</p>
+     *
+     * <p>The default implementation checks and stores in two steps; implementations should do both atomically.</p>
+     *
+     * @param key      the cache key
+     * @param expected the cached copy the sheet was derived from
+     * @param sheet    the sheet (must include its version)
+     * @return true if the sheet was stored
+     */
+    default boolean replace(SheetCacheKey key, Sheet expected, Sheet sheet) {
+        if (getIfPresent(key) != expected) {
+            return false;
+        }
+        put(key, sheet);
+        return true;
+    }
+
+    /**
+     * <p>Drop every cached copy of a sheet, regardless of projection.</p>
+     *
+     * @param sheetId the sheet id
+     */
+    void invalidate(long sheetId);
+
+    /**
+     * <p>Drop every cached sheet.</p>
+     */
+    void invalidateAll();
+
+    /**
+     * <p>Get a snapshot of the cache metrics.</p>
+     *
+     * @return the cache metrics
+     */
+    SheetCacheStats getStats();
+
+    /**
+     * <p>Fetches a sheet on behalf of a cache.</p>
+     */
+    @FunctionalInterface
+    interface SheetLoader {
+
+        /**
+         * <p>Fetch the sheet.</p>
+         *
+         * @param ifVersionAfter the version of the cached copy, or null to fetch unconditionally
+         * @return the sheet, or an abbreviated sheet (id and version only) if it hasn't changed since ifVersionAfter
+         * @throws SmartsheetException if there is any error fetching the sheet
+         */
+        Sheet load(Integer ifVersionAfter) throws SmartsheetException;
+
+        /**
+         * <p>Bring a cached sheet up to date. The default implementation is a conditional fetch; loaders that can
+         * fetch only the changed rows override it to merge them into the cached copy.</p>
+         *
+         * @param cached the cached sheet, which must not be modified
+         * @return the cached sheet itself or an abbreviated sheet if it hasn't changed, otherwise the current sheet
+         * @throws SmartsheetException if there is any error fetching the sheet
+         */
+        default Sheet refresh(Sheet cached) throws SmartsheetException {
+            return load(cached.getVersion());
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.cache;
+
+import com.smartsheet.api.models.enums.ObjectExclusion;
+import com.smartsheet.api.models.enums.SheetInclusion;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>Identifies a cached sheet: the sheet id plus the projection (includes, excludes and column ids) it was fetched
+ * with. A null projection and an empty one are equivalent. Sheets fetched by an identity view of the client
+ * ({@code Smartsheet.withIdentity}) also carry a scope, so that they are only returned to the same identity.</p>
+ *
+ * <p>Thread Safety: This class is immutable.</p>
+ */
+public final class SheetCacheKey {
+    private final String scope;
+    private final long sheetId;
+    private final Set<SheetInclusion> includes;
+    private final Set<ObjectExclusion> excludes;
+    private final Set<Long> columnIds;
+    private final int hash;
+
+    /**
+     * Constructor.
+     *
+     * @param sheetId   the sheet id
+     * @param includes  the inclusions the sheet is fetched with (optional)
+     * @param excludes  the exclusions the sheet is fetched with (optional)
+     * @param columnIds the columns the sheet is restricted to (optional)
+     */
+    public SheetCacheKey(
+            long sheetId,
+            Collection<SheetInclusion> includes,
+            Collection<ObjectExclusion> excludes,
+            Collection<Long> columnIds
+    ) {
+        this(null, sheetId, includes, excludes, columnIds);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param scope     the identity the sheet was fetched by (optional; null for the client's own identity)
+     * @param sheetId   the sheet id
+     * @param includes  the inclusions the sheet is fetched with (optional)
+     * @param excludes  the exclusions the sheet is fetched with (optional)
+     * @param columnIds the columns the sheet is restricted to (optional)
+     */
+    public SheetCacheKey(
+            String scope,
+            long sheetId,
+            Collection<SheetInclusion> includes,
+            Collection<ObjectExclusion> excludes,
+            Collection<Long> columnIds
+    ) {
+        this.scope = scope;
+        this.sheetId = sheetId;
+        this.includes = includes == null ? Set.of() : Set.copyOf(includes);
+        this.excludes = excludes == null ? Set.of() : Set.copyOf(excludes);
+        this.columnIds = columnIds == null ? Set.of() : Set.copyOf(columnIds);
+        this.hash = Objects.hash(scope, sheetId, this.includes, this.excludes, this.columnIds);
+    }
+
+    /**
+     * Creates a key for a sheet fetched without any projection.
+     *
+     * @param sheetId the sheet id
+     * @return the key
+     */
+    public static SheetCacheKey of(long sheetId) {
+        return new SheetCacheKey(sheetId, null, null, null);
+    }
+
+    /**
+     * @return the identity the sheet was fetched by, or null for the client's own identity
+     */
+    public String getScope() {
+        return scope;
+    }
+
+    /**
+     * @return the sheet id
+     */
+    public long getSheetId() {
+        return sheetId;
+    }
+
+    /**
+     * @return the inclusions (never null)
+     */
+    public Set<SheetInclusion> getIncludes() {
+        return includes;
+    }
+
+    /**
+     * @return the exclusions (never null)
+     */
+    public Set<ObjectExclusion> getExcludes() {
+        return excludes;
+    }
+
+    /**
+     * @return the column ids (never null)
+     */
+    public Set<Long> getColumnIds() {
+        return columnIds;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SheetCacheKey)) {
+            return false;
+        }
+        SheetCacheKey other = (SheetCacheKey) o;
+        return sheetId == other.sheetId &&
+                Objects.equals(scope, other.scope) &&
+                includes.equals(other.includes) &&
+                excludes.equals(other.excludes) &&
+                columnIds.equals(other.columnIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "SheetCacheKey{" + (scope == null ? "" : "scope=" + scope + ", ") + "sheetId=" + sheetId + ", includes=" + includes +
+                ", excludes=" + excludes + ", columnIds=" + columnIds + "}";
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.cache;
+
+/**
+ * <p>A point-in-time snapshot of {@link SheetCache} metrics.</p>
+ *
+ * <p>Thread Safety: This class is immutable.</p>
+ */
+public final class SheetCacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long revalidationCount;
+    private final long reloadCount;
+    private final long coalescedCount;
+    private final long evictionCount;
+    private final long entryCount;
+    private final long weight;
+
+    /**
+     * Constructor.
+     *
+     * @param hitCount          requests answered from the cache without any API call
+     * @param missCount         requests that had no cached copy and fetched the full sheet
+     * @param revalidationCount requests answered from the cache after a version check found it unchanged
+     * @param reloadCount       requests whose version check found a newer sheet, which replaced the cached copy
+     * @param coalescedCount    requests that waited on a concurrent load of the same key instead of issuing their own
+     * @param evictionCount     entries evicted to stay within the size bounds
+     * @param entryCount        the current number of entries
+     * @param weight            the current total weight of the entries
+     */
+    public SheetCacheStats(long hitCount, long missCount, long revalidationCount, long reloadCount, long coalescedCount,
+                           long evictionCount, long entryCount, long weight) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.revalidationCount = revalidationCount;
+        this.reloadCount = reloadCount;
+        this.coalescedCount = coalescedCount;
+        this.evictionCount = evictionCount;
+        this.entryCount = entryCount;
+        this.weight = weight;
+    }
+
+    /**
+     * @return requests answered from the cache without any API call
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return requests that had no cached copy and fetched the full sheet
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return requests answered from the cache after a version check found it unchanged
+     */
+    public long getRevalidationCount() {
+        return revalidationCount;
+    }
+
+    /**
+     * @return requests whose version check found a newer sheet, which replaced the cached copy
+     */
+    public long getReloadCount() {
+        return reloadCount;
+    }
+
+    /**
+     * @return requests that waited on a concurrent load of the same key instead of issuing their own
+     */
+    public long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    /**
+     * @return entries evicted to stay within the size bounds
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return the current number of entries
+     */
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * @return the current total weight of the entries
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+    @Override
+    public String toString() {
+        return "SheetCacheStats{hits=" + hitCount + ", misses=" + missCount + ", revalidations=" + revalidationCount +
+                ", reloads=" + reloadCount + ", coalesced=" + coalescedCount + ", evictions=" + evictionCount +
+                ", entries=" + entryCount + ", weight=" + weight + "}";
+    }
+}
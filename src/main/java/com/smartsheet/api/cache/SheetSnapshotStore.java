@@ -0,0 +1,423 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Report;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.ObjectExclusion;
+import com.smartsheet.api.models.enums.SheetInclusion;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * <p>A local, on-disk store of sheet, report and column snapshots, so that a restarted process can start from the
+ * sheets it had before instead of downloading them again.</p>
+ *
+ * <p>Each snapshot is a single segment file holding a fixed binary header (magic, format, kind, object id, version and
+ * the sheet projection) followed by the length-prefixed, Deflater-compressed model. Segments are written to a
+ * temporary file and atomically moved into place. They are small, so they are read into heap buffers rather than
+ * memory-mapped: a mapping is only released once garbage collected, and until then Windows can't replace or delete the
+ * file. Headers can be read without the payload, which keeps {@link #listSheets()} cheap.</p>
+ *
+ * <p>A snapshot is only as current as the version it is tagged with: sheets are revalidated with a conditional fetch
+ * (see {@link PersistentSheetCache}), and columns are only returned when their version matches the current sheet
+ * version (as returned by GET /sheets/{id}/version).</p>
+ *
+ * <p>Thread Safety: This class is thread safe.</p>
+ */
+public class SheetSnapshotStore {
+
+    private static final int MAGIC = 0x53534e50;
+    private static final byte FORMAT = 1;
+    private static final byte KIND_SHEET = 1;
+    private static final byte KIND_REPORT = 2;
+    private static final byte KIND_COLUMNS = 3;
+    private static final String REPORT_PREFIX = "report-";
+    private static final String COLUMNS_PREFIX = "columns-";
+    private static final String SUFFIX = ".seg";
+    private static final String SEPARATOR = "|";
+
+    /**
+     * magic, format, kind, id, version, projection length
+     */
+    private static final int HEADER_SIZE = 4 + 1 + 1 + 8 + 4 + 4;
+
+    private final Path directory;
+    private final ObjectMapper mapper = JacksonJsonSerializer.newSnapshotMapper();
+
+    /**
+     * Constructor.
+     *
+     * @param directory the directory holding the snapshots; created if it doesn't exist
+     * @throws IOException if the directory can't be created
+     */
+    public SheetSnapshotStore(Path directory) throws IOException {
+        Util.throwIfNull(directory);
+        this.directory = Files.createDirectories(directory);
+    }
+
+    /**
+     * Store a snapshot of a sheet, replacing any previous snapshot of the same sheet and projection.
+     *
+     * @param key   the projection the sheet was fetched with
+     * @param sheet the sheet, which must include its version
+     * @throws IOException if the snapshot can't be written
+     */
+    public void saveSheet(SheetCacheKey key, Sheet sheet) throws IOException {
+        Util.throwIfNull(key, sheet, sheet.getVersion());
+        String projection = encodeProjection(key);
+        write(sheetFile(key.getSheetId(), projection), KIND_SHEET, key.getSheetId(), sheet.getVersion(), projection, sheet);
+    }
+
+    /**
+     * Load the snapshot of a sheet.
+     *
+     * @param key the projection the sheet was fetched with
+     * @return the sheet, or null if there is no snapshot for this sheet and projection
+     * @throws IOException if the snapshot can't be read or is corrupt
+     */
+    public Sheet loadSheet(SheetCacheKey key) throws IOException {
+        Util.throwIfNull(key);
+        String projection = encodeProjection(key);
+        Segment segment = read(sheetFile(key.getSheetId(), projection), KIND_SHEET);
+        if (segment == null || !projection.equals(segment.projection)) {
+            return null;
+        }
+        return mapper.readValue(segment.payload, Sheet.class);
+    }
+
+    /**
+     * List the sheet snapshots in the store by reading their headers only.
+     *
+     * @return the version of each readable sheet snapshot, keyed by projection
+     * @throws IOException if the directory can't be listed
+     */
+    public Map<SheetCacheKey, Integer> listSheets() throws IOException {
+        Map<SheetCacheKey, Integer> versions = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "sheet-*" + SUFFIX)) {
+            for (Path file : files) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    ByteBuffer header = readBytes(channel, Math.min(channel.size(), HEADER_SIZE), file);
+                    if (header.limit() == HEADER_SIZE) {
+                        long projectionLength = Math.max(header.getInt(HEADER_SIZE - 4), 0);
+                        header = readBytes(channel, Math.min(channel.size(), HEADER_SIZE + projectionLength), file);
+                    }
+                    Segment segment = decodeHeader(header, file);
+                    if (segment.kind == KIND_SHEET) {
+                        versions.put(decodeProjection(segment.id, segment.projection), segment.version);
+                    }
+                } catch (IOException | IllegalArgumentException e) {
+                    // deleted while listing, corrupt, or written by a version with other inclusions: not usable, and
+                    // it will be replaced when the sheet is saved again
+                }
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * Store a snapshot of a report, replacing any previous snapshot of it.
+     *
+     * @param report the report, which must include its id and version
+     * @throws IOException if the snapshot can't be written
+     */
+    public void saveReport(Report report) throws IOException {
+        Util.throwIfNull(report, report.getId(), report.getVersion());
+        write(file(REPORT_PREFIX + report.getId()), KIND_REPORT, report.getId(), report.getVersion(), "", report);
+    }
+
+    /**
+     * Load the snapshot of a report.
+     *
+     * @param reportId the report id
+     * @return the report, or null if there is no snapshot of it
+     * @throws IOException if the snapshot can't be read or is corrupt
+     */
+    public Report loadReport(long reportId) throws IOException {
+        Segment segment = read(file(REPORT_PREFIX + reportId), KIND_REPORT);
+        return segment == null ? null : mapper.readValue(segment.payload, Report.class);
+    }
+
+    /**
+     * Store a snapshot of the columns of a sheet.
+     *
+     * @param sheetId      the sheet id
+     * @param sheetVersion the version of the sheet the columns were read from
+     * @param columns      the columns
+     * @throws IOException if the snapshot can't be written
+     */
+    public void saveColumns(long sheetId, int sheetVersion, List<Column> columns) throws IOException {
+        Util.throwIfNull(columns);
+        write(file(COLUMNS_PREFIX + sheetId), KIND_COLUMNS, sheetId, sheetVersion, "", columns);
+    }
+
+    /**
+     * Load the snapshot of the columns of a sheet, provided it was taken at the current version of the sheet.
+     *
+     * @param sheetId             the sheet id
+     * @param currentSheetVersion the current version of the sheet (see GET /sheets/{id}/version)
+     * @return the columns, or null if there is no snapshot or it was taken at another version
+     * @throws IOException if the snapshot can't be read or is corrupt
+     */
+    public List<Column> loadColumns(long sheetId, int currentSheetVersion) throws IOException {
+        Segment segment = read(file(COLUMNS_PREFIX + sheetId), KIND_COLUMNS);
+        if (segment == null || segment.version != currentSheetVersion) {
+            return null;
+        }
+        CollectionType type = mapper.getTypeFactory().constructCollectionType(List.class, Column.class);
+        return mapper.readValue(segment.payload, type);
+    }
+
+    /**
+     * Delete every snapshot (sheet, report and columns) of an object.
+     *
+     * @param id the sheet or report id
+     * @throws IOException if a snapshot can't be deleted
+     */
+    public void delete(long id) throws IOException {
+        Files.deleteIfExists(file(REPORT_PREFIX + id));
+        Files.deleteIfExists(file(COLUMNS_PREFIX + id));
+        deleteMatching("sheet-" + id + "-*" + SUFFIX);
+    }
+
+    /**
+     * Delete every snapshot in the store.
+     *
+     * @throws IOException if a snapshot can't be deleted
+     */
+    public void clear() throws IOException {
+        deleteMatching("*" + SUFFIX);
+    }
+
+    private void deleteMatching(String glob) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, glob)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private void write(Path target, byte kind, long id, int version, String projection, Object model)
+            throws IOException {
+        byte[] raw = mapper.writeValueAsBytes(model);
+        byte[] compressed = deflate(raw);
+        byte[] projectionBytes = projection.getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + projectionBytes.length + 8);
+        header.putInt(MAGIC).put(FORMAT).put(kind).putLong(id).putInt(version)
+                .putInt(projectionBytes.length).put(projectionBytes)
+                .putInt(raw.length).putInt(compressed.length)
+                .flip();
+        ByteBuffer[] segment = {header, ByteBuffer.wrap(compressed)};
+
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (segment[1].hasRemaining()) {
+                    channel.write(segment);
+                }
+                channel.force(false);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Segment read(Path file, byte kind) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = readBytes(channel, channel.size(), file);
+            Segment segment = decodeHeader(buffer, file);
+            if (segment.kind != kind) {
+                throw corrupt(file, null);
+            }
+            try {
+                int rawLength = buffer.getInt();
+                int compressedLength = buffer.getInt();
+                if (rawLength < 0 || compressedLength < 0 || compressedLength > buffer.remaining()) {
+                    throw corrupt(file, null);
+                }
+                segment.payload = inflate(buffer.slice().limit(compressedLength), rawLength, file);
+            } catch (BufferUnderflowException e) {
+                throw corrupt(file, e);
+            }
+            return segment;
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Read the start of a segment into a heap buffer.
+     */
+    private static ByteBuffer readBytes(FileChannel channel, long length, Path file) throws IOException {
+        if (length > Integer.MAX_VALUE) {
+            throw corrupt(file, null);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                throw corrupt(file, null);
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static Segment decodeHeader(ByteBuffer buffer, Path file) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC || buffer.get() != FORMAT) {
+                throw corrupt(file, null);
+            }
+            Segment segment = new Segment();
+            segment.kind = buffer.get();
+            segment.id = buffer.getLong();
+            segment.version = buffer.getInt();
+            byte[] projection = new byte[buffer.getInt()];
+            buffer.get(projection);
+            segment.projection = new String(projection, StandardCharsets.UTF_8);
+            return segment;
+        } catch (BufferUnderflowException | NegativeArraySizeException e) {
+            throw corrupt(file, e);
+        }
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4 + 64);
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(chunk);
+                out.write(chunk, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(ByteBuffer compressed, int rawLength, Path file) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLength];
+            int length = 0;
+            while (length < rawLength && !inflater.finished()) {
+                int read = inflater.inflate(raw, length, rawLength - length);
+                if (read == 0 && inflater.needsInput()) {
+                    break;
+                }
+                length += read;
+            }
+            if (length != rawLength) {
+                throw corrupt(file, null);
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw corrupt(file, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static IOException corrupt(Path file, Exception cause) {
+        return new IOException("Corrupt snapshot segment " + file, cause);
+    }
+
+    private Path file(String name) {
+        return directory.resolve(name + SUFFIX);
+    }
+
+    private Path sheetFile(long sheetId, String projection) {
+        CRC32 crc = new CRC32();
+        crc.update(projection.getBytes(StandardCharsets.UTF_8));
+        return file("sheet-" + sheetId + "-" + Long.toHexString(crc.getValue()));
+    }
+
+    /**
+     * Encode a projection as includes|excludes|columnIds, each sorted so that equal keys encode identically.
+     */
+    private static String encodeProjection(SheetCacheKey key) {
+        return join(key.getIncludes().stream().map(Enum::name).sorted().collect(Collectors.toList())) + SEPARATOR +
+                join(key.getExcludes().stream().map(Enum::name).sorted().collect(Collectors.toList())) + SEPARATOR +
+                join(key.getColumnIds().stream().sorted().map(String::valueOf).collect(Collectors.toList()));
+    }
+
+    private static SheetCacheKey decodeProjection(long sheetId, String projection) {
+        String[] parts = projection.split("\\|", -1);
+        List<SheetInclusion> includes = new ArrayList<>();
+        List<ObjectExclusion> excludes = new ArrayList<>();
+        List<Long> columnIds = new ArrayList<>();
+        for (String name : split(parts[0])) {
+            includes.add(SheetInclusion.valueOf(name));
+        }
+        for (String name : split(parts[1])) {
+            excludes.add(ObjectExclusion.valueOf(name));
+        }
+        for (String id : split(parts[2])) {
+            columnIds.add(Long.valueOf(id));
+        }
+        return new SheetCacheKey(sheetId, includes, excludes, columnIds);
+    }
+
+    private static String join(Collection<String> values) {
+        return String.join(",", values);
+    }
+
+    private static List<String> split(String values) {
+        return values.isEmpty() ? List.of() : List.of(values.split(","));
+    }
+
+    /**
+     * A decoded segment.
+     */
+    private static final class Segment {
+        private byte kind;
+        private long id;
+        private int version;
+        private String projection;
+        private byte[] payload;
+    }
+}
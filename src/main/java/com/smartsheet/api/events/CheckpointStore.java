@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.events;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * <p>Durably records the position an {@link EventStreamConsumer} has reached in the event stream.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface CheckpointStore extends Closeable {
+
+    /**
+     * <p>Load the last saved stream position.</p>
+     *
+     * @return the stream position, or null if none has been saved
+     * @throws IOException if the checkpoint can't be read
+     */
+    String load() throws IOException;
+
+    /**
+     * <p>Save a stream position. Implementations may defer making it durable until {@link #flush()}.</p>
+     *
+     * @param streamPosition the stream position
+     * @throws IOException if the checkpoint can't be written
+     */
+    void save(String streamPosition) throws IOException;
+
+    /**
+     * <p>Make every saved stream position durable.</p>
+     *
+     * @throws IOException if the checkpoint can't be written
+     */
+    void flush() throws IOException;
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.events;
+
+import com.smartsheet.api.models.Event;
+
+import java.util.List;
+
+/**
+ * <p>Receives the events read by an {@link EventStreamConsumer}.</p>
+ *
+ * <p>Delivery is at-least-once: a batch whose handler throws is delivered again, and a batch that was handled but not
+ * yet checkpointed when the process stopped is delivered again after a restart. Handlers should therefore be
+ * idempotent, for example by keying on {@link Event#getEventId()}.</p>
+ *
+ * <p>Thread Safety: A handler is only called from the consumer thread, one batch at a time.</p>
+ */
+@FunctionalInterface
+public interface EventHandler {
+
+    /**
+     * <p>Handle a batch of events, in stream order. The consumer doesn't read further until this returns, so a slow
+     * handler slows the consumer down rather than letting events pile up in memory.</p>
+     *
+     * @param events the events (never empty)
+     * @throws Exception if the batch couldn't be handled; it will be delivered again after a backoff
+     */
+    void onEvents(List<Event> events) throws Exception;
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.events;
+
+import com.smartsheet.api.EventResources;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.Event;
+import com.smartsheet.api.models.EventResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Continuously reads the event stream (GET /events) and hands the events to an {@link EventHandler}, checkpointing
+ * the stream position so that a restarted consumer picks up where the previous one stopped.</p>
+ *
+ * <p>The consumer polls again immediately while the API reports more events available, and otherwise waits between
+ * polls: the minimum idle backoff after a poll that returned events, doubling up to the maximum while the stream stays
+ * idle. Errors (including handler failures) back off the same way.</p>
+ *
+ * <p>The stream position is only advanced and checkpointed after the handler has returned, so every event is
+ * delivered at least once: a failed batch is read and delivered again, and so are the batches handled since the last
+ * durable checkpoint when the process stops abruptly. Handlers are called synchronously, which gives natural
+ * backpressure: the consumer doesn't read ahead of the handler.</p>
+ *
+ * <p>Thread Safety: This class is thread safe; {@link #poll()} must not be called while the consumer is started.</p>
+ */
+public class EventStreamConsumer implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(EventStreamConsumer.class);
+
+    /**
+     * Default maximum number of events read per poll.
+     */
+    public static final int DEFAULT_MAX_COUNT = 1000;
+
+    /**
+     * Default wait after a poll that returned events but no more are available.
+     */
+    public static final long DEFAULT_MIN_IDLE_BACKOFF_MILLIS = 1000;
+
+    /**
+     * Default upper bound of the wait between polls while the stream is idle or failing.
+     */
+    public static final long DEFAULT_MAX_IDLE_BACKOFF_MILLIS = 60_000;
+
+    private final EventResources eventResources;
+    private final EventHandler handler;
+    private final CheckpointStore checkpoints;
+    private final Object since;
+    private final int maxCount;
+    private final long minIdleBackoffMillis;
+    private final long maxIdleBackoffMillis;
+
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private final AtomicReference<Thread> thread = new AtomicReference<>();
+    private volatile String streamPosition;
+
+    private final LongAdder polls = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    private EventStreamConsumer(Builder builder) throws IOException {
+        this.eventResources = builder.eventResources;
+        this.handler = builder.handler;
+        this.checkpoints = builder.checkpoints;
+        // taken once, so that a first batch that fails is read again from the same time rather than skipped
+        this.since = builder.since == null ? new Date() : builder.since;
+        this.maxCount = builder.maxCount;
+        this.minIdleBackoffMillis = builder.minIdleBackoffMillis;
+        this.maxIdleBackoffMillis = builder.maxIdleBackoffMillis;
+        this.streamPosition = checkpoints.load();
+    }
+
+    /**
+     * Create a builder.
+     *
+     * @param eventResources the event resources to read from
+     * @param handler        the handler the events are delivered to
+     * @param checkpoints    the store of the stream position
+     * @return the builder
+     */
+    public static Builder builder(EventResources eventResources, EventHandler handler, CheckpointStore checkpoints) {
+        return new Builder(eventResources, handler, checkpoints);
+    }
+
+    /**
+     * Start consuming on a new daemon thread.
+     *
+     * @throws IllegalStateException if the consumer was already started
+     */
+    public void start() {
+        Thread consumer = new Thread(this::run, "smartsheet-event-consumer");
+        consumer.setDaemon(true);
+        if (!thread.compareAndSet(null, consumer)) {
+            throw new IllegalStateException("The consumer was already started");
+        }
+        consumer.start();
+    }
+
+    /**
+     * Stop consuming, wait for the batch being handled (if any) to complete, and flush the checkpoint.
+     *
+     * @throws IOException if the checkpoint can't be flushed
+     */
+    @Override
+    public void close() throws IOException {
+        stopped.countDown();
+        Thread consumer = thread.get();
+        if (consumer != null && consumer != Thread.currentThread()) {
+            try {
+                consumer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        checkpoints.flush();
+    }
+
+    /**
+     * Read one batch of events, deliver it to the handler and checkpoint the new stream position.
+     *
+     * @return the result of the poll
+     * @throws SmartsheetException if the events can't be read or the handler fails (in which case the position isn't
+     *                             advanced, so the same events are read again by the next poll)
+     * @throws IOException         if the checkpoint can't be written
+     */
+    public EventResult poll() throws SmartsheetException, IOException {
+        String position = streamPosition;
+        EventResult result;
+        if (position == null) {
+            result = eventResources.listEvents(since, null, maxCount, null);
+        } else {
+            result = eventResources.listEvents(null, position, maxCount, null);
+        }
+        polls.increment();
+
+        List<Event> events = result.getData();
+        if (events != null && !events.isEmpty()) {
+            try {
+                handler.onEvents(events);
+            } catch (Exception e) {
+                throw new SmartsheetException("Event handler failed", e);
+            }
+            delivered.add(events.size());
+        }
+
+        String next = result.getNextStreamPosition();
+        if (next != null && !next.equals(position)) {
+            checkpoints.save(next);
+            streamPosition = next;
+        }
+        return result;
+    }
+
+    /**
+     * @return the stream position the next poll reads from, or null if no position has been reached yet
+     */
+    public String getStreamPosition() {
+        return streamPosition;
+    }
+
+    /**
+     * @return the number of successful polls
+     */
+    public long getPollCount() {
+        return polls.sum();
+    }
+
+    /**
+     * @return the number of events delivered to the handler (including redeliveries)
+     */
+    public long getDeliveredCount() {
+        return delivered.sum();
+    }
+
+    /**
+     * @return the number of failed polls
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    private void run() {
+        long idleBackoff = 0;
+        long errorBackoff = 0;
+        try {
+            while (stopped.getCount() > 0) {
+                long wait;
+                try {
+                    EventResult result = poll();
+                    errorBackoff = 0;
+                    if (Boolean.TRUE.equals(result.getMoreAvailable())) {
+                        idleBackoff = 0;
+                    } else if (result.getData() != null && !result.getData().isEmpty()) {
+                        idleBackoff = minIdleBackoffMillis;
+                    } else {
+                        idleBackoff = nextBackoff(idleBackoff);
+                    }
+                    wait = idleBackoff;
+                } catch (SmartsheetException | IOException | RuntimeException e) {
+                    failures.increment();
+                    errorBackoff = nextBackoff(errorBackoff);
+                    wait = errorBackoff;
+                    log.warn("Event stream poll failed, retrying in {} ms", wait, e);
+                }
+                if (wait > 0 && stopped.await(wait, TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long nextBackoff(long previous) {
+        return previous == 0 ? minIdleBackoffMillis : Math.min(previous * 2, maxIdleBackoffMillis);
+    }
+
+    /**
+     * Builds an {@link EventStreamConsumer}.
+     */
+    public static class Builder {
+        private final EventResources eventResources;
+        private final EventHandler handler;
+        private final CheckpointStore checkpoints;
+        private Object since;
+        private int maxCount = DEFAULT_MAX_COUNT;
+        private long minIdleBackoffMillis = DEFAULT_MIN_IDLE_BACKOFF_MILLIS;
+        private long maxIdleBackoffMillis = DEFAULT_MAX_IDLE_BACKOFF_MILLIS;
+
+        private Builder(EventResources eventResources, EventHandler handler, CheckpointStore checkpoints) {
+            Util.throwIfNull(eventResources, handler, checkpoints);
+            this.eventResources = eventResources;
+            this.handler = handler;
+            this.checkpoints = checkpoints;
+        }
+
+        /**
+         * Set where to start reading when there is no checkpoint yet (defaults to the time the consumer is built).
+         *
+         * @param since a Date, or a Long holding epoch milliseconds
+         * @return the builder
+         */
+        public Builder setSince(Object since) {
+            this.since = since;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of events read per poll (1 to 10,000).
+         *
+         * @param maxCount the maximum number of events read per poll
+         * @return the builder
+         */
+        public Builder setMaxCount(int maxCount) {
+            this.maxCount = maxCount;
+            return this;
+        }
+
+        /**
+         * Set the wait after a poll that returned events but no more are available, which is also where the idle and
+         * error backoff start.
+         *
+         * @param minIdleBackoffMillis the minimum wait between polls
+         * @return the builder
+         */
+        public Builder setMinIdleBackoffMillis(long minIdleBackoffMillis) {
+            this.minIdleBackoffMillis = minIdleBackoffMillis;
+            return this;
+        }
+
+        /**
+         * Set the upper bound of the wait between polls while the stream is idle or failing.
+         *
+         * @param maxIdleBackoffMillis the maximum wait between polls
+         * @return the builder
+         */
+        public Builder setMaxIdleBackoffMillis(long maxIdleBackoffMillis) {
+            this.maxIdleBackoffMillis = maxIdleBackoffMillis;
+            return this;
+        }
+
+        /**
+         * Build the consumer, loading the checkpointed stream position.
+         *
+         * @return the consumer
+         * @throws IOException              if the checkpoint can't be read
+         * @throws IllegalArgumentException if maxCount or the backoff bounds are out of range
+         */
+        public EventStreamConsumer build() throws IOException {
+            if (maxCount < 1 || maxCount > 10_000 || minIdleBackoffMillis <= 0 ||
+                    maxIdleBackoffMillis < minIdleBackoffMillis) {
+                throw new IllegalArgumentException("maxCount or backoff bounds out of range");
+            }
+            return new EventStreamConsumer(this);
+        }
+    }
+}
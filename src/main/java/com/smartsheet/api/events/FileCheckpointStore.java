@@ -0,0 +1,256 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.events;
+
+import com.smartsheet.api.internal.util.Util;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * <p>A {@link CheckpointStore} backed by a local append-only file.</p>
+ *
+ * <p>Each save appends a record (length, UTF-8 stream position, CRC32) and the last intact record wins when the file
+ * is opened, so a torn write at the end of the file after a crash only loses that last record. Appends are fsync'ed
+ * at most once per sync interval (and on {@link #flush()} and {@link #close()}), which batches the cost of fsync
+ * when the consumer checkpoints often; appends not yet synced are fsync'ed by a background timer once the interval
+ * has passed, even if nothing else is saved. A crash can lose the positions saved within the last interval, which
+ * only causes those events to be delivered again. The file is compacted down to its last record once it grows past
+ * {@link #COMPACT_THRESHOLD} bytes.</p>
+ *
+ * <p>Thread Safety: This class is thread safe.</p>
+ */
+public class FileCheckpointStore implements CheckpointStore {
+
+    private static final Logger log = LoggerFactory.getLogger(FileCheckpointStore.class);
+
+    /**
+     * Default interval between fsyncs.
+     */
+    public static final long DEFAULT_SYNC_INTERVAL_MILLIS = 1000;
+
+    /**
+     * File size past which the file is rewritten with its last record only.
+     */
+    public static final long COMPACT_THRESHOLD = 64 * 1024;
+
+    private final Path file;
+    private final long syncIntervalNanos;
+
+    private FileChannel channel;
+    private String position;
+    private boolean dirty;
+    private long lastSync;
+    private ScheduledFuture<?> scheduledSync;
+
+    /**
+     * Constructor using the default sync interval.
+     *
+     * @param file the checkpoint file; created if it doesn't exist
+     * @throws IOException if the file can't be opened
+     */
+    public FileCheckpointStore(Path file) throws IOException {
+        this(file, DEFAULT_SYNC_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param file               the checkpoint file; created if it doesn't exist
+     * @param syncIntervalMillis the minimum interval between fsyncs (0 to fsync every save)
+     * @throws IOException if the file can't be opened
+     */
+    public FileCheckpointStore(Path file, long syncIntervalMillis) throws IOException {
+        Util.throwIfNull(file);
+        if (syncIntervalMillis < 0) {
+            throw new IllegalArgumentException("syncIntervalMillis must not be negative");
+        }
+        this.file = file;
+        this.syncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(syncIntervalMillis);
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        recover();
+        this.lastSync = System.nanoTime();
+    }
+
+    @Override
+    public synchronized String load() {
+        return position;
+    }
+
+    @Override
+    public synchronized void save(String streamPosition) throws IOException {
+        Util.throwIfNull(streamPosition);
+        if (channel.size() > COMPACT_THRESHOLD) {
+            compact(streamPosition);
+        } else {
+            ByteBuffer record = encode(streamPosition);
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            dirty = true;
+        }
+        position = streamPosition;
+        long sinceSync = System.nanoTime() - lastSync;
+        if (sinceSync >= syncIntervalNanos) {
+            flush();
+        } else if (dirty && scheduledSync == null) {
+            scheduledSync = SyncTimer.TIMER.schedule(this::scheduledFlush, syncIntervalNanos - sinceSync, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        if (scheduledSync != null) {
+            scheduledSync.cancel(false);
+            scheduledSync = null;
+        }
+        if (dirty) {
+            channel.force(false);
+            dirty = false;
+        }
+        lastSync = System.nanoTime();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel.isOpen()) {
+            flush();
+            channel.close();
+        }
+    }
+
+    /**
+     * Whether saves have been appended since the last fsync.
+     */
+    synchronized boolean hasUnsyncedSaves() {
+        return dirty;
+    }
+
+    /**
+     * Sync appends that were left unsynced when the consumer stopped saving.
+     */
+    private synchronized void scheduledFlush() {
+        scheduledSync = null;
+        if (!channel.isOpen()) {
+            return;
+        }
+        try {
+            flush();
+        } catch (IOException e) {
+            log.warn("failed to sync checkpoint file {}", file, e);
+        }
+    }
+
+    /**
+     * Read every intact record, keep the last one, and cut off anything after it.
+     */
+    private void recover() throws IOException {
+        long size = channel.size();
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        long validEnd = 0;
+        while (buffer.remaining() >= Integer.BYTES) {
+            int length = buffer.getInt();
+            if (length < 0 || buffer.remaining() < length + Integer.BYTES) {
+                break;
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            if (buffer.getInt() != crc(bytes)) {
+                break;
+            }
+            position = new String(bytes, StandardCharsets.UTF_8);
+            validEnd = buffer.position();
+        }
+        if (validEnd < size) {
+            channel.truncate(validEnd);
+            channel.force(false);
+        }
+        channel.position(validEnd);
+    }
+
+    /**
+     * Replace the file with one holding a single record.
+     */
+    private void compact(String streamPosition) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer record = encode(streamPosition);
+            while (record.hasRemaining()) {
+                out.write(record);
+            }
+            out.force(false);
+        }
+        // some platforms won't replace a file that is still open
+        channel.close();
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+        } finally {
+            // whether or not the move happened, keep a channel open on the file so later saves still work
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+        }
+    }
+
+    private static ByteBuffer encode(String streamPosition) {
+        byte[] bytes = streamPosition.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES * 2 + bytes.length);
+        record.putInt(bytes.length).put(bytes).putInt(crc(bytes)).flip();
+        return record;
+    }
+
+    private static int crc(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Timer shared by every store for the syncs that are due after the last save.
+     */
+    private static final class SyncTimer {
+        private static final ScheduledThreadPoolExecutor TIMER = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread timer = new Thread(runnable, "smartsheet-checkpoint-sync");
+            timer.setDaemon(true);
+            return timer;
+        });
+
+        static {
+            // most scheduled syncs are overtaken by a later save or flush
+            TIMER.setRemoveOnCancelPolicy(true);
+        }
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.events;
+
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.Event;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>An {@link EventHandler} that spreads events over N single-threaded lanes by {@link Event#getObjectId()}, so that
+ * events for different objects are handled in parallel while the events for one object are handled in stream
+ * order.</p>
+ *
+ * <p>Each lane is fed through a bounded single-producer/single-consumer ring buffer without locks; when a lane's
+ * buffer is full {@link #onEvents(List)} waits, which pushes backpressure back to the {@link EventStreamConsumer}.
+ * Idle lanes, and a producer waiting for room, sleep until they are handed work or room rather than polling.
+ * A lane hands the events it drains to the delegate handler in batches, retrying a failed batch with backoff (so a
+ * failing object stalls its lane but not the others).</p>
+ *
+ * <p>Because {@link #onEvents(List)} returns as soon as the events are queued, the stream position must not be
+ * checkpointed at that point. Pass {@link #checkpoints()} to the consumer instead of the real store: it holds each
+ * saved position back until every lane has handled all the events queued before it (the low watermark), and only then
+ * saves it to the real store.</p>
+ *
+ * <p>Thread Safety: This class is thread safe, but {@link #onEvents(List)} must only be called from one thread at a
+ * time (the consumer thread). The delegate handler is called concurrently from the lane threads.</p>
+ */
+public class PartitionedEventDispatcher implements EventHandler, Closeable {
+    private static final Logger log = LoggerFactory.getLogger(PartitionedEventDispatcher.class);
+
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 30_000;
+
+    private final Lane[] lanes;
+    private final EventHandler handler;
+    private final CheckpointStore store;
+    private final CheckpointStore view = new WatermarkCheckpoints();
+
+    /**
+     * Saved positions waiting for the lanes to catch up, oldest first; guarded by itself.
+     */
+    private final Deque<PendingCheckpoint> pending = new ArrayDeque<>();
+    private volatile String lowWatermark;
+    private volatile boolean closed;
+
+    /**
+     * Constructor; starts the lane threads.
+     *
+     * @param laneCount    the number of lanes (threads)
+     * @param laneCapacity the number of events each lane buffers (rounded up to a power of two)
+     * @param handler      the handler, called concurrently from the lane threads
+     * @param store        the store the low watermark is checkpointed to
+     * @throws IOException              if the checkpoint can't be read
+     * @throws IllegalArgumentException if laneCount or laneCapacity is not positive
+     */
+    public PartitionedEventDispatcher(int laneCount, int laneCapacity, EventHandler handler, CheckpointStore store)
+            throws IOException {
+        Util.throwIfNull(handler, store);
+        if (laneCount <= 0 || laneCapacity <= 0 || laneCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("laneCount and laneCapacity must be positive");
+        }
+        this.handler = handler;
+        this.store = store;
+        this.lowWatermark = store.load();
+        this.lanes = new Lane[laneCount];
+        int capacity = laneCapacity == 1 ? 1 : Integer.highestOneBit(laneCapacity - 1) << 1;
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(capacity);
+            Thread thread = new Thread(lanes[i], "smartsheet-event-lane-" + i);
+            thread.setDaemon(true);
+            lanes[i].thread = thread;
+            thread.start();
+        }
+    }
+
+    /**
+     * Queue the events on their lanes, waiting while a lane is full.
+     *
+     * @param events the events
+     * @throws IllegalStateException if the dispatcher is closed
+     */
+    @Override
+    public void onEvents(List<Event> events) {
+        for (Event event : events) {
+            lanes[Math.floorMod(Objects.hashCode(event.getObjectId()), lanes.length)].offer(event);
+        }
+    }
+
+    /**
+     * @return the checkpoint store to pass to the {@link EventStreamConsumer}, which commits positions at the low
+     * watermark
+     */
+    public CheckpointStore checkpoints() {
+        return view;
+    }
+
+    /**
+     * @return the last stream position every lane has handled all events before, i.e. the last committed checkpoint
+     */
+    public String getLowWatermark() {
+        return lowWatermark;
+    }
+
+    /**
+     * @return the number of events queued on the lanes and not handled yet
+     */
+    public long getQueuedCount() {
+        long queued = 0;
+        for (Lane lane : lanes) {
+            queued += lane.tail.get() - lane.head.get();
+        }
+        return queued;
+    }
+
+    /**
+     * Stop accepting events, wait for the lanes to handle the queued events, and commit the low watermark.
+     *
+     * @throws IOException if the checkpoint can't be written
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        for (Lane lane : lanes) {
+            LockSupport.unpark(lane.thread);
+            LockSupport.unpark(lane.waitingProducer);
+            try {
+                lane.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        commitReady();
+        store.flush();
+    }
+
+    /**
+     * Save the newest pending position that every lane has caught up with.
+     */
+    private void commitReady() throws IOException {
+        String ready = null;
+        synchronized (pending) {
+            while (!pending.isEmpty() && pending.peekFirst().isReached(lanes)) {
+                ready = pending.pollFirst().streamPosition;
+            }
+            if (ready != null) {
+                store.save(ready);
+                lowWatermark = ready;
+            }
+        }
+    }
+
+    private void tryCommitReady() {
+        try {
+            commitReady();
+        } catch (IOException e) {
+            log.warn("Failed to save the event stream checkpoint", e);
+        }
+    }
+
+    /**
+     * A saved position together with the number of events queued on each lane when it was saved.
+     */
+    private static final class PendingCheckpoint {
+        private final String streamPosition;
+        private final long[] queuedPerLane;
+
+        private PendingCheckpoint(String streamPosition, Lane[] lanes) {
+            this.streamPosition = streamPosition;
+            this.queuedPerLane = new long[lanes.length];
+            for (int i = 0; i < lanes.length; i++) {
+                queuedPerLane[i] = lanes[i].tail.get();
+            }
+        }
+
+        private boolean isReached(Lane[] lanes) {
+            for (int i = 0; i < lanes.length; i++) {
+                if (lanes[i].head.get() < queuedPerLane[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The checkpoint store handed to the consumer.
+     */
+    private final class WatermarkCheckpoints implements CheckpointStore {
+        @Override
+        public String load() {
+            return lowWatermark;
+        }
+
+        @Override
+        public void save(String streamPosition) throws IOException {
+            synchronized (pending) {
+                pending.addLast(new PendingCheckpoint(streamPosition, lanes));
+            }
+            commitReady();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            commitReady();
+            store.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+    /**
+     * A single-threaded lane fed through a single-producer/single-consumer ring buffer. tail (written by the producer)
+     * counts the events queued and head (written by the lane) counts the events handled.
+     * <p>
+     * Each side announces that it is about to park (parked, waitingProducer) and then checks the other side's counter
+     * again; the other side moves its counter and then checks the announcement. Both are volatile, so one of them sees
+     * the other's write and a wakeup is never lost.
+     */
+    private final class Lane implements Runnable {
+        private final Event[] ring;
+        private final int mask;
+        private final AtomicLong tail = new AtomicLong();
+        private final AtomicLong head = new AtomicLong();
+        private volatile boolean parked;
+        private volatile Thread waitingProducer;
+        private Thread thread;
+
+        private Lane(int capacity) {
+            this.ring = new Event[capacity];
+            this.mask = capacity - 1;
+        }
+
+        private void offer(Event event) {
+            long t = tail.get();
+            while (t - head.get() == ring.length) {
+                if (closed) {
+                    throw new IllegalStateException("The dispatcher is closed");
+                }
+                waitingProducer = Thread.currentThread();
+                if (t - head.get() == ring.length && !closed) {
+                    LockSupport.park(this);
+                }
+                waitingProducer = null;
+            }
+            if (closed) {
+                throw new IllegalStateException("The dispatcher is closed");
+            }
+            ring[(int) t & mask] = event;
+            tail.set(t + 1);
+            if (parked) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        @Override
+        public void run() {
+            List<Event> batch = new ArrayList<>();
+            while (true) {
+                long h = head.get();
+                long t = tail.get();
+                if (h == t) {
+                    if (closed) {
+                        return;
+                    }
+                    parked = true;
+                    if (tail.get() == h && !closed) {
+                        LockSupport.park(this);
+                    }
+                    parked = false;
+                    continue;
+                }
+                batch.clear();
+                for (long i = h; i < t; i++) {
+                    batch.add(ring[(int) i & mask]);
+                }
+                if (!deliver(batch)) {
+                    return;
+                }
+                for (long i = h; i < t; i++) {
+                    ring[(int) i & mask] = null;
+                }
+                head.set(t);
+                Thread producer = waitingProducer;
+                if (producer != null) {
+                    LockSupport.unpark(producer);
+                }
+                tryCommitReady();
+            }
+        }
+
+        /**
+         * Hand a batch to the handler, retrying with backoff until it succeeds. Gives up only when the dispatcher is
+         * closed, leaving the batch (and the low watermark) where it is so it's delivered again after a restart.
+         *
+         * @return false if the batch was given up
+         */
+        private boolean deliver(List<Event> batch) {
+            long backoff = 100;
+            while (true) {
+                try {
+                    handler.onEvents(batch);
+                    return true;
+                } catch (Exception e) {
+                    if (closed) {
+                        log.warn("Giving up a failed batch of {} events on close", batch.size(), e);
+                        return false;
+                    }
+                    log.warn("Event handler failed, retrying in {} ms", backoff, e);
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(backoff));
+                    backoff = Math.min(backoff * 2, MAX_RETRY_BACKOFF_MILLIS);
+                }
+            }
+        }
+    }
+}
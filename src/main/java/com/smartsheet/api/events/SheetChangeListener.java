@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.events;
+
+/**
+ * <p>Notified by a {@link SheetWatcher} when the version of a watched sheet changes.</p>
+ *
+ * <p>Thread Safety: A listener is called from the watcher's poll threads, concurrently for different sheets.</p>
+ */
+@FunctionalInterface
+public interface SheetChangeListener {
+
+    /**
+     * A watched sheet has changed. Several changes made between two polls are reported once.
+     *
+     * @param sheetId    the sheet
+     * @param oldVersion the version seen by the previous poll
+     * @param newVersion the current version
+     * @throws Exception if the change couldn't be handled; it's logged and not reported again
+     */
+    void onSheetChanged(long sheetId, int oldVersion, int newVersion) throws Exception;
+}
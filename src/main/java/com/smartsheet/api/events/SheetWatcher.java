@@ -0,0 +1,438 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.events;
+
+import com.smartsheet.api.ResourceNotFoundException;
+import com.smartsheet.api.SheetResources;
+import com.smartsheet.api.internal.util.Util;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Watches many sheets for changes by polling their version (GET /sheets/{id}/version), which costs the same
+ * however large the sheet is.</p>
+ *
+ * <p>Each sheet has its own poll interval: back to the minimum after a change, and doubling up to the maximum while
+ * the sheet stays unchanged (or polling it fails), so quiet sheets cost little. Due polls are collected by a hashed
+ * time wheel and released under one global rate budget shared by all sheets, oldest first; when more sheets are due
+ * than the budget allows, polls are delayed rather than sent in bursts. A sheet that no longer exists is
+ * unwatched.</p>
+ *
+ * <p>Thread Safety: This class is thread safe.</p>
+ */
+public class SheetWatcher implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(SheetWatcher.class);
+
+    /**
+     * Default poll interval right after a change.
+     */
+    public static final long DEFAULT_MIN_INTERVAL_MILLIS = 5_000;
+
+    /**
+     * Default poll interval of a sheet that stays unchanged.
+     */
+    public static final long DEFAULT_MAX_INTERVAL_MILLIS = 300_000;
+
+    /**
+     * Default global budget of version polls per second.
+     */
+    public static final double DEFAULT_POLLS_PER_SECOND = 5;
+
+    /**
+     * Default resolution of the time wheel.
+     */
+    public static final long DEFAULT_TICK_MILLIS = 100;
+
+    private static final int WHEEL_SIZE = 512;
+
+    private final SheetResources sheetResources;
+    private final SheetChangeListener listener;
+    private final long minIntervalMillis;
+    private final long maxIntervalMillis;
+    private final double pollsPerSecond;
+    private final long tickMillis;
+    private final ExecutorService pollers;
+
+    private final Map<Long, Watch> watches = new ConcurrentHashMap<>();
+    private final Queue<Watch> incoming = new ConcurrentLinkedQueue<>();
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private final AtomicReference<Thread> thread = new AtomicReference<>();
+
+    /**
+     * The time wheel and the polls that are due but over budget; only used by the wheel thread.
+     */
+    private final List<ArrayDeque<Watch>> wheel = new ArrayList<>(WHEEL_SIZE);
+    private final ArrayDeque<Watch> ready = new ArrayDeque<>();
+    private long tick;
+    private double tokens;
+
+    private final LongAdder polls = new LongAdder();
+    private final LongAdder changes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    private SheetWatcher(Builder builder) {
+        this.sheetResources = builder.sheetResources;
+        this.listener = builder.listener;
+        this.minIntervalMillis = builder.minIntervalMillis;
+        this.maxIntervalMillis = builder.maxIntervalMillis;
+        this.pollsPerSecond = builder.pollsPerSecond;
+        this.tickMillis = builder.tickMillis;
+        AtomicInteger threads = new AtomicInteger();
+        this.pollers = Executors.newFixedThreadPool(builder.pollThreads, runnable -> {
+            Thread poller = new Thread(runnable, "smartsheet-sheet-watcher-poll-" + threads.getAndIncrement());
+            poller.setDaemon(true);
+            return poller;
+        });
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Create a builder.
+     *
+     * @param sheetResources the sheet resources used to read versions
+     * @param listener       the listener notified of changes
+     * @return the builder
+     */
+    public static Builder builder(SheetResources sheetResources, SheetChangeListener listener) {
+        return new Builder(sheetResources, listener);
+    }
+
+    /**
+     * Watch a sheet. Its first poll records the current version without notifying the listener.
+     *
+     * @param sheetId the sheet
+     */
+    public void watch(long sheetId) {
+        watch(sheetId, null);
+    }
+
+    /**
+     * Watch a sheet whose version is already known, e.g. from a cached copy; the listener is notified if its first
+     * poll finds a different version.
+     *
+     * @param sheetId      the sheet
+     * @param knownVersion the known version, or null
+     */
+    public void watch(long sheetId, Integer knownVersion) {
+        Watch watch = new Watch(sheetId, knownVersion, minIntervalMillis);
+        if (watches.putIfAbsent(sheetId, watch) == null) {
+            schedule(watch, 0);
+        }
+    }
+
+    /**
+     * Stop watching a sheet.
+     *
+     * @param sheetId the sheet
+     */
+    public void unwatch(long sheetId) {
+        Watch watch = watches.remove(sheetId);
+        if (watch != null) {
+            watch.cancelled = true;
+        }
+    }
+
+    /**
+     * @param sheetId the sheet
+     * @return the current poll interval of the sheet, or null if it isn't watched
+     */
+    public Long getIntervalMillis(long sheetId) {
+        Watch watch = watches.get(sheetId);
+        return watch == null ? null : watch.intervalMillis;
+    }
+
+    /**
+     * @return the number of watched sheets
+     */
+    public int getWatchedCount() {
+        return watches.size();
+    }
+
+    /**
+     * @return the number of version polls made
+     */
+    public long getPollCount() {
+        return polls.sum();
+    }
+
+    /**
+     * @return the number of changes reported
+     */
+    public long getChangeCount() {
+        return changes.sum();
+    }
+
+    /**
+     * @return the number of failed polls
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * Start the time wheel on a new daemon thread.
+     *
+     * @throws IllegalStateException if the watcher was already started
+     */
+    public void start() {
+        Thread wheelThread = new Thread(this::run, "smartsheet-sheet-watcher");
+        wheelThread.setDaemon(true);
+        if (!thread.compareAndSet(null, wheelThread)) {
+            throw new IllegalStateException("The watcher was already started");
+        }
+        wheelThread.start();
+    }
+
+    /**
+     * Stop polling, waiting briefly for polls in flight.
+     */
+    @Override
+    public void close() {
+        stopped.countDown();
+        Thread wheelThread = thread.get();
+        try {
+            if (wheelThread != null) {
+                wheelThread.join();
+            }
+            pollers.shutdown();
+            pollers.awaitTermination(tickMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        pollers.shutdownNow();
+    }
+
+    private void schedule(Watch watch, long delayMillis) {
+        watch.delayMillis = delayMillis;
+        incoming.add(watch);
+    }
+
+    private void run() {
+        long start = System.nanoTime();
+        long lastRefill = start;
+        try {
+            do {
+                long now = System.nanoTime();
+                tokens = Math.min(Math.max(1, pollsPerSecond), tokens + (now - lastRefill) / 1e9 * pollsPerSecond);
+                lastRefill = now;
+                long target = TimeUnit.NANOSECONDS.toMillis(now - start) / tickMillis;
+                while (tick < target) {
+                    tick++;
+                    advance();
+                }
+                release();
+            } while (!stopped.await(tickMillis, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Place newly scheduled sheets on the wheel and move the ones due at the current tick to the ready queue.
+     */
+    private void advance() {
+        Watch watch;
+        while ((watch = incoming.poll()) != null) {
+            long ticks = Math.max(1, (watch.delayMillis + tickMillis - 1) / tickMillis);
+            watch.dueTick = tick + ticks;
+            wheel.get((int) (watch.dueTick % WHEEL_SIZE)).add(watch);
+        }
+        Iterator<Watch> bucket = wheel.get((int) (tick % WHEEL_SIZE)).iterator();
+        while (bucket.hasNext()) {
+            watch = bucket.next();
+            if (watch.cancelled) {
+                bucket.remove();
+            } else if (watch.dueTick <= tick) {
+                bucket.remove();
+                ready.add(watch);
+            }
+        }
+    }
+
+    /**
+     * Start as many due polls as the rate budget allows.
+     */
+    private void release() {
+        while (tokens >= 1 && !ready.isEmpty()) {
+            Watch watch = ready.poll();
+            if (!watch.cancelled) {
+                tokens -= 1;
+                pollers.execute(() -> poll(watch));
+            }
+        }
+    }
+
+    private void poll(Watch watch) {
+        Integer previous = watch.version;
+        try {
+            int version = sheetResources.getSheetVersion(watch.sheetId);
+            polls.increment();
+            watch.version = version;
+            if (previous == null || previous == version) {
+                watch.intervalMillis = Math.min(watch.intervalMillis * 2, maxIntervalMillis);
+            } else {
+                watch.intervalMillis = minIntervalMillis;
+                changes.increment();
+                notifyChanged(watch.sheetId, previous, version);
+            }
+        } catch (ResourceNotFoundException e) {
+            log.info("Sheet {} no longer exists, unwatching it", watch.sheetId);
+            watches.remove(watch.sheetId, watch);
+            watch.cancelled = true;
+        } catch (Exception e) {
+            failures.increment();
+            watch.intervalMillis = Math.min(watch.intervalMillis * 2, maxIntervalMillis);
+            log.warn("Failed to poll the version of sheet {}", watch.sheetId, e);
+        }
+        if (!watch.cancelled) {
+            schedule(watch, watch.intervalMillis);
+        }
+    }
+
+    private void notifyChanged(long sheetId, int oldVersion, int newVersion) {
+        try {
+            listener.onSheetChanged(sheetId, oldVersion, newVersion);
+        } catch (Exception e) {
+            log.warn("Sheet change listener failed for sheet {}", sheetId, e);
+        }
+    }
+
+    /**
+     * A watched sheet.
+     */
+    private static final class Watch {
+        private final long sheetId;
+        private volatile Integer version;
+        private volatile long intervalMillis;
+        private volatile boolean cancelled;
+        private volatile long delayMillis;
+        private long dueTick;
+
+        private Watch(long sheetId, Integer version, long intervalMillis) {
+            this.sheetId = sheetId;
+            this.version = version;
+            this.intervalMillis = intervalMillis;
+        }
+    }
+
+    /**
+     * Builds a {@link SheetWatcher}.
+     */
+    public static class Builder {
+        private final SheetResources sheetResources;
+        private final SheetChangeListener listener;
+        private long minIntervalMillis = DEFAULT_MIN_INTERVAL_MILLIS;
+        private long maxIntervalMillis = DEFAULT_MAX_INTERVAL_MILLIS;
+        private double pollsPerSecond = DEFAULT_POLLS_PER_SECOND;
+        private long tickMillis = DEFAULT_TICK_MILLIS;
+        private int pollThreads = 4;
+
+        private Builder(SheetResources sheetResources, SheetChangeListener listener) {
+            Util.throwIfNull(sheetResources, listener);
+            this.sheetResources = sheetResources;
+            this.listener = listener;
+        }
+
+        /**
+         * Set the poll interval right after a change.
+         *
+         * @param minIntervalMillis the minimum poll interval
+         * @return the builder
+         */
+        public Builder setMinIntervalMillis(long minIntervalMillis) {
+            this.minIntervalMillis = minIntervalMillis;
+            return this;
+        }
+
+        /**
+         * Set the poll interval of a sheet that stays unchanged.
+         *
+         * @param maxIntervalMillis the maximum poll interval
+         * @return the builder
+         */
+        public Builder setMaxIntervalMillis(long maxIntervalMillis) {
+            this.maxIntervalMillis = maxIntervalMillis;
+            return this;
+        }
+
+        /**
+         * Set the global budget of version polls per second, shared by all sheets.
+         *
+         * @param pollsPerSecond the poll budget
+         * @return the builder
+         */
+        public Builder setPollsPerSecond(double pollsPerSecond) {
+            this.pollsPerSecond = pollsPerSecond;
+            return this;
+        }
+
+        /**
+         * Set the resolution of the time wheel.
+         *
+         * @param tickMillis the tick length
+         * @return the builder
+         */
+        public Builder setTickMillis(long tickMillis) {
+            this.tickMillis = tickMillis;
+            return this;
+        }
+
+        /**
+         * Set the number of threads polls (and listener calls) run on.
+         *
+         * @param pollThreads the number of poll threads
+         * @return the builder
+         */
+        public Builder setPollThreads(int pollThreads) {
+            this.pollThreads = pollThreads;
+            return this;
+        }
+
+        /**
+         * Build the watcher; call {@link SheetWatcher#start()} to start polling.
+         *
+         * @return the watcher
+         * @throws IllegalArgumentException if a setting is out of range
+         */
+        public SheetWatcher build() {
+            if (minIntervalMillis <= 0 || maxIntervalMillis < minIntervalMillis || pollsPerSecond <= 0 || tickMillis <= 0 ||
+                    pollThreads <= 0) {
+                throw new IllegalArgumentException("Intervals, poll budget, tick and poll threads must be positive");
+            }
+            return new SheetWatcher(this);
+        }
+    }
+}
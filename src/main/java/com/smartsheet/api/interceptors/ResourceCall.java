@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.interceptors;
+
+import com.smartsheet.api.internal.http.HttpRequest;
+import com.smartsheet.api.internal.http.HttpResponse;
+
+/**
+ * <p>A call to the Smartsheet REST API, as seen by a {@link SmartsheetInterceptor}.</p>
+ *
+ * <p>Thread Safety: Instances belong to a single call, which runs on the thread that made it.</p>
+ *
+ * @param <T> the type of the decoded result
+ */
+public interface ResourceCall<T> {
+
+    /**
+     * <p>Get the kind of call, which determines how the response is decoded.</p>
+     *
+     * @return the operation
+     */
+    Operation getOperation();
+
+    /**
+     * <p>Get the class of the decoded objects: the resource itself, or the elements of a list or page.</p>
+     *
+     * @return the class, null for operations that decode nothing
+     */
+    Class<?> getResultClass();
+
+    /**
+     * <p>Get the object sent in the request body, before serialization.</p>
+     *
+     * @return the object, or null if the request has no JSON body
+     */
+    Object getRequestObject();
+
+    /**
+     * <p>Get the HTTP request. Interceptors may change its headers or URI before the call proceeds.</p>
+     *
+     * @return the request
+     */
+    HttpRequest getRequest();
+
+    /**
+     * <p>Get the normalized route of the request, e.g. {@code GET /sheets/{id}/rows}, suitable as a metric or
+     * cache dimension.</p>
+     *
+     * @return the route
+     */
+    String getRoute();
+
+    /**
+     * <p>Get the HTTP response. Its body has already been decoded (or, for errors, turned into an exception).</p>
+     *
+     * @return the response, or null before the request is sent, or if it was not sent by this call because an
+     *     interceptor returned early or an identical concurrent request was coalesced with it
+     */
+    HttpResponse getResponse();
+
+    /**
+     * <p>The kinds of call, each named after how its successful response is decoded.</p>
+     */
+    enum Operation {
+        /** GET a single object; the result is the object. */
+        GET,
+        /** POST an object; the result is the object in the response's {@code result}. */
+        CREATE,
+        /** PUT an object; the result is the object in the response's {@code result}. */
+        UPDATE,
+        /** GET a list; the result is a {@code List}. */
+        LIST,
+        /** GET a page of objects; the result is a {@code PagedResult}. */
+        LIST_PAGED,
+        /** DELETE an object; the result is null. */
+        DELETE,
+        /** DELETE objects; the result is the {@code List} in the response's {@code result}. */
+        DELETE_LIST,
+        /** POST an object; the result is the {@code List} in the response's {@code result}. */
+        POST_LIST,
+        /** PUT an object; the result is the {@code List} in the response's {@code result}. */
+        PUT_LIST,
+        /** POST a copy or move of rows; the result is a {@code CopyOrMoveRowResult}. */
+        COPY_OR_MOVE_ROWS,
+        /** POST a file (an attachment, an image or a sheet to import); the result is the decoded response, or null. */
+        ATTACH_FILE,
+        /** GET a file, written to an output stream; the result is null. */
+        GET_FILE,
+        /**
+         * POST or PUT anything else, e.g. a sort or a bulk change allowing partial success; the result is the whole
+         * response body, decoded as the result class.
+         */
+        ACTION,
+        /** Send a request made with {@code PassthroughResources}; the result is the response body as a {@code String}. */
+        PASSTHROUGH
+    }
+}
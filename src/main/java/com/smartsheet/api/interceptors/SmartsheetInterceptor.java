@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.interceptors;
+
+import com.smartsheet.api.SmartsheetException;
+
+/**
+ * <p>Intercepts the calls the resources make to the Smartsheet REST API, e.g. to add caching, rate limiting,
+ * compression or bookkeeping without changing the SDK.</p>
+ *
+ * <p>Interceptors registered with {@code SmartsheetBuilder.addInterceptor} form an ordered chain around every call:
+ * the first registered sees the call first and the result last. Each receives the {@link Chain}, whose
+ * {@link Chain#call() call} describes the operation and holds the {@code HttpRequest} (which can still be changed),
+ * and calls {@link Chain#proceed()} to pass the call on, eventually to the HTTP client; {@code proceed} returns the
+ * decoded result and, once it returns, {@link ResourceCall#getResponse()} holds the HTTP response. An interceptor
+ * may also return a result without calling {@code proceed}, e.g. on a cache hit, in which case no request is sent;
+ * the result must then be of the type the call decodes (see {@link ResourceCall#getOperation()}).</p>
+ *
+ * <p>Errors reach interceptors as the exceptions the SDK throws, e.g. {@code ResourceNotFoundException}; an
+ * interceptor may catch them, rethrow them or throw its own. Calls that upload multipart content (creating a
+ * discussion or a comment with an attachment) bypass the chain, as they are sent by a separate HTTP client.</p>
+ *
+ * <p>Thread Safety: Implementations of this interface must be thread safe.</p>
+ */
+@FunctionalInterface
+public interface SmartsheetInterceptor {
+
+    /**
+     * <p>Intercept a call.</p>
+     *
+     * @param chain the rest of the chain
+     * @param <T>   the type of the decoded result
+     * @return the decoded result, usually the one returned by {@link Chain#proceed()}
+     * @throws SmartsheetException if the call fails
+     */
+    <T> T intercept(Chain<T> chain) throws SmartsheetException;
+
+    /**
+     * <p>The part of the chain after an interceptor.</p>
+     *
+     * <p>Thread Safety: Instances belong to a single call, which runs on the thread that made it.</p>
+     *
+     * @param <T> the type of the decoded result
+     */
+    interface Chain<T> {
+
+        /**
+         * <p>Get the call being made.</p>
+         *
+         * @return the call
+         */
+        ResourceCall<T> call();
+
+        /**
+         * <p>Pass the call to the next interceptor, or send it if this is the last one. It may be called more than
+         * once, e.g. to retry, as long as the request has no body or the body can be read again.</p>
+         *
+         * @return the decoded result
+         * @throws SmartsheetException if the call fails
+         */
+        T proceed() throws SmartsheetException;
+    }
+}
@@ -18,12 +18,17 @@ package com.smartsheet.api.internal;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.smartsheet.api.AccessTokenExpiredException;
 import com.smartsheet.api.AuthorizationException;
+import com.smartsheet.api.CallOptions;
 import com.smartsheet.api.InvalidRequestException;
 import com.smartsheet.api.ResourceNotFoundException;
 import com.smartsheet.api.ServiceUnavailableException;
 import com.smartsheet.api.SmartsheetException;
 import com.smartsheet.api.SmartsheetRestException;
+import com.smartsheet.api.interceptors.ResourceCall.Operation;
+import com.smartsheet.api.interceptors.SmartsheetInterceptor;
+import com.smartsheet.api.internal.http.HeaderMap;
 import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
@@ -54,9 +59,9 @@ import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * This is the base class of the Smartsheet REST API resources.
@@ -76,6 +81,11 @@ public abstract class AbstractResources {
      */
     private static final int BUFFER_SIZE = 4098;
 
+    /**
+     * The Smartsheet error code of "Your Access Token has expired".
+     */
+    private static final int ACCESS_TOKEN_EXPIRED = 1003;
+
     private static final String JSON_CONTENT_TYPE = "application/json";
     private static final String HEADER_CONTENT_TYPE = "Content-Type";
 
@@ -215,43 +225,51 @@ public abstract class AbstractResources {
             throw new ResourceNotFoundException(error);
         }
 
-        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
+        HttpRequest request = createHttpRequest(smartsheet.resolve(path), HttpMethod.GET);
 
-        T obj = null;
-        String content = null;
+        ResponseHandler<T> handler = response -> deserializeResource(response, objectClass);
+        RequestCoalescer coalescer = smartsheet.getRequestCoalescer();
+        RequestHedger hedger = smartsheet.getRequestHedger();
         try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            InputStream inputStream = response.getEntity().getContent();
-            switch (response.getStatusCode()) {
-                case 200:
-                    try {
-                        if (log.isInfoEnabled()) {
-                            ByteArrayOutputStream contentCopyStream = new ByteArrayOutputStream();
-                            inputStream = StreamUtil.cloneContent(inputStream, response.getEntity().getContentLength(), contentCopyStream);
-                            content = StreamUtil.toUtf8StringOrHex(contentCopyStream, getResponseLogLength());
-                        }
-                        obj = this.smartsheet.getJsonSerializer().deserialize(objectClass, inputStream);
-                    } catch (JsonParseException e) {
-                        log.info("failure parsing '{}'", content, e);
-                        throw new SmartsheetException(e);
-                    } catch (JsonMappingException e) {
-                        log.info("failure mapping '{}'", content, e);
-                        throw new SmartsheetException(e);
-                    } catch (IOException e) {
-                        log.info("failure loading '{}'", content, e);
-                        throw new SmartsheetException(e);
-                    }
-                    break;
-                default:
-                    handleError(response);
+            // a call with its own deadline or cancellation can't share another call's request, nor be hedged
+            if ((coalescer != null || hedger != null) && request.getCallOptions() == null) {
+                return intercept(Operation.GET, objectClass, null, request, (sent, call) -> {
+                    RequestCoalescer.Call<T> hedged = hedger == null ? () -> send(sent, call, handler)
+                            : () -> hedger.execute(sent, smartsheet.getConcurrencyLimiter(), attempt -> send(attempt, call, handler));
+                    return coalescer == null ? hedged.call() : coalescer.execute(sent, objectClass, hedged);
+                });
             }
+            return execute(Operation.GET, objectClass, null, request, handler);
         } catch (JSONSerializerException jsx) {
-            log.info("failed to parse '{}'", content, jsx);
+            log.info("failed to parse the response to '{}'", request.getUri(), jsx);
             throw jsx;
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
         }
-        return obj;
+    }
+
+    /**
+     * Deserialize a resource from a successful response, logging the start of the body if it can't be parsed.
+     *
+     * @param <T>         the generic type
+     * @param response    the response
+     * @param objectClass the object class
+     * @return the resource
+     * @throws SmartsheetException the smartsheet exception
+     */
+    private <T> T deserializeResource(HttpResponse response, Class<T> objectClass) throws SmartsheetException {
+        InputStream inputStream = null;
+        try {
+            inputStream = markForFailureLog(response.getEntity().getContent());
+            return this.smartsheet.getJsonSerializer().deserialize(objectClass, inputStream);
+        } catch (JsonParseException e) {
+            log.info("failure parsing '{}'", contentForFailureLog(inputStream), e);
+            throw new SmartsheetException(e);
+        } catch (JsonMappingException e) {
+            log.info("failure mapping '{}'", contentForFailureLog(inputStream), e);
+            throw new SmartsheetException(e);
+        } catch (IOException e) {
+            log.info("failure loading '{}'", contentForFailureLog(inputStream), e);
+            throw new SmartsheetException(e);
+        }
     }
 
     /**
@@ -277,7 +295,7 @@ public abstract class AbstractResources {
         Util.throwIfNull(path, object, objectClass);
         Util.throwIfEmpty(path);
 
-        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
+        HttpRequest request = createHttpRequest(smartsheet.resolve(path), HttpMethod.POST);
 
         ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
         this.smartsheet.getJsonSerializer().serialize(object, objectBytesStream);
@@ -287,37 +305,19 @@ public abstract class AbstractResources {
         entity.setContentLength(objectBytesStream.size());
         request.setEntity(entity);
 
-        T obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200: {
-                    InputStream inputStream = response.getEntity().getContent();
-                    String content = null;
-                    try {
-                        if (log.isInfoEnabled()) {
-                            ByteArrayOutputStream contentCopyStream = new ByteArrayOutputStream();
-                            inputStream = StreamUtil.cloneContent(inputStream, response.getEntity().getContentLength(), contentCopyStream);
-                            content = StreamUtil.toUtf8StringOrHex(contentCopyStream, getResponseLogLength());
-                        }
-                        obj = this.smartsheet.getJsonSerializer().deserializeResult(objectClass, inputStream).getResult();
-                    } catch (JSONSerializerException e) {
-                        log.info("failure parsing '{}'", content, e);
-                        throw new SmartsheetException(e);
-                    } catch (IOException e) {
-                        log.info("failure cloning content from inputStream '{}'", inputStream, e);
-                        throw new SmartsheetException(e);
-                    }
-                    break;
-                }
-                default:
-                    handleError(response);
+        return execute(Operation.CREATE, objectClass, object, request, response -> {
+            InputStream inputStream = response.getEntity().getContent();
+            try {
+                inputStream = markForFailureLog(inputStream);
+                return this.smartsheet.getJsonSerializer().deserializeResult(objectClass, inputStream).getResult();
+            } catch (JSONSerializerException e) {
+                log.info("failure parsing '{}'", contentForFailureLog(inputStream), e);
+                throw new SmartsheetException(e);
+            } catch (IOException e) {
+                log.info("failure cloning content from inputStream '{}'", inputStream, e);
+                throw new SmartsheetException(e);
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-
-        return obj;
+        });
     }
 
     /**
@@ -353,7 +353,7 @@ public abstract class AbstractResources {
         HttpRequest request;
         final String boundary = "----" + System.currentTimeMillis();
         CloseableHttpClient httpClient = HttpClients.createDefault();
-        HttpPost uploadFile = createHttpPost(this.getSmartsheet().getBaseURI().resolve(path));
+        HttpPost uploadFile = createHttpPost(this.getSmartsheet().resolve(path));
 
         try {
             uploadFile.setHeader(HEADER_CONTENT_TYPE, "multipart/form-data; boundary=" + boundary);
@@ -406,7 +406,7 @@ public abstract class AbstractResources {
         Util.throwIfEmpty(path);
 
         HttpRequest request;
-        request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.PUT);
+        request = createHttpRequest(smartsheet.resolve(path), HttpMethod.PUT);
 
         ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
         this.smartsheet.getJsonSerializer().serialize(object, objectBytesStream);
@@ -416,22 +416,8 @@ public abstract class AbstractResources {
         entity.setContentLength(objectBytesStream.size());
         request.setEntity(entity);
 
-        T obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeResult(objectClass,
-                            response.getEntity().getContent()).getResult();
-                    break;
-                default:
-                    handleError(response);
-            }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-
-        return obj;
+        return execute(Operation.UPDATE, objectClass, object, request, response -> this.smartsheet.getJsonSerializer()
+                .deserializeResult(objectClass, response.getEntity().getContent()).getResult());
     }
 
     /**
@@ -456,24 +442,10 @@ public abstract class AbstractResources {
         Util.throwIfEmpty(path);
 
         HttpRequest request;
-        request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
-
-        List<T> obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeList(objectClass,
-                            response.getEntity().getContent());
-                    break;
-                default:
-                    handleError(response);
-            }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
+        request = createHttpRequest(smartsheet.resolve(path), HttpMethod.GET);
 
-        return obj;
+        return execute(Operation.LIST, objectClass, null, request, response -> this.smartsheet.getJsonSerializer()
+                .deserializeList(objectClass, response.getEntity().getContent()));
     }
 
     /**
@@ -491,24 +463,10 @@ public abstract class AbstractResources {
         Util.throwIfEmpty(path);
 
         HttpRequest request;
-        request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
+        request = createHttpRequest(smartsheet.resolve(path), HttpMethod.GET);
 
-        PagedResult<T> obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeDataWrapper(objectClass,
-                            response.getEntity().getContent());
-                    break;
-                default:
-                    handleError(response);
-            }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-
-        return obj;
+        return execute(Operation.LIST_PAGED, objectClass, null, request, response -> this.smartsheet.getJsonSerializer()
+                .deserializeDataWrapper(objectClass, response.getEntity().getContent()));
     }
 
     /**
@@ -533,21 +491,12 @@ public abstract class AbstractResources {
         Util.throwIfEmpty(path);
 
         HttpRequest request;
-        request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.DELETE);
+        request = createHttpRequest(smartsheet.resolve(path), HttpMethod.DELETE);
 
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    this.smartsheet.getJsonSerializer().deserializeResult(objectClass,
-                            response.getEntity().getContent());
-                    break;
-                default:
-                    handleError(response);
-            }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
+        execute(Operation.DELETE, objectClass, null, request, response -> {
+            this.smartsheet.getJsonSerializer().deserializeResult(objectClass, response.getEntity().getContent());
+            return null;
+        });
     }
 
     /**
@@ -572,23 +521,10 @@ public abstract class AbstractResources {
         Util.throwIfNull(path, objectClass);
         Util.throwIfEmpty(path);
 
-        Result<List<T>> obj = null;
         HttpRequest request;
-        request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.DELETE);
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeListResult(objectClass,
-                            response.getEntity().getContent());
-                    break;
-                default:
-                    handleError(response);
-            }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-        return obj.getResult();
+        request = createHttpRequest(smartsheet.resolve(path), HttpMethod.DELETE);
+        return execute(Operation.DELETE_LIST, objectClass, null, request, response -> this.smartsheet.getJsonSerializer()
+                .deserializeListResult(objectClass, response.getEntity().getContent()).getResult());
     }
 
     /**
@@ -619,7 +555,7 @@ public abstract class AbstractResources {
         Util.throwIfNull(path, objectToPost, objectClassToReceive);
         Util.throwIfEmpty(path);
 
-        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
+        HttpRequest request = createHttpRequest(smartsheet.resolve(path), HttpMethod.POST);
 
         ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
         this.smartsheet.getJsonSerializer().serialize(objectToPost, objectBytesStream);
@@ -629,22 +565,8 @@ public abstract class AbstractResources {
         entity.setContentLength(objectBytesStream.size());
         request.setEntity(entity);
 
-        List<S> obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeListResult(objectClassToReceive,
-                            response.getEntity().getContent()).getResult();
-                    break;
-                default:
-                    handleError(response);
-            }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-
-        return obj;
+        return execute(Operation.POST_LIST, objectClassToReceive, objectToPost, request, response -> this.smartsheet
+                .getJsonSerializer().deserializeListResult(objectClassToReceive, response.getEntity().getContent()).getResult());
     }
 
     /**
@@ -671,7 +593,7 @@ public abstract class AbstractResources {
         Util.throwIfNull(path, objectToPost);
         Util.throwIfEmpty(path);
 
-        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
+        HttpRequest request = createHttpRequest(smartsheet.resolve(path), HttpMethod.POST);
 
         ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
         this.smartsheet.getJsonSerializer().serialize(objectToPost, objectBytesStream);
@@ -681,22 +603,8 @@ public abstract class AbstractResources {
         entity.setContentLength(objectBytesStream.size());
         request.setEntity(entity);
 
-        CopyOrMoveRowResult obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeCopyOrMoveRow(
-                            response.getEntity().getContent());
-                    break;
-                default:
-                    handleError(response);
-            }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-
-        return obj;
+        return execute(Operation.COPY_OR_MOVE_ROWS, CopyOrMoveRowResult.class, objectToPost, request, response -> this.smartsheet
+                .getJsonSerializer().deserializeCopyOrMoveRow(response.getEntity().getContent()));
     }
 
     /**
@@ -717,10 +625,29 @@ public abstract class AbstractResources {
      */
     protected <T, S> List<S> putAndReceiveList(String path, T objectToPut, Class<S> objectClassToReceive)
             throws SmartsheetException {
+        return putAndReceiveList(path, objectToPut, objectClassToReceive, null);
+    }
+
+    /**
+     * Put an object to Smartsheet REST API and receive a list of objects from response, along with the version of the
+     * sheet the response reports.
+     *
+     * @param <T>                  the generic type
+     * @param <S>                  the generic type
+     * @param path                 the relative path of the resource collections
+     * @param objectToPut          the object to put
+     * @param objectClassToReceive the resource object class to receive
+     * @param versionConsumer      receives the version in the response (possibly null), or null; it isn't called if an
+     *                             interceptor answers the call itself
+     * @return the object list
+     * @throws SmartsheetException the smartsheet exception
+     */
+    protected <T, S> List<S> putAndReceiveList(String path, T objectToPut, Class<S> objectClassToReceive,
+                                               Consumer<Integer> versionConsumer) throws SmartsheetException {
         Util.throwIfNull(path, objectToPut, objectClassToReceive);
         Util.throwIfEmpty(path);
 
-        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.PUT);
+        HttpRequest request = createHttpRequest(smartsheet.resolve(path), HttpMethod.PUT);
 
         ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
         this.smartsheet.getJsonSerializer().serialize(objectToPut, objectBytesStream);
@@ -730,22 +657,88 @@ public abstract class AbstractResources {
         entity.setContentLength(objectBytesStream.size());
         request.setEntity(entity);
 
-        List<S> obj = null;
+        return execute(Operation.PUT_LIST, objectClassToReceive, objectToPut, request, response -> {
+            Result<List<S>> result = this.smartsheet.getJsonSerializer()
+                    .deserializeListResult(objectClassToReceive, response.getEntity().getContent());
+            if (versionConsumer != null) {
+                versionConsumer.accept(result.getVersion());
+            }
+            return result.getResult();
+        });
+    }
+
+    /**
+     * Execute a request through the registered interceptors and the HTTP client, and decode a successful response.
+     * Every resource call sent through the HttpClient goes through here, so that interceptors see all of them.
+     *
+     * @param <T>           the type of the decoded result
+     * @param operation     the kind of call
+     * @param resultClass   the class of the decoded objects
+     * @param requestObject the object serialized into the request body, or null
+     * @param request       the request
+     * @param handler       decodes a successful response
+     * @return the decoded result
+     * @throws SmartsheetException the smartsheet exception
+     */
+    protected <T> T execute(Operation operation, Class<?> resultClass, Object requestObject, HttpRequest request,
+                            ResponseHandler<T> handler) throws SmartsheetException {
+        return intercept(operation, resultClass, requestObject, request, (sent, call) -> send(sent, call, handler));
+    }
+
+    /**
+     * Run a request through the registered interceptors, ending with the given transport.
+     */
+    private <T> T intercept(Operation operation, Class<?> resultClass, Object requestObject, HttpRequest request,
+                            InterceptorChain.Transport<T> transport) throws SmartsheetException {
+        List<SmartsheetInterceptor> interceptors = smartsheet.getInterceptors();
+        if (interceptors.isEmpty()) {
+            return transport.send(request, null);
+        }
+        return new InterceptorChain<>(operation, resultClass, requestObject, request, interceptors, transport).proceed();
+    }
+
+    /**
+     * Send a request, decode a successful (200) response or throw the exception matching the error, and release the
+     * connection.
+     *
+     * @param <T>     the type of the decoded result
+     * @param request the request
+     * @param call    the intercepted call to record the response in, or null
+     * @param handler decodes a successful response
+     * @return the decoded result
+     * @throws SmartsheetException the smartsheet exception
+     */
+    private <T> T send(HttpRequest request, InterceptorChain<T> call, ResponseHandler<T> handler) throws SmartsheetException {
+        HttpResponse response = null;
         try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeListResult(
-                            objectClassToReceive, response.getEntity().getContent()).getResult();
-                    break;
-                default:
-                    handleError(response);
+            response = this.smartsheet.getHttpClient().request(request);
+            if (call != null) {
+                call.setResponse(response);
+            }
+            if (response.getStatusCode() == 200) {
+                try {
+                    return handler.handle(response);
+                } catch (SmartsheetException e) {
+                    // reading the response fails when the call is cancelled or runs out of time meanwhile
+                    request.checkCallOptions(e);
+                    throw e;
+                }
             }
+            handleError(response);
+            return null;
         } finally {
-            smartsheet.getHttpClient().releaseConnection();
+            smartsheet.getHttpClient().releaseConnection(response);
         }
+    }
 
-        return obj;
+    /**
+     * Decodes a successful response.
+     *
+     * @param <T> the type of the decoded result
+     */
+    @FunctionalInterface
+    protected interface ResponseHandler<T> {
+        T handle(HttpResponse response) throws SmartsheetException;
     }
 
     /**
@@ -763,6 +756,10 @@ public abstract class AbstractResources {
         // Set authorization header
         request.setHeaders(createHeaders());
 
+        CallOptions callOptions = smartsheet.getCallOptions();
+        if (callOptions != null) {
+            request.setCallOptions(callOptions);
+        }
         return request;
     }
 
@@ -781,7 +778,7 @@ public abstract class AbstractResources {
     public Attachment attachFile(String url, InputStream inputStream, String contentType, long contentLength, String attachmentName)
             throws SmartsheetException {
         Util.throwIfNull(inputStream, contentType);
-        HttpRequest request = createHttpRequest(this.getSmartsheet().getBaseURI().resolve(url), HttpMethod.POST);
+        HttpRequest request = createHttpRequest(this.getSmartsheet().resolve(url), HttpMethod.POST);
         request.getHeaders().put(
                 "Content-Disposition",
                 "attachment; filename=\"" + URLEncoder.encode(attachmentName, StandardCharsets.UTF_8) + "\""
@@ -792,22 +789,8 @@ public abstract class AbstractResources {
         entity.setContentLength(contentLength);
         request.setEntity(entity);
 
-        Attachment attachment = null;
-        try {
-            HttpResponse response = this.getSmartsheet().getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    attachment = this.getSmartsheet().getJsonSerializer().deserializeResult(Attachment.class,
-                            response.getEntity().getContent()).getResult();
-                    break;
-                default:
-                    handleError(response);
-            }
-        } finally {
-            this.getSmartsheet().getHttpClient().releaseConnection();
-        }
-
-        return attachment;
+        return execute(Operation.ATTACH_FILE, Attachment.class, null, request, response -> this.getSmartsheet()
+                .getJsonSerializer().deserializeResult(Attachment.class, response.getEntity().getContent()).getResult());
     }
 
     /**
@@ -828,7 +811,7 @@ public abstract class AbstractResources {
         final String boundary = "----" + System.currentTimeMillis();
 
         CloseableHttpClient httpClient = HttpClients.createDefault();
-        HttpPost uploadFile = createHttpPost(this.getSmartsheet().getBaseURI().resolve(url));
+        HttpPost uploadFile = createHttpPost(this.getSmartsheet().resolve(url));
 
         try {
             uploadFile.setHeader(HEADER_CONTENT_TYPE, "multipart/form-data; boundary=" + boundary);
@@ -876,6 +859,10 @@ public abstract class AbstractResources {
             throw new SmartsheetException(e);
         }
 
+        if (error != null && error.getErrorCode() != null && error.getErrorCode() == ACCESS_TOKEN_EXPIRED) {
+            throw new AccessTokenExpiredException(error);
+        }
+
         ErrorCode code = ErrorCode.getErrorCode(response.getStatusCode());
 
         if (code == null) {
@@ -918,26 +905,17 @@ public abstract class AbstractResources {
         Util.throwIfNull(outputStream, fileType);
 
         HttpRequest request;
-        request = createHttpRequest(this.getSmartsheet().getBaseURI().resolve(path), HttpMethod.GET);
+        request = createHttpRequest(this.getSmartsheet().resolve(path), HttpMethod.GET);
         request.getHeaders().put("Accept", fileType);
 
-        try {
-            HttpResponse response = getSmartsheet().getHttpClient().request(request);
-
-            switch (response.getStatusCode()) {
-                case 200:
-                    try {
-                        copyStream(response.getEntity().getContent(), outputStream);
-                    } catch (IOException e) {
-                        throw new SmartsheetException(e);
-                    }
-                    break;
-                default:
-                    handleError(response);
+        execute(Operation.GET_FILE, null, null, request, response -> {
+            try {
+                copyStream(response.getEntity().getContent(), outputStream);
+            } catch (IOException e) {
+                throw new SmartsheetException(e);
             }
-        } finally {
-            getSmartsheet().getHttpClient().releaseConnection();
-        }
+            return null;
+        });
     }
 
     /*
@@ -968,24 +946,49 @@ public abstract class AbstractResources {
     }
 
     /**
-     * @return a map of headers to be used when making requests.
+     * @return a map of headers to be used when making requests; it is only copied from the shared template if changed.
      */
     Map<String, String> createHeaders() {
-        Map<String, String> headers = new HashMap<>();
-        headers.put("Authorization", "Bearer " + smartsheet.getAccessToken());
-        headers.put(HEADER_CONTENT_TYPE, JSON_CONTENT_TYPE);
+        return HeaderMap.copyOnWrite(smartsheet.getHeaderTemplate());
+    }
 
-        // Set assumed user
-        if (smartsheet.getAssumedUser() != null) {
-            headers.put("Assume-User", URLEncoder.encode(smartsheet.getAssumedUser(), StandardCharsets.UTF_8));
+    /**
+     * Prepare a response body so that its start can be logged if it fails to parse, without copying it up front: the
+     * stream is marked when it supports it, and only copied when DEBUG logging is enabled and it does not.
+     *
+     * @param inputStream the response body
+     * @return the stream to read the body from
+     * @throws IOException if the body must be copied and can't be read
+     */
+    InputStream markForFailureLog(InputStream inputStream) throws IOException {
+        if (!inputStream.markSupported() && log.isDebugEnabled()) {
+            inputStream = new ByteArrayInputStream(StreamUtil.readBytesFromStream(inputStream, StreamUtil.TEN_KB));
         }
-        if (smartsheet.getChangeAgent() != null) {
-            headers.put("Smartsheet-Change-Agent", URLEncoder.encode(smartsheet.getChangeAgent(), StandardCharsets.UTF_8));
+        if (inputStream.markSupported()) {
+            inputStream.mark(Math.max(getResponseLogLength(), 0));
         }
-        if (smartsheet.getUserAgent() != null) {
-            headers.put("User-Agent", smartsheet.getUserAgent());
+        return inputStream;
+    }
+
+    /**
+     * Read the start of a response body that failed to parse, for logging.
+     *
+     * @param inputStream the stream returned by {@link #markForFailureLog(InputStream)}, or null
+     * @return the start of the body, or null if it can't be read again
+     */
+    String contentForFailureLog(InputStream inputStream) {
+        if (inputStream == null || !inputStream.markSupported()) {
+            return null;
+        }
+        try {
+            int maxLength = getResponseLogLength();
+            inputStream.reset();
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            content.write(maxLength < 0 ? inputStream.readAllBytes() : inputStream.readNBytes(maxLength));
+            return StreamUtil.toUtf8StringOrHex(content, maxLength);
+        } catch (IOException e) {
+            return null;
         }
-        return headers;
     }
 
     int getResponseLogLength() {
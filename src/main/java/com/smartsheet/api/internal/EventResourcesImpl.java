@@ -22,9 +22,9 @@ import com.smartsheet.api.InvalidRequestException;
 import com.smartsheet.api.ResourceNotFoundException;
 import com.smartsheet.api.ServiceUnavailableException;
 import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.interceptors.ResourceCall.Operation;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
-import com.smartsheet.api.internal.http.HttpResponse;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.models.EventResult;
 
@@ -91,22 +91,9 @@ public class EventResourcesImpl extends AbstractResources implements EventResour
         path += QueryUtil.generateUrl(null, parameters);
 
         HttpRequest request;
-        request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
+        request = createHttpRequest(smartsheet.resolve(path), HttpMethod.GET);
 
-        EventResult obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeEventResult(response.getEntity().getContent());
-                    break;
-                default:
-                    handleError(response);
-            }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-
-        return obj;
+        return execute(Operation.GET, EventResult.class, null, request, response -> this.smartsheet.getJsonSerializer()
+                .deserializeEventResult(response.getEntity().getContent()));
     }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The headers every request carries, built once for an identity (access token, assumed user, change agent and user
+ * agent) and reused until one of them changes.
+ * <p>
+ * Thread Safety: This class is immutable and thread safe.
+ */
+final class HeaderTemplate {
+    private static final String JSON_CONTENT_TYPE = "application/json";
+    private static final String HEADER_CONTENT_TYPE = "Content-Type";
+
+    private final String accessToken;
+    private final String assumedUser;
+    private final String changeAgent;
+    private final String userAgent;
+    private final Map<String, String> headers;
+    private volatile String cacheScope;
+
+    HeaderTemplate(String accessToken, String assumedUser, String changeAgent, String userAgent) {
+        this.accessToken = accessToken;
+        this.assumedUser = assumedUser;
+        this.changeAgent = changeAgent;
+        this.userAgent = userAgent;
+
+        Map<String, String> map = new HashMap<>();
+        map.put("Authorization", "Bearer " + accessToken);
+        map.put(HEADER_CONTENT_TYPE, JSON_CONTENT_TYPE);
+        if (assumedUser != null) {
+            map.put("Assume-User", URLEncoder.encode(assumedUser, StandardCharsets.UTF_8));
+        }
+        if (changeAgent != null) {
+            map.put("Smartsheet-Change-Agent", URLEncoder.encode(changeAgent, StandardCharsets.UTF_8));
+        }
+        if (userAgent != null) {
+            map.put("User-Agent", userAgent);
+        }
+        this.headers = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Check whether this template was built for an identity. The values are compared by reference, as they are
+     * read from the same fields each time; a value set again, even if equal, just rebuilds the template.
+     *
+     * @return true if the template can be used for the identity
+     */
+    boolean isFor(String accessToken, String assumedUser, String changeAgent, String userAgent) {
+        return this.accessToken == accessToken && this.assumedUser == assumedUser && this.changeAgent == changeAgent &&
+                this.userAgent == userAgent;
+    }
+
+    /**
+     * Return a scope for cached data that only this access token and assumed user may see: a digest of both, so that
+     * the token itself is not kept in cache keys.
+     *
+     * @return the scope
+     */
+    String getCacheScope() {
+        String scope = cacheScope;
+        if (scope == null) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                digest.update(String.valueOf(accessToken).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(String.valueOf(assumedUser).getBytes(StandardCharsets.UTF_8));
+                scope = Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest.digest(), 16));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            cacheScope = scope;
+        }
+        return scope;
+    }
+
+    /**
+     * @return the headers, read-only
+     */
+    Map<String, String> getHeaders() {
+        return headers;
+    }
+}
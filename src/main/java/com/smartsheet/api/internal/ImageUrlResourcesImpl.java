@@ -24,10 +24,10 @@ import com.smartsheet.api.InvalidRequestException;
 import com.smartsheet.api.ResourceNotFoundException;
 import com.smartsheet.api.ServiceUnavailableException;
 import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.interceptors.ResourceCall.Operation;
 import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
-import com.smartsheet.api.internal.http.HttpResponse;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.ImageUrl;
 import com.smartsheet.api.models.ImageUrlMap;
@@ -69,7 +69,7 @@ public class ImageUrlResourcesImpl extends AbstractResources implements ImageUrl
         Util.throwIfNull(requestUrls);
 
         HttpRequest request;
-        request = createHttpRequest(smartsheet.getBaseURI().resolve("imageurls"), HttpMethod.POST);
+        request = createHttpRequest(smartsheet.resolve("imageurls"), HttpMethod.POST);
 
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         this.smartsheet.getJsonSerializer().serialize(requestUrls, baos);
@@ -79,27 +79,16 @@ public class ImageUrlResourcesImpl extends AbstractResources implements ImageUrl
         entity.setContentLength(baos.size());
         request.setEntity(entity);
 
-        HttpResponse response = this.smartsheet.getHttpClient().request(request);
-
-        ImageUrlMap obj = null;
-
-        switch (response.getStatusCode()) {
-            case 200:
-                try {
-                    obj = this.smartsheet.getJsonSerializer().deserialize(ImageUrlMap.class,
-                            response.getEntity().getContent());
-                } catch (JsonParseException e) {
-                    throw new SmartsheetException(e);
-                } catch (JsonMappingException e) {
-                    throw new SmartsheetException(e);
-                } catch (IOException e) {
-                    throw new SmartsheetException(e);
-                }
-                break;
-            default:
-                handleError(response);
-        }
-        smartsheet.getHttpClient().releaseConnection();
-        return obj;
+        return execute(Operation.ACTION, ImageUrlMap.class, requestUrls, request, response -> {
+            try {
+                return this.smartsheet.getJsonSerializer().deserialize(ImageUrlMap.class, response.getEntity().getContent());
+            } catch (JsonParseException e) {
+                throw new SmartsheetException(e);
+            } catch (JsonMappingException e) {
+                throw new SmartsheetException(e);
+            } catch (IOException e) {
+                throw new SmartsheetException(e);
+            }
+        });
     }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal;
+
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.interceptors.ResourceCall;
+import com.smartsheet.api.interceptors.SmartsheetInterceptor;
+import com.smartsheet.api.internal.http.HttpRequest;
+import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.internal.http.RouteNormalizer;
+
+import java.util.List;
+
+/**
+ * A call passing through the registered {@link SmartsheetInterceptor}s on its way to the HTTP client.
+ * <p>
+ * Thread Safety: Instances belong to a single call, which runs on the thread that made it.
+ *
+ * @param <T> the type of the decoded result
+ */
+final class InterceptorChain<T> implements ResourceCall<T> {
+
+    /**
+     * Sends a request and decodes its response; the end of the chain.
+     *
+     * @param <T> the type of the decoded result
+     */
+    @FunctionalInterface
+    interface Transport<T> {
+        /**
+         * @param request the request
+         * @param call    the call, to record the response in; null when no interceptors are registered
+         * @return the decoded result
+         * @throws SmartsheetException if the call fails
+         */
+        T send(HttpRequest request, InterceptorChain<T> call) throws SmartsheetException;
+    }
+
+    private final Operation operation;
+    private final Class<?> resultClass;
+    private final Object requestObject;
+    private final HttpRequest request;
+    private final List<SmartsheetInterceptor> interceptors;
+    private final Transport<T> transport;
+    private HttpResponse response;
+
+    InterceptorChain(Operation operation, Class<?> resultClass, Object requestObject, HttpRequest request,
+                     List<SmartsheetInterceptor> interceptors, Transport<T> transport) {
+        this.operation = operation;
+        this.resultClass = resultClass;
+        this.requestObject = requestObject;
+        this.request = request;
+        this.interceptors = interceptors;
+        this.transport = transport;
+    }
+
+    /**
+     * Run the call through the interceptors, starting with the first.
+     *
+     * @return the decoded result
+     * @throws SmartsheetException if the call fails
+     */
+    T proceed() throws SmartsheetException {
+        return proceed(0);
+    }
+
+    private T proceed(int index) throws SmartsheetException {
+        if (index == interceptors.size()) {
+            return transport.send(request, this);
+        }
+        return interceptors.get(index).intercept(new Link(index + 1));
+    }
+
+    void setResponse(HttpResponse response) {
+        this.response = response;
+    }
+
+    @Override
+    public Operation getOperation() {
+        return operation;
+    }
+
+    @Override
+    public Class<?> getResultClass() {
+        return resultClass;
+    }
+
+    @Override
+    public Object getRequestObject() {
+        return requestObject;
+    }
+
+    @Override
+    public HttpRequest getRequest() {
+        return request;
+    }
+
+    @Override
+    public String getRoute() {
+        return RouteNormalizer.normalize(request.getMethod(), request.getUri());
+    }
+
+    @Override
+    public HttpResponse getResponse() {
+        return response;
+    }
+
+    /**
+     * The chain as seen by one interceptor: proceeding continues with the interceptor after it.
+     */
+    private final class Link implements SmartsheetInterceptor.Chain<T> {
+        private final int next;
+
+        Link(int next) {
+            this.next = next;
+        }
+
+        @Override
+        public ResourceCall<T> call() {
+            return InterceptorChain.this;
+        }
+
+        @Override
+        public T proceed() throws SmartsheetException {
+            return InterceptorChain.this.proceed(next);
+        }
+    }
+}
@@ -22,10 +22,10 @@ import com.smartsheet.api.PassthroughResources;
 import com.smartsheet.api.ResourceNotFoundException;
 import com.smartsheet.api.ServiceUnavailableException;
 import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.interceptors.ResourceCall.Operation;
 import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
-import com.smartsheet.api.internal.http.HttpResponse;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.internal.util.Util;
 
@@ -141,7 +141,7 @@ public class PassthroughResourcesImpl extends AbstractResources implements Passt
             endpoint += QueryUtil.generateUrl(null, parameters);
         }
 
-        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(endpoint), method);
+        HttpRequest request = createHttpRequest(smartsheet.resolve(endpoint), method);
 
         if (payload != null) {
             HttpEntity entity = new HttpEntity();
@@ -151,31 +151,20 @@ public class PassthroughResourcesImpl extends AbstractResources implements Passt
             request.setEntity(entity);
         }
 
-        String res = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    String readLine;
-                    try {
-                        BufferedReader br;
-                        StringBuilder sb = new StringBuilder();
-                        br = new BufferedReader(new InputStreamReader(response.getEntity().getContent()));
-                        while ((readLine = br.readLine()) != null) {
-                            sb.append(readLine);
-                        }
-                        br.close();
-                        res = sb.toString();
-                    } catch (IOException e) {
-                        res = null;
-                    }
-                    break;
-                default:
-                    handleError(response);
+        return execute(Operation.PASSTHROUGH, String.class, payload, request, response -> {
+            String readLine;
+            try {
+                BufferedReader br;
+                StringBuilder sb = new StringBuilder();
+                br = new BufferedReader(new InputStreamReader(response.getEntity().getContent()));
+                while ((readLine = br.readLine()) != null) {
+                    sb.append(readLine);
+                }
+                br.close();
+                return sb.toString();
+            } catch (IOException e) {
+                return null;
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-        return res;
+        });
     }
 }
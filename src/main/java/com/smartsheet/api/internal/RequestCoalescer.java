@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal;
+
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.http.HttpRequest;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class collapses identical concurrent GET requests into a single HTTP call whose parsed result is shared by
+ * every caller that asked for it while it was in flight.
+ * <p>
+ * Requests are identical when they have the same method, resolved URI, headers (which carry the access token, the
+ * assumed user and the change agent, i.e. the identity the request is made as) and result type. With a non-zero TTL
+ * a completed result is also handed out to identical requests made within that many milliseconds, which absorbs
+ * bursts that aren't quite concurrent. Failures are shared with the callers already waiting but never retained.
+ * <p>
+ * Because results are shared, callers must treat objects returned from coalesced reads as read-only.
+ * <p>
+ * Thread Safety: This class is thread safe.
+ */
+public class RequestCoalescer {
+
+    private final long ttlNanos;
+
+    /**
+     * The in-flight (and, with a TTL, recently completed) requests by key.
+     */
+    private final ConcurrentMap<String, Flight> flights = new ConcurrentHashMap<>();
+
+    /**
+     * When expired flights are next swept from the map.
+     */
+    private final AtomicLong nextSweep = new AtomicLong(System.nanoTime());
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Constructor for a coalescer that only shares in-flight requests.
+     */
+    public RequestCoalescer() {
+        this(0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ttlMillis how long a completed result keeps being shared with identical requests (0 to only share
+     *                  in-flight requests)
+     * @throws IllegalArgumentException if ttlMillis is negative
+     */
+    public RequestCoalescer(long ttlMillis) {
+        if (ttlMillis < 0) {
+            throw new IllegalArgumentException("ttlMillis must not be negative");
+        }
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    /**
+     * @return the number of requests that were actually executed
+     */
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * @return the number of requests that were answered with the result of another request
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Execute a request, or join an identical one that is in flight (or completed within the TTL).
+     *
+     * @param request    the request, used to build the key
+     * @param resultType the type of the parsed result
+     * @param call       executes the request and parses the result
+     * @param <T>        the type of the parsed result
+     * @return the parsed result, possibly shared with other callers
+     * @throws SmartsheetException if the request fails
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(HttpRequest request, Class<T> resultType, Call<T> call) throws SmartsheetException {
+        String key = key(request, resultType);
+        long now = System.nanoTime();
+        sweep(now);
+
+        Flight flight = new Flight();
+        while (true) {
+            Flight existing = flights.putIfAbsent(key, flight);
+            if (existing == null) {
+                break;
+            }
+            if (!existing.isExpired(now, ttlNanos)) {
+                coalesced.increment();
+                return (T) await(existing.result);
+            }
+            flights.remove(key, existing);
+        }
+
+        executed.increment();
+        try {
+            T result = call.call();
+            flight.completedAt = System.nanoTime();
+            flight.result.complete(result);
+            return result;
+        } catch (SmartsheetException | RuntimeException e) {
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            if (ttlNanos == 0) {
+                flights.remove(key, flight);
+            }
+        }
+    }
+
+    /**
+     * Build the key identifying identical requests.
+     */
+    static String key(HttpRequest request, Class<?> resultType) {
+        return request.getMethod() + " " + request.getUri() + " " + resultType.getName() + " " +
+                new TreeMap<>(request.getHeaders());
+    }
+
+    /**
+     * Drop completed flights older than the TTL, at most once per TTL.
+     */
+    private void sweep(long now) {
+        long next = nextSweep.get();
+        if (ttlNanos == 0 || now - next < 0 || !nextSweep.compareAndSet(next, now + ttlNanos)) {
+            return;
+        }
+        Iterator<Map.Entry<String, Flight>> it = flights.entrySet().iterator();
+        while (it.hasNext()) {
+            if (it.next().getValue().isExpired(now, ttlNanos)) {
+                it.remove();
+            }
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> result) throws SmartsheetException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SmartsheetException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SmartsheetException) {
+                throw (SmartsheetException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new SmartsheetException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Executes a request and parses its result.
+     *
+     * @param <T> the type of the parsed result
+     */
+    @FunctionalInterface
+    public interface Call<T> {
+        /**
+         * @return the parsed result
+         * @throws SmartsheetException if the request fails
+         */
+        T call() throws SmartsheetException;
+    }
+
+    /**
+     * A request in flight, or completed at completedAt.
+     */
+    private static final class Flight {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        private boolean isExpired(long now, long ttlNanos) {
+            return result.isDone() && (result.isCompletedExceptionally() || now - completedAt >= ttlNanos);
+        }
+    }
+}
@@ -0,0 +1,421 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal;
+
+import com.smartsheet.api.CallOptions;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.http.AdaptiveConcurrencyLimiter;
+import com.smartsheet.api.internal.http.HttpRequest;
+import com.smartsheet.api.internal.http.RouteNormalizer;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class hedges idempotent GET requests to cut tail latency: when a request has not completed after the usual
+ * time for its route, an identical request is sent, the first response wins and the other request is cancelled.
+ * <p>
+ * Only the requests to the hedged routes (by default those of {@code getSheet}, {@code getRow} and
+ * {@code getReport}) are hedged. The delay is a percentile (by default the 95th) of the recent latencies of the
+ * route, so that only the slowest requests are hedged; a route isn't hedged until enough of its requests have
+ * completed to tell. A budget caps the extra load: each hedged request earns a fraction of a hedge, and a hedge is
+ * only sent if a whole one has been earned. Hedges go through the concurrency limiter like any request, and none is
+ * sent while callers wait for the limiter, as that means the API is already as busy as it should be.
+ * <p>
+ * The first request runs on the caller's thread and the hedge on the executor. The losing request is aborted, even
+ * while its response is being read, and its connection released. Calls with their own {@link CallOptions} aren't
+ * hedged.
+ * <p>
+ * Thread Safety: This class is thread safe.
+ */
+public class RequestHedger {
+
+    /**
+     * Default percentile of a route's latencies after which its requests are hedged.
+     */
+    public static final double DEFAULT_PERCENTILE = 0.95;
+
+    /**
+     * Default shortest delay before a hedge.
+     */
+    public static final long DEFAULT_MIN_DELAY_MILLIS = 10;
+
+    /**
+     * Default number of hedges earned per hedged request, i.e. the most extra load hedging may add.
+     */
+    public static final double DEFAULT_BUDGET_RATIO = 0.1;
+
+    /**
+     * Default number of hedges that may be saved up for a burst of slow requests.
+     */
+    public static final int DEFAULT_MAX_BURST = 10;
+
+    /**
+     * Default number of completed requests of a route needed before it is hedged.
+     */
+    public static final int DEFAULT_MIN_SAMPLES = 20;
+
+    /**
+     * The routes of getSheet, getRow and getReport.
+     */
+    public static final Set<String> DEFAULT_ROUTES = Set.of("GET /sheets/{id}", "GET /sheets/{id}/rows/{id}", "GET /reports/{id}");
+
+    /**
+     * The number of recent latencies kept per route.
+     */
+    private static final int WINDOW = 256;
+
+    /**
+     * The number of latencies recorded between updates of a route's delay.
+     */
+    private static final int UPDATE_INTERVAL = 16;
+
+    private final Set<String> routes;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final double budgetRatio;
+    private final int maxBurst;
+    private final int minSamples;
+    private final Executor executor;
+
+    private final ConcurrentMap<String, RouteLatency> latencies = new ConcurrentHashMap<>();
+
+    // guarded by this
+    private double budget;
+
+    private final LongAdder hedged = new LongAdder();
+    private final LongAdder won = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+
+    private RequestHedger(Builder builder) {
+        this.routes = Set.copyOf(builder.routes);
+        this.percentile = builder.percentile;
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(builder.minDelayMillis);
+        this.budgetRatio = builder.budgetRatio;
+        this.maxBurst = builder.maxBurst;
+        this.minSamples = builder.minSamples;
+        this.executor = builder.executor != null ? builder.executor : Executors.newCachedThreadPool(runnable -> {
+            Thread hedge = new Thread(runnable, "smartsheet-hedge");
+            hedge.setDaemon(true);
+            return hedge;
+        });
+    }
+
+    /**
+     * Create a builder.
+     *
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the number of hedges sent
+     */
+    public long getHedgedCount() {
+        return hedged.sum();
+    }
+
+    /**
+     * @return the number of hedges that completed before the request they hedged
+     */
+    public long getWonCount() {
+        return won.sum();
+    }
+
+    /**
+     * @return the number of hedges not sent because the budget was spent or the concurrency limiter was saturated
+     */
+    public long getThrottledCount() {
+        return throttled.sum();
+    }
+
+    /**
+     * Get the current delay before the requests to a route are hedged.
+     *
+     * @param route the route, e.g. {@code GET /sheets/{id}}
+     * @return the delay in milliseconds, or -1 if the route isn't hedged (yet)
+     */
+    public long getDelayMillis(String route) {
+        RouteLatency latency = routes.contains(route) ? latencies.get(route) : null;
+        long delayNanos = latency == null ? -1 : latency.delayNanos;
+        return delayNanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(delayNanos);
+    }
+
+    /**
+     * Execute a request, hedging it if its route is hedged and it takes longer than usual.
+     *
+     * @param request the request, which must be idempotent
+     * @param limiter the concurrency limiter the requests go through, or null
+     * @param attempt sends a request and parses the result; called for the request and for its hedge
+     * @param <T>     the type of the parsed result
+     * @return the parsed result of whichever request completed first
+     * @throws SmartsheetException if the request fails
+     */
+    public <T> T execute(HttpRequest request, AdaptiveConcurrencyLimiter limiter, Attempt<T> attempt)
+            throws SmartsheetException {
+        String route = RouteNormalizer.normalize(request.getMethod(), request.getUri());
+        if (!routes.contains(route) || request.getCallOptions() != null) {
+            return attempt.call(request);
+        }
+        RouteLatency latency = latencies.computeIfAbsent(route, key -> new RouteLatency());
+        earn();
+        long delayNanos = latency.delayNanos;
+        if (delayNanos < 0) {
+            return timed(latency, request, attempt);
+        }
+
+        CallOptions primaryOptions = CallOptions.cancellable();
+        CallOptions hedgeOptions = CallOptions.cancellable();
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        request.setCallOptions(primaryOptions);
+        long start = System.nanoTime();
+        CompletableFuture.delayedExecutor(Math.max(delayNanos, minDelayNanos), TimeUnit.NANOSECONDS, executor)
+                .execute(() -> hedge(latency, start, request, attempt, limiter, hedgeOptions, primaryOptions, winner));
+        try {
+            T result = attempt.call(request);
+            if (!winner.complete(result)) {
+                return winner.join();
+            }
+            latency.record(System.nanoTime() - start);
+            return result;
+        } catch (SmartsheetException | RuntimeException e) {
+            // cancelled because the hedge won
+            if (winner.isDone()) {
+                return winner.join();
+            }
+            throw e;
+        } finally {
+            hedgeOptions.cancel();
+        }
+    }
+
+    /**
+     * Send the hedge of a request that hasn't completed yet, unless the budget or the limiter says not to. If the
+     * hedge wins, the latency recorded is the time since the request it hedged was sent, as that is how long the
+     * request took without hedging at least; the cancelled request's latency is never known.
+     */
+    private <T> void hedge(RouteLatency latency, long start, HttpRequest request, Attempt<T> attempt,
+                           AdaptiveConcurrencyLimiter limiter, CallOptions hedgeOptions, CallOptions primaryOptions,
+                           CompletableFuture<T> winner) {
+        if (hedgeOptions.isCancelled()) {
+            return;
+        }
+        if (limiter != null && limiter.getQueueDepth() > 0 || !spend()) {
+            throttled.increment();
+            return;
+        }
+        hedged.increment();
+        HttpRequest copy = new HttpRequest();
+        copy.setUri(request.getUri());
+        copy.setMethod(request.getMethod());
+        copy.setHeaders(new HashMap<>(request.getHeaders()));
+        copy.setCallOptions(hedgeOptions);
+        try {
+            T result = attempt.call(copy);
+            if (winner.complete(result)) {
+                latency.record(System.nanoTime() - start);
+                won.increment();
+                primaryOptions.cancel();
+            }
+        } catch (SmartsheetException | RuntimeException ignore) {
+            // the outcome of the request being hedged stands
+        }
+    }
+
+    /**
+     * Execute a request that isn't hedged, recording its latency if it succeeds.
+     */
+    private static <T> T timed(RouteLatency latency, HttpRequest request, Attempt<T> attempt) throws SmartsheetException {
+        long start = System.nanoTime();
+        T result = attempt.call(request);
+        latency.record(System.nanoTime() - start);
+        return result;
+    }
+
+    private synchronized void earn() {
+        budget = Math.min(maxBurst, budget + budgetRatio);
+    }
+
+    private synchronized boolean spend() {
+        if (budget < 1) {
+            return false;
+        }
+        budget--;
+        return true;
+    }
+
+    /**
+     * Sends a request and parses its result.
+     *
+     * @param <T> the type of the parsed result
+     */
+    @FunctionalInterface
+    public interface Attempt<T> {
+        /**
+         * @param request the request to send
+         * @return the parsed result
+         * @throws SmartsheetException if the request fails
+         */
+        T call(HttpRequest request) throws SmartsheetException;
+    }
+
+    /**
+     * The recent latencies of a route and the delay derived from them.
+     */
+    private final class RouteLatency {
+        // guarded by this
+        private final long[] samples = new long[WINDOW];
+        private int count;
+        private int next;
+
+        private volatile long delayNanos = -1;
+
+        private synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % WINDOW;
+            count = Math.min(count + 1, WINDOW);
+            if (count >= minSamples && (delayNanos < 0 || next % UPDATE_INTERVAL == 0)) {
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                delayNanos = sorted[(int) Math.ceil(percentile * count) - 1];
+            }
+        }
+    }
+
+    /**
+     * Builds a {@link RequestHedger}.
+     */
+    public static class Builder {
+        private Set<String> routes = DEFAULT_ROUTES;
+        private double percentile = DEFAULT_PERCENTILE;
+        private long minDelayMillis = DEFAULT_MIN_DELAY_MILLIS;
+        private double budgetRatio = DEFAULT_BUDGET_RATIO;
+        private int maxBurst = DEFAULT_MAX_BURST;
+        private int minSamples = DEFAULT_MIN_SAMPLES;
+        private Executor executor;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the routes whose requests are hedged, e.g. {@code GET /sheets/{id}}. They must be idempotent.
+         *
+         * @param routes the routes, as normalized for metrics
+         * @return the builder
+         */
+        public Builder setRoutes(Set<String> routes) {
+            this.routes = routes;
+            return this;
+        }
+
+        /**
+         * Set the percentile of a route's latencies after which its requests are hedged.
+         *
+         * @param percentile the percentile, between 0 (exclusive) and 1
+         * @return the builder
+         */
+        public Builder setPercentile(double percentile) {
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Set the shortest delay before a hedge, whatever the latencies of the route.
+         *
+         * @param minDelayMillis the minimum delay
+         * @return the builder
+         */
+        public Builder setMinDelayMillis(long minDelayMillis) {
+            this.minDelayMillis = minDelayMillis;
+            return this;
+        }
+
+        /**
+         * Set the number of hedges earned per hedged request, e.g. 0.1 for at most 10% more requests.
+         *
+         * @param budgetRatio the budget ratio, between 0 (exclusive) and 1
+         * @return the builder
+         */
+        public Builder setBudgetRatio(double budgetRatio) {
+            this.budgetRatio = budgetRatio;
+            return this;
+        }
+
+        /**
+         * Set the number of hedges that may be saved up for a burst of slow requests.
+         *
+         * @param maxBurst the maximum burst, at least 1
+         * @return the builder
+         */
+        public Builder setMaxBurst(int maxBurst) {
+            this.maxBurst = maxBurst;
+            return this;
+        }
+
+        /**
+         * Set the number of completed requests of a route needed before it is hedged.
+         *
+         * @param minSamples the minimum number of samples, between 1 and 256
+         * @return the builder
+         */
+        public Builder setMinSamples(int minSamples) {
+            this.minSamples = minSamples;
+            return this;
+        }
+
+        /**
+         * Set the executor the hedges run on (by default a pool of daemon threads).
+         *
+         * @param executor the executor
+         * @return the builder
+         */
+        public Builder setExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Build the hedger.
+         *
+         * @return the hedger
+         * @throws IllegalArgumentException if a setting is out of range
+         */
+        public RequestHedger build() {
+            if (routes == null || routes.isEmpty()) {
+                throw new IllegalArgumentException("At least one route must be hedged");
+            }
+            if (percentile <= 0 || percentile > 1 || budgetRatio <= 0 || budgetRatio > 1) {
+                throw new IllegalArgumentException("Percentile and budget ratio must be between 0 and 1");
+            }
+            if (minDelayMillis < 0 || maxBurst < 1 || minSamples < 1 || minSamples > WINDOW) {
+                throw new IllegalArgumentException("Min delay must not be negative, max burst must be positive and min samples " +
+                        "between 1 and " + WINDOW);
+            }
+            return new RequestHedger(this);
+        }
+    }
+}
@@ -18,10 +18,10 @@ package com.smartsheet.api.internal;
 
 import com.smartsheet.api.RowColumnResources;
 import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.interceptors.ResourceCall.Operation;
 import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
-import com.smartsheet.api.internal.http.HttpResponse;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.CellHistory;
@@ -284,7 +284,7 @@ public class RowColumnResourcesImpl extends AbstractResources implements RowColu
         }
         path += QueryUtil.generateUrl(null, parameters);
 
-        HttpRequest request = createHttpRequest(this.smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
+        HttpRequest request = createHttpRequest(this.smartsheet.resolve(path), HttpMethod.POST);
         String contentDispositionValue = "attachment; filename=\"" + URLEncoder.encode(imageName, StandardCharsets.UTF_8) + "\"";
         request.getHeaders().put("Content-Disposition", contentDispositionValue);
 
@@ -294,13 +294,6 @@ public class RowColumnResourcesImpl extends AbstractResources implements RowColu
         entity.setContentLength(contentLength);
         request.setEntity(entity);
 
-        HttpResponse response = this.smartsheet.getHttpClient().request(request);
-        switch (response.getStatusCode()) {
-            case 200:
-                break;
-            default:
-                handleError(response);
-        }
-        smartsheet.getHttpClient().releaseConnection();
+        execute(Operation.ATTACH_FILE, null, null, request, response -> null);
     }
 }
@@ -0,0 +1,234 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal;
+
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.util.QueryUtil;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.ObjectExclusion;
+import com.smartsheet.api.models.enums.SheetInclusion;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * This class brings a previously fetched sheet up to date by downloading only the rows modified since the sheet was
+ * last modified (GET /sheets/{id}?rowsModifiedSince=...), sent together with ifVersionAfter so that an unchanged sheet
+ * costs a single abbreviated response.
+ * <p>
+ * The changed rows are merged into the freshly fetched sheet metadata; unchanged Row instances are shared with the
+ * previous sheet, which is never modified. When rows were added, moved or deleted (deletions show up as a mismatch
+ * between totalRowCount and the merged row count) the row order is reconciled against a fetch of the sheet restricted
+ * to a single column, so the payload stays proportional to the number of rows rather than the number of cells. A change
+ * to the columns, or a previous sheet that doesn't hold every row, falls back to a full fetch.
+ * <p>
+ * Thread Safety: This class is thread safe because it is immutable and never modifies the previous sheet.
+ */
+class SheetDeltaSync {
+
+    /**
+     * The sheet resources used to fetch the sheet.
+     */
+    private final SheetResourcesImpl sheetResources;
+
+    /**
+     * The projection the sheet was fetched with.
+     */
+    private final EnumSet<SheetInclusion> includes;
+    private final EnumSet<ObjectExclusion> excludes;
+    private final Set<Long> columnIds;
+
+    /**
+     * Constructor.
+     *
+     * @param sheetResources the sheet resources used to fetch the sheet
+     * @param includes       the includes the sheet was fetched with
+     * @param excludes       the excludes the sheet was fetched with
+     * @param columnIds      the column ids the sheet was fetched with
+     * @throws IllegalArgumentException : if sheetResources is null
+     */
+    SheetDeltaSync(SheetResourcesImpl sheetResources, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes,
+                   Set<Long> columnIds) {
+        Util.throwIfNull(sheetResources);
+        this.sheetResources = sheetResources;
+        this.includes = includes;
+        this.excludes = excludes;
+        this.columnIds = columnIds;
+    }
+
+    /**
+     * Bring a sheet up to date.
+     *
+     * @param previous the previously fetched sheet
+     * @return the up-to-date sheet, or previous itself if it hasn't changed
+     * @throws SmartsheetException if there is any error fetching the sheet
+     */
+    Sheet refresh(Sheet previous) throws SmartsheetException {
+        Util.throwIfNull(previous);
+        if (!isComplete(previous)) {
+            return fullFetch(previous.getId());
+        }
+
+        Sheet delta = fetchRowsModifiedSince(previous);
+        if (delta.getRows() == null && delta.getColumns() == null) {
+            // abbreviated response: nothing changed since previous.getVersion()
+            return previous;
+        }
+        if (columnsChanged(previous.getColumns(), delta.getColumns())) {
+            return fullFetch(previous.getId());
+        }
+
+        Map<Long, Row> previousRows = indexById(previous.getRows());
+        Map<Long, Row> changedRows = indexById(delta.getRows());
+        boolean structural = false;
+        int added = 0;
+        for (Row row : changedRows.values()) {
+            Row old = previousRows.get(row.getId());
+            if (old == null) {
+                added++;
+            } else if (!Objects.equals(old.getRowNumber(), row.getRowNumber()) ||
+                    !Objects.equals(old.getParentId(), row.getParentId())) {
+                structural = true;
+            }
+        }
+        Integer totalRowCount = delta.getTotalRowCount();
+        if (structural || added > 0 || totalRowCount == null || totalRowCount != previousRows.size() + added) {
+            return reconcile(delta, previousRows, changedRows);
+        }
+
+        List<Row> merged = new ArrayList<>(previousRows.size());
+        for (Row row : previous.getRows() == null ? List.<Row>of() : previous.getRows()) {
+            merged.add(changedRows.getOrDefault(row.getId(), row));
+        }
+        delta.setRows(merged);
+        return delta;
+    }
+
+    /**
+     * Rebuild the row list in the current order after rows were added, moved or deleted.
+     */
+    private Sheet reconcile(Sheet delta, Map<Long, Row> previousRows, Map<Long, Row> changedRows)
+            throws SmartsheetException {
+        if (delta.getColumns().isEmpty()) {
+            return fullFetch(delta.getId());
+        }
+        Set<Long> keyColumn = Set.of(delta.getColumns().get(0).getId());
+        Sheet skeleton = sheetResources.getSheet(delta.getId(), includes, excludes, null, null, keyColumn, null, null,
+                null, null);
+        if (!Objects.equals(skeleton.getVersion(), delta.getVersion())) {
+            // modified again in between, so the delta may be missing rows
+            return fullFetch(delta.getId());
+        }
+
+        List<Row> skeletonRows = skeleton.getRows() == null ? List.of() : skeleton.getRows();
+        List<Row> merged = new ArrayList<>(skeletonRows.size());
+        for (Row row : skeletonRows) {
+            Row current = changedRows.get(row.getId());
+            if (current == null) {
+                Row old = previousRows.get(row.getId());
+                if (old == null) {
+                    return fullFetch(delta.getId());
+                }
+                // the skeleton row carries the current position; only its cells are restricted to one column
+                row.setCells(old.getCells());
+                current = row;
+            }
+            merged.add(current);
+        }
+        delta.setRows(merged);
+        delta.setTotalRowCount(skeleton.getTotalRowCount());
+        return delta;
+    }
+
+    /**
+     * Fetch the sheet metadata and the rows modified since the previous sheet was last modified, unless the sheet
+     * version hasn't changed. The server's own modifiedAt is used as the starting point so that client clock skew
+     * can't cause changes to be missed; rows modified within the same second are fetched again, which is harmless.
+     */
+    private Sheet fetchRowsModifiedSince(Sheet previous) throws SmartsheetException {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("include", QueryUtil.generateCommaSeparatedList(includes));
+        parameters.put("exclude", QueryUtil.generateCommaSeparatedList(excludes));
+        parameters.put("columnIds", QueryUtil.generateCommaSeparatedList(columnIds));
+        parameters.put("rowsModifiedSince", new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ").format(previous.getModifiedAt()));
+        parameters.put("ifVersionAfter", previous.getVersion());
+
+        String path = "sheets/" + previous.getId() + QueryUtil.generateUrl(null, parameters);
+        return sheetResources.getResource(path, Sheet.class);
+    }
+
+    private Sheet fullFetch(long sheetId) throws SmartsheetException {
+        return sheetResources.getSheet(sheetId, includes, excludes, null, null, columnIds, null, null, null, null);
+    }
+
+    /**
+     * Whether a sheet can be brought up to date incrementally: it needs a version, a modification time and every row.
+     */
+    static boolean isComplete(Sheet sheet) {
+        if (sheet.getVersion() == null || sheet.getModifiedAt() == null || sheet.getColumns() == null) {
+            return false;
+        }
+        int rowCount = sheet.getRows() == null ? 0 : sheet.getRows().size();
+        return sheet.getTotalRowCount() == null || sheet.getTotalRowCount() == rowCount;
+    }
+
+    /**
+     * Whether the columns differ in any way that affects how cells are interpreted.
+     */
+    static boolean columnsChanged(List<Column> previous, List<Column> current) {
+        if (current == null || previous.size() != current.size()) {
+            return true;
+        }
+        for (int i = 0; i < previous.size(); i++) {
+            Column a = previous.get(i);
+            Column b = current.get(i);
+            if (!Objects.equals(a.getId(), b.getId()) ||
+                    !Objects.equals(a.getIndex(), b.getIndex()) ||
+                    !Objects.equals(a.getVersion(), b.getVersion()) ||
+                    !Objects.equals(a.getType(), b.getType()) ||
+                    !Objects.equals(a.getTitle(), b.getTitle()) ||
+                    !Objects.equals(a.getPrimary(), b.getPrimary()) ||
+                    !Objects.equals(a.getFormula(), b.getFormula()) ||
+                    !Objects.equals(a.getOptions(), b.getOptions()) ||
+                    !Objects.equals(a.getSymbol(), b.getSymbol()) ||
+                    !Objects.equals(a.getSystemColumnType(), b.getSystemColumnType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<Long, Row> indexById(List<Row> rows) {
+        if (rows == null) {
+            return Map.of();
+        }
+        Map<Long, Row> byId = new HashMap<>(rows.size() * 2);
+        for (Row row : rows) {
+            byId.put(row.getId(), row);
+        }
+        return byId;
+    }
+}
@@ -35,11 +35,14 @@ import com.smartsheet.api.SheetUpdateRequestResources;
 import com.smartsheet.api.SmartsheetException;
 import com.smartsheet.api.SmartsheetRestException;
 import com.smartsheet.api.UserResources;
+import com.smartsheet.api.cache.SheetCache;
+import com.smartsheet.api.cache.SheetCacheKey;
+import com.smartsheet.api.interceptors.ResourceCall.Operation;
 import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
-import com.smartsheet.api.internal.http.HttpResponse;
 import com.smartsheet.api.internal.util.QueryUtil;
+import com.smartsheet.api.internal.util.StreamUtil;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.ContainerDestination;
 import com.smartsheet.api.models.MultiRowEmail;
@@ -78,6 +81,8 @@ import java.util.Set;
  * <p>
  * Thread Safety: This class is thread safe because it is immutable and its base class is thread safe.
  */
+// One method per sheet operation of the SheetResources interface, plus the deprecated copyStream helper
+@SuppressWarnings("MethodCount")
 public class SheetResourcesImpl extends AbstractResources implements SheetResources {
 
     /**
@@ -418,6 +423,76 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         return getSheet(sheetId, null, null, null, null, null, null, null, null, null);
     }
 
+    /**
+     * Get a sheet through the sheet cache configured on the client.
+     * <p>
+     * It mirrors to the following Smartsheet REST API method: GET /sheet/{id}, sent with ifVersionAfter when a cached
+     * copy exists
+     *
+     * @param id        the id of the sheet
+     * @param includes  used to specify the optional objects to include.
+     * @param excludes  the exclude parameters
+     * @param columnIds the column ids
+     * @return the sheet resource (note that if there is no such resource, this method will throw
+     * ResourceNotFoundException rather than returning null).
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    public Sheet getSheetCached(
+            long id,
+            EnumSet<SheetInclusion> includes,
+            EnumSet<ObjectExclusion> excludes,
+            Set<Long> columnIds
+    ) throws SmartsheetException {
+        SheetCache cache = smartsheet.getSheetCache();
+        if (cache == null) {
+            return getSheet(id, includes, excludes, null, null, columnIds, null, null, null, null);
+        }
+        SheetCacheKey key = new SheetCacheKey(smartsheet.getCacheScope(), id, includes, excludes, columnIds);
+        return cache.get(key, new SheetCache.SheetLoader() {
+            @Override
+            public Sheet load(Integer ifVersionAfter) throws SmartsheetException {
+                return getSheet(id, includes, excludes, null, null, columnIds, null, null, ifVersionAfter, null);
+            }
+
+            @Override
+            public Sheet refresh(Sheet cached) throws SmartsheetException {
+                return refreshSheet(cached, includes, excludes, columnIds);
+            }
+        });
+    }
+
+    /**
+     * Bring a previously fetched sheet up to date, downloading only the rows modified since it was fetched.
+     * <p>
+     * It mirrors to the following Smartsheet REST API method: GET /sheet/{id}?rowsModifiedSince=...&amp;ifVersionAfter=...,
+     * followed by GET /sheet/{id} restricted to a single column when rows were added, moved or deleted
+     *
+     * @param sheet     the previously fetched sheet
+     * @param includes  used to specify the optional objects to include.
+     * @param excludes  the exclude parameters
+     * @param columnIds the column ids
+     * @return the up-to-date sheet, or the given sheet itself if it hasn't changed
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    public Sheet refreshSheet(
+            Sheet sheet,
+            EnumSet<SheetInclusion> includes,
+            EnumSet<ObjectExclusion> excludes,
+            Set<Long> columnIds
+    ) throws SmartsheetException {
+        return new SheetDeltaSync(this, includes, excludes, columnIds).refresh(sheet);
+    }
+
     /**
      * Get a sheet as an Excel file.
      * <p>
@@ -1063,7 +1138,7 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
             path += "?level=" + level;
         }
 
-        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
+        HttpRequest request = createHttpRequest(smartsheet.resolve(path), HttpMethod.POST);
 
         ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
         this.smartsheet.getJsonSerializer().serialize(sortSpecifier, objectBytesStream);
@@ -1074,26 +1149,13 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         entity.setContentLength(objectBytesStream.size());
         request.setEntity(entity);
 
-        Sheet obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200: {
-                    InputStream inputStream = response.getEntity().getContent();
-                    try {
-                        obj = this.smartsheet.getJsonSerializer().deserialize(Sheet.class, inputStream);
-                    } catch (IOException e) {
-                        throw new SmartsheetException(e);
-                    }
-                    break;
-                }
-                default:
-                    handleError(response);
+        return execute(Operation.ACTION, Sheet.class, sortSpecifier, request, response -> {
+            try {
+                return this.smartsheet.getJsonSerializer().deserialize(Sheet.class, response.getEntity().getContent());
+            } catch (IOException e) {
+                throw new SmartsheetException(e);
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-        return obj;
+        });
     }
 
     /**
@@ -1234,7 +1296,7 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         parameters.put("headerRowIndex", headerRowIndex);
         parameters.put("primaryColumnIndex", primaryColumnIndex);
         path = QueryUtil.generateUrl(path, parameters);
-        HttpRequest request = createHttpRequest(this.smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
+        HttpRequest request = createHttpRequest(this.smartsheet.resolve(path), HttpMethod.POST);
         request.getHeaders().put("Content-Disposition", "attachment");
         request.getHeaders().put("Content-Type", contentType);
 
@@ -1251,22 +1313,8 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         entity.setContentLength(f.length());
         request.setEntity(entity);
 
-        Sheet obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeResult(Sheet.class,
-                            response.getEntity().getContent()).getResult();
-                    break;
-                default:
-                    handleError(response);
-            }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-
-        return obj;
+        return execute(Operation.ATTACH_FILE, Sheet.class, null, request, response -> this.smartsheet.getJsonSerializer()
+                .deserializeResult(Sheet.class, response.getEntity().getContent()).getResult());
     }
 
     /**
@@ -1294,24 +1342,17 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         }
 
         HttpRequest request;
-        request = createHttpRequest(this.getSmartsheet().getBaseURI().resolve(path), HttpMethod.GET);
+        request = createHttpRequest(this.getSmartsheet().resolve(path), HttpMethod.GET);
         request.getHeaders().put("Accept", contentType);
 
-        com.smartsheet.api.internal.http.HttpResponse response = getSmartsheet().getHttpClient().request(request);
-
-        switch (response.getStatusCode()) {
-            case 200:
-                try {
-                    copyStream(response.getEntity().getContent(), outputStream);
-                } catch (IOException e) {
-                    throw new SmartsheetException(e);
-                }
-                break;
-            default:
-                handleError(response);
-        }
-
-        getSmartsheet().getHttpClient().releaseConnection();
+        execute(Operation.GET_FILE, null, null, request, response -> {
+            try {
+                StreamUtil.copyContentIntoOutputStream(response.getEntity().getContent(), outputStream, BUFFER_SIZE, true);
+            } catch (IOException e) {
+                throw new SmartsheetException(e);
+            }
+            return null;
+        });
     }
 
     /**
@@ -26,10 +26,10 @@ import com.smartsheet.api.ServiceUnavailableException;
 import com.smartsheet.api.SheetRowResources;
 import com.smartsheet.api.SmartsheetException;
 import com.smartsheet.api.SmartsheetRestException;
+import com.smartsheet.api.interceptors.ResourceCall.Operation;
 import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
-import com.smartsheet.api.internal.http.HttpResponse;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.BulkItemFailure;
@@ -56,6 +56,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * This is the implementation of the SheetRowResources.
@@ -351,6 +352,16 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
             List<Row> rows,
             EnumSet<RowInclusion> includes,
             EnumSet<ObjectExclusion> excludes
+    ) throws SmartsheetException {
+        return updateRows(sheetId, rows, includes, excludes, null);
+    }
+
+    private List<Row> updateRows(
+            long sheetId,
+            List<Row> rows,
+            EnumSet<RowInclusion> includes,
+            EnumSet<ObjectExclusion> excludes,
+            Consumer<Integer> versionConsumer
     ) throws SmartsheetException {
         String path = SHEETS_PATH + sheetId + "/" + ROWS;
 
@@ -360,7 +371,7 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
         parameters.put(EXCLUDE, QueryUtil.generateCommaSeparatedList(excludes));
 
         path += QueryUtil.generateUrl(null, parameters);
-        return this.putAndReceiveList(path, rows, Row.class);
+        return this.putAndReceiveList(path, rows, Row.class, versionConsumer);
     }
 
     /**
@@ -372,6 +383,10 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
      * @throws SmartsheetException the smartsheet exception
      */
     public Row updateCell(long sheetId, Cell cell) throws SmartsheetException {
+        return updateCell(sheetId, cell, null);
+    }
+
+    private Row updateCell(long sheetId, Cell cell, Consumer<Integer> versionConsumer) throws SmartsheetException {
         if (cell.getRowId() == null || cell.getColumnId() == null) {
             throw new SmartsheetException("Cell must include rowId and columnId");
         }
@@ -380,14 +395,16 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
         updateRow.setCells(List.of(cell));
         updateRow.setId(cell.getRowId());
 
-        List<Row> rows = updateRows(sheetId, List.of(updateRow));
+        List<Row> rows = updateRows(sheetId, List.of(updateRow), null, null, versionConsumer);
         return rows.isEmpty() ? null : rows.get(0);
     }
 
     /**
      * <p>Helper method: Update a single with a string value</p>
-     * <p>NOTE: This method internally fetches the sheet. To avoid this step, fetch the sheet in
-     * advance and use the method by the same name</p>
+     * <p>NOTE: This method resolves the row and column indexes through a cached copy of the sheet structure
+     * (columns and row ids), which is validated against the sheet version before each use and only reloaded
+     * when the sheet has changed. Writing the cell doesn't change the structure, so the cached copy stays valid at
+     * the version the write produces.</p>
      *
      * @param sheetId  the sheet ID the cell should be written to
      * @param rowIdx   the row index of the cell (base 1 indexed)
@@ -397,8 +414,22 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
      * @throws SmartsheetException the smartsheet exception
      */
     public Row updateCell(long sheetId, int rowIdx, int colIdx, String newValue) throws SmartsheetException {
-        Sheet sheet = smartsheet.sheetResources().getSheet(sheetId);
-        return updateCell(sheet, colIdx, rowIdx, newValue);
+        SheetStructureCache structures = smartsheet.getSheetStructureCache();
+        SheetStructureCache.SheetStructure structure = structures.getStructure(sheetId);
+        Long rowId = structure.getRowId(rowIdx);
+        if (rowId == null) {
+            throw new SmartsheetException("Sheet does not contain row at index" + rowIdx);
+        }
+        Long colId = structure.getColumnId(colIdx);
+        if (colId == null) {
+            throw new SmartsheetException("Sheet does not contain column at index" + colIdx);
+        }
+
+        Cell cell = new Cell();
+        cell.setColumnId(colId);
+        cell.setRowId(rowId);
+        cell.setValue(newValue);
+        return updateCell(sheetId, cell, version -> structures.advance(structure, version));
     }
 
     /**
@@ -499,7 +530,7 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
         path = QueryUtil.generateUrl(path, parameters);
 
         HttpRequest request;
-        request = createHttpRequest(smartsheet.getBaseURI().resolve(path), method);
+        request = createHttpRequest(smartsheet.resolve(path), method);
 
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
 
@@ -511,38 +542,28 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
         entity.setContentLength(baos.size());
         request.setEntity(entity);
 
-        HttpResponse response = this.smartsheet.getHttpClient().request(request);
-
-        PartialRowUpdateResult result = null;
-        switch (response.getStatusCode()) {
-            case 200:
-                BulkItemResult<Row> bulkItemResult;
-                bulkItemResult = this.smartsheet.getJsonSerializer().deserializeBulkItemResult(Row.class,
-                        response.getEntity().getContent());
-                result = new PartialRowUpdateResult();
-                result.setResult(bulkItemResult.getResult());
-                result.setResultCode(bulkItemResult.getResultCode());
-                result.setMessage(bulkItemResult.getMessage());
-                result.setVersion(bulkItemResult.getVersion());
-                if (bulkItemResult.getFailedItems() != null) {
-                    List<BulkRowFailedItem> failedItems = new ArrayList<>();
-                    for (BulkItemFailure bulkItemFailure : bulkItemResult.getFailedItems()) {
-                        BulkRowFailedItem bulkRowFailedItem = new BulkRowFailedItem();
-                        bulkRowFailedItem.setError(bulkItemFailure.getError());
-                        bulkRowFailedItem.setIndex(bulkItemFailure.getIndex());
-                        bulkRowFailedItem.setRowId(bulkItemFailure.getRowId());
-                        failedItems.add(bulkRowFailedItem);
-                    }
-                    result.setFailedItems(failedItems);
+        return execute(Operation.ACTION, PartialRowUpdateResult.class, rows, request, response -> {
+            BulkItemResult<Row> bulkItemResult;
+            bulkItemResult = this.smartsheet.getJsonSerializer().deserializeBulkItemResult(Row.class,
+                    response.getEntity().getContent());
+            PartialRowUpdateResult result = new PartialRowUpdateResult();
+            result.setResult(bulkItemResult.getResult());
+            result.setResultCode(bulkItemResult.getResultCode());
+            result.setMessage(bulkItemResult.getMessage());
+            result.setVersion(bulkItemResult.getVersion());
+            if (bulkItemResult.getFailedItems() != null) {
+                List<BulkRowFailedItem> failedItems = new ArrayList<>();
+                for (BulkItemFailure bulkItemFailure : bulkItemResult.getFailedItems()) {
+                    BulkRowFailedItem bulkRowFailedItem = new BulkRowFailedItem();
+                    bulkRowFailedItem.setError(bulkItemFailure.getError());
+                    bulkRowFailedItem.setIndex(bulkItemFailure.getIndex());
+                    bulkRowFailedItem.setRowId(bulkItemFailure.getRowId());
+                    failedItems.add(bulkRowFailedItem);
                 }
-                break;
-            default:
-                handleError(response);
-        }
-
-        smartsheet.getHttpClient().releaseConnection();
-
-        return result;
+                result.setFailedItems(failedItems);
+            }
+            return result;
+        });
     }
 
     /**
@@ -0,0 +1,300 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal;
+
+import com.smartsheet.api.SheetResources;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.ObjectExclusion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class caches the structure of sheets (columns, the row number to row id mapping and the sheet version) so that
+ * index-based helpers such as {@link SheetRowResourcesImpl#updateCell(long, int, int, String)} don't have to download
+ * the whole sheet to resolve a row/column index into ids.
+ * <p>
+ * A cached structure is validated with a call to GET /sheets/{id}/version before it is used; it is only reloaded when
+ * the sheet version has changed. Loading a structure costs a column listing plus a fetch of the sheet restricted to
+ * its primary column (with nonexistent cells excluded), so the payload is proportional to the number of rows rather
+ * than the number of cells. Because those are two separate reads, the version read before the listing is compared with
+ * the version of the fetched sheet; if the sheet changed in between, the load is retried, and after
+ * {@link #MAX_LOAD_ATTEMPTS} attempts the structure is taken from a single fetch of the sheet with all its columns.
+ * <p>
+ * Writing cell values raises the sheet version without changing its structure, so a write made through a cached
+ * structure moves it to the version the write produced (see {@link #advance}); repeated updates then keep hitting the
+ * cache.
+ * <p>
+ * Thread Safety: This class is thread safe because the cached structures are immutable and held in a concurrent map.
+ */
+public class SheetStructureCache {
+
+    /**
+     * The number of times a structure is loaded from a column listing before falling back to a single full fetch.
+     */
+    static final int MAX_LOAD_ATTEMPTS = 3;
+
+    /**
+     * The sheet resources used to load and validate structures.
+     */
+    private final SheetResources sheetResources;
+
+    /**
+     * The cached structures keyed by sheet id.
+     */
+    private final ConcurrentMap<Long, SheetStructure> structures = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param sheetResources the sheet resources used to load and validate structures
+     * @throws IllegalArgumentException : if any argument is null
+     */
+    public SheetStructureCache(SheetResources sheetResources) {
+        Util.throwIfNull(sheetResources);
+        this.sheetResources = sheetResources;
+    }
+
+    /**
+     * Get the structure of a sheet, validating any cached copy against the current sheet version.
+     *
+     * @param sheetId the sheet id
+     * @return the current structure of the sheet
+     * @throws SmartsheetException if there is any error loading or validating the structure
+     */
+    public SheetStructure getStructure(long sheetId) throws SmartsheetException {
+        SheetStructure cached = structures.get(sheetId);
+        Integer version = null;
+        if (cached != null) {
+            version = sheetResources.getSheetVersion(sheetId);
+            if (cached.getVersion() == version) {
+                return cached;
+            }
+        }
+
+        SheetStructure loaded = load(sheetId, version);
+        structures.put(sheetId, loaded);
+        return loaded;
+    }
+
+    /**
+     * Seed the cache from a sheet that has already been fetched in full (all rows, all columns).
+     *
+     * @param sheet the sheet
+     */
+    public void put(Sheet sheet) {
+        Util.throwIfNull(sheet);
+        if (sheet.getId() == null || sheet.getVersion() == null || sheet.getColumns() == null || sheet.getRows() == null) {
+            return;
+        }
+        structures.put(sheet.getId(), new SheetStructure(sheet.getId(), sheet.getVersion(), sheet.getColumns(), sheet.getRows()));
+    }
+
+    /**
+     * Record that a sheet was written through a structure without changing the structure (only cell values), so that
+     * it stays cached at the version the write produced. The structure is only moved if the write was the only change
+     * since its version, i.e. the new version is the next one, and it is still the cached structure of the sheet.
+     *
+     * @param structure the structure the write was resolved through
+     * @param version   the sheet version the write produced, or null if unknown
+     */
+    public void advance(SheetStructure structure, Integer version) {
+        Util.throwIfNull(structure);
+        if (version != null && version == structure.getVersion() + 1) {
+            structures.replace(structure.getSheetId(), structure, new SheetStructure(structure, version));
+        }
+    }
+
+    /**
+     * Drop the cached structure of a sheet.
+     *
+     * @param sheetId the sheet id
+     */
+    public void invalidate(long sheetId) {
+        structures.remove(sheetId);
+    }
+
+    /**
+     * Drop all cached structures.
+     */
+    public void invalidateAll() {
+        structures.clear();
+    }
+
+    /**
+     * Load a structure whose columns and rows belong to the same sheet version.
+     *
+     * @param sheetId the sheet id
+     * @param version the current sheet version if it has just been read, or null
+     */
+    private SheetStructure load(long sheetId, Integer version) throws SmartsheetException {
+        Integer versionBefore = version;
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            if (versionBefore == null) {
+                versionBefore = sheetResources.getSheetVersion(sheetId);
+            }
+            List<Column> columns = sheetResources.columnResources()
+                    .listColumns(sheetId, null, new PaginationParameters(true, null, null))
+                    .getData();
+            if (columns == null || columns.isEmpty()) {
+                return loadWhole(sheetId);
+            }
+
+            Column keyColumn = columns.get(0);
+            for (Column column : columns) {
+                if (Boolean.TRUE.equals(column.getPrimary())) {
+                    keyColumn = column;
+                    break;
+                }
+            }
+            Sheet sheet = sheetResources.getSheet(sheetId, null, EnumSet.of(ObjectExclusion.NONEXISTENT_CELLS),
+                    null, null, Set.of(keyColumn.getId()), null, null);
+            if (versionBefore.equals(sheet.getVersion())) {
+                return new SheetStructure(sheetId, sheet.getVersion(), columns, sheet.getRows());
+            }
+            // the sheet changed while the columns were listed; the next listing starts at the version just fetched
+            versionBefore = sheet.getVersion();
+        }
+        return loadWhole(sheetId);
+    }
+
+    /**
+     * Load a structure from a single fetch of the sheet with all of its columns.
+     */
+    private SheetStructure loadWhole(long sheetId) throws SmartsheetException {
+        Sheet sheet = sheetResources.getSheet(sheetId, null, EnumSet.of(ObjectExclusion.NONEXISTENT_CELLS),
+                null, null, null, null, null);
+        return new SheetStructure(sheetId, sheet.getVersion(), sheet.getColumns(), sheet.getRows());
+    }
+
+    /**
+     * The structure of a single sheet at a given version.
+     * <p>
+     * Thread Safety: This class is immutable.
+     */
+    public static final class SheetStructure {
+        private final long sheetId;
+        private final int version;
+        private final List<Column> columns;
+
+        /**
+         * Row ids indexed by (row number - 1); row numbers are contiguous within a sheet.
+         */
+        private final long[] rowIds;
+
+        /**
+         * The same structure at another version.
+         */
+        private SheetStructure(SheetStructure structure, int version) {
+            this.sheetId = structure.sheetId;
+            this.version = version;
+            this.columns = structure.columns;
+            this.rowIds = structure.rowIds;
+        }
+
+        SheetStructure(long sheetId, Integer version, List<Column> columns, List<Row> rows) {
+            this.sheetId = sheetId;
+            this.version = version == null ? -1 : version;
+
+            List<Column> sortedColumns = new ArrayList<>(columns == null ? List.of() : columns);
+            sortedColumns.sort(Comparator.comparing(Column::getIndex, Comparator.nullsLast(Comparator.naturalOrder())));
+            this.columns = Collections.unmodifiableList(sortedColumns);
+
+            int maxRowNumber = 0;
+            if (rows != null) {
+                for (Row row : rows) {
+                    if (row.getRowNumber() != null) {
+                        maxRowNumber = Math.max(maxRowNumber, row.getRowNumber());
+                    }
+                }
+            }
+            this.rowIds = new long[maxRowNumber];
+            if (rows != null) {
+                for (Row row : rows) {
+                    if (row.getRowNumber() != null && row.getId() != null) {
+                        rowIds[row.getRowNumber() - 1] = row.getId();
+                    }
+                }
+            }
+        }
+
+        /**
+         * @return the sheet id
+         */
+        public long getSheetId() {
+            return sheetId;
+        }
+
+        /**
+         * @return the sheet version this structure was loaded at
+         */
+        public int getVersion() {
+            return version;
+        }
+
+        /**
+         * @return the columns, ordered by index
+         */
+        public List<Column> getColumns() {
+            return columns;
+        }
+
+        /**
+         * @return the number of rows in the sheet
+         */
+        public int getRowCount() {
+            return rowIds.length;
+        }
+
+        /**
+         * Get the id of the row with a given row number.
+         *
+         * @param rowNumber the row number (base 1 indexed)
+         * @return the row id, or null if the sheet has no such row
+         */
+        public Long getRowId(int rowNumber) {
+            if (rowNumber < 1 || rowNumber > rowIds.length || rowIds[rowNumber - 1] == 0) {
+                return null;
+            }
+            return rowIds[rowNumber - 1];
+        }
+
+        /**
+         * Get the id of the column at a given position.
+         *
+         * @param columnNumber the column position (base 1 indexed)
+         * @return the column id, or null if the sheet has no such column
+         */
+        public Long getColumnId(int columnNumber) {
+            if (columnNumber < 1 || columnNumber > columns.size()) {
+                return null;
+            }
+            return columns.get(columnNumber - 1).getId();
+        }
+    }
+}
@@ -22,10 +22,10 @@ import com.smartsheet.api.ResourceNotFoundException;
 import com.smartsheet.api.ServiceUnavailableException;
 import com.smartsheet.api.SheetSummaryResources;
 import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.interceptors.ResourceCall.Operation;
 import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
-import com.smartsheet.api.internal.http.HttpResponse;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.BulkItemResult;
@@ -398,7 +398,7 @@ public class SheetSummaryResourcesImpl extends AbstractResources implements Shee
         }
         path += QueryUtil.generateUrl(null, parameters);
 
-        HttpRequest request = createHttpRequest(this.smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
+        HttpRequest request = createHttpRequest(this.smartsheet.resolve(path), HttpMethod.POST);
         String contentDispositionValue = "attachment; filename=\"" + URLEncoder.encode(imageName, StandardCharsets.UTF_8) + "\"";
         request.getHeaders().put("Content-Disposition", contentDispositionValue);
 
@@ -408,18 +408,8 @@ public class SheetSummaryResourcesImpl extends AbstractResources implements Shee
         entity.setContentLength(contentLength);
         request.setEntity(entity);
 
-        Result<SummaryField> obj = null;
-        HttpResponse response = this.smartsheet.getHttpClient().request(request);
-        switch (response.getStatusCode()) {
-            case 200:
-                obj = this.smartsheet.getJsonSerializer().deserializeResult(SummaryField.class,
-                        response.getEntity().getContent());
-                break;
-            default:
-                handleError(response);
-        }
-        smartsheet.getHttpClient().releaseConnection();
-        return obj;
+        return execute(Operation.ATTACH_FILE, SummaryField.class, null, request, response -> this.smartsheet.getJsonSerializer()
+                .deserializeResult(SummaryField.class, response.getEntity().getContent()));
     }
 
     private BulkItemResult<SummaryField> doBulkOperation(
@@ -436,7 +426,7 @@ public class SheetSummaryResourcesImpl extends AbstractResources implements Shee
         path = QueryUtil.generateUrl(path, parameters);
 
         HttpRequest request;
-        request = createHttpRequest(smartsheet.getBaseURI().resolve(path), method);
+        request = createHttpRequest(smartsheet.resolve(path), method);
 
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
 
@@ -448,20 +438,7 @@ public class SheetSummaryResourcesImpl extends AbstractResources implements Shee
         entity.setContentLength(baos.size());
         request.setEntity(entity);
 
-        HttpResponse response = this.smartsheet.getHttpClient().request(request);
-
-        BulkItemResult<SummaryField> result = null;
-        switch (response.getStatusCode()) {
-            case 200:
-                result = this.smartsheet.getJsonSerializer().deserializeBulkItemResult(SummaryField.class,
-                        response.getEntity().getContent());
-                break;
-            default:
-                handleError(response);
-        }
-
-        smartsheet.getHttpClient().releaseConnection();
-
-        return result;
+        return execute(Operation.ACTION, SummaryField.class, fields, request, response -> this.smartsheet.getJsonSerializer()
+                .deserializeBulkItemResult(SummaryField.class, response.getEntity().getContent()));
     }
 }
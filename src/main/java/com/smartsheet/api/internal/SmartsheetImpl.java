@@ -16,6 +16,7 @@
 
 package com.smartsheet.api.internal;
 
+import com.smartsheet.api.CallOptions;
 import com.smartsheet.api.ContactResources;
 import com.smartsheet.api.EventResources;
 import com.smartsheet.api.FavoriteResources;
@@ -36,19 +37,31 @@ import com.smartsheet.api.Trace;
 import com.smartsheet.api.UserResources;
 import com.smartsheet.api.WebhookResources;
 import com.smartsheet.api.WorkspaceResources;
+import com.smartsheet.api.cache.SheetCache;
+import com.smartsheet.api.interceptors.SmartsheetInterceptor;
 import com.smartsheet.api.internal.http.AndroidHttpClient;
+import com.smartsheet.api.internal.http.AdaptiveConcurrencyLimiter;
 import com.smartsheet.api.internal.http.DefaultHttpClient;
 import com.smartsheet.api.internal.http.HttpClient;
 import com.smartsheet.api.internal.json.JacksonJsonSerializer;
 import com.smartsheet.api.internal.json.JsonSerializer;
+import com.smartsheet.api.internal.json.MeteredJsonSerializer;
+import com.smartsheet.api.internal.tracing.TracedResources;
 import com.smartsheet.api.internal.util.CleanerUtil;
 import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.metrics.SmartsheetMetrics;
+import com.smartsheet.api.tracing.SmartsheetTracer;
 import org.apache.http.impl.client.HttpClients;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -57,6 +70,8 @@ import java.util.concurrent.atomic.AtomicReference;
  * Thread Safety: This class is thread safe because all its mutable fields are safe-guarded using AtomicReference to
  * ensure atomic modifications, and also the underlying HttpClient and JsonSerializer interfaces are thread safe.
  */
+// One accessor per resource and setting of the Smartsheet interface
+@SuppressWarnings("MethodCount")
 public class SmartsheetImpl implements Smartsheet {
 
     /**
@@ -117,7 +132,7 @@ public class SmartsheetImpl implements Smartsheet {
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<HomeResources> home;
+    private final AtomicReference<HomeResources> home = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference to WorkspaceResources.
@@ -126,7 +141,7 @@ public class SmartsheetImpl implements Smartsheet {
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<WorkspaceResources> workspaces;
+    private final AtomicReference<WorkspaceResources> workspaces = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference to FolderResources.
@@ -135,7 +150,7 @@ public class SmartsheetImpl implements Smartsheet {
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<FolderResources> folders;
+    private final AtomicReference<FolderResources> folders = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference to TemplateResources.
@@ -144,7 +159,7 @@ public class SmartsheetImpl implements Smartsheet {
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<TemplateResources> templates;
+    private final AtomicReference<TemplateResources> templates = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference to SheetResources.
@@ -153,7 +168,7 @@ public class SmartsheetImpl implements Smartsheet {
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<SheetResources> sheets;
+    private final AtomicReference<SheetResources> sheets = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference to SightResources
@@ -162,7 +177,7 @@ public class SmartsheetImpl implements Smartsheet {
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<SightResources> sights;
+    private final AtomicReference<SightResources> sights = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference to UserResources.
@@ -171,7 +186,7 @@ public class SmartsheetImpl implements Smartsheet {
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<UserResources> users;
+    private final AtomicReference<UserResources> users = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference to {@link GroupResources}.
@@ -180,7 +195,7 @@ public class SmartsheetImpl implements Smartsheet {
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<GroupResources> groups;
+    private final AtomicReference<GroupResources> groups = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference to SearchResources.
@@ -189,7 +204,7 @@ public class SmartsheetImpl implements Smartsheet {
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<SearchResources> search;
+    private final AtomicReference<SearchResources> search = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference to ReportResources.
@@ -198,7 +213,7 @@ public class SmartsheetImpl implements Smartsheet {
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<ReportResources> reports;
+    private final AtomicReference<ReportResources> reports = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference for ServerInfoResources.
@@ -207,7 +222,7 @@ public class SmartsheetImpl implements Smartsheet {
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<ServerInfoResources> serverInfo;
+    private final AtomicReference<ServerInfoResources> serverInfo = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference for FavoriteResources.
@@ -216,7 +231,7 @@ public class SmartsheetImpl implements Smartsheet {
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<FavoriteResources> favorites;
+    private final AtomicReference<FavoriteResources> favorites = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference for TokenResources.
@@ -225,7 +240,7 @@ public class SmartsheetImpl implements Smartsheet {
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<TokenResources> tokens;
+    private final AtomicReference<TokenResources> tokens = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference for ContactResources.
@@ -234,7 +249,7 @@ public class SmartsheetImpl implements Smartsheet {
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<ContactResources> contacts;
+    private final AtomicReference<ContactResources> contacts = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference for ImageUrlResources.
@@ -243,7 +258,7 @@ public class SmartsheetImpl implements Smartsheet {
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<ImageUrlResources> imageUrls;
+    private final AtomicReference<ImageUrlResources> imageUrls = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference for WebhookResources.
@@ -252,7 +267,7 @@ public class SmartsheetImpl implements Smartsheet {
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<WebhookResources> webhooks;
+    private final AtomicReference<WebhookResources> webhooks = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference for PassthroughResources.
@@ -261,7 +276,7 @@ public class SmartsheetImpl implements Smartsheet {
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<PassthroughResources> passthrough;
+    private final AtomicReference<PassthroughResources> passthrough = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference for EventResources.
@@ -270,7 +285,108 @@ public class SmartsheetImpl implements Smartsheet {
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<EventResources> events;
+    private final AtomicReference<EventResources> events = new AtomicReference<>();
+
+    /**
+     * Represents the AtomicReference for the SheetStructureCache used by index-based helpers.
+     * <p>
+     * It will be initialized in constructor and will not change afterward. The underlying value will be initially set
+     * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
+     * effectively the underlying value is lazily created in a thread safe manner.
+     */
+    private final AtomicReference<SheetStructureCache> sheetStructureCache = new AtomicReference<>();
+
+    /**
+     * Represents the AtomicReference for the SheetCache used by cached sheet reads.
+     * <p>
+     * It will be initialized in constructor and will not change afterward. The underlying value will be initially set
+     * as null (caching disabled), and can be set via corresponding setter.
+     */
+    private final AtomicReference<SheetCache> sheetCache;
+
+    /**
+     * Represents the AtomicReference for the RequestCoalescer used by GET requests.
+     * <p>
+     * It will be initialized in constructor and will not change afterward. The underlying value will be initially set
+     * as null (coalescing disabled), and can be set via corresponding setter.
+     */
+    private final AtomicReference<RequestCoalescer> requestCoalescer;
+
+    /**
+     * Represents the AtomicReference for the RequestHedger used by idempotent GET requests.
+     * <p>
+     * It will be initialized in constructor and will not change afterward. The underlying value will be initially set
+     * as null (hedging disabled), and can be set via corresponding setter.
+     */
+    private final AtomicReference<RequestHedger> requestHedger;
+
+    /**
+     * Represents the AtomicReference for the SmartsheetMetrics requests and (de)serialization are reported to.
+     * <p>
+     * It will be initialized in constructor and will not change afterward. The underlying value will be initially set
+     * as null (metrics disabled), and can be set via corresponding setter.
+     */
+    private final AtomicReference<SmartsheetMetrics> metrics;
+
+    /**
+     * Represents the AtomicReference for the metered wrapper of the JsonSerializer, set while metrics are enabled.
+     */
+    private final AtomicReference<JsonSerializer> meteredJsonSerializer;
+
+    /**
+     * Represents the AtomicReference for the SmartsheetTracer that creates spans for resource method calls, HTTP
+     * attempts and (de)serialization.
+     * <p>
+     * It will be initialized in constructor and will not change afterward. The underlying value will be initially set
+     * as null (tracing disabled), and can be set via corresponding setter.
+     */
+    private final AtomicReference<SmartsheetTracer> tracer;
+
+    /**
+     * Represents the AtomicReference for the headers of the current identity, rebuilt when the identity changes.
+     */
+    private final AtomicReference<HeaderTemplate> headerTemplate = new AtomicReference<>();
+
+    /**
+     * The base URI as a string, when relative paths can simply be appended to it, or null.
+     */
+    private final String baseUriPrefix;
+
+    /**
+     * Represents the interceptors every resource call passes through, in order.
+     * <p>
+     * It will be initialized in constructor and will not change afterward. The list is initially empty, and
+     * interceptors can be added and removed via corresponding methods.
+     */
+    private final List<SmartsheetInterceptor> interceptors;
+
+    /**
+     * Whether this is a view created by {@link #withIdentity}, whose cached sheets are kept apart from those of other
+     * identities.
+     */
+    private final boolean view;
+
+    /**
+     * The access token this client was created with. Its cached sheets are only kept apart from those of other
+     * identities once its access token or assumed user changes; null for views.
+     */
+    private final String ownAccessToken;
+
+    /**
+     * The options of the calls made through this client, set on views created by {@link #withCallOptions}, or null.
+     */
+    private final CallOptions callOptions;
+
+    /**
+     * The client that created the HTTP client. Views keep it reachable, as it closes the HTTP client once it is
+     * garbage collected.
+     */
+    private final SmartsheetImpl owner;
+
+    /**
+     * The traced wrappers of the resources, by resources interface, created when first requested while tracing.
+     */
+    private final Map<Class<?>, Object> tracedResources = new ConcurrentHashMap<>();
 
     private static final String INVALID_OPERATION_FOR_CLASS = "Invalid operation for class ";
 
@@ -301,6 +417,8 @@ public class SmartsheetImpl implements Smartsheet {
         Util.throwIfEmpty(baseURI);
 
         this.baseURI = URI.create(baseURI);
+        this.baseUriPrefix = this.baseURI.isAbsolute() && this.baseURI.getRawQuery() == null &&
+                this.baseURI.getRawFragment() == null && baseURI.endsWith("/") ? this.baseURI.toString() : null;
         this.accessToken = new AtomicReference<>(accessToken);
         this.jsonSerializer = (jsonSerializer == null) ? new JacksonJsonSerializer() : jsonSerializer;
         this.httpClient = (httpClient == null)
@@ -311,25 +429,50 @@ public class SmartsheetImpl implements Smartsheet {
         this.changeAgent = new AtomicReference<>(null);
         this.userAgent = new AtomicReference<>(generateUserAgent(null));
 
-        // Initialize resources
-        this.home = new AtomicReference<>();
-        this.workspaces = new AtomicReference<>();
-        this.folders = new AtomicReference<>();
-        this.templates = new AtomicReference<>();
-        this.sheets = new AtomicReference<>();
-        this.sights = new AtomicReference<>();
-        this.favorites = new AtomicReference<>();
-        this.users = new AtomicReference<>();
-        this.groups = new AtomicReference<>();
-        this.search = new AtomicReference<>();
-        this.reports = new AtomicReference<>();
-        this.serverInfo = new AtomicReference<>();
-        this.tokens = new AtomicReference<>();
-        this.contacts = new AtomicReference<>();
-        this.imageUrls = new AtomicReference<>();
-        this.webhooks = new AtomicReference<>();
-        this.passthrough = new AtomicReference<>();
-        this.events = new AtomicReference<>();
+        this.sheetCache = new AtomicReference<>();
+        this.requestCoalescer = new AtomicReference<>();
+        this.requestHedger = new AtomicReference<>();
+        this.metrics = new AtomicReference<>();
+        this.meteredJsonSerializer = new AtomicReference<>();
+        this.tracer = new AtomicReference<>();
+        this.interceptors = new CopyOnWriteArrayList<>();
+        this.view = false;
+        this.ownAccessToken = accessToken;
+        this.callOptions = null;
+        this.owner = this;
+    }
+
+    /**
+     * Create a view of a client with another identity or other call options, sharing everything else.
+     *
+     * @param parent      the client
+     * @param accessToken the access token
+     * @param assumedUser the email of the user to assume
+     * @param changeAgent the change agent identifier
+     * @param view        whether the identity is not the client's own
+     * @param callOptions the call options (optional)
+     */
+    private SmartsheetImpl(SmartsheetImpl parent, AtomicReference<String> accessToken, AtomicReference<String> assumedUser,
+                           AtomicReference<String> changeAgent, boolean view, CallOptions callOptions) {
+        this.baseURI = parent.baseURI;
+        this.baseUriPrefix = parent.baseUriPrefix;
+        this.jsonSerializer = parent.jsonSerializer;
+        this.httpClient = parent.httpClient;
+        this.accessToken = accessToken;
+        this.assumedUser = assumedUser;
+        this.changeAgent = changeAgent;
+        this.userAgent = parent.userAgent;
+        this.sheetCache = parent.sheetCache;
+        this.requestCoalescer = parent.requestCoalescer;
+        this.requestHedger = parent.requestHedger;
+        this.metrics = parent.metrics;
+        this.meteredJsonSerializer = parent.meteredJsonSerializer;
+        this.tracer = parent.tracer;
+        this.interceptors = parent.interceptors;
+        this.view = view;
+        this.ownAccessToken = view ? null : parent.ownAccessToken;
+        this.callOptions = callOptions;
+        this.owner = parent.owner;
     }
 
     /**
@@ -343,6 +486,123 @@ public class SmartsheetImpl implements Smartsheet {
         return baseURI;
     }
 
+    /**
+     * Resolve a path against the base URI. Plain relative paths (the ones the resources build) are appended to the
+     * base URI and parsed once, rather than parsed and then resolved.
+     *
+     * @param path the path, e.g. {@code sheets/123/rows?include=format}
+     * @return the URI
+     */
+    URI resolve(String path) {
+        if (baseUriPrefix != null && isPlainRelativePath(path)) {
+            return URI.create(baseUriPrefix.concat(path));
+        }
+        return baseURI.resolve(path);
+    }
+
+    /**
+     * Check that a path has no scheme, authority or dot segments, so that resolving it against a base URI ending in a
+     * slash is the same as appending it.
+     */
+    private static boolean isPlainRelativePath(String path) {
+        if (path.isEmpty() || !Character.isLetterOrDigit(path.charAt(0)) || path.contains("/.")) {
+            return false;
+        }
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c == ':') {
+                return false;
+            }
+            if (c == '/' || c == '?' || c == '#') {
+                return true;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return the headers every request carries, for the current access token, assumed user, change agent and user
+     * agent. They are built once and reused until one of those changes.
+     *
+     * @return the headers, read-only
+     */
+    Map<String, String> getHeaderTemplate() {
+        return currentHeaderTemplate().getHeaders();
+    }
+
+    private HeaderTemplate currentHeaderTemplate() {
+        String currentToken = accessToken.get();
+        String currentAssumedUser = assumedUser.get();
+        String currentChangeAgent = changeAgent.get();
+        String currentUserAgent = userAgent.get();
+        HeaderTemplate template = headerTemplate.get();
+        if (template == null || !template.isFor(currentToken, currentAssumedUser, currentChangeAgent, currentUserAgent)) {
+            template = new HeaderTemplate(currentToken, currentAssumedUser, currentChangeAgent, currentUserAgent);
+            headerTemplate.set(template);
+        }
+        return template;
+    }
+
+    /**
+     * Create a view of this client that makes its calls with another access token, assumed user and change agent.
+     * The view shares this client's HTTP client (and so its connection pool), JSON serializer, user agent, sheet
+     * cache, request coalescer, metrics, tracer and interceptors: changing those on either changes them for both.
+     * Creating a view is cheap, so one can be created per tenant or per request. Views don't need to be closed;
+     * the shared HTTP client is closed with this client.
+     * <p>
+     * Sheets a view caches are only returned to views with the same access token and assumed user (they are not
+     * written to a persistent snapshot store), and each view resolves row and column indexes with its own structure
+     * cache, so one identity never sees data fetched by another.
+     *
+     * @param accessToken the access token
+     * @param assumedUser the email of the user to assume (optional)
+     * @param changeAgent the change agent identifier (optional)
+     * @return the view
+     */
+    @Override
+    public SmartsheetImpl withIdentity(String accessToken, String assumedUser, String changeAgent) {
+        return new SmartsheetImpl(this, new AtomicReference<>(accessToken), new AtomicReference<>(assumedUser),
+                new AtomicReference<>(changeAgent), true, callOptions);
+    }
+
+    /**
+     * Create a view of this client whose calls have the given options: a deadline bounding each call, including its
+     * retries, and cancellation of the calls in flight. The view shares everything else with this client, including
+     * its identity (changing the access token of either changes it for both); views created from it keep the
+     * options.
+     *
+     * @param callOptions the call options
+     * @return the view
+     */
+    @Override
+    public SmartsheetImpl withCallOptions(CallOptions callOptions) {
+        Util.throwIfNull(callOptions);
+        return new SmartsheetImpl(this, accessToken, assumedUser, changeAgent, view, callOptions);
+    }
+
+    /**
+     * Return the options of the calls made through this client.
+     *
+     * @return the call options, or null
+     */
+    CallOptions getCallOptions() {
+        return callOptions;
+    }
+
+    /**
+     * Return the scope that keeps the sheets cached by a view apart from those of other identities. The client itself
+     * is only scoped once it assumes a user or its access token changes, so that a sheet cached for one user is
+     * never returned to another.
+     *
+     * @return the scope, or null while the client makes its calls as the identity it was created with
+     */
+    String getCacheScope() {
+        if (!view && assumedUser.get() == null && Objects.equals(accessToken.get(), ownAccessToken)) {
+            return null;
+        }
+        return currentHeaderTemplate().getCacheScope();
+    }
+
     /**
      * Return the access token
      *
@@ -372,7 +632,8 @@ public class SmartsheetImpl implements Smartsheet {
      * @return corresponding field
      */
     JsonSerializer getJsonSerializer() {
-        return jsonSerializer;
+        JsonSerializer metered = meteredJsonSerializer.get();
+        return metered == null ? jsonSerializer : metered;
     }
 
     /**
@@ -436,6 +697,176 @@ public class SmartsheetImpl implements Smartsheet {
         this.userAgent.set(generateUserAgent(userAgent));
     }
 
+    /**
+     * Return the sheet cache.
+     *
+     * @return the sheet cache, or null if sheet caching is disabled
+     */
+    public SheetCache getSheetCache() {
+        return sheetCache.get();
+    }
+
+    /**
+     * Set the cache used by cached sheet reads. Null disables sheet caching.
+     *
+     * @param sheetCache the sheet cache
+     */
+    public void setSheetCache(SheetCache sheetCache) {
+        this.sheetCache.set(sheetCache);
+    }
+
+    /**
+     * Return the request coalescer.
+     *
+     * @return the request coalescer, or null if coalescing is disabled
+     */
+    public RequestCoalescer getRequestCoalescer() {
+        return requestCoalescer.get();
+    }
+
+    /**
+     * Set the coalescer shared by identical concurrent GET requests. Null disables coalescing.
+     *
+     * @param requestCoalescer the request coalescer
+     */
+    public void setRequestCoalescer(RequestCoalescer requestCoalescer) {
+        this.requestCoalescer.set(requestCoalescer);
+    }
+
+    /**
+     * Return the request hedger.
+     *
+     * @return the request hedger, or null if hedging is disabled
+     */
+    public RequestHedger getRequestHedger() {
+        return requestHedger.get();
+    }
+
+    /**
+     * Set the hedger of idempotent GET requests. Null disables hedging.
+     *
+     * @param requestHedger the request hedger
+     */
+    public void setRequestHedger(RequestHedger requestHedger) {
+        this.requestHedger.set(requestHedger);
+    }
+
+    /**
+     * Return the metrics.
+     *
+     * @return the metrics, or null if metrics are disabled
+     */
+    public SmartsheetMetrics getMetrics() {
+        return metrics.get();
+    }
+
+    /**
+     * Set where request attempts, retries and JSON (de)serialization are reported. Request attempts and retries are
+     * only reported by a DefaultHttpClient. Null disables metrics.
+     *
+     * @param metrics the metrics
+     */
+    public void setMetrics(SmartsheetMetrics metrics) {
+        this.metrics.set(metrics);
+        updateMeteredJsonSerializer();
+        if (this.httpClient instanceof DefaultHttpClient) {
+            ((DefaultHttpClient) this.httpClient).setMetrics(metrics);
+        }
+    }
+
+    /**
+     * Return the tracer.
+     *
+     * @return the tracer, {@link SmartsheetTracer#NOOP} if tracing is disabled
+     */
+    public SmartsheetTracer getTracer() {
+        SmartsheetTracer current = tracer.get();
+        return current == null ? SmartsheetTracer.NOOP : current;
+    }
+
+    /**
+     * Set the tracer that creates a span for each resource method call, with child spans for JSON (de)serialization
+     * and, with a DefaultHttpClient, for each request attempt and backoff. Null or {@link SmartsheetTracer#NOOP}
+     * disables tracing, which then costs nothing.
+     *
+     * @param tracer the tracer
+     */
+    public void setTracer(SmartsheetTracer tracer) {
+        SmartsheetTracer effective = tracer == SmartsheetTracer.NOOP ? null : tracer;
+        this.tracer.set(effective);
+        updateMeteredJsonSerializer();
+        if (this.httpClient instanceof DefaultHttpClient) {
+            ((DefaultHttpClient) this.httpClient).setTracer(effective);
+        }
+    }
+
+    /**
+     * Return the interceptors.
+     *
+     * @return the interceptors, in the order calls pass through them
+     */
+    List<SmartsheetInterceptor> getInterceptors() {
+        return interceptors;
+    }
+
+    /**
+     * Add an interceptor after the ones already added, so that it sees calls after them and results before them.
+     *
+     * @param interceptor the interceptor
+     */
+    public void addInterceptor(SmartsheetInterceptor interceptor) {
+        Util.throwIfNull(interceptor);
+        interceptors.add(interceptor);
+    }
+
+    /**
+     * Remove an interceptor.
+     *
+     * @param interceptor the interceptor
+     */
+    public void removeInterceptor(SmartsheetInterceptor interceptor) {
+        interceptors.remove(interceptor);
+    }
+
+    private void updateMeteredJsonSerializer() {
+        SmartsheetMetrics currentMetrics = metrics.get();
+        SmartsheetTracer currentTracer = tracer.get();
+        boolean metered = currentMetrics != null || currentTracer != null;
+        meteredJsonSerializer.set(metered ? new MeteredJsonSerializer(jsonSerializer, currentMetrics, currentTracer) : null);
+    }
+
+    /**
+     * Return the traced wrapper of resources while tracing, or the resources themselves.
+     */
+    private <T> T traced(Class<T> type, T resources) {
+        if (tracer.get() == null) {
+            return resources;
+        }
+        return type.cast(tracedResources.computeIfAbsent(type, key -> TracedResources.wrap(type, resources, tracer::get)));
+    }
+
+    /**
+     * Return the limiter of requests in flight if the HttpClient is an instance of DefaultHttpClient.
+     *
+     * @return the limiter, or null if requests are sent without limit
+     */
+    public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+        return this.httpClient instanceof DefaultHttpClient ? ((DefaultHttpClient) this.httpClient).getConcurrencyLimiter() : null;
+    }
+
+    /**
+     * Sets the limiter of requests in flight if the HttpClient is an instance of DefaultHttpClient
+     *
+     * @param concurrencyLimiter the limiter, or null to send requests without limit
+     */
+    public void setConcurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        if (this.httpClient instanceof DefaultHttpClient) {
+            ((DefaultHttpClient) this.httpClient).setConcurrencyLimiter(concurrencyLimiter);
+        } else {
+            throw new UnsupportedOperationException(INVALID_OPERATION_FOR_CLASS + this.httpClient.getClass());
+        }
+    }
+
     /**
      * Sets the max retry time if the HttpClient is an instance of DefaultHttpClient
      *
@@ -482,7 +913,7 @@ public class SmartsheetImpl implements Smartsheet {
         if (home.get() == null) {
             home.compareAndSet(null, new HomeResourcesImpl(this));
         }
-        return home.get();
+        return traced(HomeResources.class, home.get());
     }
 
     /**
@@ -494,7 +925,7 @@ public class SmartsheetImpl implements Smartsheet {
         if (workspaces.get() == null) {
             workspaces.compareAndSet(null, new WorkspaceResourcesImpl(this));
         }
-        return workspaces.get();
+        return traced(WorkspaceResources.class, workspaces.get());
     }
 
     /**
@@ -506,7 +937,7 @@ public class SmartsheetImpl implements Smartsheet {
         if (folders.get() == null) {
             folders.compareAndSet(null, new FolderResourcesImpl(this));
         }
-        return folders.get();
+        return traced(FolderResources.class, folders.get());
     }
 
     /**
@@ -518,7 +949,7 @@ public class SmartsheetImpl implements Smartsheet {
         if (templates.get() == null) {
             templates.compareAndSet(null, new TemplateResourcesImpl(this));
         }
-        return templates.get();
+        return traced(TemplateResources.class, templates.get());
     }
 
     /**
@@ -530,7 +961,7 @@ public class SmartsheetImpl implements Smartsheet {
         if (sheets.get() == null) {
             sheets.compareAndSet(null, new SheetResourcesImpl(this));
         }
-        return sheets.get();
+        return traced(SheetResources.class, sheets.get());
     }
 
     /**
@@ -542,7 +973,7 @@ public class SmartsheetImpl implements Smartsheet {
         if (sights.get() == null) {
             sights.compareAndSet(null, new SightResourcesImpl(this));
         }
-        return sights.get();
+        return traced(SightResources.class, sights.get());
     }
 
     /**
@@ -554,7 +985,7 @@ public class SmartsheetImpl implements Smartsheet {
         if (favorites.get() == null) {
             favorites.compareAndSet(null, new FavoriteResourcesImpl(this));
         }
-        return favorites.get();
+        return traced(FavoriteResources.class, favorites.get());
     }
 
     /**
@@ -566,7 +997,7 @@ public class SmartsheetImpl implements Smartsheet {
         if (users.get() == null) {
             users.compareAndSet(null, new UserResourcesImpl(this));
         }
-        return users.get();
+        return traced(UserResources.class, users.get());
     }
 
     /**
@@ -578,7 +1009,7 @@ public class SmartsheetImpl implements Smartsheet {
         if (groups.get() == null) {
             groups.compareAndSet(null, new GroupResourcesImpl(this));
         }
-        return groups.get();
+        return traced(GroupResources.class, groups.get());
     }
 
     /**
@@ -590,7 +1021,7 @@ public class SmartsheetImpl implements Smartsheet {
         if (search.get() == null) {
             search.compareAndSet(null, new SearchResourcesImpl(this));
         }
-        return search.get();
+        return traced(SearchResources.class, search.get());
     }
 
     /**
@@ -602,7 +1033,7 @@ public class SmartsheetImpl implements Smartsheet {
         if (reports.get() == null) {
             reports.compareAndSet(null, new ReportResourcesImpl(this));
         }
-        return reports.get();
+        return traced(ReportResources.class, reports.get());
     }
 
     /**
@@ -614,7 +1045,7 @@ public class SmartsheetImpl implements Smartsheet {
         if (serverInfo.get() == null) {
             serverInfo.compareAndSet(null, new ServerInfoResourcesImpl(this));
         }
-        return serverInfo.get();
+        return traced(ServerInfoResources.class, serverInfo.get());
     }
 
     /**
@@ -626,7 +1057,7 @@ public class SmartsheetImpl implements Smartsheet {
         if (tokens.get() == null) {
             tokens.compareAndSet(null, new TokenResourcesImpl(this));
         }
-        return tokens.get();
+        return traced(TokenResources.class, tokens.get());
     }
 
     /**
@@ -638,7 +1069,7 @@ public class SmartsheetImpl implements Smartsheet {
         if (contacts.get() == null) {
             contacts.compareAndSet(null, new ContactResourcesImpl(this));
         }
-        return contacts.get();
+        return traced(ContactResources.class, contacts.get());
     }
 
     /**
@@ -650,7 +1081,7 @@ public class SmartsheetImpl implements Smartsheet {
         if (imageUrls.get() == null) {
             imageUrls.compareAndSet(null, new ImageUrlResourcesImpl(this));
         }
-        return imageUrls.get();
+        return traced(ImageUrlResources.class, imageUrls.get());
     }
 
     /**
@@ -662,7 +1093,7 @@ public class SmartsheetImpl implements Smartsheet {
         if (webhooks.get() == null) {
             webhooks.compareAndSet(null, new WebhookResourcesImpl(this));
         }
-        return webhooks.get();
+        return traced(WebhookResources.class, webhooks.get());
     }
 
     /**
@@ -674,7 +1105,7 @@ public class SmartsheetImpl implements Smartsheet {
         if (passthrough.get() == null) {
             passthrough.compareAndSet(null, new PassthroughResourcesImpl(this));
         }
-        return passthrough.get();
+        return traced(PassthroughResources.class, passthrough.get());
     }
 
     /**
@@ -686,7 +1117,19 @@ public class SmartsheetImpl implements Smartsheet {
         if (events.get() == null) {
             events.compareAndSet(null, new EventResourcesImpl(this));
         }
-        return events.get();
+        return traced(EventResources.class, events.get());
+    }
+
+    /**
+     * Returns the SheetStructureCache used to resolve row/column indexes into ids without fetching whole sheets.
+     *
+     * @return the sheet structure cache
+     */
+    SheetStructureCache getSheetStructureCache() {
+        if (sheetStructureCache.get() == null) {
+            sheetStructureCache.compareAndSet(null, new SheetStructureCache(sheetResources()));
+        }
+        return sheetStructureCache.get();
     }
 
     /**
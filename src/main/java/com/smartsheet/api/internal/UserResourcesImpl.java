@@ -22,10 +22,10 @@ import com.smartsheet.api.ResourceNotFoundException;
 import com.smartsheet.api.ServiceUnavailableException;
 import com.smartsheet.api.SmartsheetException;
 import com.smartsheet.api.UserResources;
+import com.smartsheet.api.interceptors.ResourceCall.Operation;
 import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
-import com.smartsheet.api.internal.http.HttpResponse;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.AlternateEmail;
@@ -435,23 +435,11 @@ public class UserResourcesImpl extends AbstractResources implements UserResource
      */
     public AlternateEmail promoteAlternateEmail(long userId, long altEmailId) throws SmartsheetException {
 
-        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(
+        HttpRequest request = createHttpRequest(smartsheet.resolve(
                 USERS + "/" + userId + "/" + ALTERNATE_EMAILS + "/" + altEmailId + "/makeprimary"), HttpMethod.POST);
 
-        Object obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeResult(AlternateEmail.class,
-                            response.getEntity().getContent());
-                    break;
-                default:
-                    handleError(response);
-            }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
+        Object obj = execute(Operation.ACTION, AlternateEmail.class, null, request, response -> this.smartsheet
+                .getJsonSerializer().deserializeResult(AlternateEmail.class, response.getEntity().getContent()));
 
         return (AlternateEmail) obj;
     }
@@ -484,7 +472,7 @@ public class UserResourcesImpl extends AbstractResources implements UserResource
         Map<String, Object> parameters = new HashMap<>();
         path += QueryUtil.generateUrl(null, parameters);
 
-        HttpRequest request = createHttpRequest(this.smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
+        HttpRequest request = createHttpRequest(this.smartsheet.resolve(path), HttpMethod.POST);
         String attachmentHeaderValue = "attachment; filename=\"" + URLEncoder.encode(file, StandardCharsets.UTF_8) + "\"";
         request.getHeaders().put("Content-Disposition", attachmentHeaderValue);
 
@@ -497,22 +485,8 @@ public class UserResourcesImpl extends AbstractResources implements UserResource
         entity.setContentLength(f.length());
         request.setEntity(entity);
 
-        User obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeResult(User.class,
-                            response.getEntity().getContent()).getResult();
-                    break;
-                default:
-                    handleError(response);
-            }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-
-        return obj;
+        return execute(Operation.ATTACH_FILE, User.class, null, request, response -> this.smartsheet.getJsonSerializer()
+                .deserializeResult(User.class, response.getEntity().getContent()).getResult());
     }
 
     @Override
@@ -24,9 +24,9 @@ import com.smartsheet.api.ResourceNotFoundException;
 import com.smartsheet.api.ServiceUnavailableException;
 import com.smartsheet.api.SmartsheetException;
 import com.smartsheet.api.WebhookResources;
+import com.smartsheet.api.interceptors.ResourceCall.Operation;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
-import com.smartsheet.api.internal.http.HttpResponse;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.models.PagedResult;
 import com.smartsheet.api.models.PaginationParameters;
@@ -158,30 +158,20 @@ public class WebhookResourcesImpl extends AbstractResources implements WebhookRe
      * @throws SmartsheetException         if there is any other error during the operation
      */
     public WebhookSharedSecret resetSharedSecret(long webhookId) throws SmartsheetException {
-        HttpRequest request = createHttpRequest(this.getSmartsheet().getBaseURI().resolve(WEBHOOKS_PATH +
+        HttpRequest request = createHttpRequest(this.getSmartsheet().resolve(WEBHOOKS_PATH +
                 webhookId + "/resetsharedsecret"), HttpMethod.POST);
 
-        HttpResponse response = getSmartsheet().getHttpClient().request(request);
-
-        WebhookSharedSecret secret = null;
-        switch (response.getStatusCode()) {
-            case 200:
-                try {
-                    secret = this.smartsheet.getJsonSerializer().deserialize(WebhookSharedSecret.class,
-                            response.getEntity().getContent());
-                } catch (JsonParseException e) {
-                    throw new SmartsheetException(e);
-                } catch (JsonMappingException e) {
-                    throw new SmartsheetException(e);
-                } catch (IOException e) {
-                    throw new SmartsheetException(e);
-                }
-                break;
-            default:
-                handleError(response);
-        }
-
-        getSmartsheet().getHttpClient().releaseConnection();
-        return secret;
+        return execute(Operation.ACTION, WebhookSharedSecret.class, null, request, response -> {
+            try {
+                return this.smartsheet.getJsonSerializer().deserialize(WebhookSharedSecret.class,
+                        response.getEntity().getContent());
+            } catch (JsonParseException e) {
+                throw new SmartsheetException(e);
+            } catch (JsonMappingException e) {
+                throw new SmartsheetException(e);
+            } catch (IOException e) {
+                throw new SmartsheetException(e);
+            }
+        });
     }
 }
@@ -0,0 +1,364 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the number of requests in flight, adapting the limit to how the API responds instead of relying on a fixed
+ * pool size.
+ * <p>
+ * The limit follows the gradient between the long-term and the latest round-trip time: while requests come back about
+ * as fast as usual it grows (by about the square root of the limit), and as they slow down, i.e. queue up on the
+ * server, it shrinks towards the limit at which they would not. On top of that, a request the API rejects as
+ * overloaded (errors 4002, 4003 and 4004) cuts the limit multiplicatively, at most once per round trip so that a
+ * burst of rejections counts once. The limit only grows while at least half of it is in use.
+ * <p>
+ * Callers over the limit wait in a queue, in arrival order, until a request completes or the limit grows; they do
+ * not spin or sleep. The current limit, requests in flight and queue depth can be read at any time, e.g. for
+ * dashboards.
+ * <p>
+ * Thread Safety: This class is thread safe.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /**
+     * Default limit to start with.
+     */
+    public static final int DEFAULT_INITIAL_LIMIT = 8;
+
+    /**
+     * Default lowest limit.
+     */
+    public static final int DEFAULT_MIN_LIMIT = 1;
+
+    /**
+     * Default highest limit.
+     */
+    public static final int DEFAULT_MAX_LIMIT = 64;
+
+    /**
+     * Default factor applied to the limit when the API reports overload.
+     */
+    public static final double DEFAULT_BACKOFF_RATIO = 0.7;
+
+    /**
+     * Default ratio of the latest to the long-term round-trip time that is still considered normal.
+     */
+    public static final double DEFAULT_RTT_TOLERANCE = 1.5;
+
+    /**
+     * The number of samples the long-term round-trip time averages over.
+     */
+    private static final int LONG_RTT_WINDOW = 100;
+
+    /**
+     * The weight of each new limit computed from the gradient.
+     */
+    private static final double SMOOTHING = 0.2;
+
+    /**
+     * What the completion of a request says about the API's load.
+     */
+    public enum Signal {
+        /**
+         * The API answered (successfully or with an error unrelated to load); the round-trip time is a sample.
+         */
+        SUCCESS,
+        /**
+         * The API rejected the request as overloaded (errors 4002, 4003, 4004).
+         */
+        OVERLOAD,
+        /**
+         * The request failed without an answer, or the answer says nothing about load.
+         */
+        IGNORE
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double rttTolerance;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition available = lock.newCondition();
+
+    // guarded by lock
+    private double limit;
+    private int inFlight;
+    private int queued;
+    private double longRttNanos;
+    private long lastDecreaseNanos;
+
+    private volatile int currentLimit;
+    private volatile int currentInFlight;
+    private volatile int currentQueueDepth;
+
+    private AdaptiveConcurrencyLimiter(Builder builder) {
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.backoffRatio = builder.backoffRatio;
+        this.rttTolerance = builder.rttTolerance;
+        this.limit = builder.initialLimit;
+        // long enough ago that the first overload always counts
+        this.lastDecreaseNanos = System.nanoTime() - TimeUnit.HOURS.toNanos(1);
+        publish();
+    }
+
+    /**
+     * Create a builder.
+     *
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Wait until a request may be sent. Each call must be followed by one call to {@link #release(long, Signal)}.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        tryAcquire(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Wait until a request may be sent, or the timeout elapses. Each successful call must be followed by one call to
+     * {@link #release(long, Signal)}.
+     *
+     * @param timeout the longest time to wait
+     * @param unit    the unit of the timeout
+     * @return true if the request may be sent, false if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        long remainingNanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            if (inFlight >= effectiveLimit()) {
+                queued++;
+                publish();
+                boolean acquired = false;
+                try {
+                    while (inFlight >= effectiveLimit()) {
+                        if (remainingNanos <= 0) {
+                            return false;
+                        }
+                        remainingNanos = available.awaitNanos(remainingNanos);
+                    }
+                    acquired = true;
+                } finally {
+                    queued--;
+                    if (!acquired && inFlight < effectiveLimit()) {
+                        // pass on a wake-up this caller may have received
+                        available.signal();
+                    }
+                    publish();
+                }
+            }
+            inFlight++;
+            publish();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Record the completion of a request and let a waiting one through.
+     *
+     * @param rttNanos the time from sending the request to receiving the response
+     * @param signal   what the completion says about the API's load
+     */
+    public void release(long rttNanos, Signal signal) {
+        lock.lock();
+        try {
+            int inFlightAtStart = inFlight;
+            inFlight--;
+            if (signal == Signal.OVERLOAD) {
+                decrease(System.nanoTime());
+            } else if (signal == Signal.SUCCESS && rttNanos > 0) {
+                sample(rttNanos, inFlightAtStart);
+            }
+            int free = effectiveLimit() - inFlight;
+            for (int i = 0; i < free && i < queued; i++) {
+                available.signal();
+            }
+            publish();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the current limit.
+     *
+     * @return the number of requests that may be in flight
+     */
+    public int getLimit() {
+        return currentLimit;
+    }
+
+    /**
+     * Get the number of requests in flight.
+     *
+     * @return the requests in flight
+     */
+    public int getInFlight() {
+        return currentInFlight;
+    }
+
+    /**
+     * Get the number of callers waiting to send a request.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return currentQueueDepth;
+    }
+
+    private void decrease(long now) {
+        // one cut per round trip: the other rejections of a burst were sent under the same limit
+        if (now - lastDecreaseNanos >= (long) longRttNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+            lastDecreaseNanos = now;
+        }
+    }
+
+    private void sample(long rttNanos, int inFlightAtStart) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) / LONG_RTT_WINDOW;
+        }
+        // recover faster after a period of slow responses, once they are fast again
+        if (longRttNanos / rttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+        if (inFlightAtStart < limit / 2) {
+            // not using the limit, so the sample says nothing about whether it could be higher
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / rttNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + newLimit * SMOOTHING));
+    }
+
+    private int effectiveLimit() {
+        return Math.max(minLimit, (int) limit);
+    }
+
+    private void publish() {
+        currentLimit = effectiveLimit();
+        currentInFlight = inFlight;
+        currentQueueDepth = queued;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveConcurrencyLimiter{limit=" + currentLimit + ", inFlight=" + currentInFlight + ", queueDepth=" +
+                currentQueueDepth + ", longRttMillis=" + TimeUnit.NANOSECONDS.toMillis((long) longRttNanos) + "}";
+    }
+
+    /**
+     * Builds an {@link AdaptiveConcurrencyLimiter}.
+     */
+    public static class Builder {
+        private int initialLimit = DEFAULT_INITIAL_LIMIT;
+        private int minLimit = DEFAULT_MIN_LIMIT;
+        private int maxLimit = DEFAULT_MAX_LIMIT;
+        private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+        private double rttTolerance = DEFAULT_RTT_TOLERANCE;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the limit to start with.
+         *
+         * @param initialLimit the initial limit
+         * @return the builder
+         */
+        public Builder setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        /**
+         * Set the lowest limit.
+         *
+         * @param minLimit the minimum limit
+         * @return the builder
+         */
+        public Builder setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        /**
+         * Set the highest limit, e.g. the size of the connection pool.
+         *
+         * @param maxLimit the maximum limit
+         * @return the builder
+         */
+        public Builder setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * Set the factor applied to the limit when the API reports overload.
+         *
+         * @param backoffRatio the backoff ratio, between 0 and 1
+         * @return the builder
+         */
+        public Builder setBackoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Set the ratio of the latest to the long-term round-trip time up to which the limit keeps growing.
+         *
+         * @param rttTolerance the tolerance, at least 1
+         * @return the builder
+         */
+        public Builder setRttTolerance(double rttTolerance) {
+            this.rttTolerance = rttTolerance;
+            return this;
+        }
+
+        /**
+         * Build the limiter.
+         *
+         * @return the limiter
+         * @throws IllegalArgumentException if a setting is out of range
+         */
+        public AdaptiveConcurrencyLimiter build() {
+            if (minLimit <= 0 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+                throw new IllegalArgumentException("Limits must be positive, with min <= initial <= max");
+            }
+            if (backoffRatio <= 0 || backoffRatio >= 1 || rttTolerance < 1) {
+                throw new IllegalArgumentException("Backoff ratio must be between 0 and 1 and RTT tolerance at least 1");
+            }
+            return new AdaptiveConcurrencyLimiter(this);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+import java.io.Closeable;
+import java.io.PrintWriter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Writes trace-logging output on a background thread, so that formatting and printing a trace does not hold up the
+ * request being traced. Traces wait in a bounded buffer; when it is full the oldest waiting trace is dropped (and
+ * counted) rather than blocking the request. The thread is only started once something is traced.
+ * <p>
+ * Thread Safety: This class is thread safe.
+ */
+final class AsyncTraceWriter implements Closeable {
+    /**
+     * the number of traces that can wait to be written, set with the "Smartsheet.trace.bufferSize" system property
+     */
+    static final int DEFAULT_CAPACITY = Integer.getInteger("Smartsheet.trace.bufferSize", 1024);
+
+    private static final long POLL_MILLIS = 100;
+
+    private final PrintWriter writer;
+    private final BlockingQueue<Supplier<String>> queue;
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong done = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile Thread thread;
+    private volatile boolean closed;
+
+    AsyncTraceWriter(PrintWriter writer, int capacity) {
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+    }
+
+    /**
+     * Queue a trace to be written as one line.
+     *
+     * @param trace produces the text, called on the writer thread
+     */
+    void write(Supplier<String> trace) {
+        accepted.incrementAndGet();
+        while (!queue.offer(trace)) {
+            if (queue.poll() != null) {
+                dropped.incrementAndGet();
+                done.incrementAndGet();
+            }
+        }
+        if (thread == null) {
+            start();
+        }
+    }
+
+    /**
+     * Queue a line of text to be written.
+     *
+     * @param line the line
+     */
+    void println(String line) {
+        write(() -> line);
+    }
+
+    /**
+     * Wait until every trace queued so far has been written (or dropped) and flushed.
+     *
+     * @param timeoutMillis the longest time to wait
+     * @return true if the traces were written in time
+     */
+    boolean flush(long timeoutMillis) {
+        long target = accepted.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (done.get() < target) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of traces dropped because the buffer was full
+     */
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Write the traces still waiting, then stop the writer thread.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Thread current;
+        synchronized (this) {
+            current = thread;
+        }
+        if (current == null) {
+            drain(queue.poll());
+        }
+    }
+
+    private synchronized void start() {
+        if (thread == null) {
+            thread = new Thread(this::run, "smartsheet-trace-writer");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    private void run() {
+        while (!closed || !queue.isEmpty()) {
+            Supplier<String> trace;
+            try {
+                trace = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (trace != null) {
+                drain(trace);
+            }
+        }
+    }
+
+    /**
+     * Write a trace and any others waiting, then flush. They count as done only once flushed.
+     */
+    private void drain(Supplier<String> first) {
+        int written = 0;
+        for (Supplier<String> trace = first; trace != null; trace = queue.poll()) {
+            try {
+                writer.println(trace.get());
+            } catch (RuntimeException e) {
+                writer.println("failed to format trace: " + e);
+            }
+            written++;
+        }
+        writer.flush();
+        done.addAndGet(written);
+    }
+}
@@ -16,13 +16,17 @@
 
 package com.smartsheet.api.internal.http;
 
+import com.smartsheet.api.CallOptions;
 import com.smartsheet.api.Trace;
 import com.smartsheet.api.internal.json.JacksonJsonSerializer;
 import com.smartsheet.api.internal.json.JsonSerializer;
+import com.smartsheet.api.internal.tracing.Tracing;
 import com.smartsheet.api.internal.util.StreamUtil;
 import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.metrics.SmartsheetMetrics;
 import com.smartsheet.api.models.Error;
-import org.apache.http.Header;
+import com.smartsheet.api.tracing.SmartsheetTracer;
+import com.smartsheet.api.tracing.TraceSpan;
 import org.apache.http.NoHttpResponseException;
 import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.NonRepeatableRequestException;
@@ -46,15 +50,20 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintWriter;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This is the Apache HttpClient based HttpClient implementation.
@@ -88,9 +97,15 @@ public class DefaultHttpClient implements HttpClient {
     private final CloseableHttpClient httpClient;
 
     /**
-     * The apache http response.
+     * The last response each thread received and has not released, for {@link #releaseConnection()}. Responses hold
+     * their own connection, so that requests may run concurrently.
      */
-    private CloseableHttpResponse apacheHttpResponse;
+    private final ThreadLocal<HttpResponse> unreleasedResponse = new ThreadLocal<>();
+
+    /**
+     * Trips when the call whose backoff the calling thread waits out is cancelled, if the call can be.
+     */
+    private final ThreadLocal<CountDownLatch> backoffCancelled = new ThreadLocal<>();
 
     /**
      * to avoid creating new sets for each call (we use Sets for practical and perf reasons)
@@ -110,13 +125,31 @@ public class DefaultHttpClient implements HttpClient {
     // empty by default
     private static final Set<Trace> TRACE_DEFAULT_TRACE_SET = Trace.parse(System.getProperty("Smartsheet.trace.parts"));
 
+    // 1.0 (trace every request) by default
+    private static final double TRACE_SAMPLE_RATE_DEFAULT = Double.parseDouble(System.getProperty("Smartsheet.trace.sampleRate", "1.0"));
+
     /**
-     * where to send trace logs
+     * where to send trace logs (written on a background thread)
      */
-    private static PrintWriter traceWriter;
+    private static volatile AsyncTraceWriter traceWriter;
 
     private final Random random = new Random();
 
+    /**
+     * where to report request metrics (null when disabled)
+     */
+    private volatile SmartsheetMetrics metrics;
+
+    /**
+     * the limiter of requests in flight (null when disabled)
+     */
+    private volatile AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    /**
+     * the tracer to create a span for each attempt and backoff with (null when disabled)
+     */
+    private volatile SmartsheetTracer tracer;
+
     static {
         // default trace stream
         setTraceStream(System.out);
@@ -135,6 +168,16 @@ public class DefaultHttpClient implements HttpClient {
      */
     private boolean tracePrettyPrint = TRACE_PRETTY_PRINT_DEFAULT;
 
+    /**
+     * the fraction of successful requests to trace-log (failed requests are always traced)
+     */
+    private volatile double traceSampleRate = TRACE_SAMPLE_RATE_DEFAULT;
+
+    /**
+     * whether a subclass overrides logRequest, and so needs the request and response entities on every request
+     */
+    private final boolean customLogRequest = overridesLogRequest(getClass());
+
     private static final String LOG_ARG = "{}";
     private static final String ERROR_OCCURRED = "Error occurred.";
 
@@ -172,9 +215,13 @@ public class DefaultHttpClient implements HttpClient {
     public void logRequest(HttpRequestBase request, HttpEntitySnapshot requestEntity,
                            HttpResponse response, HttpEntitySnapshot responseEntity, long durationMillis) throws IOException {
 
-        logger.info("{} {}, Response Code:{}, Request completed in {} ms", request.getMethod(), request.getURI(),
-                response.getStatusCode(), durationMillis);
-        logger.debug(LOG_ARG, RequestAndResponseData.of(request, requestEntity, response, responseEntity, REQUEST_RESPONSE_SUMMARY));
+        if (logger.isInfoEnabled()) {
+            logger.info("{} {}, Response Code:{}, Request completed in {} ms", request.getMethod(), request.getURI(),
+                    response.getStatusCode(), durationMillis);
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug(LOG_ARG, RequestAndResponseData.of(request, requestEntity, response, responseEntity, REQUEST_RESPONSE_SUMMARY));
+        }
     }
 
     /**
@@ -195,39 +242,28 @@ public class DefaultHttpClient implements HttpClient {
         HttpRequestBase apacheHttpRequest;
         HttpResponse smartsheetResponse;
 
-        InputStream bodyStream = null;
-        if (smartsheetRequest.getEntity() != null && smartsheetRequest.getEntity().getContent() != null) {
-            bodyStream = smartsheetRequest.getEntity().getContent();
-        }
         // the retry logic will consume the body stream so we make sure it supports mark/reset and mark it
+        InputStream bodyStream = markableBody(smartsheetRequest);
         boolean canRetryRequest = bodyStream == null || bodyStream.markSupported();
-        if (!canRetryRequest) {
-            try {
-                // attempt to wrap the body stream in a input-stream that does support mark/reset
-                bodyStream = new ByteArrayInputStream(StreamUtil.readBytesFromStream(bodyStream));
-                // close the old stream (just to be tidy) and then replace it with a reset-able stream
-                smartsheetRequest.getEntity().getContent().close();
-                smartsheetRequest.getEntity().setContent(bodyStream);
-                canRetryRequest = true;
-            } catch (IOException ignore) {
-            }
-        }
+
+        SmartsheetMetrics metrics = this.metrics;
+        AdaptiveConcurrencyLimiter limiter = this.concurrencyLimiter;
+        // the entities are only copied when something will log them; failures copy what they need when they happen
+        boolean captureEntities = customLogRequest || !traces.isEmpty() || logger.isDebugEnabled();
 
         // the retry loop
         while (true) {
             int attempt = 0;
+            smartsheetRequest.checkCallOptions(null);
             apacheHttpRequest = createApacheRequest(smartsheetRequest);
+            applyDeadline(smartsheetRequest, apacheHttpRequest);
 
             // Set HTTP headers
-            if (smartsheetRequest.getHeaders() != null) {
-                for (Map.Entry<String, String> header : smartsheetRequest.getHeaders().entrySet()) {
-                    apacheHttpRequest.addHeader(header.getKey(), header.getValue());
-                }
-            }
+            addHeaders(smartsheetRequest, apacheHttpRequest);
 
             HttpEntitySnapshot responseEntityCopy = null;
             // Set HTTP entity
-            HttpEntitySnapshot requestEntityCopy = copyRequestEntity(smartsheetRequest, apacheHttpRequest);
+            HttpEntitySnapshot requestEntityCopy = copyRequestEntity(smartsheetRequest, apacheHttpRequest, captureEntities);
 
             // mark the body so we can reset on retry
             if (canRetryRequest && bodyStream != null) {
@@ -237,45 +273,49 @@ public class DefaultHttpClient implements HttpClient {
             // Make the HTTP request
             smartsheetResponse = new HttpResponse();
             HttpContext context = new BasicHttpContext();
+            TraceSpan attemptSpan = Tracing.start(tracer, SmartsheetTracer.SPAN_HTTP_ATTEMPT);
+            // waiting for a slot, if limited, is not part of the attempt's duration
+            boolean holdsSlot = acquireSlot(limiter, smartsheetRequest);
+            // the response holds the aborts until it is released, so that they reach the reading of its body
+            AttemptConnection connection = abortOnCancelOrDeadline(smartsheetRequest, apacheHttpRequest);
+            smartsheetResponse.setConnection(connection);
+            boolean completed = false;
+            boolean recorded = false;
+            long startNanos = System.nanoTime();
             try {
-                long startTime = System.currentTimeMillis();
-                apacheHttpResponse = this.httpClient.execute(apacheHttpRequest, context);
-                long endTime = System.currentTimeMillis();
+                connection.response = this.httpClient.execute(apacheHttpRequest, context);
+                long durationNanos = System.nanoTime() - startNanos;
+                unreleasedResponse.set(smartsheetResponse);
 
-                HttpEntitySnapshot newResponseCopy = updateWithResponse(apacheHttpRequest, context, smartsheetResponse);
+                HttpEntitySnapshot newResponseCopy = updateWithResponse(apacheHttpRequest, connection.response, context,
+                        smartsheetResponse, captureEntities);
                 if (newResponseCopy != null) {
                     responseEntityCopy = newResponseCopy;
                 }
 
-                long responseTime = endTime - startTime;
-                logRequest(apacheHttpRequest, requestEntityCopy, smartsheetResponse, responseEntityCopy, responseTime);
-
-                // trace-logging of request and response (if so configured)
-                if (traces.size() > 0) {
-                    RequestAndResponseData requestAndResponseData = RequestAndResponseData.of(apacheHttpRequest,
-                            requestEntityCopy, smartsheetResponse, responseEntityCopy, traces);
-                    traceWriter.println(requestAndResponseData.toString(tracePrettyPrint));
-                }
+                recordAttempt(metrics, attemptSpan, smartsheetRequest, smartsheetResponse, durationNanos);
+                recorded = true;
+                logAndTrace(apacheHttpRequest, requestEntityCopy, smartsheetResponse, responseEntityCopy, durationNanos);
 
                 if (smartsheetResponse.getStatusCode() == 200) {
+                    holdsSlot = releaseSlot(limiter, holdsSlot, durationNanos, AdaptiveConcurrencyLimiter.Signal.SUCCESS);
                     // call successful, exit the retry loop
+                    completed = true;
                     break;
                 }
 
                 // the retry logic might consume the content stream so we make sure it supports mark/reset and mark it
-                InputStream contentStream = smartsheetResponse.getEntity().getContent();
-                if (!contentStream.markSupported()) {
-                    // wrap the response stream in a input-stream that does support mark/reset
-                    contentStream = new ByteArrayInputStream(StreamUtil.readBytesFromStream(contentStream));
-                    // close the old stream (just to be tidy) and then replace it with a reset-able stream
-                    smartsheetResponse.getEntity().getContent().close();
-                    smartsheetResponse.getEntity().setContent(contentStream);
-                }
+                InputStream contentStream = markableContent(smartsheetResponse);
                 try {
                     contentStream.mark((int) smartsheetResponse.getEntity().getContentLength());
-                    long timeSpent = System.currentTimeMillis() - start;
-                    if (!shouldRetry(++attempt, timeSpent, smartsheetResponse)) {
+                    int errorCode = limiter != null || attemptSpan != null ? peekErrorCode(smartsheetResponse) : 0;
+                    // the slot is released before backing off, which must not hold it
+                    holdsSlot = releaseSlot(limiter, holdsSlot, durationNanos, signalOf(errorCode));
+                    long timeSpent = retryTimeSpent(smartsheetRequest, System.currentTimeMillis() - start);
+                    if (!shouldRetryMetered(++attempt, timeSpent, smartsheetResponse, errorCode, smartsheetRequest, metrics,
+                            attemptSpan)) {
                         // should not retry, or retry time exceeded, exit the retry loop
+                        completed = true;
                         break;
                     }
                 } finally {
@@ -285,12 +325,12 @@ public class DefaultHttpClient implements HttpClient {
                     contentStream.reset();
                 }
                 // moving this to finally causes issues because socket is closed (which means response stream is closed)
-                this.releaseConnection();
+                this.releaseConnection(smartsheetResponse);
 
             } catch (ClientProtocolException e) {
                 logger.warn("ClientProtocolException " + e.getMessage());
-                logger.warn(LOG_ARG, RequestAndResponseData.of(apacheHttpRequest, requestEntityCopy, smartsheetResponse,
-                        responseEntityCopy, REQUEST_RESPONSE_SUMMARY));
+                Tracing.fail(attemptSpan, e);
+                logFailure(apacheHttpRequest, smartsheetRequest, requestEntityCopy, smartsheetResponse, responseEntityCopy);
                 try {
                     // if this is a PUT and was retried by the http client, the body content stream is at the
                     // end and is a NonRepeatableRequest. If we marked the body content stream prior to execute,
@@ -306,8 +346,8 @@ public class DefaultHttpClient implements HttpClient {
                 throw new HttpClientException(ERROR_OCCURRED, e);
             } catch (NoHttpResponseException e) {
                 logger.warn("NoHttpResponseException {}", e.getMessage());
-                logger.warn(LOG_ARG, RequestAndResponseData.of(apacheHttpRequest, requestEntityCopy, smartsheetResponse,
-                        responseEntityCopy, REQUEST_RESPONSE_SUMMARY));
+                Tracing.fail(attemptSpan, e);
+                logFailure(apacheHttpRequest, smartsheetRequest, requestEntityCopy, smartsheetResponse, responseEntityCopy);
                 try {
                     // check to see if the response was empty and this was a POST. All other HTTP methods
                     // will be automatically retried by the http client.
@@ -322,23 +362,321 @@ public class DefaultHttpClient implements HttpClient {
                 }
                 throw new HttpClientException(ERROR_OCCURRED, e);
             } catch (IOException e) {
-                logger.warn(LOG_ARG, RequestAndResponseData.of(apacheHttpRequest, requestEntityCopy, smartsheetResponse,
-                        responseEntityCopy, REQUEST_RESPONSE_SUMMARY));
+                Tracing.fail(attemptSpan, e);
+                logFailure(apacheHttpRequest, smartsheetRequest, requestEntityCopy, smartsheetResponse, responseEntityCopy);
+                // a timeout or abort caused by the call's options
+                smartsheetRequest.checkCallOptions(e);
                 throw new HttpClientException(ERROR_OCCURRED, e);
+            } finally {
+                if (!recorded) {
+                    // a failed attempt (I/O error, timeout or abort) is recorded with status 0 unless headers arrived
+                    recordAttempt(metrics, attemptSpan, smartsheetRequest, smartsheetResponse, System.nanoTime() - startNanos);
+                }
+                if (!completed) {
+                    releaseConnection(smartsheetResponse);
+                }
+                releaseSlot(limiter, holdsSlot, 0, AdaptiveConcurrencyLimiter.Signal.IGNORE);
+                Tracing.end(attemptSpan);
             }
         }
         return smartsheetResponse;
     }
 
-    private HttpEntitySnapshot copyRequestEntity(HttpRequest smartsheetRequest, HttpRequestBase apacheHttpRequest) {
+    private static boolean acquireSlot(AdaptiveConcurrencyLimiter limiter, HttpRequest request) throws HttpClientException {
+        if (limiter == null) {
+            return false;
+        }
+        try {
+            if (request.getCallOptions() == null) {
+                limiter.acquire();
+            } else if (!limiter.tryAcquire(request.getCallOptions().remainingNanos(request.getCallStartNanos()),
+                    TimeUnit.NANOSECONDS)) {
+                throw new DeadlineExceededException("The call's deadline passed while waiting to send the request", null);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HttpClientException("Interrupted while waiting to send a request", e);
+        }
+    }
+
+    /**
+     * Abort a request if its call gets cancelled, or runs out of time, until its response is released.
+     *
+     * @return what the response holds until it is released
+     */
+    private static AttemptConnection abortOnCancelOrDeadline(HttpRequest request, HttpRequestBase apacheHttpRequest) {
+        CallOptions callOptions = request.getCallOptions();
+        if (callOptions == null) {
+            return new AttemptConnection(null, null, null);
+        }
+        Runnable abort = apacheHttpRequest::abort;
+        callOptions.addCancelListener(abort);
+        long remainingNanos = callOptions.remainingNanos(request.getCallStartNanos());
+        ScheduledFuture<?> deadlineAbort = remainingNanos == Long.MAX_VALUE ? null
+                : DeadlineTimer.TIMER.schedule(abort, Math.max(0, remainingNanos), TimeUnit.NANOSECONDS);
+        return new AttemptConnection(callOptions, abort, deadlineAbort);
+    }
+
+    /**
+     * Bound the connection lease, connect and socket timeouts of a request by the time left before its call's
+     * deadline.
+     */
+    private static void applyDeadline(HttpRequest request, HttpRequestBase apacheHttpRequest) {
+        CallOptions callOptions = request.getCallOptions();
+        long remainingNanos = callOptions == null ? Long.MAX_VALUE : callOptions.remainingNanos(request.getCallStartNanos());
+        if (remainingNanos == Long.MAX_VALUE) {
+            return;
+        }
+        // rounded up, so that a timeout means the deadline has passed
+        int remainingMillis = (int) Math.max(1, Math.min(Integer.MAX_VALUE, (remainingNanos + 999_999) / 1_000_000));
+        RequestConfig config = apacheHttpRequest.getConfig() == null ? RequestConfig.DEFAULT : apacheHttpRequest.getConfig();
+        apacheHttpRequest.setConfig(RequestConfig.copy(config)
+                .setConnectionRequestTimeout(bound(config.getConnectionRequestTimeout(), remainingMillis))
+                .setConnectTimeout(bound(config.getConnectTimeout(), remainingMillis))
+                .setSocketTimeout(bound(config.getSocketTimeout(), remainingMillis))
+                .build());
+    }
+
+    private static int bound(int timeoutMillis, int remainingMillis) {
+        // zero or less is no timeout
+        return timeoutMillis > 0 ? Math.min(timeoutMillis, remainingMillis) : remainingMillis;
+    }
+
+    /**
+     * The time spent, as the retry logic is told: when the call's deadline is nearer than the max retry time, as if
+     * the call had already used up the difference, so that no backoff runs past the deadline.
+     */
+    private long retryTimeSpent(HttpRequest request, long timeSpentMillis) {
+        CallOptions callOptions = request.getCallOptions();
+        if (callOptions == null) {
+            return timeSpentMillis;
+        }
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(callOptions.remainingNanos(request.getCallStartNanos()));
+        return Math.max(timeSpentMillis, maxRetryTimeMillis - remainingMillis);
+    }
+
+    /**
+     * Release the slot of a request, if it holds one.
+     *
+     * @return false, the request no longer holds a slot
+     */
+    private static boolean releaseSlot(AdaptiveConcurrencyLimiter limiter, boolean holdsSlot, long durationNanos,
+                                       AdaptiveConcurrencyLimiter.Signal signal) {
+        if (holdsSlot) {
+            limiter.release(durationNanos, signal);
+        }
+        return false;
+    }
+
+    private static AdaptiveConcurrencyLimiter.Signal signalOf(int errorCode) {
+        switch (errorCode) {
+            case 4002:
+            case 4003:
+            case 4004:
+                return AdaptiveConcurrencyLimiter.Signal.OVERLOAD;
+            case 4001:
+                // offline for maintenance, which says nothing about the load
+                return AdaptiveConcurrencyLimiter.Signal.IGNORE;
+            default:
+                return AdaptiveConcurrencyLimiter.Signal.SUCCESS;
+        }
+    }
+
+    private void logAndTrace(HttpRequestBase request, HttpEntitySnapshot requestEntity, HttpResponse response,
+                             HttpEntitySnapshot responseEntity, long durationNanos) throws IOException {
+        if (customLogRequest || logger.isInfoEnabled()) {
+            logRequest(request, requestEntity, response, responseEntity, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        }
+        // trace-logging of request and response (if so configured); failures are always traced, successes are sampled
+        if (!traces.isEmpty() && (response.getStatusCode() != 200 || isSampled())) {
+            Set<Trace> parts = Set.copyOf(traces);
+            boolean pretty = tracePrettyPrint;
+            traceWriter.write(() -> RequestAndResponseData.of(request, requestEntity, response, responseEntity, parts).toString(pretty));
+        }
+    }
+
+    private boolean isSampled() {
+        double rate = traceSampleRate;
+        return rate >= 1 || rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    /**
+     * Log a failed request at WARN, copying the request body now if it wasn't copied before sending.
+     */
+    private void logFailure(HttpRequestBase request, HttpRequest smartsheetRequest, HttpEntitySnapshot requestEntity,
+                            HttpResponse response, HttpEntitySnapshot responseEntity) {
+        if (logger.isWarnEnabled()) {
+            HttpEntitySnapshot requestCopy = requestEntity == null ? snapshotSentEntity(smartsheetRequest, request) : requestEntity;
+            logger.warn(LOG_ARG, RequestAndResponseData.of(request, requestCopy, response, responseEntity, REQUEST_RESPONSE_SUMMARY));
+        }
+    }
+
+    /**
+     * Copy a request body that was sent, if its stream can be reset to the start.
+     */
+    private static HttpEntitySnapshot snapshotSentEntity(HttpRequest smartsheetRequest, HttpRequestBase request) {
+        HttpEntity entity = smartsheetRequest.getEntity();
+        if (!(request instanceof HttpEntityEnclosingRequestBase) || entity == null || entity.getContent() == null ||
+                !entity.getContent().markSupported()) {
+            return null;
+        }
+        try {
+            // back to the mark set before sending
+            entity.getContent().reset();
+            return new HttpEntitySnapshot(entity);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static boolean overridesLogRequest(Class<?> type) {
+        try {
+            return type.getMethod("logRequest", HttpRequestBase.class, HttpEntitySnapshot.class, HttpResponse.class,
+                    HttpEntitySnapshot.class, long.class).getDeclaringClass() != DefaultHttpClient.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    private static void addHeaders(HttpRequest smartsheetRequest, HttpRequestBase apacheHttpRequest) {
+        if (smartsheetRequest.getHeaders() != null) {
+            for (Map.Entry<String, String> header : smartsheetRequest.getHeaders().entrySet()) {
+                apacheHttpRequest.addHeader(header.getKey(), header.getValue());
+            }
+        }
+    }
+
+    private static InputStream markableBody(HttpRequest smartsheetRequest) {
+        if (smartsheetRequest.getEntity() == null || smartsheetRequest.getEntity().getContent() == null) {
+            return null;
+        }
+        InputStream bodyStream = smartsheetRequest.getEntity().getContent();
+        if (!bodyStream.markSupported()) {
+            try {
+                // attempt to wrap the body stream in a input-stream that does support mark/reset
+                bodyStream = new ByteArrayInputStream(StreamUtil.readBytesFromStream(bodyStream));
+                // close the old stream (just to be tidy) and then replace it with a reset-able stream
+                smartsheetRequest.getEntity().getContent().close();
+                smartsheetRequest.getEntity().setContent(bodyStream);
+            } catch (IOException ignore) {
+            }
+        }
+        return bodyStream;
+    }
+
+    private static InputStream markableContent(HttpResponse response) throws IOException {
+        InputStream contentStream = response.getEntity().getContent();
+        if (!contentStream.markSupported()) {
+            // wrap the response stream in a input-stream that does support mark/reset
+            contentStream = new ByteArrayInputStream(StreamUtil.readBytesFromStream(contentStream));
+            // close the old stream (just to be tidy) and then replace it with a reset-able stream
+            response.getEntity().getContent().close();
+            response.getEntity().setContent(contentStream);
+        }
+        return contentStream;
+    }
+
+    private static void recordAttempt(SmartsheetMetrics metrics, TraceSpan span, HttpRequest request, HttpResponse response,
+                                      long durationNanos) {
+        if (metrics == null && span == null) {
+            return;
+        }
+        String route = RouteNormalizer.normalize(request.getMethod(), request.getUri());
+        long requestBytes = request.getEntity() == null ? -1 : request.getEntity().getContentLength();
+        long responseBytes = response.getEntity() == null ? -1 : response.getEntity().getContentLength();
+        if (metrics != null) {
+            metrics.recordRequest(route, response.getStatusCode(), durationNanos, requestBytes, responseBytes);
+        }
+        if (span != null) {
+            span.setAttribute(SmartsheetTracer.ATTR_ROUTE, route);
+            span.setAttribute(SmartsheetTracer.ATTR_STATUS, response.getStatusCode());
+            span.setAttribute(SmartsheetTracer.ATTR_REQUEST_BYTES, requestBytes);
+            span.setAttribute(SmartsheetTracer.ATTR_RESPONSE_BYTES, responseBytes);
+        }
+    }
+
+    /**
+     * Call {@link #shouldRetry(int, long, HttpResponse)}, reporting a retry and the time taken (mostly backoff). When
+     * tracing, the attempt span gets the error code and ends, and a retryable error gets a backoff span. The backoff
+     * ends early, failing the call, if the call gets cancelled.
+     */
+    private boolean shouldRetryMetered(int previousAttempts, long totalElapsedTimeMillis, HttpResponse response, int errorCode,
+                                       HttpRequest request, SmartsheetMetrics metrics, TraceSpan attemptSpan)
+            throws RequestCancelledException {
+        TraceSpan backoffSpan = null;
+        if (attemptSpan != null) {
+            if (errorCode != 0) {
+                attemptSpan.setAttribute(SmartsheetTracer.ATTR_ERROR_CODE, errorCode);
+            }
+            attemptSpan.end();
+            if (isRetryable(errorCode)) {
+                backoffSpan = Tracing.start(tracer, SmartsheetTracer.SPAN_HTTP_BACKOFF);
+            }
+        }
+        // the backoff ends early if the call gets cancelled
+        CallOptions callOptions = request.getCallOptions();
+        CountDownLatch cancelled = new CountDownLatch(1);
+        Runnable wake = cancelled::countDown;
+        if (callOptions != null) {
+            callOptions.addCancelListener(wake);
+            backoffCancelled.set(cancelled);
+        }
+        long startNanos = System.nanoTime();
+        boolean retry;
+        try {
+            retry = shouldRetry(previousAttempts, totalElapsedTimeMillis, response);
+        } finally {
+            Tracing.end(backoffSpan);
+            if (callOptions != null) {
+                callOptions.removeCancelListener(wake);
+                backoffCancelled.remove();
+            }
+        }
+        if (!retry && cancelled.getCount() == 0) {
+            throw new RequestCancelledException("The call was cancelled while backing off", null);
+        }
+        if (retry && metrics != null) {
+            metrics.recordRetry(RouteNormalizer.normalize(request.getMethod(), request.getUri()), System.nanoTime() - startNanos);
+        }
+        return retry;
+    }
+
+    /**
+     * Read the Smartsheet error code from a (marked) error response, leaving the content to be read again.
+     *
+     * @return the error code, or 0 if the response has none
+     */
+    private int peekErrorCode(HttpResponse response) {
+        String contentType = response.getEntity().getContentType();
+        if (contentType != null && !contentType.startsWith(JSON_MIME_TYPE)) {
+            return 0;
+        }
+        InputStream content = response.getEntity().getContent();
+        try {
+            Integer errorCode = jsonSerializer.deserialize(Error.class, content).getErrorCode();
+            return errorCode == null ? 0 : errorCode;
+        } catch (IOException | RuntimeException e) {
+            return 0;
+        } finally {
+            try {
+                content.reset();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+
+    private HttpEntitySnapshot copyRequestEntity(HttpRequest smartsheetRequest, HttpRequestBase apacheHttpRequest, boolean capture) {
         final HttpEntity entity = smartsheetRequest.getEntity();
         HttpEntitySnapshot requestEntityCopy = null;
         if (apacheHttpRequest instanceof HttpEntityEnclosingRequestBase && entity != null && entity.getContent() != null) {
-            try {
-                // we need access to the original request stream so we can log it (in the event of errors and/or tracing)
-                requestEntityCopy = new HttpEntitySnapshot(entity);
-            } catch (IOException iox) {
-                logger.error("failed to make copy of original request entity", iox);
+            if (capture) {
+                try {
+                    // we need access to the original request stream so we can log it (in the event of errors and/or tracing)
+                    requestEntityCopy = new HttpEntitySnapshot(entity);
+                } catch (IOException iox) {
+                    logger.error("failed to make copy of original request entity", iox);
+                }
             }
 
             InputStreamEntity streamEntity = new InputStreamEntity(entity.getContent(), entity.getContentLength());
@@ -350,8 +688,9 @@ public class DefaultHttpClient implements HttpClient {
     }
 
     @Nullable
-    private HttpEntitySnapshot updateWithResponse(HttpRequestBase apacheHttpRequest, HttpContext context,
-                                                  HttpResponse smartsheetResponse) throws IOException {
+    private HttpEntitySnapshot updateWithResponse(HttpRequestBase apacheHttpRequest, CloseableHttpResponse apacheHttpResponse,
+                                                  HttpContext context, HttpResponse smartsheetResponse, boolean capture)
+            throws IOException {
         // Set request headers to values ACTUALLY SENT (not just created by us), this would include:
         // 'Connection', 'Accept-Encoding', etc. However, if a proxy is used, this may be the proxy's CONNECT
         // request, hence the test for HTTP method first
@@ -370,11 +709,8 @@ public class DefaultHttpClient implements HttpClient {
             }
         }
 
-        // Set returned headers
-        smartsheetResponse.setHeaders(new HashMap<>());
-        for (Header header : apacheHttpResponse.getAllHeaders()) {
-            smartsheetResponse.getHeaders().put(header.getName(), header.getValue());
-        }
+        // Set returned headers; they are only copied into a map if something reads them
+        smartsheetResponse.setHeaders(HeaderMap.of(apacheHttpResponse.getAllHeaders()));
         smartsheetResponse.setStatus(apacheHttpResponse.getStatusLine().getStatusCode(),
                 apacheHttpResponse.getStatusLine().toString());
 
@@ -385,7 +721,7 @@ public class DefaultHttpClient implements HttpClient {
             httpEntity.setContentLength(apacheHttpResponse.getEntity().getContentLength());
             httpEntity.setContent(apacheHttpResponse.getEntity().getContent());
             smartsheetResponse.setEntity(httpEntity);
-            return new HttpEntitySnapshot(httpEntity);
+            return capture ? new HttpEntitySnapshot(httpEntity) : null;
         }
 
         return null;
@@ -429,6 +765,44 @@ public class DefaultHttpClient implements HttpClient {
         return apacheHttpRequest;
     }
 
+    /**
+     * Set where to report the duration, status and size of each request attempt, and the retries.
+     *
+     * @param metrics the metrics, or null to disable reporting
+     */
+    public void setMetrics(SmartsheetMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Set the limiter that adapts the number of requests in flight to the API's latency and overload errors; requests
+     * over the limit wait for a slot before being sent. Backoff before a retry does not hold a slot.
+     *
+     * @param concurrencyLimiter the limiter, or null to send requests without limit
+     */
+    public void setConcurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    /**
+     * Get the concurrency limiter.
+     *
+     * @return the limiter, or null if requests are sent without limit
+     */
+    public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * Set the tracer to create a span with for each request attempt and each backoff before a retry. The spans are
+     * children of the span of the resource method making the request, if any.
+     *
+     * @param tracer the tracer, or null to disable tracing
+     */
+    public void setTracer(SmartsheetTracer tracer) {
+        this.tracer = tracer;
+    }
+
     /**
      * Set the max retry time for API calls which fail and are retry-able.
      */
@@ -458,6 +832,23 @@ public class DefaultHttpClient implements HttpClient {
         return backoffMillis;
     }
 
+    private static boolean isRetryable(int errorCode) {
+        switch (errorCode) {
+            case 4001:
+                // Smartsheet.com is currently offline for system maintenance. Please check back again shortly.
+            case 4002:
+                // Server timeout exceeded. Request has failed
+            case 4003:
+                // Rate limit exceeded.
+            case 4004:
+                // An unexpected error has occurred. Please retry your request
+                // If you encounter this error repeatedly, please contact api@smartsheet.com for assistance
+                return true;
+            default:
+                return false;
+        }
+    }
+
     /**
      * Called when an API request fails to determine if it can retry the request.
      * Calls calcBackoff to determine the time to wait in between retries.
@@ -479,19 +870,8 @@ public class DefaultHttpClient implements HttpClient {
         } catch (IOException e) {
             return false;
         }
-        switch (error.getErrorCode()) {
-            case 4001:
-                // Smartsheet.com is currently offline for system maintenance. Please check back again shortly.
-            case 4002:
-                // Server timeout exceeded. Request has failed
-            case 4003:
-                // Rate limit exceeded.
-            case 4004:
-                // An unexpected error has occurred. Please retry your request
-                // If you encounter this error repeatedly, please contact api@smartsheet.com for assistance
-                break;
-            default:
-                return false;
+        if (!isRetryable(error.getErrorCode())) {
+            return false;
         }
 
         long backoffMillis = calcBackoff(previousAttempts, totalElapsedTimeMillis, error);
@@ -501,7 +881,13 @@ public class DefaultHttpClient implements HttpClient {
 
         logger.info("HttpError StatusCode={}: Retrying in {} milliseconds", response.getStatusCode(), backoffMillis);
         try {
-            Thread.sleep(backoffMillis);
+            CountDownLatch cancelled = backoffCancelled.get();
+            if (cancelled == null) {
+                Thread.sleep(backoffMillis);
+            } else if (cancelled.await(backoffMillis, TimeUnit.MILLISECONDS)) {
+                // the call was cancelled
+                return false;
+            }
         } catch (InterruptedException e) {
             logger.warn("sleep interrupted", e);
             return false;
@@ -524,13 +910,26 @@ public class DefaultHttpClient implements HttpClient {
      */
     @Override
     public void releaseConnection() {
-        if (apacheHttpResponse != null) {
-            try {
-                apacheHttpResponse.close();
-                apacheHttpResponse = null;
-            } catch (IOException e) {
-                logger.error("error closing Apache HttpResponse", e);
-            }
+        releaseConnection(unreleasedResponse.get());
+    }
+
+    /**
+     * Release the connection a response is read from, if it has not been already.
+     *
+     * @param response the response, or null if there is none
+     */
+    @Override
+    public void releaseConnection(HttpResponse response) {
+        if (response == null) {
+            return;
+        }
+        if (unreleasedResponse.get() == response) {
+            unreleasedResponse.remove();
+        }
+        try {
+            response.releaseConnection();
+        } catch (IOException e) {
+            logger.error("error closing Apache HttpResponse", e);
         }
     }
 
@@ -557,10 +956,94 @@ public class DefaultHttpClient implements HttpClient {
         tracePrettyPrint = pretty;
     }
 
+    /**
+     * set the fraction of successful requests to trace-log; failed requests are always traced. The default is 1 (or
+     * the "Smartsheet.trace.sampleRate" system property).
+     *
+     * @param sampleRate the fraction, from 0 to 1
+     */
+    public void setTraceSampleRate(double sampleRate) {
+        if (!(sampleRate >= 0 && sampleRate <= 1)) {
+            throw new IllegalArgumentException("sampleRate must be between 0 and 1");
+        }
+        traceSampleRate = sampleRate;
+    }
+
     /**
      * only included for testing purposes
      */
     public static void setTraceStream(OutputStream traceStream) {
-        traceWriter = new PrintWriter(traceStream, true);
+        AsyncTraceWriter previous = traceWriter;
+        traceWriter = new AsyncTraceWriter(new PrintWriter(traceStream), AsyncTraceWriter.DEFAULT_CAPACITY);
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Wait for the trace logs queued so far to be written to the trace stream. Trace logs are written on a background
+     * thread.
+     *
+     * @param timeoutMillis the longest time to wait
+     * @return true if they were written in time
+     */
+    public static boolean flushTraces(long timeoutMillis) {
+        return traceWriter.flush(timeoutMillis);
+    }
+
+    /**
+     * Return the number of trace logs dropped because they were produced faster than they could be written (the
+     * buffer size can be set with the "Smartsheet.trace.bufferSize" system property).
+     *
+     * @return the number of dropped trace logs
+     */
+    public static long getDroppedTraceCount() {
+        return traceWriter.getDroppedCount();
+    }
+
+    /**
+     * What an attempt holds until its response is released: the connection the response is read from, and the aborts
+     * which make the call's cancellation and deadline reach the reading of the response.
+     */
+    private static final class AttemptConnection implements Closeable {
+        private final CallOptions callOptions;
+        private final Runnable abort;
+        private final ScheduledFuture<?> deadlineAbort;
+        private CloseableHttpResponse response;
+
+        private AttemptConnection(CallOptions callOptions, Runnable abort, ScheduledFuture<?> deadlineAbort) {
+            this.callOptions = callOptions;
+            this.abort = abort;
+            this.deadlineAbort = deadlineAbort;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (callOptions != null) {
+                callOptions.removeCancelListener(abort);
+            }
+            if (deadlineAbort != null) {
+                deadlineAbort.cancel(false);
+            }
+            if (response != null) {
+                response.close();
+            }
+        }
+    }
+
+    /**
+     * Aborts the requests whose call runs out of time; created on first use.
+     */
+    private static final class DeadlineTimer {
+        private static final ScheduledThreadPoolExecutor TIMER = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread timer = new Thread(runnable, "smartsheet-deadline");
+            timer.setDaemon(true);
+            return timer;
+        });
+
+        static {
+            // most requests complete well before their deadline
+            TIMER.setRemoveOnCancelPolicy(true);
+        }
     }
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+import org.apache.http.Header;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * A map of HTTP headers that is only built when it is needed: either a shared, read-only template that is copied
+ * on the first change, or the headers of an Apache response that are only copied into a map when first read. Most
+ * requests are sent with the template unchanged and most responses' headers are never read, so neither is copied.
+ * <p>
+ * Thread Safety: This class is not thread safe since it's mutable (the template it is created from must not change),
+ * but headers that aren't changed may be read from several threads, e.g. a response's by the caller and the trace
+ * writer: the copy made on first read is only published once complete.
+ */
+public final class HeaderMap extends AbstractMap<String, String> {
+    private final Map<String, String> template;
+    private final Header[] headers;
+    private final EntrySet entrySet = new EntrySet();
+
+    /**
+     * The headers' own map, once copied from the Apache headers or the template.
+     */
+    private volatile Map<String, String> own;
+
+    private HeaderMap(Map<String, String> template, Header[] headers) {
+        this.template = template;
+        this.headers = headers;
+    }
+
+    /**
+     * Create headers that read from a template until they are changed.
+     *
+     * @param template the template, which must not change
+     * @return the headers
+     */
+    public static HeaderMap copyOnWrite(Map<String, String> template) {
+        return new HeaderMap(Collections.unmodifiableMap(template), null);
+    }
+
+    /**
+     * Create headers that are copied from Apache headers when first used. A header that appears more than once
+     * keeps its last value.
+     *
+     * @param headers the Apache headers
+     * @return the headers
+     */
+    public static HeaderMap of(Header[] headers) {
+        return new HeaderMap(null, headers);
+    }
+
+    @Override
+    public String get(Object key) {
+        return read().get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return read().containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return read().size();
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        return entrySet;
+    }
+
+    @Override
+    public String put(String key, String value) {
+        return write().put(key, value);
+    }
+
+    @Override
+    public String remove(Object key) {
+        return write().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        write().clear();
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super String, ? extends String> function) {
+        write().replaceAll(function);
+    }
+
+    private Map<String, String> read() {
+        Map<String, String> current = own;
+        if (current != null) {
+            return current;
+        }
+        if (headers != null) {
+            // built before it is published; threads reading at the same time may each build an identical copy
+            Map<String, String> copy = new HashMap<>(headers.length * 2);
+            for (Header header : headers) {
+                copy.put(header.getName(), header.getValue());
+            }
+            own = copy;
+            return copy;
+        }
+        return template;
+    }
+
+    private Map<String, String> write() {
+        Map<String, String> current = read();
+        if (current == template) {
+            current = new HashMap<>(template);
+            own = current;
+        }
+        return current;
+    }
+
+    /**
+     * The entries of the headers. While they are read from the template, changes made through the set (or its key
+     * and value views), its iterator or its entries copy the template first.
+     */
+    private final class EntrySet extends AbstractSet<Map.Entry<String, String>> {
+        @Override
+        public int size() {
+            return HeaderMap.this.size();
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, String>> iterator() {
+            Map<String, String> current = read();
+            Iterator<Map.Entry<String, String>> entries = current.entrySet().iterator();
+            if (current != template) {
+                return entries;
+            }
+            return new TemplateIterator(entries);
+        }
+    }
+
+    /**
+     * Iterates the template, copying it before an entry is removed or changed.
+     */
+    private final class TemplateIterator implements Iterator<Map.Entry<String, String>> {
+        private final Iterator<Map.Entry<String, String>> entries;
+        private String lastKey;
+
+        TemplateIterator(Iterator<Map.Entry<String, String>> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return entries.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            Map.Entry<String, String> entry = entries.next();
+            lastKey = entry.getKey();
+            return new TemplateEntry(entry);
+        }
+
+        @Override
+        public void remove() {
+            if (lastKey == null) {
+                throw new IllegalStateException();
+            }
+            HeaderMap.this.remove(lastKey);
+            lastKey = null;
+        }
+    }
+
+    /**
+     * An entry of the template whose value is written to the copy.
+     */
+    private final class TemplateEntry extends SimpleEntry<String, String> {
+        private static final long serialVersionUID = 1L;
+
+        TemplateEntry(Map.Entry<String, String> entry) {
+            super(entry);
+        }
+
+        @Override
+        public String setValue(String value) {
+            super.setValue(value);
+            return HeaderMap.this.put(getKey(), value);
+        }
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * <p>A recording of HTTP interactions (request and response pairs), written by {@link RecordingHttpClient} and served
+ * back by {@link ReplayHttpClient}.</p>
+ *
+ * <p>On disk a cassette is a fixed header (magic and format) followed by a gzip-compressed stream of length-prefixed
+ * records; bodies are kept as raw bytes. The {@code Authorization} header is never recorded, and URIs are kept
+ * without scheme and host so a cassette recorded against one server can be replayed for any base URI.</p>
+ *
+ * <p>Thread Safety: This class is thread safe.</p>
+ */
+public final class HttpCassette {
+    private static final int MAGIC = 0x53534358;
+    private static final byte FORMAT = 1;
+    private static final byte RECORD = 1;
+    private static final byte END = 0;
+    private static final String AUTHORIZATION = "Authorization";
+
+    private final List<Interaction> interactions = new ArrayList<>();
+
+    /**
+     * Read a cassette from a file.
+     *
+     * @param path the file
+     * @return the cassette
+     * @throws IOException if the file can't be read or isn't a cassette
+     */
+    public static HttpCassette load(Path path) throws IOException {
+        HttpCassette cassette = new HttpCassette();
+        try (InputStream file = new BufferedInputStream(Files.newInputStream(path))) {
+            DataInputStream header = new DataInputStream(file);
+            if (header.readInt() != MAGIC || header.readByte() != FORMAT) {
+                throw new IOException(path + " is not a cassette");
+            }
+            DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(file)));
+            while (in.readByte() == RECORD) {
+                cassette.interactions.add(Interaction.read(in));
+            }
+        } catch (EOFException e) {
+            throw new IOException(path + " is truncated", e);
+        }
+        return cassette;
+    }
+
+    /**
+     * Write the cassette to a file, replacing it atomically.
+     *
+     * @param path the file
+     * @throws IOException if the file can't be written
+     */
+    public synchronized void save(Path path) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                DataOutputStream header = new DataOutputStream(file);
+                header.writeInt(MAGIC);
+                header.writeByte(FORMAT);
+                header.flush();
+                GZIPOutputStream gzip = new GZIPOutputStream(file, 8192);
+                DataOutputStream out = new DataOutputStream(gzip);
+                for (Interaction interaction : interactions) {
+                    out.writeByte(RECORD);
+                    interaction.write(out);
+                }
+                out.writeByte(END);
+                out.flush();
+                gzip.finish();
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Append an interaction.
+     *
+     * @param interaction the interaction
+     */
+    public synchronized void add(Interaction interaction) {
+        interactions.add(interaction);
+    }
+
+    /**
+     * @return the interactions, in the order they were recorded
+     */
+    public synchronized List<Interaction> getInteractions() {
+        return new ArrayList<>(interactions);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = readBytes(in);
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(value.length);
+            out.write(value);
+        }
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeHeaders(DataOutputStream out, Map<String, String> headers) throws IOException {
+        out.writeInt(headers.size());
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            writeString(out, header.getKey());
+            writeString(out, header.getValue());
+        }
+    }
+
+    private static Map<String, String> readHeaders(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            headers.put(readString(in), readString(in));
+        }
+        return headers;
+    }
+
+    /**
+     * One request and the response it got. Body arrays are shared, not copied, and must not be modified.
+     */
+    public static final class Interaction {
+        private final HttpMethod method;
+        private final String uri;
+        private final String route;
+        private final Map<String, String> requestHeaders;
+        private final byte[] requestBody;
+        private final int statusCode;
+        private final String statusText;
+        private final Map<String, String> responseHeaders;
+        private final String responseContentType;
+        private final byte[] responseBody;
+        private final long elapsedNanos;
+
+        /**
+         * Capture an interaction; the {@code Authorization} header is left out.
+         *
+         * @param request      the request
+         * @param requestBody  the request body, or null if there was none
+         * @param response     the response
+         * @param responseBody the response body, or null if there was none
+         * @param elapsedNanos the time from sending the request to having read the response body
+         */
+        public Interaction(HttpRequest request, byte[] requestBody, HttpResponse response, byte[] responseBody,
+                           long elapsedNanos) {
+            this.method = request.getMethod();
+            this.uri = relativeUri(request.getUri());
+            this.route = RouteNormalizer.normalize(method, request.getUri());
+            this.requestHeaders = new LinkedHashMap<>();
+            if (request.getHeaders() != null) {
+                for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+                    if (!AUTHORIZATION.equalsIgnoreCase(header.getKey())) {
+                        requestHeaders.put(header.getKey(), header.getValue());
+                    }
+                }
+            }
+            this.requestBody = requestBody;
+            this.statusCode = response.getStatusCode();
+            this.statusText = response.getStatusText();
+            this.responseHeaders = response.getHeaders() == null ? new LinkedHashMap<>() : new LinkedHashMap<>(response.getHeaders());
+            this.responseContentType = response.getEntity() == null ? null : response.getEntity().getContentType();
+            this.responseBody = responseBody;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        private Interaction(DataInputStream in) throws IOException {
+            this.method = parseMethod(readString(in));
+            this.uri = readString(in);
+            this.route = readString(in);
+            this.requestHeaders = readHeaders(in);
+            this.requestBody = readBytes(in);
+            this.statusCode = in.readInt();
+            this.statusText = readString(in);
+            this.responseHeaders = readHeaders(in);
+            this.responseContentType = readString(in);
+            this.responseBody = readBytes(in);
+            this.elapsedNanos = in.readLong();
+        }
+
+        static Interaction read(DataInputStream in) throws IOException {
+            return new Interaction(in);
+        }
+
+        private static HttpMethod parseMethod(String name) throws IOException {
+            for (HttpMethod method : HttpMethod.values()) {
+                if (method.name().equals(name)) {
+                    return method;
+                }
+            }
+            throw new IOException("invalid cassette record: unknown method " + name);
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            writeString(out, method.name());
+            writeString(out, uri);
+            writeString(out, route);
+            writeHeaders(out, requestHeaders);
+            writeBytes(out, requestBody);
+            out.writeInt(statusCode);
+            writeString(out, statusText);
+            writeHeaders(out, responseHeaders);
+            writeString(out, responseContentType);
+            writeBytes(out, responseBody);
+            out.writeLong(elapsedNanos);
+        }
+
+        /**
+         * The part of a URI an interaction is matched on: the raw path and query.
+         *
+         * @param uri the request URI
+         * @return the path and query
+         */
+        static String relativeUri(URI uri) {
+            String query = uri.getRawQuery();
+            return query == null ? uri.getRawPath() : uri.getRawPath() + "?" + query;
+        }
+
+        /**
+         * @return the request method
+         */
+        public HttpMethod getMethod() {
+            return method;
+        }
+
+        /**
+         * @return the raw path and query of the request, e.g. {@code /2.0/sheets/123?include=format}
+         */
+        public String getUri() {
+            return uri;
+        }
+
+        /**
+         * @return the route template of the request, e.g. {@code GET /sheets/{id}}
+         */
+        public String getRoute() {
+            return route;
+        }
+
+        /**
+         * @return the request headers, without {@code Authorization}
+         */
+        public Map<String, String> getRequestHeaders() {
+            return Collections.unmodifiableMap(requestHeaders);
+        }
+
+        /**
+         * @return the request body, or null
+         */
+        public byte[] getRequestBody() {
+            return requestBody;
+        }
+
+        /**
+         * @return the response status code
+         */
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        /**
+         * @return the response status line
+         */
+        public String getStatusText() {
+            return statusText;
+        }
+
+        /**
+         * @return the response headers
+         */
+        public Map<String, String> getResponseHeaders() {
+            return Collections.unmodifiableMap(responseHeaders);
+        }
+
+        /**
+         * @return the content type of the response body, or null
+         */
+        public String getResponseContentType() {
+            return responseContentType;
+        }
+
+        /**
+         * @return the response body, or null
+         */
+        public byte[] getResponseBody() {
+            return responseBody;
+        }
+
+        /**
+         * @return the time from sending the request to having read the response body, including any retries
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+    }
+}
@@ -44,4 +44,14 @@ public interface HttpClient extends Closeable {
      * Release connection.
      */
     void releaseConnection();
+
+    /**
+     * Release the connection a response is read from. Clients which make requests concurrently release only that
+     * response's connection; by default, this is {@link #releaseConnection()}.
+     *
+     * @param response the response, or null if the request failed
+     */
+    default void releaseConnection(HttpResponse response) {
+        releaseConnection();
+    }
 }
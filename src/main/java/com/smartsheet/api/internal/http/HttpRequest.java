@@ -16,6 +16,8 @@
 
 package com.smartsheet.api.internal.http;
 
+import com.smartsheet.api.CallOptions;
+
 import java.net.URI;
 
 /**
@@ -38,6 +40,16 @@ public class HttpRequest extends HttpMessage {
      */
     private HttpMethod method;
 
+    /**
+     * Represents the options of the call making the request, if any.
+     */
+    private CallOptions callOptions;
+
+    /**
+     * Represents when the call started, on the {@link System#nanoTime()} scale.
+     */
+    private long callStartNanos;
+
     /**
      * Gets the uri.
      *
@@ -73,4 +85,51 @@ public class HttpRequest extends HttpMessage {
     public void setMethod(HttpMethod method) {
         this.method = method;
     }
+
+    /**
+     * Gets the options of the call making the request.
+     *
+     * @return the call options, or null
+     */
+    public CallOptions getCallOptions() {
+        return callOptions;
+    }
+
+    /**
+     * Sets the options of the call making the request, which starts now.
+     *
+     * @param callOptions the call options, or null
+     */
+    public void setCallOptions(CallOptions callOptions) {
+        this.callOptions = callOptions;
+        this.callStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Gets when the call making the request started.
+     *
+     * @return the start, on the {@link System#nanoTime()} scale
+     */
+    public long getCallStartNanos() {
+        return callStartNanos;
+    }
+
+    /**
+     * Fail if the call making the request has been cancelled or has run out of time.
+     *
+     * @param cause the failure this caused, if any
+     * @throws RequestCancelledException if the call has been cancelled
+     * @throws DeadlineExceededException if the call's deadline has passed
+     */
+    public void checkCallOptions(Throwable cause) throws HttpClientException {
+        if (callOptions == null) {
+            return;
+        }
+        if (callOptions.isCancelled()) {
+            throw new RequestCancelledException("The call was cancelled", cause);
+        }
+        if (callOptions.remainingNanos(callStartNanos) <= 0) {
+            throw new DeadlineExceededException("The call's deadline passed", cause);
+        }
+    }
 }
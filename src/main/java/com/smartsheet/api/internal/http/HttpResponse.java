@@ -16,6 +16,9 @@
 
 package com.smartsheet.api.internal.http;
 
+import java.io.Closeable;
+import java.io.IOException;
+
 /**
  * This class represents an HTTP response.
  * <p>
@@ -30,6 +33,11 @@ public class HttpResponse extends HttpMessage {
     private int statusCode;
     private String statusText;
 
+    /**
+     * Releases the connection the response is read from, or null if it holds none (or it has been released).
+     */
+    private Closeable connection;
+
     /**
      * Gets the status code.
      *
@@ -68,4 +76,26 @@ public class HttpResponse extends HttpMessage {
         this.statusText = statusText;
     }
 
+    /**
+     * Sets what releases the connection the response is read from.
+     *
+     * @param connection releases the connection
+     */
+    void setConnection(Closeable connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Releases the connection the response is read from, if it has not been already.
+     *
+     * @throws IOException if the connection fails to close
+     */
+    void releaseConnection() throws IOException {
+        Closeable releasing = connection;
+        connection = null;
+        if (releasing != null) {
+            releasing.close();
+        }
+    }
+
 }
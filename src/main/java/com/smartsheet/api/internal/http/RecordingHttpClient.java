@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+import com.smartsheet.api.internal.util.StreamUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * <p>An {@link HttpClient} decorator that records every request and the response it got into an {@link HttpCassette},
+ * to be replayed later by {@link ReplayHttpClient}, e.g. to profile the SDK without a network or compare SDK versions
+ * on the same traffic.</p>
+ *
+ * <p>Request and response bodies are read into memory (and handed on as in-memory streams). Retries happen inside the
+ * wrapped client, so a retried request is recorded once, with the final response and the total time it took. The
+ * cassette is written when the client is closed.</p>
+ *
+ * <p>Thread Safety: This class is as thread safe as the client it wraps.</p>
+ */
+public class RecordingHttpClient implements HttpClient {
+    private final HttpClient delegate;
+    private final Path path;
+    private final HttpCassette cassette = new HttpCassette();
+
+    /**
+     * Constructor.
+     *
+     * @param delegate the client that makes the requests
+     * @param path     the file to write the cassette to on {@link #close()}, or null to only keep it in memory
+     */
+    public RecordingHttpClient(HttpClient delegate, Path path) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate is required");
+        }
+        this.delegate = delegate;
+        this.path = path;
+    }
+
+    /**
+     * @return the interactions recorded so far
+     */
+    public HttpCassette getCassette() {
+        return cassette;
+    }
+
+    @Override
+    public HttpResponse request(HttpRequest request) throws HttpClientException {
+        byte[] requestBody = buffer(request.getEntity());
+        long start = System.nanoTime();
+        HttpResponse response = delegate.request(request);
+        byte[] responseBody = buffer(response.getEntity());
+        cassette.add(new HttpCassette.Interaction(request, requestBody, response, responseBody, System.nanoTime() - start));
+        return response;
+    }
+
+    @Override
+    public void releaseConnection() {
+        delegate.releaseConnection();
+    }
+
+    @Override
+    public void releaseConnection(HttpResponse response) {
+        delegate.releaseConnection(response);
+    }
+
+    /**
+     * Write the cassette (if a file was given) and close the wrapped client.
+     *
+     * @throws IOException if the cassette can't be written
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (path != null) {
+                cassette.save(path);
+            }
+        } finally {
+            delegate.close();
+        }
+    }
+
+    /**
+     * Read an entity's content into memory and replace it with an in-memory copy.
+     */
+    private static byte[] buffer(HttpEntity entity) throws HttpClientException {
+        if (entity == null || entity.getContent() == null) {
+            return null;
+        }
+        try (InputStream content = entity.getContent()) {
+            byte[] bytes = StreamUtil.readBytesFromStream(content);
+            entity.setContent(new ByteArrayInputStream(bytes));
+            return bytes;
+        } catch (IOException e) {
+            throw new HttpClientException("Error reading the entity to record", e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+/**
+ * This is the exception thrown when a call is cancelled through its {@code CallOptions}.
+ * <p>
+ * Thread safety: Exceptions are not thread safe.
+ */
+public class RequestCancelledException extends HttpClientException {
+
+    /**
+     * The Constant serialVersionUID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor.
+     *
+     * @param message the message
+     * @param cause   the cause, if the cancellation aborted an operation
+     */
+    public RequestCancelledException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
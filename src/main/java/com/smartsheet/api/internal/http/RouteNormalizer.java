@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+import java.net.URI;
+
+/**
+ * Turns request URIs into route templates such as {@code GET /sheets/{id}/rows}: the API version prefix and query
+ * string are dropped and id segments are replaced, so that metrics and traces can be grouped by endpoint.
+ * <p>
+ * Thread Safety: This class is thread safe because it is stateless.
+ */
+public final class RouteNormalizer {
+    private static final String ID = "{id}";
+    private static final String ROOT = " /";
+    private static final int MIN_OPAQUE_ID_LENGTH = 12;
+
+    private RouteNormalizer() {
+    }
+
+    /**
+     * Normalize a request.
+     *
+     * @param method the request method
+     * @param uri    the request URI
+     * @return the route, e.g. {@code GET /sheets/{id}}
+     */
+    public static String normalize(HttpMethod method, URI uri) {
+        StringBuilder route = new StringBuilder(64).append(method);
+        String path = uri.getRawPath();
+        if (path == null || path.isEmpty()) {
+            return route.append(ROOT).toString();
+        }
+        int start = 0;
+        boolean first = true;
+        while (start < path.length()) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            if (end > start) {
+                String segment = path.substring(start, end);
+                if (!(first && isVersion(segment))) {
+                    route.append(first ? ROOT : "/").append(isId(segment) ? ID : segment);
+                    first = false;
+                }
+            }
+            start = end + 1;
+        }
+        if (first) {
+            route.append(ROOT);
+        }
+        return route.toString();
+    }
+
+    /**
+     * The API version prefix, e.g. "2.0".
+     */
+    private static boolean isVersion(String segment) {
+        int dot = segment.indexOf('.');
+        return dot > 0 && isDigits(segment, 0, dot) && isDigits(segment, dot + 1, segment.length());
+    }
+
+    /**
+     * Numeric ids, and long opaque ids (e.g. share ids) that mix letters and digits.
+     */
+    private static boolean isId(String segment) {
+        if (isDigits(segment, 0, segment.length())) {
+            return true;
+        }
+        if (segment.length() < MIN_OPAQUE_ID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            if (Character.isDigit(segment.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDigits(String text, int from, int to) {
+        if (from >= to) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            if (!Character.isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
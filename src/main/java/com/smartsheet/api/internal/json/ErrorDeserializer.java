@@ -30,12 +30,15 @@ import java.util.List;
 
 public class ErrorDeserializer extends JsonDeserializer<com.smartsheet.api.models.Error> {
 
+    /**
+     * Reads the error details; shared because a mapper is expensive to create.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     @Override
     public com.smartsheet.api.models.Error deserialize(JsonParser jp, DeserializationContext ctxt)
             throws IOException {
 
-        ObjectMapper mapper = new ObjectMapper();
-
         final com.smartsheet.api.models.Error error = new com.smartsheet.api.models.Error();
 
         if (jp.getCurrentToken() == JsonToken.START_OBJECT) {
@@ -53,11 +56,11 @@ public class ErrorDeserializer extends JsonDeserializer<com.smartsheet.api.model
             if (detail != null) {
                 if (detail.isArray()) {
                     String asText = detail.toString();
-                    List<ErrorDetail> details = mapper.readValue(asText, new TypeReference<List<ErrorDetail>>() {
+                    List<ErrorDetail> details = MAPPER.readValue(asText, new TypeReference<List<ErrorDetail>>() {
                     });
                     error.setDetail(details);
                 } else {
-                    error.setDetail(mapper.treeToValue(detail, ErrorDetail.class));
+                    error.setDetail(MAPPER.treeToValue(detail, ErrorDetail.class));
                 }
             }
             return error;
@@ -17,6 +17,7 @@
 package com.smartsheet.api.internal.json;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonGenerationException;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.Version;
@@ -26,6 +27,8 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.module.SimpleSerializers;
+import com.fasterxml.jackson.databind.ser.BeanSerializerFactory;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.BulkItemResult;
 import com.smartsheet.api.models.CopyOrMoveRowResult;
@@ -128,6 +131,27 @@ public class JacksonJsonSerializer implements JsonSerializer {
         OBJECT_MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, value);
     }
 
+    /**
+     * Creates an ObjectMapper for local snapshots of models fetched from the API.
+     * <p>
+     * It is configured like the mapper used for API requests, except that it writes the ids the API treats as
+     * read-only and leaves cells untouched (the API mapper may rewrite a cell value while serializing it), so that a
+     * snapshot reads back into an equivalent model.
+     *
+     * @return a new ObjectMapper
+     */
+    public static ObjectMapper newSnapshotMapper() {
+        ObjectMapper mapper = OBJECT_MAPPER.copy();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.addMixIn(IdentifiableModel.class, SnapshotIdentifiableModelMixin.class);
+
+        SimpleSerializers serializers = new SimpleSerializers();
+        serializers.addSerializer(PrimitiveObjectValue.class, new PrimitiveObjectValueSerializer());
+        serializers.addSerializer(Hyperlink.class, new HyperlinkSerializer());
+        mapper.setSerializerFactory(BeanSerializerFactory.instance.withAdditionalSerializers(serializers));
+        return mapper;
+    }
+
     /**
      * Constructor.
      * <p>
@@ -440,4 +464,15 @@ public class JacksonJsonSerializer implements JsonSerializer {
 
         return rw;
     }
+
+    /**
+     * Mixin used for snapshots: unlike {@link IdentifiableModelMixin} it writes ids.
+     */
+    abstract static class SnapshotIdentifiableModelMixin<T> {
+        @JsonProperty
+        public abstract T getId();
+
+        @JsonProperty
+        public abstract void setId(T id);
+    }
 }
@@ -0,0 +1,284 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.json;
+
+import com.smartsheet.api.internal.tracing.Tracing;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.metrics.SmartsheetMetrics;
+import com.smartsheet.api.models.BulkItemResult;
+import com.smartsheet.api.models.CopyOrMoveRowResult;
+import com.smartsheet.api.models.EventResult;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.Result;
+import com.smartsheet.api.tracing.SmartsheetTracer;
+import com.smartsheet.api.tracing.TraceSpan;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A JsonSerializer decorator that reports the time taken and the bytes written or read by each call to
+ * {@link SmartsheetMetrics}, tagged with the simple name of the class being (de)serialized, and/or runs each call in
+ * a {@link SmartsheetTracer} span.
+ * <p>
+ * Thread Safety: This class is thread safe if the underlying serializer, metrics and tracer are.
+ */
+public class MeteredJsonSerializer implements JsonSerializer {
+    private final JsonSerializer serializer;
+    private final SmartsheetMetrics metrics;
+    private final SmartsheetTracer tracer;
+
+    /**
+     * Constructor.
+     *
+     * @param serializer the serializer that does the work
+     * @param metrics    the metrics to report to
+     */
+    public MeteredJsonSerializer(JsonSerializer serializer, SmartsheetMetrics metrics) {
+        this(serializer, Util.throwIfNull(metrics), null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param serializer the serializer that does the work
+     * @param metrics    the metrics to report to, or null
+     * @param tracer     the tracer to create spans with, or null
+     * @throws IllegalArgumentException if the serializer is null, or both metrics and tracer are
+     */
+    public MeteredJsonSerializer(JsonSerializer serializer, SmartsheetMetrics metrics, SmartsheetTracer tracer) {
+        Util.throwIfNull(serializer);
+        if (metrics == null && tracer == null) {
+            throw new IllegalArgumentException("metrics or tracer is required");
+        }
+        this.serializer = serializer;
+        this.metrics = metrics;
+        this.tracer = tracer;
+    }
+
+    /**
+     * @return the serializer that does the work
+     */
+    public JsonSerializer getSerializer() {
+        return serializer;
+    }
+
+    @Override
+    public <T> void serialize(T object, OutputStream outputStream) throws JSONSerializerException {
+        Util.throwIfNull(object, outputStream);
+        CountingOutputStream counting = new CountingOutputStream(outputStream);
+        TraceSpan span = Tracing.start(tracer, SmartsheetTracer.SPAN_SERIALIZE);
+        long start = System.nanoTime();
+        try {
+            serializer.serialize(object, counting);
+        } catch (JSONSerializerException | RuntimeException e) {
+            Tracing.fail(span, e);
+            throw e;
+        } finally {
+            finish(span, object.getClass(), start, counting.count, true);
+        }
+    }
+
+    @Override
+    public <T> String serialize(T object) throws JSONSerializerException {
+        Util.throwIfNull(object);
+        TraceSpan span = Tracing.start(tracer, SmartsheetTracer.SPAN_SERIALIZE);
+        long start = System.nanoTime();
+        String json = null;
+        try {
+            json = serializer.serialize(object);
+            return json;
+        } catch (JSONSerializerException | RuntimeException e) {
+            Tracing.fail(span, e);
+            throw e;
+        } finally {
+            finish(span, object.getClass(), start, json == null ? 0 : utf8Length(json), true);
+        }
+    }
+
+    @Override
+    public <T> PagedResult<T> deserializeDataWrapper(Class<T> objectClass, InputStream inputStream) throws JSONSerializerException {
+        return read(objectClass, inputStream, in -> serializer.deserializeDataWrapper(objectClass, in));
+    }
+
+    @Override
+    public <T> T deserialize(Class<T> objectClass, InputStream inputStream) throws IOException {
+        return read(objectClass, inputStream, in -> serializer.deserialize(objectClass, in));
+    }
+
+    @Override
+    public <T> List<T> deserializeList(Class<T> objectClass, InputStream inputStream) throws JSONSerializerException {
+        return read(objectClass, inputStream, in -> serializer.deserializeList(objectClass, in));
+    }
+
+    @Override
+    public Map<String, Object> deserializeMap(InputStream inputStream) throws JSONSerializerException {
+        return read(Map.class, inputStream, serializer::deserializeMap);
+    }
+
+    @Override
+    public <T> Result<T> deserializeResult(Class<T> objectClass, InputStream inputStream) throws JSONSerializerException {
+        return read(objectClass, inputStream, in -> serializer.deserializeResult(objectClass, in));
+    }
+
+    @Override
+    public <T> Result<List<T>> deserializeListResult(Class<T> objectClass, InputStream inputStream) throws JSONSerializerException {
+        return read(objectClass, inputStream, in -> serializer.deserializeListResult(objectClass, in));
+    }
+
+    @Override
+    public <T> BulkItemResult<T> deserializeBulkItemResult(Class<T> objectClass, InputStream inputStream)
+            throws JSONSerializerException {
+        return read(objectClass, inputStream, in -> serializer.deserializeBulkItemResult(objectClass, in));
+    }
+
+    @Override
+    public CopyOrMoveRowResult deserializeCopyOrMoveRow(InputStream inputStream) throws JSONSerializerException {
+        return read(CopyOrMoveRowResult.class, inputStream, serializer::deserializeCopyOrMoveRow);
+    }
+
+    @Override
+    public EventResult deserializeEventResult(InputStream inputStream) throws JSONSerializerException {
+        return read(EventResult.class, inputStream, serializer::deserializeEventResult);
+    }
+
+    private <R, E extends Exception> R read(Class<?> type, InputStream inputStream, Read<R, E> read) throws E {
+        Util.throwIfNull(inputStream);
+        CountingInputStream counting = new CountingInputStream(inputStream);
+        TraceSpan span = Tracing.start(tracer, SmartsheetTracer.SPAN_DESERIALIZE);
+        long start = System.nanoTime();
+        try {
+            return read.apply(counting);
+        } catch (Exception e) {
+            Tracing.fail(span, e);
+            throw e;
+        } finally {
+            finish(span, type, start, counting.count, false);
+        }
+    }
+
+    private void finish(TraceSpan span, Class<?> type, long start, long bytes, boolean serialize) {
+        long durationNanos = System.nanoTime() - start;
+        String typeName = type.getSimpleName();
+        if (metrics != null) {
+            if (serialize) {
+                metrics.recordSerialize(typeName, durationNanos, bytes);
+            } else {
+                metrics.recordDeserialize(typeName, durationNanos, bytes);
+            }
+        }
+        if (span != null) {
+            span.setAttribute(SmartsheetTracer.ATTR_TYPE, typeName);
+            span.setAttribute(SmartsheetTracer.ATTR_BYTES, bytes);
+            span.end();
+        }
+    }
+
+    /**
+     * The number of bytes a string takes in UTF-8, which is how request bodies are sent, counted without encoding it.
+     */
+    static long utf8Length(String text) {
+        long bytes = text.length();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0x800) {
+                // a surrogate pair is 4 bytes for 2 chars, any other char from here on is 3 bytes
+                bytes += Character.isSurrogate(c) ? 1 : 2;
+            } else if (c >= 0x80) {
+                bytes++;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * A deserializer call.
+     */
+    @FunctionalInterface
+    private interface Read<R, E extends Exception> {
+        R apply(InputStream inputStream) throws E;
+    }
+
+    /**
+     * Counts the bytes written through it.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    /**
+     * Counts the bytes read through it.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = in.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
@@ -42,6 +42,13 @@ import java.util.List;
 
 public class ObjectValueDeserializer extends JsonDeserializer<ObjectValue> {
 
+    /**
+     * Reads the object value attributes; a mapper is expensive to create (each one builds its own deserializer
+     * cache) and is thread safe once configured, so all instances share this one.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
     @Override
     public ObjectValue deserialize(JsonParser jp, DeserializationContext ctxt)
             throws IOException, JsonProcessingException {
@@ -50,10 +57,7 @@ public class ObjectValueDeserializer extends JsonDeserializer<ObjectValue> {
         ContactObjectValue contactObjectValue = null;
 
         if (jp.getCurrentToken() == JsonToken.START_OBJECT) {
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-
-            ObjectValueAttributeSuperset superset = mapper.readValue(jp, ObjectValueAttributeSuperset.class);
+            ObjectValueAttributeSuperset superset = MAPPER.readValue(jp, ObjectValueAttributeSuperset.class);
 
             ObjectValueType parsedObjectType;
             try {
@@ -100,7 +104,7 @@ public class ObjectValueDeserializer extends JsonDeserializer<ObjectValue> {
                 case MULTI_CONTACT:
                     List<ContactObjectValue> contactObjectValues = new ArrayList<>();
                     for (Object contact : superset.values) {
-                        contactObjectValue = mapper.convertValue(contact, ContactObjectValue.class);
+                        contactObjectValue = MAPPER.convertValue(contact, ContactObjectValue.class);
                         contactObjectValues.add(contactObjectValue);
                     }
                     objectValue = new MultiContactObjectValue(contactObjectValues);
@@ -46,12 +46,13 @@ import java.util.List;
 
 public class WidgetContentDeserializer extends JsonDeserializer<WidgetContent> {
 
-    @Override
-    public WidgetContent deserialize(JsonParser jp, DeserializationContext ctxt)
-            throws IOException, JsonProcessingException {
-
-        WidgetContent widgetContent = null;
+    /**
+     * Reads the widget content attributes; created once because a mapper is expensive to build and thread safe
+     * once configured.
+     */
+    private static final ObjectMapper MAPPER = createMapper();
 
+    private static ObjectMapper createMapper() {
         ObjectMapper mapper = new ObjectMapper();
         mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         mapper.configure(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL, true);
@@ -64,8 +65,16 @@ public class WidgetContentDeserializer extends JsonDeserializer<WidgetContent> {
         module = new SimpleModule("ObjectValueDeserializerModule", Version.unknownVersion());
         module.addDeserializer(ObjectValue.class, new ObjectValueDeserializer());
         mapper.registerModule(module);
+        return mapper;
+    }
+
+    @Override
+    public WidgetContent deserialize(JsonParser jp, DeserializationContext ctxt)
+            throws IOException, JsonProcessingException {
+
+        WidgetContent widgetContent = null;
 
-        WidgetContentSuperset superset = mapper.readValue(jp, WidgetContentSuperset.class);
+        WidgetContentSuperset superset = MAPPER.readValue(jp, WidgetContentSuperset.class);
 
         WidgetType parsedType;
         try {
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.tracing;
+
+import com.smartsheet.api.tracing.SmartsheetTracer;
+import com.smartsheet.api.tracing.TraceSpan;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Wraps a resources interface (e.g. SheetResources) so that each method call runs in a span named after the interface
+ * and method, e.g. {@code SheetRowResources.addRows}. Methods returning another resources interface (such as
+ * {@code SheetResources.rowResources()}) are not traced themselves; their result is wrapped in turn.
+ * <p>
+ * The tracer is looked up on each call, so a wrapper calls straight through once tracing is turned off.
+ * <p>
+ * Thread Safety: This class is thread safe.
+ */
+public final class TracedResources implements InvocationHandler {
+    private static final String RESOURCES_PACKAGE = "com.smartsheet.api";
+    private static final String RESOURCES_SUFFIX = "Resources";
+
+    private final Class<?> type;
+    private final Object target;
+    private final Supplier<SmartsheetTracer> tracer;
+    private final Map<Method, Object> children = new ConcurrentHashMap<>();
+
+    private TracedResources(Class<?> type, Object target, Supplier<SmartsheetTracer> tracer) {
+        this.type = type;
+        this.target = target;
+        this.tracer = tracer;
+    }
+
+    /**
+     * Wrap resources.
+     *
+     * @param type   the resources interface
+     * @param target the resources to call
+     * @param tracer supplies the current tracer, or null when tracing is off
+     * @param <T>    the resources interface
+     * @return the traced resources
+     */
+    public static <T> T wrap(Class<T> type, T target, Supplier<SmartsheetTracer> tracer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                new TracedResources(type, target, tracer)));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        Class<?> returnType = method.getReturnType();
+        if (method.getDeclaringClass() != Object.class && isResources(returnType) && method.getParameterCount() == 0) {
+            // nested resources are created once by their parent, so one wrapper each is enough
+            return children.computeIfAbsent(method, m -> wrapChild(returnType, m));
+        }
+        SmartsheetTracer current = method.getDeclaringClass() == Object.class ? null : tracer.get();
+        TraceSpan span = current == null ? null : current.startSpan(type.getSimpleName() + "." + method.getName(), Tracing.current());
+        TraceSpan previous = span == null ? null : Tracing.enter(span);
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            Tracing.fail(span, e.getCause());
+            throw e.getCause();
+        } finally {
+            if (span != null) {
+                Tracing.exit(previous);
+                span.end();
+            }
+        }
+    }
+
+    private Object wrapChild(Class<?> childType, Method method) {
+        Object child;
+        try {
+            child = method.invoke(target);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("failed to get " + method.getName(), e);
+        }
+        return child == null ? null : wrapUnchecked(childType, child);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T wrapUnchecked(Class<T> childType, Object child) {
+        return wrap(childType, (T) child, tracer);
+    }
+
+    private static boolean isResources(Class<?> candidate) {
+        return candidate.isInterface() && candidate.getSimpleName().endsWith(RESOURCES_SUFFIX) &&
+                candidate.getName().startsWith(RESOURCES_PACKAGE);
+    }
+}
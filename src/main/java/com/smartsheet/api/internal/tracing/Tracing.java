@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.tracing;
+
+import com.smartsheet.api.SmartsheetRestException;
+import com.smartsheet.api.tracing.SmartsheetTracer;
+import com.smartsheet.api.tracing.TraceSpan;
+
+/**
+ * Tracks the resource method span in progress on the current thread, so that the HTTP client and JSON serializer can
+ * attach their spans to it. All methods accept a null tracer or span (tracing disabled) and then do nothing.
+ * <p>
+ * Thread Safety: This class is thread safe.
+ */
+public final class Tracing {
+    private static final ThreadLocal<TraceSpan> CURRENT = new ThreadLocal<>();
+
+    private Tracing() {
+    }
+
+    /**
+     * @return the span of the resource method running on this thread, or null
+     */
+    public static TraceSpan current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Start a child of the current span.
+     *
+     * @param tracer the tracer, or null
+     * @param name   the span name
+     * @return the started span, or null if the tracer is null
+     */
+    public static TraceSpan start(SmartsheetTracer tracer, String name) {
+        return tracer == null ? null : tracer.startSpan(name, CURRENT.get());
+    }
+
+    /**
+     * Record a failure on a span, including the Smartsheet error code when there is one.
+     *
+     * @param span  the span, or null
+     * @param error the failure
+     */
+    public static void fail(TraceSpan span, Throwable error) {
+        if (span != null) {
+            if (error instanceof SmartsheetRestException) {
+                span.setAttribute(SmartsheetTracer.ATTR_ERROR_CODE, ((SmartsheetRestException) error).getErrorCode());
+            }
+            span.recordException(error);
+        }
+    }
+
+    /**
+     * End a span.
+     *
+     * @param span the span, or null
+     */
+    public static void end(TraceSpan span) {
+        if (span != null) {
+            span.end();
+        }
+    }
+
+    /**
+     * Make a span the current one.
+     *
+     * @param span the span
+     * @return the previously current span, to pass to {@link #exit(TraceSpan)}
+     */
+    static TraceSpan enter(TraceSpan span) {
+        TraceSpan previous = CURRENT.get();
+        CURRENT.set(span);
+        return previous;
+    }
+
+    /**
+     * Restore the span that was current before {@link #enter(TraceSpan)}.
+     *
+     * @param previous the previously current span
+     */
+    static void exit(TraceSpan previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
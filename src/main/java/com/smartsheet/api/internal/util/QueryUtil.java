@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 public class QueryUtil {
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
 
     private QueryUtil() {
     }
@@ -63,20 +64,57 @@ public class QueryUtil {
         if (parameters == null || parameters.isEmpty()) {
             return "";
         }
-        StringBuilder result = new StringBuilder();
+        StringBuilder result = new StringBuilder(parameters.size() * 24);
         for (Map.Entry<String, ?> entry : parameters.entrySet()) {
+            Object value = entry.getValue();
             // Check to see if the key/value isn't null or empty string
-            if (entry.getKey() != null && entry.getValue() != null && !entry.getValue().toString().isEmpty()) {
-                String encodedQueryParam = URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8);
-                String encodedQueryValue = URLEncoder.encode(entry.getValue().toString(), StandardCharsets.UTF_8);
-                result
-                        .append('&')
-                        .append(encodedQueryParam)
-                        .append("=")
-                        .append(encodedQueryValue);
+            if (entry.getKey() == null || value == null) {
+                continue;
+            }
+            String text = null;
+            if (!(value instanceof Long || value instanceof Integer)) {
+                text = value.toString();
+                if (text.isEmpty()) {
+                    continue;
+                }
+            }
+            result.append(result.length() == 0 ? '?' : '&');
+            appendEncoded(result, entry.getKey());
+            result.append('=');
+            if (text == null) {
+                result.append(((Number) value).longValue());
+            } else {
+                appendEncoded(result, text);
             }
         }
+        return result.toString();
+    }
 
-        return result.length() == 0 ? "" : "?" + result.substring(1);
+    /**
+     * Append a value encoded as {@link URLEncoder#encode(String, java.nio.charset.Charset)} would encode it with
+     * UTF-8, without creating an intermediate string for ASCII values.
+     *
+     * @param result the builder to append to
+     * @param value  the value to encode
+     */
+    static void appendEncoded(StringBuilder result, String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) >= 0x80) {
+                result.append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+                return;
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '.' || c == '-' || c == '*' ||
+                    c == '_') {
+                result.append(c);
+            } else if (c == ' ') {
+                result.append('+');
+            } else {
+                result.append('%').append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+            }
+        }
     }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>A {@link SmartsheetMetrics} that keeps everything in memory in lock-free histograms and counters, and exports
+ * it with {@link #snapshot()}.</p>
+ *
+ * <p>Timers: {@code http.request <route> <status class>} (status class {@code 0xx} for attempts that failed before a
+ * response arrived), {@code http.backoff <route>}, {@code http.pool.wait}, {@code json.serialize <type>} and
+ * {@code json.deserialize <type>}. Counters: {@code http.retries <route>}, {@code http.bytes.out <route>},
+ * {@code http.bytes.in <route>}, {@code json.serialize.bytes <type>} and {@code json.deserialize.bytes <type>}.</p>
+ *
+ * <p>Thread Safety: This class is thread safe.</p>
+ */
+public class InMemoryMetricsRegistry implements SmartsheetMetrics {
+    private static final String[] STATUS_CLASSES = {"0xx", "1xx", "2xx", "3xx", "4xx", "5xx"};
+
+    private final Map<String, LatencyHistogram> timers = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordRequest(String route, int statusCode, long durationNanos, long requestBytes, long responseBytes) {
+        int statusClass = statusCode / 100;
+        String status = statusClass >= 0 && statusClass < STATUS_CLASSES.length ? STATUS_CLASSES[statusClass] : "other";
+        timer("http.request " + route + " " + status).record(durationNanos);
+        if (requestBytes > 0) {
+            counter("http.bytes.out " + route).add(requestBytes);
+        }
+        if (responseBytes > 0) {
+            counter("http.bytes.in " + route).add(responseBytes);
+        }
+    }
+
+    @Override
+    public void recordRetry(String route, long backoffNanos) {
+        counter("http.retries " + route).increment();
+        timer("http.backoff " + route).record(backoffNanos);
+    }
+
+    @Override
+    public void recordPoolWait(long waitNanos) {
+        timer("http.pool.wait").record(waitNanos);
+    }
+
+    @Override
+    public void recordSerialize(String type, long durationNanos, long bytes) {
+        timer("json.serialize " + type).record(durationNanos);
+        counter("json.serialize.bytes " + type).add(bytes);
+    }
+
+    @Override
+    public void recordDeserialize(String type, long durationNanos, long bytes) {
+        timer("json.deserialize " + type).record(durationNanos);
+        counter("json.deserialize.bytes " + type).add(bytes);
+    }
+
+    /**
+     * Copy the current values.
+     *
+     * @return the snapshot
+     */
+    public MetricsSnapshot snapshot() {
+        Map<String, MetricsSnapshot.Timer> timerSnapshots = new HashMap<>();
+        timers.forEach((name, histogram) -> timerSnapshots.put(name, new MetricsSnapshot.Timer(histogram)));
+        Map<String, Long> counterSnapshots = new HashMap<>();
+        counters.forEach((name, counter) -> counterSnapshots.put(name, counter.sum()));
+        return new MetricsSnapshot(timerSnapshots, counterSnapshots);
+    }
+
+    /**
+     * Drop all recorded values.
+     */
+    public void reset() {
+        timers.clear();
+        counters.clear();
+    }
+
+    private LatencyHistogram timer(String name) {
+        LatencyHistogram histogram = timers.get(name);
+        return histogram != null ? histogram : timers.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    private LongAdder counter(String name) {
+        LongAdder counter = counters.get(name);
+        return counter != null ? counter : counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <p>A point-in-time copy of the metrics of an {@link InMemoryMetricsRegistry}, for export.</p>
+ *
+ * <p>Thread Safety: This class is immutable.</p>
+ */
+public final class MetricsSnapshot {
+    private final Map<String, Timer> timers;
+    private final Map<String, Long> counters;
+
+    MetricsSnapshot(Map<String, Timer> timers, Map<String, Long> counters) {
+        this.timers = Collections.unmodifiableMap(new TreeMap<>(timers));
+        this.counters = Collections.unmodifiableMap(new TreeMap<>(counters));
+    }
+
+    /**
+     * @return the timers by name, sorted; names are the metric followed by its tags, e.g.
+     * {@code http.request GET /sheets/{id} 2xx}
+     */
+    public Map<String, Timer> getTimers() {
+        return timers;
+    }
+
+    /**
+     * @return the counters by name, sorted
+     */
+    public Map<String, Long> getCounters() {
+        return counters;
+    }
+
+    /**
+     * @param name the timer name
+     * @return the timer, or null if nothing was recorded under that name
+     */
+    public Timer getTimer(String name) {
+        return timers.get(name);
+    }
+
+    /**
+     * @param name the counter name
+     * @return the counter value (0 if nothing was recorded under that name)
+     */
+    public long getCounter(String name) {
+        return counters.getOrDefault(name, 0L);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        timers.forEach((name, timer) -> text.append(name).append(' ').append(timer).append('\n'));
+        counters.forEach((name, value) -> text.append(name).append(" = ").append(value).append('\n'));
+        return text.toString();
+    }
+
+    /**
+     * A snapshot of a {@link LatencyHistogram}, in nanoseconds.
+     */
+    public static final class Timer {
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long p50Nanos;
+        private final long p95Nanos;
+        private final long p99Nanos;
+
+        Timer(LatencyHistogram histogram) {
+            this.count = histogram.getCount();
+            this.totalNanos = histogram.getTotal();
+            this.maxNanos = histogram.getMax();
+            this.p50Nanos = histogram.getPercentile(50);
+            this.p95Nanos = histogram.getPercentile(95);
+            this.p99Nanos = histogram.getPercentile(99);
+        }
+
+        /**
+         * @return the number of recorded durations
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return the sum of the recorded durations
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * @return the longest recorded duration
+         */
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * @return the estimated median
+         */
+        public long getP50Nanos() {
+            return p50Nanos;
+        }
+
+        /**
+         * @return the estimated 95th percentile
+         */
+        public long getP95Nanos() {
+            return p95Nanos;
+        }
+
+        /**
+         * @return the estimated 99th percentile
+         */
+        public long getP99Nanos() {
+            return p99Nanos;
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + count + " totalNanos=" + totalNanos + " p50=" + p50Nanos + " p95=" + p95Nanos + " p99=" + p99Nanos +
+                    " max=" + maxNanos;
+        }
+    }
+}
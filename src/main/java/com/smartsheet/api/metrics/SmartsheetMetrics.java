@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.metrics;
+
+/**
+ * <p>Receives measurements from the SDK: per-attempt request latency by route and status, retries and their backoff,
+ * connection pool waits, and JSON serialize/deserialize time and size.</p>
+ *
+ * <p>Routes are normalized request templates such as {@code GET /sheets/{id}/rows}, so the number of distinct routes
+ * stays small. Durations are {@link System#nanoTime()} differences.</p>
+ *
+ * <p>{@link InMemoryMetricsRegistry} is a ready-made implementation. To publish to another metrics library, implement
+ * this interface on top of it; with Micrometer, for example, {@code recordRequest} maps to a {@code Timer} named
+ * {@code smartsheet.http.request} tagged with the route and status class, and the byte counts to
+ * {@code DistributionSummary}s.</p>
+ *
+ * <p>Thread Safety: Implementations of this interface must be thread safe, and should not block.</p>
+ */
+public interface SmartsheetMetrics {
+
+    /**
+     * <p>Record one HTTP attempt (retries are recorded separately each). Attempts that fail with an I/O error, a timeout
+     * or an abort are recorded too, with the time until the failure.</p>
+     *
+     * @param route         the normalized route, e.g. {@code GET /sheets/{id}}
+     * @param statusCode    the HTTP status code, or 0 if the attempt failed before a response arrived
+     * @param durationNanos the time from sending the request to receiving the response headers (or to the failure)
+     * @param requestBytes  the size of the request body, or -1 if unknown
+     * @param responseBytes the size of the response body, or -1 if unknown
+     */
+    void recordRequest(String route, int statusCode, long durationNanos, long requestBytes, long responseBytes);
+
+    /**
+     * <p>Record that a failed attempt is retried.</p>
+     *
+     * @param route        the normalized route
+     * @param backoffNanos the time spent deciding to retry and waiting before the retry
+     */
+    void recordRetry(String route, long backoffNanos);
+
+    /**
+     * <p>Record the time spent waiting to lease a pooled connection.</p>
+     *
+     * @param waitNanos the wait
+     */
+    void recordPoolWait(long waitNanos);
+
+    /**
+     * <p>Record the serialization of a request body.</p>
+     *
+     * @param type          the simple name of the serialized class
+     * @param durationNanos the time taken
+     * @param bytes         the size of the output in bytes (as UTF-8 when serialized to a string)
+     */
+    void recordSerialize(String type, long durationNanos, long bytes);
+
+    /**
+     * <p>Record the deserialization of a response body.</p>
+     *
+     * @param type          the simple name of the class deserialized into
+     * @param durationNanos the time taken (including reading the body from the connection)
+     * @param bytes         the number of bytes read
+     */
+    void recordDeserialize(String type, long durationNanos, long bytes);
+}
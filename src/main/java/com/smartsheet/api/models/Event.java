@@ -16,16 +16,26 @@
 
 package com.smartsheet.api.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.smartsheet.api.models.enums.EventAction;
 import com.smartsheet.api.models.enums.EventObjectType;
 import com.smartsheet.api.models.enums.EventSource;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.text.SimpleDateFormat;
 import java.util.Map;
 import java.util.TimeZone;
 
 public class Event {
 
+    private static final TypeReference<Map<String, Object>> DETAILS_MAP = new TypeReference<Map<String, Object>>() {
+    };
+
     /**
      * Name of the access token embedded in the request.
      */
@@ -41,6 +51,12 @@ public class Event {
      */
     private Map<String, Object> additionalDetails;
 
+    /**
+     * The additional details as read from the response, kept as buffered tokens until they are first asked for, so
+     * that events that are filtered out on their type and action never build the details map.
+     */
+    private TokenBuffer rawAdditionalDetails;
+
     /**
      * Unique event identifier
      */
@@ -113,11 +129,16 @@ public class Event {
     }
 
     /**
-     * Returns a hashmap of additional details associated with the event
+     * Returns a hashmap of additional details associated with the event. Details read from the API are decoded on the
+     * first call.
      *
      * @return the hashmap
+     * @throws UncheckedIOException if the details can't be decoded
      */
     public Map<String, Object> getAdditionalDetails() {
+        if (additionalDetails == null && rawAdditionalDetails != null) {
+            additionalDetails = decodeAdditionalDetails();
+        }
         return additionalDetails;
     }
 
@@ -126,11 +147,58 @@ public class Event {
      *
      * @param additionalDetails the hashmap
      */
+    @JsonIgnore
     public Event setAdditionalDetails(Map<String, Object> additionalDetails) {
         this.additionalDetails = additionalDetails;
+        this.rawAdditionalDetails = null;
         return this;
     }
 
+    /**
+     * Decodes the additional details into a class of the caller's choosing (typically one per object type and action),
+     * straight from the buffered response without building the details map. Properties the class doesn't declare are
+     * handled as the serializer's {@code failOnUnknownProperties} setting says.
+     *
+     * @param type the class to decode into
+     * @param <T>  the type
+     * @return the decoded details, or null if the event has none
+     * @throws IllegalStateException if the details were set with {@link #setAdditionalDetails(Map)} rather than read
+     *                               from the API
+     * @throws UncheckedIOException  if the details can't be decoded
+     */
+    public <T> T getAdditionalDetailsAs(Class<T> type) {
+        if (rawAdditionalDetails == null) {
+            if (additionalDetails != null) {
+                throw new IllegalStateException("Typed details are only available for events read from the API");
+            }
+            return null;
+        }
+        try (JsonParser parser = rawAdditionalDetails.asParser()) {
+            return parser.readValueAs(type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Keeps the additional details as buffered tokens; used by the JSON deserializer.
+     *
+     * @param rawAdditionalDetails the buffered details
+     */
+    @JsonProperty("additionalDetails")
+    void setRawAdditionalDetails(TokenBuffer rawAdditionalDetails) {
+        this.rawAdditionalDetails = rawAdditionalDetails;
+        this.additionalDetails = null;
+    }
+
+    private Map<String, Object> decodeAdditionalDetails() {
+        try (JsonParser parser = rawAdditionalDetails.asParser()) {
+            return parser.readValueAs(DETAILS_MAP);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Gets a unique event ID
      *
@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.models;
+
+import java.util.List;
+
+/**
+ * The body of a callback Smartsheet sends to a webhook's callback URL.
+ */
+public class WebhookCallback {
+
+    /**
+     * Unique value for this callback
+     */
+    private String nonce;
+
+    /**
+     * Date and time the callback was sent
+     */
+    private Object timestamp;
+
+    /**
+     * The webhook that sent the callback
+     */
+    private Long webhookId;
+
+    /**
+     * The scope of the webhook, e.g. "sheet"
+     */
+    private String scope;
+
+    /**
+     * The id of the object the webhook is scoped to
+     */
+    private Long scopeObjectId;
+
+    /**
+     * The changes the callback reports
+     */
+    private List<WebhookCallbackEvent> events;
+
+    /**
+     * The new status of the webhook, set on status-change callbacks instead of events
+     */
+    private String newWebhookStatus;
+
+    /**
+     * Get the unique value for this callback.
+     *
+     * @return nonce
+     */
+    public String getNonce() {
+        return nonce;
+    }
+
+    /**
+     * Set the unique value for this callback.
+     */
+    public WebhookCallback setNonce(String nonce) {
+        this.nonce = nonce;
+        return this;
+    }
+
+    /**
+     * Get the time the callback was sent.
+     *
+     * @return timestamp
+     */
+    public Object getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Set the time the callback was sent.
+     */
+    public WebhookCallback setTimestamp(Object timestamp) {
+        this.timestamp = timestamp;
+        return this;
+    }
+
+    /**
+     * Get the id of the webhook that sent the callback.
+     *
+     * @return webhookId
+     */
+    public Long getWebhookId() {
+        return webhookId;
+    }
+
+    /**
+     * Set the id of the webhook that sent the callback.
+     */
+    public WebhookCallback setWebhookId(Long webhookId) {
+        this.webhookId = webhookId;
+        return this;
+    }
+
+    /**
+     * Get the scope of the webhook.
+     *
+     * @return scope
+     */
+    public String getScope() {
+        return scope;
+    }
+
+    /**
+     * Set the scope of the webhook.
+     */
+    public WebhookCallback setScope(String scope) {
+        this.scope = scope;
+        return this;
+    }
+
+    /**
+     * Get the id of the object the webhook is scoped to.
+     *
+     * @return scopeObjectId
+     */
+    public Long getScopeObjectId() {
+        return scopeObjectId;
+    }
+
+    /**
+     * Set the id of the object the webhook is scoped to.
+     */
+    public WebhookCallback setScopeObjectId(Long scopeObjectId) {
+        this.scopeObjectId = scopeObjectId;
+        return this;
+    }
+
+    /**
+     * Get the changes the callback reports.
+     *
+     * @return events
+     */
+    public List<WebhookCallbackEvent> getEvents() {
+        return events;
+    }
+
+    /**
+     * Set the changes the callback reports.
+     */
+    public WebhookCallback setEvents(List<WebhookCallbackEvent> events) {
+        this.events = events;
+        return this;
+    }
+
+    /**
+     * Get the new status of the webhook (status-change callbacks only).
+     *
+     * @return newWebhookStatus
+     */
+    public String getNewWebhookStatus() {
+        return newWebhookStatus;
+    }
+
+    /**
+     * Set the new status of the webhook (status-change callbacks only).
+     */
+    public WebhookCallback setNewWebhookStatus(String newWebhookStatus) {
+        this.newWebhookStatus = newWebhookStatus;
+        return this;
+    }
+}
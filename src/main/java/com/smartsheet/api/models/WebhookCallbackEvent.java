@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.models;
+
+/**
+ * A single change reported by a {@link WebhookCallback}.
+ */
+public class WebhookCallbackEvent {
+
+    /**
+     * The type of object that changed, e.g. "row" or "cell"
+     */
+    private String objectType;
+
+    /**
+     * The kind of change, e.g. "created", "updated" or "deleted"
+     */
+    private String eventType;
+
+    /**
+     * The id of the object that changed (not set for cells)
+     */
+    private Long id;
+
+    /**
+     * The row of a changed cell
+     */
+    private Long rowId;
+
+    /**
+     * The column of a changed cell
+     */
+    private Long columnId;
+
+    /**
+     * The user that made the change
+     */
+    private Long userId;
+
+    /**
+     * The change agent header of the request that made the change
+     */
+    private String changeAgent;
+
+    /**
+     * Date and time of the change
+     */
+    private Object timestamp;
+
+    /**
+     * Get the type of object that changed.
+     *
+     * @return objectType
+     */
+    public String getObjectType() {
+        return objectType;
+    }
+
+    /**
+     * Set the type of object that changed.
+     */
+    public WebhookCallbackEvent setObjectType(String objectType) {
+        this.objectType = objectType;
+        return this;
+    }
+
+    /**
+     * Get the kind of change.
+     *
+     * @return eventType
+     */
+    public String getEventType() {
+        return eventType;
+    }
+
+    /**
+     * Set the kind of change.
+     */
+    public WebhookCallbackEvent setEventType(String eventType) {
+        this.eventType = eventType;
+        return this;
+    }
+
+    /**
+     * Get the id of the object that changed.
+     *
+     * @return id
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Set the id of the object that changed.
+     */
+    public WebhookCallbackEvent setId(Long id) {
+        this.id = id;
+        return this;
+    }
+
+    /**
+     * Get the row of a changed cell.
+     *
+     * @return rowId
+     */
+    public Long getRowId() {
+        return rowId;
+    }
+
+    /**
+     * Set the row of a changed cell.
+     */
+    public WebhookCallbackEvent setRowId(Long rowId) {
+        this.rowId = rowId;
+        return this;
+    }
+
+    /**
+     * Get the column of a changed cell.
+     *
+     * @return columnId
+     */
+    public Long getColumnId() {
+        return columnId;
+    }
+
+    /**
+     * Set the column of a changed cell.
+     */
+    public WebhookCallbackEvent setColumnId(Long columnId) {
+        this.columnId = columnId;
+        return this;
+    }
+
+    /**
+     * Get the user that made the change.
+     *
+     * @return userId
+     */
+    public Long getUserId() {
+        return userId;
+    }
+
+    /**
+     * Set the user that made the change.
+     */
+    public WebhookCallbackEvent setUserId(Long userId) {
+        this.userId = userId;
+        return this;
+    }
+
+    /**
+     * Get the change agent of the request that made the change.
+     *
+     * @return changeAgent
+     */
+    public String getChangeAgent() {
+        return changeAgent;
+    }
+
+    /**
+     * Set the change agent of the request that made the change.
+     */
+    public WebhookCallbackEvent setChangeAgent(String changeAgent) {
+        this.changeAgent = changeAgent;
+        return this;
+    }
+
+    /**
+     * Get the time of the change.
+     *
+     * @return timestamp
+     */
+    public Object getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Set the time of the change.
+     */
+    public WebhookCallbackEvent setTimestamp(Object timestamp) {
+        this.timestamp = timestamp;
+        return this;
+    }
+}
@@ -0,0 +1,436 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.oauth;
+
+import com.smartsheet.api.AccessTokenExpiredException;
+import com.smartsheet.api.Smartsheet;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.interceptors.SmartsheetInterceptor;
+import com.smartsheet.api.internal.http.HttpEntity;
+import com.smartsheet.api.internal.http.HttpRequest;
+import com.smartsheet.api.internal.util.Util;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * <p>Keeps an OAuth access token fresh for the clients using it.</p>
+ *
+ * <p>The manager knows when its token expires (from {@link Token#getExpiresInSeconds()}) and refreshes it in the
+ * background shortly before, with {@link OAuthFlow#refreshToken(Token)}; the new access token is set on the attached
+ * clients and handed to the token listener, e.g. to be stored. Refreshes are single-flight: however many threads find
+ * the token due or expired at once, one refresh request is made and all of them wait for (or ignore) that one.</p>
+ *
+ * <p>Registered as an interceptor (which {@code SmartsheetBuilder.setTokenManager} does), the manager also looks at
+ * the calls made with its token: a call made after the token has expired waits for the refresh instead of failing,
+ * a call still carrying the token just replaced is sent with the new one, and a call that fails with
+ * {@link AccessTokenExpiredException} (e.g. because the token was revoked early) is retried once after a refresh.
+ * Calls only wait when the token has actually expired; calls made with other tokens (e.g. by
+ * {@code Smartsheet.withIdentity} views) pass through untouched.</p>
+ *
+ * <p>Thread Safety: This class is thread safe.</p>
+ */
+public class OAuthTokenManager implements SmartsheetInterceptor, Closeable {
+    private static final Logger log = LoggerFactory.getLogger(OAuthTokenManager.class);
+
+    /**
+     * Default time before expiry at which the token is refreshed.
+     */
+    public static final long DEFAULT_REFRESH_AHEAD_MILLIS = 600_000;
+
+    /**
+     * Default time to wait before trying again after a background refresh failed.
+     */
+    public static final long DEFAULT_RETRY_INTERVAL_MILLIS = 30_000;
+
+    private static final String AUTHORIZATION = "Authorization";
+    private static final String BEARER = "Bearer ";
+
+    private final OAuthFlow oauthFlow;
+    private final long refreshAheadNanos;
+    private final long retryIntervalMillis;
+    private final Consumer<Token> tokenListener;
+    private final ScheduledExecutorService scheduler;
+    private final List<Smartsheet> clients = new CopyOnWriteArrayList<>();
+    private final AtomicReference<CompletableFuture<Grant>> refreshing = new AtomicReference<>();
+    private volatile Grant current;
+
+    private OAuthTokenManager(Builder builder) {
+        this.oauthFlow = builder.oauthFlow;
+        this.refreshAheadNanos = TimeUnit.MILLISECONDS.toNanos(builder.refreshAheadMillis);
+        this.retryIntervalMillis = builder.retryIntervalMillis;
+        this.tokenListener = builder.tokenListener;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread refresher = new Thread(runnable, "smartsheet-token-refresh");
+            refresher.setDaemon(true);
+            return refresher;
+        });
+        long now = System.nanoTime();
+        long expiresAt = Long.MIN_VALUE;
+        if (builder.expiresAt != null) {
+            expiresAt = now + TimeUnit.MILLISECONDS.toNanos(builder.expiresAt.toEpochMilli() - System.currentTimeMillis());
+        }
+        this.current = new Grant(builder.token, null, now, expiresAt);
+        schedule(current);
+    }
+
+    /**
+     * Create a builder.
+     *
+     * @param oauthFlow the OAuth flow used to refresh the token
+     * @param token     the token, just obtained or refreshed (see {@link Builder#setExpiresAt(Instant)} otherwise)
+     * @return the builder
+     */
+    public static Builder builder(OAuthFlow oauthFlow, Token token) {
+        return new Builder(oauthFlow, token);
+    }
+
+    /**
+     * Get the current token.
+     *
+     * @return the token
+     */
+    public Token getToken() {
+        return current.token;
+    }
+
+    /**
+     * Get the current access token.
+     *
+     * @return the access token
+     */
+    public String getAccessToken() {
+        return current.token.getAccessToken();
+    }
+
+    /**
+     * Set the access token of a client now and each time the token is refreshed. Clients built with
+     * {@code SmartsheetBuilder.setTokenManager} are attached already; register the manager as interceptor as well to
+     * have calls wait for and retry after refreshes.
+     *
+     * @param smartsheet the client
+     */
+    public void attach(Smartsheet smartsheet) {
+        Util.throwIfNull(smartsheet);
+        clients.add(smartsheet);
+        smartsheet.setAccessToken(getAccessToken());
+    }
+
+    /**
+     * Stop updating the access token of a client.
+     *
+     * @param smartsheet the client
+     */
+    public void detach(Smartsheet smartsheet) {
+        clients.remove(smartsheet);
+    }
+
+    /**
+     * Refresh the token now, or wait for the refresh in progress.
+     *
+     * @return the new token
+     * @throws SmartsheetException if the refresh fails, e.g. an {@link OAuthTokenException}
+     */
+    public Token refresh() throws SmartsheetException {
+        return await(startRefresh(current)).token;
+    }
+
+    @Override
+    public <T> T intercept(Chain<T> chain) throws SmartsheetException {
+        HttpRequest request = chain.call().getRequest();
+        Map<String, String> headers = request.getHeaders();
+        String authorization = headers == null ? null : headers.get(AUTHORIZATION);
+        Grant grant = current;
+        if (authorization == null || !grant.issued(authorization)) {
+            return chain.proceed();
+        }
+
+        long now = System.nanoTime();
+        if (grant.isExpired(now)) {
+            grant = await(startRefresh(grant));
+        } else if (grant.isDue(now, refreshAheadNanos)) {
+            startRefresh(grant);
+        }
+        if (!grant.bearer.equals(authorization)) {
+            headers.put(AUTHORIZATION, grant.bearer);
+        }
+
+        try {
+            return chain.proceed();
+        } catch (AccessTokenExpiredException e) {
+            if (!rewind(request.getEntity())) {
+                throw e;
+            }
+            headers.put(AUTHORIZATION, await(startRefresh(grant)).bearer);
+            return chain.proceed();
+        }
+    }
+
+    /**
+     * Stop refreshing in the background. Calls made with an expired token still refresh it.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Refresh a grant unless it has been replaced already, joining the refresh in progress if there is one.
+     */
+    private CompletableFuture<Grant> startRefresh(Grant stale) {
+        while (true) {
+            Grant grant = current;
+            if (grant != stale) {
+                return CompletableFuture.completedFuture(grant);
+            }
+            CompletableFuture<Grant> inFlight = refreshing.get();
+            if (inFlight != null) {
+                return inFlight;
+            }
+            CompletableFuture<Grant> future = new CompletableFuture<>();
+            if (refreshing.compareAndSet(null, future)) {
+                if (current != stale) {
+                    refreshing.set(null);
+                    future.complete(current);
+                } else {
+                    try {
+                        scheduler.execute(() -> runRefresh(stale, future));
+                    } catch (RejectedExecutionException e) {
+                        runRefresh(stale, future);
+                    }
+                }
+                return future;
+            }
+        }
+    }
+
+    private void runRefresh(Grant stale, CompletableFuture<Grant> future) {
+        Grant grant;
+        try {
+            Token token = oauthFlow.refreshToken(stale.token);
+            long now = System.nanoTime();
+            grant = new Grant(token, stale.bearer, now, Long.MIN_VALUE);
+        } catch (Exception e) {
+            refreshing.set(null);
+            log.warn("Failed to refresh the OAuth access token", e);
+            if (!stale.isExpired(System.nanoTime()) && !scheduler.isShutdown()) {
+                scheduler.schedule(() -> startRefresh(stale), retryIntervalMillis, TimeUnit.MILLISECONDS);
+            }
+            future.completeExceptionally(e);
+            return;
+        }
+
+        current = grant;
+        refreshing.set(null);
+        for (Smartsheet client : clients) {
+            client.setAccessToken(grant.token.getAccessToken());
+        }
+        schedule(grant);
+        future.complete(grant);
+        if (tokenListener != null) {
+            try {
+                tokenListener.accept(grant.token);
+            } catch (RuntimeException e) {
+                log.warn("Token listener failed", e);
+            }
+        }
+    }
+
+    private void schedule(Grant grant) {
+        if (grant.expiresAt == Long.MIN_VALUE || scheduler.isShutdown()) {
+            return;
+        }
+        long delay = Math.max(0, grant.refreshAt(refreshAheadNanos) - System.nanoTime());
+        try {
+            scheduler.schedule(() -> startRefresh(grant), delay, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("Not scheduling a token refresh, the manager is closed");
+        }
+    }
+
+    private static Grant await(CompletableFuture<Grant> refresh) throws SmartsheetException {
+        try {
+            return refresh.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SmartsheetException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SmartsheetException) {
+                throw (SmartsheetException) e.getCause();
+            }
+            throw new SmartsheetException("Failed to refresh the OAuth access token", e.getCause());
+        }
+    }
+
+    /**
+     * Make the body of a request readable again, so that it can be sent once more.
+     */
+    private static boolean rewind(HttpEntity entity) {
+        InputStream content = entity == null ? null : entity.getContent();
+        if (content == null) {
+            return true;
+        }
+        if (!content.markSupported()) {
+            return false;
+        }
+        try {
+            content.reset();
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * A token and the times it is due for refresh and expires, on the {@link System#nanoTime()} scale.
+     */
+    private static final class Grant {
+        private final Token token;
+        private final String bearer;
+        private final String previousBearer;
+        private final long issuedAt;
+        private final long expiresAt;
+
+        /**
+         * @param expiresAt the expiry, or {@code Long.MIN_VALUE} to derive it from the token's lifetime
+         */
+        Grant(Token token, String previousBearer, long issuedAt, long expiresAt) {
+            this.token = token;
+            this.bearer = BEARER + token.getAccessToken();
+            this.previousBearer = previousBearer;
+            this.issuedAt = issuedAt;
+            if (expiresAt != Long.MIN_VALUE) {
+                this.expiresAt = expiresAt;
+            } else if (token.getExpiresInSeconds() > 0) {
+                this.expiresAt = issuedAt + TimeUnit.SECONDS.toNanos(token.getExpiresInSeconds());
+            } else {
+                this.expiresAt = Long.MIN_VALUE;
+            }
+        }
+
+        boolean issued(String authorization) {
+            return bearer.equals(authorization) || authorization.equals(previousBearer);
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt != Long.MIN_VALUE && now - expiresAt >= 0;
+        }
+
+        boolean isDue(long now, long refreshAheadNanos) {
+            return expiresAt != Long.MIN_VALUE && now - refreshAt(refreshAheadNanos) >= 0;
+        }
+
+        /**
+         * Refresh ahead of expiry, but not before half of the token's lifetime has passed.
+         */
+        long refreshAt(long refreshAheadNanos) {
+            return expiresAt - Math.min(refreshAheadNanos, Math.max(0, (expiresAt - issuedAt) / 2));
+        }
+    }
+
+    /**
+     * Builds an {@link OAuthTokenManager}.
+     */
+    public static class Builder {
+        private final OAuthFlow oauthFlow;
+        private final Token token;
+        private long refreshAheadMillis = DEFAULT_REFRESH_AHEAD_MILLIS;
+        private long retryIntervalMillis = DEFAULT_RETRY_INTERVAL_MILLIS;
+        private Instant expiresAt;
+        private Consumer<Token> tokenListener;
+
+        private Builder(OAuthFlow oauthFlow, Token token) {
+            Util.throwIfNull(oauthFlow, token);
+            this.oauthFlow = oauthFlow;
+            this.token = token;
+        }
+
+        /**
+         * Set how long before expiry the token is refreshed; a token is never refreshed before half of its lifetime
+         * has passed.
+         *
+         * @param refreshAheadMillis the time before expiry
+         * @return the builder
+         */
+        public Builder setRefreshAheadMillis(long refreshAheadMillis) {
+            this.refreshAheadMillis = refreshAheadMillis;
+            return this;
+        }
+
+        /**
+         * Set how long to wait before trying again after a background refresh failed.
+         *
+         * @param retryIntervalMillis the retry interval
+         * @return the builder
+         */
+        public Builder setRetryIntervalMillis(long retryIntervalMillis) {
+            this.retryIntervalMillis = retryIntervalMillis;
+            return this;
+        }
+
+        /**
+         * Set when the token expires, for a token that was not just obtained (e.g. one read back from storage);
+         * otherwise it is taken to expire {@link Token#getExpiresInSeconds()} from now.
+         *
+         * @param expiresAt the expiry
+         * @return the builder
+         */
+        public Builder setExpiresAt(Instant expiresAt) {
+            this.expiresAt = expiresAt;
+            return this;
+        }
+
+        /**
+         * Set a listener notified with each refreshed token, e.g. to store it.
+         *
+         * @param tokenListener the listener
+         * @return the builder
+         */
+        public Builder setTokenListener(Consumer<Token> tokenListener) {
+            this.tokenListener = tokenListener;
+            return this;
+        }
+
+        /**
+         * Build the manager, which starts refreshing in the background.
+         *
+         * @return the manager
+         * @throws IllegalArgumentException if a setting is out of range
+         */
+        public OAuthTokenManager build() {
+            if (refreshAheadMillis < 0 || retryIntervalMillis <= 0) {
+                throw new IllegalArgumentException("Refresh ahead time must not be negative and retry interval must be positive");
+            }
+            return new OAuthTokenManager(this);
+        }
+    }
+}
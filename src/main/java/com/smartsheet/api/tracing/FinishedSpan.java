@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.tracing;
+
+import java.util.Map;
+
+/**
+ * <p>A span recorded by {@link InMemorySpanExporter}.</p>
+ *
+ * <p>Thread Safety: This class is immutable and thread safe.</p>
+ */
+public final class FinishedSpan {
+    private final long id;
+    private final long parentId;
+    private final String name;
+    private final long durationNanos;
+    private final Map<String, Object> attributes;
+    private final Throwable error;
+
+    FinishedSpan(long id, long parentId, String name, long durationNanos, Map<String, Object> attributes, Throwable error) {
+        this.id = id;
+        this.parentId = parentId;
+        this.name = name;
+        this.durationNanos = durationNanos;
+        this.attributes = attributes;
+        this.error = error;
+    }
+
+    /**
+     * @return the id of the span, unique within its exporter
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * @return the id of the parent span, or 0 for a root span
+     */
+    public long getParentId() {
+        return parentId;
+    }
+
+    /**
+     * @return the name of the span
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the time from start to end
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * @return the attributes, as String or Long values
+     */
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Get an attribute.
+     *
+     * @param key the attribute name
+     * @return the value, or null if not set
+     */
+    public Object getAttribute(String key) {
+        return attributes.get(key);
+    }
+
+    /**
+     * @return the recorded failure, or null
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return name + attributes + (error == null ? "" : " error=" + error);
+    }
+}
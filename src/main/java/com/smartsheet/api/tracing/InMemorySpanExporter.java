@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.tracing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A {@link SmartsheetTracer} that keeps every finished span in memory, meant for tests and debugging.</p>
+ *
+ * <p>Spans are kept until {@link #reset()} is called, so do not leave it set on a long-running client.</p>
+ *
+ * <p>Thread Safety: This class is thread safe.</p>
+ */
+public class InMemorySpanExporter implements SmartsheetTracer {
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final ConcurrentLinkedQueue<FinishedSpan> finished = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public TraceSpan startSpan(String name, TraceSpan parent) {
+        long parentId = parent instanceof RecordingSpan ? ((RecordingSpan) parent).id : 0;
+        return new RecordingSpan(nextId.getAndIncrement(), parentId, name);
+    }
+
+    /**
+     * Get the spans finished so far, in the order they ended (children before their parent).
+     *
+     * @return the finished spans
+     */
+    public List<FinishedSpan> getFinishedSpans() {
+        return new ArrayList<>(finished);
+    }
+
+    /**
+     * Get the finished spans with the given name, in the order they ended.
+     *
+     * @param name the span name
+     * @return the matching spans
+     */
+    public List<FinishedSpan> getFinishedSpans(String name) {
+        List<FinishedSpan> spans = new ArrayList<>();
+        for (FinishedSpan span : finished) {
+            if (span.getName().equals(name)) {
+                spans.add(span);
+            }
+        }
+        return spans;
+    }
+
+    /**
+     * Discard the finished spans.
+     */
+    public void reset() {
+        finished.clear();
+    }
+
+    /**
+     * A span being recorded.
+     */
+    private final class RecordingSpan implements TraceSpan {
+        private final long id;
+        private final long parentId;
+        private final String name;
+        private final long startNanos = System.nanoTime();
+        private final Map<String, Object> attributes = new LinkedHashMap<>();
+        private Throwable error;
+        private boolean ended;
+
+        private RecordingSpan(long id, long parentId, String name) {
+            this.id = id;
+            this.parentId = parentId;
+            this.name = name;
+        }
+
+        @Override
+        public void setAttribute(String key, String value) {
+            attributes.put(key, value);
+        }
+
+        @Override
+        public void setAttribute(String key, long value) {
+            attributes.put(key, value);
+        }
+
+        @Override
+        public void recordException(Throwable error) {
+            this.error = error;
+        }
+
+        @Override
+        public void end() {
+            if (!ended) {
+                ended = true;
+                finished.add(new FinishedSpan(id, parentId, name, System.nanoTime() - startNanos,
+                        Collections.unmodifiableMap(new LinkedHashMap<>(attributes)), error));
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.tracing;
+
+/**
+ * <p>Creates the spans the SDK reports while it works: one per resource method call (named after the resources
+ * interface and method, e.g. {@code SheetRowResources.addRows}), with child spans for each HTTP attempt
+ * ({@link #SPAN_HTTP_ATTEMPT}), each backoff sleep before a retry ({@link #SPAN_HTTP_BACKOFF}) and the serialization
+ * and deserialization of bodies ({@link #SPAN_SERIALIZE}, {@link #SPAN_DESERIALIZE}).</p>
+ *
+ * <p>Spans are only created while a tracer is set with {@code SmartsheetBuilder.setTracer}; without one (or with
+ * {@link #NOOP}) the SDK does not wrap its resources or time anything, so tracing costs nothing.</p>
+ *
+ * <p>{@link InMemorySpanExporter} keeps finished spans in memory for tests. To export to OpenTelemetry, implement
+ * this interface on top of an {@code io.opentelemetry.api.trace.Tracer}: {@code startSpan} maps to
+ * {@code spanBuilder(name).setParent(parent == null ? Context.current() : Context.current().with(parentSpan))
+ * .startSpan()}, and {@link TraceSpan} delegates to the resulting {@code Span}.</p>
+ *
+ * <p>Thread Safety: Implementations of this interface must be thread safe, and should not block.</p>
+ */
+public interface SmartsheetTracer {
+
+    /**
+     * Name of the span covering one HTTP attempt, from sending the request to receiving the response headers.
+     */
+    String SPAN_HTTP_ATTEMPT = "http.attempt";
+
+    /**
+     * Name of the span covering the wait before retrying a failed attempt.
+     */
+    String SPAN_HTTP_BACKOFF = "http.backoff";
+
+    /**
+     * Name of the span covering the serialization of a request body.
+     */
+    String SPAN_SERIALIZE = "json.serialize";
+
+    /**
+     * Name of the span covering the deserialization of a response body.
+     */
+    String SPAN_DESERIALIZE = "json.deserialize";
+
+    /**
+     * Attribute holding the normalized route of a request, e.g. {@code GET /sheets/{id}/rows}.
+     */
+    String ATTR_ROUTE = "smartsheet.route";
+
+    /**
+     * Attribute holding the HTTP status code of a response.
+     */
+    String ATTR_STATUS = "http.status_code";
+
+    /**
+     * Attribute holding the Smartsheet error code of a failed request.
+     */
+    String ATTR_ERROR_CODE = "smartsheet.error_code";
+
+    /**
+     * Attribute holding the size of the request body in bytes.
+     */
+    String ATTR_REQUEST_BYTES = "http.request_bytes";
+
+    /**
+     * Attribute holding the size of the response body in bytes.
+     */
+    String ATTR_RESPONSE_BYTES = "http.response_bytes";
+
+    /**
+     * Attribute holding the simple name of the class being (de)serialized.
+     */
+    String ATTR_TYPE = "json.type";
+
+    /**
+     * Attribute holding the bytes written by serialization or read by deserialization.
+     */
+    String ATTR_BYTES = "json.bytes";
+
+    /**
+     * A tracer that creates no spans.
+     */
+    SmartsheetTracer NOOP = (name, parent) -> TraceSpan.NOOP;
+
+    /**
+     * <p>Start a span.</p>
+     *
+     * @param name   the name of the span
+     * @param parent the enclosing span created by this tracer, or null to start a root span
+     * @return the started span, never null
+     */
+    TraceSpan startSpan(String name, TraceSpan parent);
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.tracing;
+
+/**
+ * <p>A span started by a {@link SmartsheetTracer}. The SDK sets its attributes and ends it on the thread that
+ * started it.</p>
+ *
+ * <p>Thread Safety: Implementations of this interface need not be thread safe.</p>
+ */
+public interface TraceSpan {
+
+    /**
+     * A span that records nothing.
+     */
+    TraceSpan NOOP = new TraceSpan() {
+        @Override
+        public void setAttribute(String key, String value) {
+        }
+
+        @Override
+        public void setAttribute(String key, long value) {
+        }
+
+        @Override
+        public void recordException(Throwable error) {
+        }
+
+        @Override
+        public void end() {
+        }
+    };
+
+    /**
+     * <p>Set a string attribute.</p>
+     *
+     * @param key   the attribute name, e.g. {@link SmartsheetTracer#ATTR_ROUTE}
+     * @param value the value
+     */
+    void setAttribute(String key, String value);
+
+    /**
+     * <p>Set a numeric attribute.</p>
+     *
+     * @param key   the attribute name, e.g. {@link SmartsheetTracer#ATTR_STATUS}
+     * @param value the value
+     */
+    void setAttribute(String key, long value);
+
+    /**
+     * <p>Record that the operation covered by the span failed.</p>
+     *
+     * @param error the failure
+     */
+    void recordException(Throwable error);
+
+    /**
+     * <p>End the span. Calls after the first are ignored.</p>
+     */
+    void end();
+}
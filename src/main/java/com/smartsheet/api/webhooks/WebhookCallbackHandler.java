@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.webhooks;
+
+import com.smartsheet.api.models.WebhookCallback;
+
+/**
+ * <p>Receives the webhook callbacks accepted by a {@link WebhookReceiver}.</p>
+ *
+ * <p>Callbacks are acknowledged before they are handled, so a callback whose handler throws is not retried by
+ * Smartsheet; handlers that must not lose work should persist it first. Smartsheet may also send a callback more than
+ * once, so handlers should be idempotent, for example by keying on {@link WebhookCallback#getNonce()}.</p>
+ *
+ * <p>Thread Safety: A handler is called from the receiver's worker threads, concurrently if there is more than one.
+ * </p>
+ */
+@FunctionalInterface
+public interface WebhookCallbackHandler {
+
+    /**
+     * Handle a callback.
+     *
+     * @param callback the callback, which carries either events or a new webhook status
+     * @throws Exception if the callback couldn't be handled; it's logged and counted
+     */
+    void onCallback(WebhookCallback callback) throws Exception;
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.webhooks;
+
+import com.smartsheet.api.internal.util.Util;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Adapts a {@link WebhookReceiver} to the JDK's built-in {@link HttpServer}.</p>
+ *
+ * <p>The callback URL is reachable by anyone, so a request body is only read up to a maximum size (the signature
+ * can't be checked before the body is read): a larger body is answered with 413 without being read in full.</p>
+ *
+ * <p>Thread Safety: This class is thread safe.</p>
+ */
+public class WebhookHttpHandler implements HttpHandler {
+
+    /**
+     * Default largest request body read; callbacks only carry event summaries, so they are far smaller.
+     */
+    public static final int DEFAULT_MAX_BODY_BYTES = 1024 * 1024;
+
+    /**
+     * Default number of threads the server started by {@link #start} handles requests on.
+     */
+    public static final int DEFAULT_THREAD_COUNT = 4;
+
+    private static final int METHOD_NOT_ALLOWED = 405;
+    private static final int PAYLOAD_TOO_LARGE = 413;
+    private static final int QUEUED_REQUESTS_PER_THREAD = 16;
+
+    private final WebhookReceiver receiver;
+    private final int maxBodyBytes;
+
+    /**
+     * Constructor.
+     *
+     * @param receiver the receiver requests are passed to
+     */
+    public WebhookHttpHandler(WebhookReceiver receiver) {
+        this(receiver, DEFAULT_MAX_BODY_BYTES);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param receiver     the receiver requests are passed to
+     * @param maxBodyBytes the largest request body read
+     * @throws IllegalArgumentException if the maximum isn't positive
+     */
+    public WebhookHttpHandler(WebhookReceiver receiver, int maxBodyBytes) {
+        Util.throwIfNull(receiver);
+        if (maxBodyBytes <= 0) {
+            throw new IllegalArgumentException("Max body bytes must be positive");
+        }
+        this.receiver = receiver;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    /**
+     * Start an HTTP server that passes POST requests on the given path to the receiver, and start the receiver.
+     *
+     * @param receiver the receiver
+     * @param address  the address to listen on
+     * @param path     the callback path, e.g. "/webhook"
+     * @return the started server; stop it before closing the receiver
+     * @throws IOException if the server can't be bound
+     */
+    public static HttpServer start(WebhookReceiver receiver, InetSocketAddress address, String path) throws IOException {
+        return start(receiver, address, path, DEFAULT_MAX_BODY_BYTES, DEFAULT_THREAD_COUNT);
+    }
+
+    /**
+     * Start an HTTP server that passes POST requests on the given path to the receiver, and start the receiver.
+     * Requests are handled on a bounded pool of daemon threads, so a slow client only holds up one of them; once all
+     * are busy and a few requests are queued for each, the server stops accepting connections until one is free.
+     *
+     * @param receiver     the receiver
+     * @param address      the address to listen on
+     * @param path         the callback path, e.g. "/webhook"
+     * @param maxBodyBytes the largest request body read
+     * @param threadCount  the number of threads requests are handled on
+     * @return the started server; stop it before closing the receiver
+     * @throws IOException              if the server can't be bound
+     * @throws IllegalArgumentException if the maximum or the thread count isn't positive
+     */
+    public static HttpServer start(WebhookReceiver receiver, InetSocketAddress address, String path, int maxBodyBytes,
+                                   int threadCount) throws IOException {
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        WebhookHttpHandler handler = new WebhookHttpHandler(receiver, maxBodyBytes);
+        AtomicInteger threads = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threadCount * QUEUED_REQUESTS_PER_THREAD), runnable -> {
+                    Thread thread = new Thread(runnable, "smartsheet-webhook-http-" + threads.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        // idle threads exit, so a stopped server leaves none behind
+        executor.allowCoreThreadTimeOut(true);
+
+        HttpServer server = HttpServer.create(address, 0);
+        server.createContext(path, handler);
+        server.setExecutor(executor);
+        receiver.start();
+        server.start();
+        return server;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(METHOD_NOT_ALLOWED, -1);
+                return;
+            }
+            if (contentLength(exchange) > maxBodyBytes) {
+                exchange.sendResponseHeaders(PAYLOAD_TOO_LARGE, -1);
+                return;
+            }
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                // a chunked body has no length up front; one byte more than the maximum tells that it is too large
+                body = in.readNBytes((int) Math.min(maxBodyBytes + 1L, Integer.MAX_VALUE));
+            }
+            if (body.length > maxBodyBytes) {
+                exchange.sendResponseHeaders(PAYLOAD_TOO_LARGE, -1);
+                return;
+            }
+            WebhookResponse response = receiver.handle(
+                    exchange.getRequestHeaders().getFirst(WebhookReceiver.CHALLENGE_HEADER),
+                    exchange.getRequestHeaders().getFirst(WebhookReceiver.HMAC_HEADER),
+                    body);
+            for (Map.Entry<String, String> header : response.getHeaders().entrySet()) {
+                exchange.getResponseHeaders().set(header.getKey(), header.getValue());
+            }
+            if (response.getBody().length == 0) {
+                exchange.sendResponseHeaders(response.getStatus(), -1);
+            } else {
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(response.getStatus(), response.getBody().length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(response.getBody());
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static long contentLength(HttpExchange exchange) {
+        String length = exchange.getRequestHeaders().getFirst("Content-Length");
+        try {
+            return length == null ? -1 : Long.parseLong(length.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,478 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.webhooks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.WebhookCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Receives webhook callbacks independently of the HTTP server: the server passes each request's
+ * {@value #CHALLENGE_HEADER} and {@value #HMAC_HEADER} headers and body to {@link #handle(String, String, byte[])} and
+ * sends back the returned {@link WebhookResponse}. {@link WebhookHttpHandler} does this for the JDK's built-in
+ * server; a servlet needs only a few lines to do the same.</p>
+ *
+ * <p>The receiver answers verification challenges, checks the HMAC-SHA256 signature of every callback against the
+ * webhook's shared secret, and acknowledges a callback as soon as it is queued. Queued callbacks are parsed and
+ * handed to the {@link WebhookCallbackHandler} by worker threads, so a slow handler never delays the response
+ * (Smartsheet disables webhooks whose callbacks time out). When the queue is full the {@link OverflowPolicy} decides
+ * what happens.</p>
+ *
+ * <p>Thread Safety: This class is thread safe.</p>
+ */
+public class WebhookReceiver implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(WebhookReceiver.class);
+
+    /**
+     * The header Smartsheet sends the verification challenge in.
+     */
+    public static final String CHALLENGE_HEADER = "Smartsheet-Hook-Challenge";
+
+    /**
+     * The header the challenge is echoed back in.
+     */
+    public static final String CHALLENGE_RESPONSE_HEADER = "Smartsheet-Hook-Response";
+
+    /**
+     * The header Smartsheet sends the hex HMAC-SHA256 of the body in.
+     */
+    public static final String HMAC_HEADER = "Smartsheet-Hmac-SHA256";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    private static final long POLL_MILLIS = 100;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final WebhookResponse OK = new WebhookResponse(200);
+    private static final WebhookResponse BAD_REQUEST = new WebhookResponse(400);
+    private static final WebhookResponse UNAUTHORIZED = new WebhookResponse(401);
+    private static final WebhookResponse UNAVAILABLE = new WebhookResponse(503);
+
+    /**
+     * What to do with a callback that arrives while the queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Answer 503 so that Smartsheet retries the callback later.
+         */
+        REJECT,
+
+        /**
+         * Acknowledge the callback but drop it.
+         */
+        DROP_NEWEST,
+
+        /**
+         * Drop the oldest queued callback to make room.
+         */
+        DROP_OLDEST
+    }
+
+    private final WebhookCallbackHandler handler;
+    private final BlockingQueue<byte[]> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final int workerCount;
+    private final JacksonJsonSerializer serializer = new JacksonJsonSerializer();
+    private final Map<Long, ThreadLocal<Mac>> macs = new ConcurrentHashMap<>();
+    private final ThreadLocal<Mac> defaultMac;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean closed;
+
+    private final LongAdder receivedCount = new LongAdder();
+    private final LongAdder challengeCount = new LongAdder();
+    private final LongAdder unauthorizedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder handledCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    private WebhookReceiver(Builder builder) {
+        this.handler = builder.handler;
+        this.queue = new ArrayBlockingQueue<>(builder.queueCapacity);
+        this.overflowPolicy = builder.overflowPolicy;
+        this.workerCount = builder.workerCount;
+        this.defaultMac = builder.sharedSecret == null ? null : macFor(builder.sharedSecret);
+    }
+
+    /**
+     * Create a builder.
+     *
+     * @param handler the handler for accepted callbacks
+     * @return the builder
+     */
+    public static Builder builder(WebhookCallbackHandler handler) {
+        return new Builder(handler);
+    }
+
+    /**
+     * Set the shared secret of a webhook, replacing the default secret for callbacks from it. Call this again after
+     * {@code WebhookResources.resetSharedSecret}.
+     *
+     * @param webhookId    the webhook
+     * @param sharedSecret the webhook's shared secret
+     */
+    public void putSharedSecret(long webhookId, String sharedSecret) {
+        Util.throwIfNull(sharedSecret);
+        macs.put(webhookId, macFor(sharedSecret));
+    }
+
+    /**
+     * Forget the shared secret of a webhook.
+     *
+     * @param webhookId the webhook
+     */
+    public void removeSharedSecret(long webhookId) {
+        macs.remove(webhookId);
+    }
+
+    /**
+     * Start the worker threads that hand queued callbacks to the handler.
+     *
+     * @return this receiver
+     */
+    public synchronized WebhookReceiver start() {
+        if (workers.isEmpty() && !closed) {
+            for (int i = 0; i < workerCount; i++) {
+                Thread worker = new Thread(this::work, "smartsheet-webhook-worker-" + i);
+                worker.setDaemon(true);
+                workers.add(worker);
+                worker.start();
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Handle a request sent to the callback URL.
+     *
+     * @param challenge the {@value #CHALLENGE_HEADER} header, or null
+     * @param hmac      the {@value #HMAC_HEADER} header, or null
+     * @param body      the request body
+     * @return the response to send
+     */
+    public WebhookResponse handle(String challenge, String hmac, byte[] body) {
+        if (hmac != null || challenge == null) {
+            if (body == null || hmac == null || !verify(hmac, body)) {
+                unauthorizedCount.increment();
+                return UNAUTHORIZED;
+            }
+        }
+        if (challenge != null) {
+            challengeCount.increment();
+            return challengeResponse(challenge);
+        }
+        if (body.length == 0) {
+            return BAD_REQUEST;
+        }
+        receivedCount.increment();
+        if (closed) {
+            return UNAVAILABLE;
+        }
+        if (queue.offer(body)) {
+            return OK;
+        }
+        switch (overflowPolicy) {
+            case DROP_NEWEST:
+                droppedCount.increment();
+                return OK;
+            case DROP_OLDEST:
+                while (!queue.offer(body)) {
+                    if (queue.poll() != null) {
+                        droppedCount.increment();
+                    }
+                }
+                return OK;
+            default:
+                droppedCount.increment();
+                return UNAVAILABLE;
+        }
+    }
+
+    /**
+     * @return the number of callbacks received with a valid signature (challenges excluded)
+     */
+    public long getReceivedCount() {
+        return receivedCount.sum();
+    }
+
+    /**
+     * @return the number of verification challenges answered
+     */
+    public long getChallengeCount() {
+        return challengeCount.sum();
+    }
+
+    /**
+     * @return the number of requests refused because their signature was missing or wrong
+     */
+    public long getUnauthorizedCount() {
+        return unauthorizedCount.sum();
+    }
+
+    /**
+     * @return the number of callbacks dropped or rejected because the queue was full
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * @return the number of callbacks the handler completed
+     */
+    public long getHandledCount() {
+        return handledCount.sum();
+    }
+
+    /**
+     * @return the number of callbacks that couldn't be parsed or whose handler threw
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * @return the number of callbacks waiting for a worker
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Stop accepting callbacks, and wait for the workers to handle the ones already queued.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        List<Thread> started;
+        synchronized (this) {
+            started = new ArrayList<>(workers);
+        }
+        for (Thread worker : started) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void work() {
+        while (!closed || !queue.isEmpty()) {
+            byte[] body;
+            try {
+                body = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (body != null) {
+                dispatch(body);
+            }
+        }
+    }
+
+    private void dispatch(byte[] body) {
+        try {
+            handler.onCallback(serializer.deserialize(WebhookCallback.class, new ByteArrayInputStream(body)));
+            handledCount.increment();
+        } catch (Exception e) {
+            failedCount.increment();
+            log.warn("Webhook callback handler failed", e);
+        }
+    }
+
+    private boolean verify(String hmac, byte[] body) {
+        ThreadLocal<Mac> mac = defaultMac;
+        if (!macs.isEmpty()) {
+            Long webhookId = readWebhookId(body);
+            if (webhookId != null) {
+                mac = macs.getOrDefault(webhookId, defaultMac);
+            }
+        }
+        if (mac == null) {
+            return false;
+        }
+        byte[] expected = mac.get().doFinal(body);
+        return MessageDigest.isEqual(expected, decodeHex(hmac));
+    }
+
+    /**
+     * Read the top-level webhookId without parsing the rest of the body.
+     */
+    private static Long readWebhookId(byte[] body) {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("webhookId".equals(name) && value == JsonToken.VALUE_NUMBER_INT) {
+                    return parser.getLongValue();
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            log.debug("Unreadable webhook callback body", e);
+        }
+        return null;
+    }
+
+    private static byte[] decodeHex(String hex) {
+        if (hex.length() % 2 != 0) {
+            return new byte[0];
+        }
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = Character.digit(hex.charAt(2 * i), 16);
+            int low = Character.digit(hex.charAt(2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                return new byte[0];
+            }
+            bytes[i] = (byte) (high << 4 | low);
+        }
+        return bytes;
+    }
+
+    /**
+     * A Mac per thread for one secret, so the key is only set up once per thread.
+     */
+    private static ThreadLocal<Mac> macFor(String sharedSecret) {
+        SecretKeySpec key = new SecretKeySpec(sharedSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        return ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static WebhookResponse challengeResponse(String challenge) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(body)) {
+            generator.writeStartObject();
+            generator.writeStringField("smartsheetHookResponse", challenge);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return new WebhookResponse(200, Collections.singletonMap(CHALLENGE_RESPONSE_HEADER, challenge), body.toByteArray());
+    }
+
+    /**
+     * Builds a {@link WebhookReceiver}.
+     */
+    public static class Builder {
+        private final WebhookCallbackHandler handler;
+        private String sharedSecret;
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        private int workerCount = 1;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.REJECT;
+
+        private Builder(WebhookCallbackHandler handler) {
+            Util.throwIfNull(handler);
+            this.handler = handler;
+        }
+
+        /**
+         * Set the shared secret used for webhooks without their own (see {@link WebhookReceiver#putSharedSecret(long, String)}).
+         * Callbacks from a webhook with no known secret are refused.
+         *
+         * @param sharedSecret the shared secret
+         * @return the builder
+         */
+        public Builder setSharedSecret(String sharedSecret) {
+            this.sharedSecret = sharedSecret;
+            return this;
+        }
+
+        /**
+         * Set how many callbacks can wait for a worker (defaults to 1,000).
+         *
+         * @param queueCapacity the queue capacity
+         * @return the builder
+         */
+        public Builder setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Set the number of worker threads (defaults to 1, which handles callbacks in arrival order).
+         *
+         * @param workerCount the number of workers
+         * @return the builder
+         */
+        public Builder setWorkerCount(int workerCount) {
+            this.workerCount = workerCount;
+            return this;
+        }
+
+        /**
+         * Set what to do when the queue is full (defaults to {@link OverflowPolicy#REJECT}).
+         *
+         * @param overflowPolicy the overflow policy
+         * @return the builder
+         */
+        public Builder setOverflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * Build the receiver; call {@link WebhookReceiver#start()} to start handling callbacks.
+         *
+         * @return the receiver
+         * @throws IllegalArgumentException if the queue capacity or worker count is not positive
+         */
+        public WebhookReceiver build() {
+            Util.throwIfNull(overflowPolicy);
+            if (queueCapacity <= 0 || workerCount <= 0) {
+                throw new IllegalArgumentException("queueCapacity and workerCount must be positive");
+            }
+            return new WebhookReceiver(this);
+        }
+    }
+}
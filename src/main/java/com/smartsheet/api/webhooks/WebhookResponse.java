@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.webhooks;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * <p>The response a {@link WebhookReceiver} wants sent back for a request, independent of the HTTP server used.</p>
+ *
+ * <p>Thread Safety: This class is immutable.</p>
+ */
+public final class WebhookResponse {
+    private static final byte[] EMPTY = new byte[0];
+
+    private final int status;
+    private final Map<String, String> headers;
+    private final byte[] body;
+
+    WebhookResponse(int status, Map<String, String> headers, byte[] body) {
+        this.status = status;
+        this.headers = Collections.unmodifiableMap(headers);
+        this.body = body;
+    }
+
+    WebhookResponse(int status) {
+        this(status, Collections.emptyMap(), EMPTY);
+    }
+
+    /**
+     * @return the HTTP status code
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * @return the response headers to set
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @return the response body (empty if there is none); must not be modified
+     */
+    public byte[] getBody() {
+        return body;
+    }
+}
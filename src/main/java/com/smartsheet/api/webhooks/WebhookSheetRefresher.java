@@ -0,0 +1,324 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.webhooks;
+
+import com.smartsheet.api.SheetResources;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.cache.SheetCache;
+import com.smartsheet.api.cache.SheetCacheKey;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.WebhookCallback;
+import com.smartsheet.api.models.WebhookCallbackEvent;
+import com.smartsheet.api.models.enums.ObjectExclusion;
+import com.smartsheet.api.models.enums.SheetInclusion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Keeps cached sheets up to date from webhook callbacks instead of re-reading whole sheets.</p>
+ *
+ * <p>For each sheet, the rows named by cell and row update events are collected over a short window and then fetched
+ * in a single {@code getSheet} call restricted to those row ids, and the fetched rows are patched into a copy of the
+ * cached sheet. The patched copy is only kept if the changes in the window account for the new sheet version (each
+ * save raises the version by one, and the events of a save share its timestamp); otherwise some change wasn't
+ * reported (a callback was lost or is late, or the sheet changed again before the rows were fetched) and the cached
+ * copy is brought up to date with {@link SheetResources#refreshSheet} instead, as it is when rows were added or
+ * deleted. Column or sheet-level changes reload the sheet. Only sheets that are already cached are refreshed, and a
+ * refreshed sheet is only stored if the cached copy wasn't replaced meanwhile; on any error the sheet is dropped from
+ * the cache so the next read reloads it.</p>
+ *
+ * <p>Register it as (or call it from) the {@link WebhookCallbackHandler} of a {@link WebhookReceiver} for webhooks
+ * scoped to the cached sheets. The sheets are cached under {@link SheetCacheKey#of(long)} unless other keys are
+ * registered with {@link #watch(SheetCacheKey)}.</p>
+ *
+ * <p>Thread Safety: This class is thread safe.</p>
+ */
+public class WebhookSheetRefresher implements WebhookCallbackHandler, Closeable {
+    private static final Logger log = LoggerFactory.getLogger(WebhookSheetRefresher.class);
+
+    /**
+     * The default time events for a sheet are collected before the sheet is refreshed.
+     */
+    public static final long DEFAULT_WINDOW_MILLIS = 500;
+
+    private static final String SHEET = "sheet";
+    private static final String ROW = "row";
+    private static final String CELL = "cell";
+    private static final String COLUMN = "column";
+    private static final String UPDATED = "updated";
+
+    private final SheetResources sheets;
+    private final SheetCache cache;
+    private final long windowMillis;
+    private final ScheduledExecutorService scheduler;
+    private final Map<Long, Set<SheetCacheKey>> watched = new ConcurrentHashMap<>();
+    private final Map<Long, PendingChanges> pending = new ConcurrentHashMap<>();
+
+    private final AtomicLong patchedRowCount = new AtomicLong();
+    private final AtomicLong rowFetchCount = new AtomicLong();
+    private final AtomicLong deltaRefreshCount = new AtomicLong();
+    private final AtomicLong fullRefreshCount = new AtomicLong();
+
+    /**
+     * Constructor, using {@link #DEFAULT_WINDOW_MILLIS}.
+     *
+     * @param sheets the sheet resources used to fetch rows
+     * @param cache  the cache to keep up to date
+     */
+    public WebhookSheetRefresher(SheetResources sheets, SheetCache cache) {
+        this(sheets, cache, DEFAULT_WINDOW_MILLIS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param sheets       the sheet resources used to fetch rows
+     * @param cache        the cache to keep up to date
+     * @param windowMillis how long events for a sheet are collected before it is refreshed
+     */
+    public WebhookSheetRefresher(SheetResources sheets, SheetCache cache, long windowMillis) {
+        Util.throwIfNull(sheets, cache);
+        this.sheets = sheets;
+        this.cache = cache;
+        this.windowMillis = windowMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "smartsheet-webhook-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Keep the sheet cached under the given key up to date, in addition to any other keys of the same sheet.
+     *
+     * @param key the cache key
+     */
+    public void watch(SheetCacheKey key) {
+        watched.computeIfAbsent(key.getSheetId(), id -> new CopyOnWriteArraySet<>()).add(key);
+    }
+
+    /**
+     * Collect the changes a callback reports; the sheet is refreshed when the window ends.
+     *
+     * @param callback the callback
+     */
+    @Override
+    public void onCallback(WebhookCallback callback) {
+        if (!SHEET.equals(callback.getScope()) || callback.getScopeObjectId() == null || callback.getEvents() == null) {
+            return;
+        }
+        long sheetId = callback.getScopeObjectId();
+        while (true) {
+            PendingChanges changes = pending.computeIfAbsent(sheetId, id -> new PendingChanges());
+            synchronized (changes) {
+                if (changes.flushed) {
+                    continue;
+                }
+                for (WebhookCallbackEvent event : callback.getEvents()) {
+                    changes.add(event);
+                }
+                if (!changes.scheduled) {
+                    changes.scheduled = true;
+                    scheduler.schedule(() -> flush(sheetId), windowMillis, TimeUnit.MILLISECONDS);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the number of rows patched into cached sheets
+     */
+    public long getPatchedRowCount() {
+        return patchedRowCount.get();
+    }
+
+    /**
+     * @return the number of row fetches (one per sheet and window)
+     */
+    public long getRowFetchCount() {
+        return rowFetchCount.get();
+    }
+
+    /**
+     * @return the number of times rows were added or deleted and a cached sheet was brought up to date incrementally
+     */
+    public long getDeltaRefreshCount() {
+        return deltaRefreshCount.get();
+    }
+
+    /**
+     * @return the number of times a cached sheet was reloaded
+     */
+    public long getFullRefreshCount() {
+        return fullRefreshCount.get();
+    }
+
+    /**
+     * Stop refreshing; changes collected but not yet applied are discarded.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void flush(long sheetId) {
+        PendingChanges changes = pending.get(sheetId);
+        if (changes == null) {
+            return;
+        }
+        synchronized (changes) {
+            changes.flushed = true;
+            pending.remove(sheetId, changes);
+        }
+        Set<SheetCacheKey> keys = watched.get(sheetId);
+        for (SheetCacheKey key : keys == null ? Set.of(SheetCacheKey.of(sheetId)) : keys) {
+            Sheet cached = cache.getIfPresent(key);
+            if (cached == null) {
+                continue;
+            }
+            try {
+                Sheet current = apply(key, cached, changes);
+                // a newer copy stored while the changes were applied (e.g. by a concurrent read) stays
+                if (current != cached) {
+                    cache.replace(key, cached, current);
+                }
+            } catch (SmartsheetException | RuntimeException e) {
+                log.warn("Failed to refresh sheet {} from webhook events, dropping it from the cache", sheetId, e);
+                cache.invalidate(sheetId);
+                return;
+            }
+        }
+    }
+
+    private Sheet apply(SheetCacheKey key, Sheet cached, PendingChanges changes) throws SmartsheetException {
+        EnumSet<SheetInclusion> includes = key.getIncludes().isEmpty() ? null : EnumSet.copyOf(key.getIncludes());
+        EnumSet<ObjectExclusion> excludes = key.getExcludes().isEmpty() ? null : EnumSet.copyOf(key.getExcludes());
+        Set<Long> columnIds = key.getColumnIds().isEmpty() ? null : key.getColumnIds();
+        if (changes.structural) {
+            fullRefreshCount.incrementAndGet();
+            return sheets.getSheet(key.getSheetId(), includes, excludes, null, null, columnIds, null, null);
+        }
+        if (changes.rowsAddedOrDeleted || !cachedRowIds(cached).containsAll(changes.rowIds)) {
+            deltaRefreshCount.incrementAndGet();
+            return sheets.refreshSheet(cached, includes, excludes, columnIds);
+        }
+        if (changes.rowIds.isEmpty()) {
+            return cached;
+        }
+        rowFetchCount.incrementAndGet();
+        Sheet fetched = sheets.getSheet(key.getSheetId(), includes, excludes, changes.rowIds, null, columnIds, null, null);
+        if (fetched.getVersion() != null && cached.getVersion() != null && fetched.getVersion() <= cached.getVersion()) {
+            return cached;
+        }
+        if (fetched.getVersion() == null || cached.getVersion() == null ||
+                fetched.getVersion() - cached.getVersion() > changes.saveCount()) {
+            // changed by more saves than the window reported, so rows other than the fetched ones may have changed
+            deltaRefreshCount.incrementAndGet();
+            return sheets.refreshSheet(cached, includes, excludes, columnIds);
+        }
+        Map<Long, Row> changed = new HashMap<>();
+        if (fetched.getRows() != null) {
+            for (Row row : fetched.getRows()) {
+                changed.put(row.getId(), row);
+            }
+        }
+        List<Row> merged = new ArrayList<>(cached.getRows().size());
+        for (Row row : cached.getRows()) {
+            Row replacement = changed.get(row.getId());
+            merged.add(replacement == null ? row : replacement);
+        }
+        patchedRowCount.addAndGet(changed.size());
+        fetched.setRows(merged);
+        fetched.setTotalRowCount(cached.getTotalRowCount());
+        return fetched;
+    }
+
+    private static Set<Long> cachedRowIds(Sheet sheet) {
+        Set<Long> ids = new HashSet<>();
+        if (sheet.getRows() != null) {
+            for (Row row : sheet.getRows()) {
+                ids.add(row.getId());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * The changes reported for one sheet during the current window; guarded by itself, and no longer changed once
+     * flushed.
+     */
+    private static final class PendingChanges {
+        private final Set<Long> rowIds = new HashSet<>();
+        private final Set<Object> saveTimestamps = new HashSet<>();
+        private int untimedEvents;
+        private boolean rowsAddedOrDeleted;
+        private boolean structural;
+        private boolean scheduled;
+        private boolean flushed;
+
+        private void add(WebhookCallbackEvent event) {
+            if (event.getTimestamp() == null) {
+                untimedEvents++;
+            } else {
+                saveTimestamps.add(event.getTimestamp());
+            }
+            String objectType = event.getObjectType();
+            if (CELL.equals(objectType)) {
+                addRow(event.getRowId());
+            } else if (ROW.equals(objectType)) {
+                if (UPDATED.equals(event.getEventType())) {
+                    addRow(event.getId());
+                } else {
+                    rowsAddedOrDeleted = true;
+                }
+            } else if (COLUMN.equals(objectType) || SHEET.equals(objectType)) {
+                structural = true;
+            }
+        }
+
+        /**
+         * @return the most saves the events can come from: one per timestamp, and one per event without a timestamp
+         */
+        private int saveCount() {
+            return saveTimestamps.size() + untimedEvents;
+        }
+
+        private void addRow(Long rowId) {
+            if (rowId != null) {
+                rowIds.add(rowId);
+            }
+        }
+    }
+}
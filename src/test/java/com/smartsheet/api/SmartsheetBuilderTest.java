@@ -18,10 +18,15 @@ package com.smartsheet.api;
 
 import com.smartsheet.api.internal.SmartsheetImpl;
 import com.smartsheet.api.internal.http.DefaultHttpClient;
+import com.smartsheet.api.internal.http.HttpMethod;
+import com.smartsheet.api.internal.http.StubHttpClient;
 import com.smartsheet.api.internal.json.JacksonJsonSerializer;
 import org.junit.jupiter.api.Test;
 
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class SmartsheetBuilderTest {
 
@@ -35,4 +40,45 @@ class SmartsheetBuilderTest {
         ss.getClass();
     }
 
+    @Test
+    void requestCoalescingIsAppliedToTheClient() throws SmartsheetException {
+        StubHttpClient httpClient = new StubHttpClient().respond(HttpMethod.GET, "sheets/1", "{\"id\":1,\"version\":3}");
+        RequestCoalescing coalescing = RequestCoalescing.withTtl(60_000);
+        Smartsheet smartsheet = new SmartsheetBuilder().setBaseURI(StubHttpClient.BASE_URI).setAccessToken("b")
+                .setHttpClient(httpClient).setRequestCoalescing(coalescing).build();
+
+        smartsheet.sheetResources().getSheet(1L);
+        smartsheet.sheetResources().getSheet(1L);
+
+        assertThat(httpClient.countRequests(HttpMethod.GET, "sheets/1")).isEqualTo(1);
+        assertThat(coalescing.getExecutedCount()).isEqualTo(1);
+        assertThat(coalescing.getCoalescedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrencyLimitIsAppliedToTheClient() {
+        ConcurrencyLimit limit = ConcurrencyLimit.builder().setInitialLimit(4).setMaxLimit(16).build();
+        Smartsheet smartsheet = new SmartsheetBuilder().setAccessToken("b").setConcurrencyLimit(limit).build();
+
+        assertThat(((SmartsheetImpl) smartsheet).getConcurrencyLimiter()).isSameAs(limit.getLimiter());
+        assertThat(limit.getLimit()).isEqualTo(4);
+        assertThat(limit.getInFlight()).isZero();
+        assertThat(limit.getQueueDepth()).isZero();
+        assertThatThrownBy(() -> ConcurrencyLimit.builder().setMinLimit(8).setMaxLimit(4).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void requestHedgingIsAppliedToTheClient() {
+        RequestHedging hedging = RequestHedging.builder().setRoutes(Set.of("GET /reports/{id}")).setMinSamples(5).build();
+        Smartsheet smartsheet = new SmartsheetBuilder().setAccessToken("b").setRequestHedging(hedging).build();
+
+        assertThat(((SmartsheetImpl) smartsheet).getRequestHedger()).isSameAs(hedging.getHedger());
+        assertThat(hedging.getHedgedCount()).isZero();
+        assertThat(hedging.getDelayMillis("GET /reports/{id}")).isEqualTo(-1);
+        assertThat(RequestHedging.DEFAULT_ROUTES).contains("GET /sheets/{id}");
+        assertThatThrownBy(() -> RequestHedging.builder().setBudgetRatio(2).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
 }
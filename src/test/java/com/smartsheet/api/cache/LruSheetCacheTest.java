@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.cache;
+
+import com.smartsheet.api.ResourceNotFoundException;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Error;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.SheetInclusion;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LruSheetCacheTest {
+
+    private static Sheet sheet(long id, int version, int rows) {
+        Sheet sheet = new Sheet(id);
+        sheet.setVersion(version);
+        sheet.setColumns(List.of(new Column()));
+        List<Row> rowList = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            Row row = new Row();
+            row.setCells(List.of(new Cell()));
+            rowList.add(row);
+        }
+        sheet.setRows(rowList);
+        return sheet;
+    }
+
+    private static Sheet abbreviated(long id, int version) {
+        Sheet sheet = new Sheet(id);
+        sheet.setVersion(version);
+        return sheet;
+    }
+
+    @Test
+    void missThenRevalidate() throws Exception {
+        LruSheetCache cache = new LruSheetCache();
+        List<Integer> versionsAsked = new ArrayList<>();
+        SheetCache.SheetLoader loader = ifVersionAfter -> {
+            versionsAsked.add(ifVersionAfter);
+            return ifVersionAfter == null ? sheet(1L, 7, 2) : abbreviated(1L, 7);
+        };
+
+        Sheet first = cache.get(SheetCacheKey.of(1L), loader);
+        Sheet second = cache.get(SheetCacheKey.of(1L), loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(versionsAsked).containsExactly(null, 7);
+        SheetCacheStats stats = cache.getStats();
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getRevalidationCount()).isEqualTo(1);
+        assertThat(stats.getEntryCount()).isEqualTo(1);
+        assertThat(stats.getWeight()).isEqualTo(6);
+    }
+
+    @Test
+    void newerVersionReplacesEntry() throws Exception {
+        LruSheetCache cache = new LruSheetCache();
+        cache.put(SheetCacheKey.of(1L), sheet(1L, 1, 1));
+
+        Sheet reloaded = cache.get(SheetCacheKey.of(1L), ifVersionAfter -> sheet(1L, 2, 3));
+
+        assertThat(reloaded.getVersion()).isEqualTo(2);
+        assertThat(cache.getIfPresent(SheetCacheKey.of(1L))).isSameAs(reloaded);
+        assertThat(cache.getStats().getReloadCount()).isEqualTo(1);
+    }
+
+    @Test
+    void replaceOnlyStoresOverTheExpectedCopy() {
+        LruSheetCache cache = new LruSheetCache();
+        Sheet first = sheet(1L, 1, 1);
+        Sheet second = sheet(1L, 2, 1);
+        cache.put(SheetCacheKey.of(1L), first);
+
+        assertThat(cache.replace(SheetCacheKey.of(1L), first, second)).isTrue();
+        assertThat(cache.replace(SheetCacheKey.of(1L), first, sheet(1L, 3, 1))).isFalse();
+        assertThat(cache.getIfPresent(SheetCacheKey.of(1L))).isSameAs(second);
+        assertThat(cache.replace(SheetCacheKey.of(2L), null, sheet(2L, 1, 1))).isFalse();
+    }
+
+    @Test
+    void freshEntriesSkipRevalidation() throws Exception {
+        LruSheetCache cache = new LruSheetCache(10, 1000, TimeUnit.HOURS.toMillis(1));
+        cache.put(SheetCacheKey.of(1L), sheet(1L, 1, 1));
+
+        Sheet sheet = cache.get(SheetCacheKey.of(1L), ifVersionAfter -> {
+            throw new IllegalStateException("should not load");
+        });
+
+        assertThat(sheet.getVersion()).isEqualTo(1);
+        assertThat(cache.getStats().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void projectionIsPartOfTheKey() {
+        SheetCacheKey plain = SheetCacheKey.of(1L);
+        SheetCacheKey empty = new SheetCacheKey(1L, EnumSet.noneOf(SheetInclusion.class), Set.of(), null);
+        SheetCacheKey projected = new SheetCacheKey(1L, EnumSet.of(SheetInclusion.FORMAT), null, Set.of(5L));
+
+        assertThat(empty).isEqualTo(plain).hasSameHashCodeAs(plain);
+        assertThat(projected).isNotEqualTo(plain);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedByCountAndWeight() {
+        LruSheetCache cache = new LruSheetCache(2, 20, 0);
+        cache.put(SheetCacheKey.of(1L), sheet(1L, 1, 1));
+        cache.put(SheetCacheKey.of(2L), sheet(2L, 1, 1));
+        cache.getIfPresent(SheetCacheKey.of(1L));
+        cache.put(SheetCacheKey.of(3L), sheet(3L, 1, 1));
+
+        assertThat(cache.getIfPresent(SheetCacheKey.of(2L))).isNull();
+        assertThat(cache.getIfPresent(SheetCacheKey.of(1L))).isNotNull();
+
+        cache.put(SheetCacheKey.of(4L), sheet(4L, 1, 8));
+        assertThat(cache.getStats().getWeight()).isLessThanOrEqualTo(20);
+        assertThat(cache.getIfPresent(SheetCacheKey.of(4L))).isNotNull();
+        assertThat(cache.getStats().getEvictionCount()).isEqualTo(3);
+    }
+
+    @Test
+    void invalidateDropsAllProjectionsOfASheet() {
+        LruSheetCache cache = new LruSheetCache();
+        cache.put(SheetCacheKey.of(1L), sheet(1L, 1, 1));
+        cache.put(new SheetCacheKey(1L, null, null, Set.of(5L)), sheet(1L, 1, 1));
+        cache.put(SheetCacheKey.of(2L), sheet(2L, 1, 1));
+
+        cache.invalidate(1L);
+
+        assertThat(cache.getStats().getEntryCount()).isEqualTo(1);
+        assertThat(cache.getIfPresent(SheetCacheKey.of(2L))).isNotNull();
+    }
+
+    @Test
+    void concurrentMissesCollapseIntoOneLoad() throws Exception {
+        LruSheetCache cache = new LruSheetCache();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        SheetCache.SheetLoader loader = ifVersionAfter -> {
+            loads.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return sheet(1L, 1, 1);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Sheet>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> cache.get(SheetCacheKey.of(1L), loader)));
+            }
+            while (cache.getStats().getCoalescedCount() < 3) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            Sheet first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Sheet> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void loadFailuresPropagateAndAreNotCached() {
+        LruSheetCache cache = new LruSheetCache();
+        Error error = new Error();
+        error.setMessage("Not Found");
+        error.setErrorCode(1006);
+
+        assertThatThrownBy(() -> cache.get(SheetCacheKey.of(1L), ifVersionAfter -> {
+            throw new ResourceNotFoundException(error);
+        })).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(cache.getStats().getEntryCount()).isZero();
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Report;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.SheetInclusion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SheetSnapshotStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private static <T> T fixture(String name, Class<T> type) throws IOException {
+        try (InputStream in = new FileInputStream("src/test/resources/" + name)) {
+            return new JacksonJsonSerializer().deserialize(type, in);
+        }
+    }
+
+    @Test
+    void sheetRoundTrip() throws Exception {
+        Sheet sheet = fixture("getSheetWithFormat.json", Sheet.class).setVersion(5);
+        SheetCacheKey key = new SheetCacheKey(sheet.getId(), EnumSet.of(SheetInclusion.FORMAT), null, null);
+        SheetSnapshotStore store = new SheetSnapshotStore(directory);
+
+        store.saveSheet(key, sheet);
+        Sheet loaded = new SheetSnapshotStore(directory).loadSheet(key);
+
+        ObjectMapper mapper = JacksonJsonSerializer.newSnapshotMapper();
+        assertThat(mapper.writeValueAsString(loaded)).isEqualTo(mapper.writeValueAsString(sheet));
+        assertThat(loaded.getColumns().get(0).getId()).isEqualTo(sheet.getColumns().get(0).getId()).isNotNull();
+        assertThat(store.loadSheet(SheetCacheKey.of(sheet.getId()))).isNull();
+    }
+
+    @Test
+    void reportRoundTrip() throws Exception {
+        Report report = fixture("getReport.json", Report.class).setVersion(5);
+        SheetSnapshotStore store = new SheetSnapshotStore(directory);
+
+        store.saveReport(report);
+        Report loaded = store.loadReport(report.getId());
+
+        ObjectMapper mapper = JacksonJsonSerializer.newSnapshotMapper();
+        assertThat(mapper.writeValueAsString(loaded)).isEqualTo(mapper.writeValueAsString(report));
+        assertThat(store.loadReport(report.getId() + 1)).isNull();
+    }
+
+    @Test
+    void columnsAreOnlyReturnedAtTheirVersion() throws Exception {
+        Column column = new Column();
+        column.setId(10L);
+        column.setTitle("Task");
+        SheetSnapshotStore store = new SheetSnapshotStore(directory);
+
+        store.saveColumns(1L, 5, List.of(column));
+
+        assertThat(store.loadColumns(1L, 6)).isNull();
+        List<Column> columns = store.loadColumns(1L, 5);
+        assertThat(columns).hasSize(1);
+        assertThat(columns.get(0).getId()).isEqualTo(10L);
+        assertThat(columns.get(0).getTitle()).isEqualTo("Task");
+    }
+
+    @Test
+    void listSheetsReadsHeadersAndSkipsCorruptSegments() throws Exception {
+        SheetCacheKey key = new SheetCacheKey(1L, EnumSet.of(SheetInclusion.FORMAT), null, Set.of(10L, 11L));
+        SheetSnapshotStore store = new SheetSnapshotStore(directory);
+        store.saveSheet(key, new Sheet(1L).setVersion(7));
+        Files.write(directory.resolve("sheet-2-0.seg"), new byte[]{1, 2, 3});
+
+        Map<SheetCacheKey, Integer> sheets = store.listSheets();
+
+        assertThat(sheets).containsOnly(Map.entry(key, 7));
+    }
+
+    @Test
+    void corruptPayloadIsReported() throws Exception {
+        SheetCacheKey key = SheetCacheKey.of(1L);
+        SheetSnapshotStore store = new SheetSnapshotStore(directory);
+        store.saveSheet(key, new Sheet(1L).setVersion(7));
+        Path file;
+        try (Stream<Path> files = Files.list(directory)) {
+            file = files.findFirst().orElseThrow();
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 2));
+
+        assertThatThrownBy(() -> store.loadSheet(key)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void deleteRemovesEverySnapshotOfAnObject() throws Exception {
+        SheetSnapshotStore store = new SheetSnapshotStore(directory);
+        store.saveSheet(SheetCacheKey.of(1L), new Sheet(1L).setVersion(7));
+        store.saveColumns(1L, 7, List.of());
+        store.saveSheet(SheetCacheKey.of(12L), new Sheet(12L).setVersion(3));
+
+        store.delete(1L);
+
+        assertThat(store.listSheets()).containsOnlyKeys(SheetCacheKey.of(12L));
+        assertThat(store.loadColumns(1L, 7)).isNull();
+    }
+
+    @Test
+    void persistentCacheRestoresAndRevalidatesAfterRestart() throws Exception {
+        Sheet original = fixture("getSheetWithFormat.json", Sheet.class).setVersion(5);
+        SheetCacheKey key = SheetCacheKey.of(original.getId());
+        PersistentSheetCache first = new PersistentSheetCache(new LruSheetCache(), new SheetSnapshotStore(directory));
+        first.get(key, ifVersionAfter -> original);
+        first.flush();
+
+        AtomicInteger fullLoads = new AtomicInteger();
+        AtomicInteger refreshes = new AtomicInteger();
+        SheetCache.SheetLoader loader = new SheetCache.SheetLoader() {
+            @Override
+            public Sheet load(Integer ifVersionAfter) {
+                fullLoads.incrementAndGet();
+                return original;
+            }
+
+            @Override
+            public Sheet refresh(Sheet cached) {
+                refreshes.incrementAndGet();
+                return new Sheet(cached.getId()).setVersion(cached.getVersion());
+            }
+        };
+        PersistentSheetCache restarted = new PersistentSheetCache(new LruSheetCache(), new SheetSnapshotStore(directory));
+        Sheet restored = restarted.get(key, loader);
+
+        assertThat(restored).isNotSameAs(original);
+        assertThat(restored.getVersion()).isEqualTo(original.getVersion());
+        assertThat(restored.getRows()).hasSameSizeAs(original.getRows());
+        assertThat(fullLoads).hasValue(0);
+        assertThat(refreshes).hasValue(1);
+    }
+
+    @Test
+    void persistentCacheWritesSnapshotsOffTheCallingThread() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> written = new CopyOnWriteArrayList<>();
+        SheetSnapshotStore slowStore = new SheetSnapshotStore(directory) {
+            @Override
+            public void saveSheet(SheetCacheKey key, Sheet sheet) throws IOException {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                written.add(sheet.getVersion());
+                super.saveSheet(key, sheet);
+            }
+        };
+        PersistentSheetCache cache = new PersistentSheetCache(new LruSheetCache(), slowStore);
+        SheetCacheKey key = SheetCacheKey.of(1L);
+
+        cache.put(key, new Sheet(1L).setVersion(1));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        cache.put(key, new Sheet(1L).setVersion(2));
+        cache.put(key, new Sheet(1L).setVersion(3));
+        cache.put(key, new Sheet(1L).setVersion(4));
+        release.countDown();
+        cache.flush();
+
+        assertThat(written).containsExactly(1, 4);
+        assertThat(slowStore.listSheets()).containsEntry(key, 4);
+
+        cache.invalidate(1L);
+        cache.flush();
+        assertThat(slowStore.listSheets()).isEmpty();
+    }
+}
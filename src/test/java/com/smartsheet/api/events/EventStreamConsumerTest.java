@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.events;
+
+import com.smartsheet.api.EventResources;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.models.Event;
+import com.smartsheet.api.models.EventResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventStreamConsumerTest {
+
+    @TempDir
+    Path directory;
+
+    private static EventResult result(String next, boolean moreAvailable, String... eventIds) {
+        List<Event> events = new ArrayList<>();
+        for (String id : eventIds) {
+            Event event = new Event();
+            event.setEventId(id);
+            events.add(event);
+        }
+        EventResult result = new EventResult();
+        result.setData(events);
+        result.setNextStreamPosition(next);
+        result.setMoreAvailable(moreAvailable);
+        return result;
+    }
+
+    @Test
+    void pollDeliversAndCheckpoints() throws Exception {
+        EventResources events = mock(EventResources.class);
+        when(events.listEvents(any(), isNull(), eq(1000), isNull())).thenReturn(result("p1", true, "e1", "e2"));
+        when(events.listEvents(isNull(), eq("p1"), eq(1000), isNull())).thenReturn(result("p2", false, "e3"));
+        List<String> handled = new ArrayList<>();
+        EventHandler handler = batch -> batch.forEach(e -> handled.add(e.getEventId()));
+        Path file = directory.resolve("events.checkpoint");
+
+        try (FileCheckpointStore store = new FileCheckpointStore(file)) {
+            EventStreamConsumer consumer = EventStreamConsumer.builder(events, handler, store)
+                    .build();
+            assertThat(consumer.poll().getMoreAvailable()).isTrue();
+            assertThat(consumer.poll().getMoreAvailable()).isFalse();
+            consumer.close();
+            assertThat(consumer.getStreamPosition()).isEqualTo("p2");
+        }
+
+        assertThat(handled).containsExactly("e1", "e2", "e3");
+        try (FileCheckpointStore store = new FileCheckpointStore(file)) {
+            assertThat(store.load()).isEqualTo("p2");
+        }
+    }
+
+    @Test
+    void failedBatchIsDeliveredAgain() throws Exception {
+        EventResources events = mock(EventResources.class);
+        when(events.listEvents(isNull(), eq("p0"), eq(1000), isNull())).thenReturn(result("p1", false, "e1"));
+        List<String> handled = new ArrayList<>();
+        EventHandler handler = batch -> {
+            handled.add(batch.get(0).getEventId());
+            if (handled.size() == 1) {
+                throw new IllegalStateException("downstream unavailable");
+            }
+        };
+
+        try (FileCheckpointStore store = new FileCheckpointStore(directory.resolve("events.checkpoint"))) {
+            store.save("p0");
+            EventStreamConsumer consumer = EventStreamConsumer.builder(events, handler, store).build();
+
+            assertThatThrownBy(consumer::poll).isInstanceOf(SmartsheetException.class);
+            assertThat(consumer.getStreamPosition()).isEqualTo("p0");
+            consumer.poll();
+            assertThat(consumer.getStreamPosition()).isEqualTo("p1");
+        }
+        assertThat(handled).containsExactly("e1", "e1");
+    }
+
+    @Test
+    void failedFirstBatchIsReadAgainFromTheSameTime() throws Exception {
+        EventResources events = mock(EventResources.class);
+        List<Object> since = new ArrayList<>();
+        when(events.listEvents(any(), isNull(), eq(1000), isNull())).thenAnswer(invocation -> {
+            since.add(invocation.getArgument(0));
+            return result("p1", false, "e1");
+        });
+        List<String> handled = new ArrayList<>();
+        EventHandler handler = batch -> {
+            handled.add(batch.get(0).getEventId());
+            if (handled.size() == 1) {
+                throw new IllegalStateException("downstream unavailable");
+            }
+        };
+
+        try (FileCheckpointStore store = new FileCheckpointStore(directory.resolve("events.checkpoint"))) {
+            EventStreamConsumer consumer = EventStreamConsumer.builder(events, handler, store).build();
+
+            assertThatThrownBy(consumer::poll).isInstanceOf(SmartsheetException.class);
+            Thread.sleep(5);
+            consumer.poll();
+            assertThat(consumer.getStreamPosition()).isEqualTo("p1");
+        }
+        assertThat(since).hasSize(2);
+        assertThat(since.get(1)).isSameAs(since.get(0));
+        assertThat(handled).containsExactly("e1", "e1");
+    }
+
+    @Test
+    void backgroundConsumerDrainsAndStops() throws Exception {
+        EventResources events = mock(EventResources.class);
+        when(events.listEvents(any(), isNull(), eq(10), isNull())).thenReturn(result("p1", true, "e1"));
+        when(events.listEvents(isNull(), eq("p1"), eq(10), isNull())).thenReturn(result("p2", true, "e2"));
+        when(events.listEvents(isNull(), eq("p2"), eq(10), isNull())).thenReturn(result("p2", false));
+        List<String> handled = new CopyOnWriteArrayList<>();
+        EventHandler handler = batch -> batch.forEach(e -> handled.add(e.getEventId()));
+
+        try (FileCheckpointStore store = new FileCheckpointStore(directory.resolve("events.checkpoint"))) {
+            EventStreamConsumer consumer = EventStreamConsumer.builder(events, handler, store)
+                    .setMaxCount(10)
+                    .setMinIdleBackoffMillis(10)
+                    .setMaxIdleBackoffMillis(20)
+                    .build();
+            consumer.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (consumer.getPollCount() < 4 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            consumer.close();
+
+            assertThat(store.load()).isEqualTo("p2");
+        }
+        assertThat(handled).containsExactly("e1", "e2");
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.events;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileCheckpointStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void lastSavedPositionSurvivesReopen() throws Exception {
+        Path file = directory.resolve("events.checkpoint");
+        try (FileCheckpointStore store = new FileCheckpointStore(file)) {
+            assertThat(store.load()).isNull();
+            store.save("p1");
+            store.save("p2");
+            assertThat(store.load()).isEqualTo("p2");
+        }
+
+        try (FileCheckpointStore store = new FileCheckpointStore(file)) {
+            assertThat(store.load()).isEqualTo("p2");
+        }
+    }
+
+    @Test
+    void tornTailIsDiscarded() throws Exception {
+        Path file = directory.resolve("events.checkpoint");
+        try (FileCheckpointStore store = new FileCheckpointStore(file, 0)) {
+            store.save("p1");
+        }
+        long intact = Files.size(file);
+        Files.write(file, new byte[]{0, 0, 0, 9, 'p', '2'}, StandardOpenOption.APPEND);
+
+        try (FileCheckpointStore store = new FileCheckpointStore(file)) {
+            assertThat(store.load()).isEqualTo("p1");
+            assertThat(Files.size(file)).isEqualTo(intact);
+            store.save("p3");
+        }
+        try (FileCheckpointStore store = new FileCheckpointStore(file)) {
+            assertThat(store.load()).isEqualTo("p3");
+        }
+    }
+
+    @Test
+    void lastSaveIsSyncedWithoutAnotherSave() throws Exception {
+        Path file = directory.resolve("events.checkpoint");
+        try (FileCheckpointStore store = new FileCheckpointStore(file, 100)) {
+            store.save("p1");
+            store.save("p2");
+            assertThat(store.hasUnsyncedSaves()).isTrue();
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (store.hasUnsyncedSaves() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(store.hasUnsyncedSaves()).isFalse();
+            assertThat(store.load()).isEqualTo("p2");
+        }
+    }
+
+    @Test
+    void fileIsCompacted() throws Exception {
+        Path file = directory.resolve("events.checkpoint");
+        try (FileCheckpointStore store = new FileCheckpointStore(file)) {
+            for (int i = 0; i < 10_000; i++) {
+                store.save("position-" + i);
+            }
+        }
+
+        assertThat(Files.size(file)).isLessThan(FileCheckpointStore.COMPACT_THRESHOLD + 32);
+        try (FileCheckpointStore store = new FileCheckpointStore(file)) {
+            assertThat(store.load()).isEqualTo("position-9999");
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.events;
+
+import com.smartsheet.api.models.Event;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartitionedEventDispatcherTest {
+
+    private static Event event(long objectId, String eventId) {
+        Event event = new Event();
+        event.setObjectId(objectId);
+        event.setEventId(eventId);
+        return event;
+    }
+
+    private static final class MemoryCheckpointStore implements CheckpointStore {
+        private final List<String> saved = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String load() {
+            return saved.isEmpty() ? null : saved.get(saved.size() - 1);
+        }
+
+        @Override
+        public void save(String streamPosition) {
+            saved.add(streamPosition);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @Test
+    void preservesOrderPerObject() throws Exception {
+        Map<Object, List<String>> handled = new ConcurrentHashMap<>();
+        EventHandler handler = batch -> batch.forEach(e ->
+                handled.computeIfAbsent(e.getObjectId(), k -> new CopyOnWriteArrayList<>()).add(e.getEventId()));
+        MemoryCheckpointStore store = new MemoryCheckpointStore();
+
+        try (PartitionedEventDispatcher dispatcher = new PartitionedEventDispatcher(4, 8, handler, store)) {
+            for (int i = 0; i < 100; i++) {
+                List<Event> events = new ArrayList<>();
+                for (long objectId = 1; objectId <= 10; objectId++) {
+                    events.add(event(objectId, objectId + "-" + i));
+                }
+                dispatcher.onEvents(events);
+                dispatcher.checkpoints().save("p" + i);
+            }
+        }
+
+        assertThat(handled).hasSize(10);
+        for (long objectId = 1; objectId <= 10; objectId++) {
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                expected.add(objectId + "-" + i);
+            }
+            assertThat(handled.get(objectId)).containsExactlyElementsOf(expected);
+        }
+        assertThat(store.load()).isEqualTo("p99");
+    }
+
+    @Test
+    void checkpointWaitsForSlowestLane() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        EventHandler handler = batch -> {
+            if (batch.get(0).getObjectId().equals(1L)) {
+                release.await();
+            }
+        };
+        MemoryCheckpointStore store = new MemoryCheckpointStore();
+
+        try (PartitionedEventDispatcher dispatcher = new PartitionedEventDispatcher(2, 4, handler, store)) {
+            dispatcher.onEvents(Arrays.asList(event(1, "a"), event(2, "b")));
+            dispatcher.checkpoints().save("p1");
+            dispatcher.onEvents(Arrays.asList(event(2, "c")));
+            dispatcher.checkpoints().save("p2");
+
+            waitForQueued(dispatcher, 1);
+            assertThat(dispatcher.getLowWatermark()).isNull();
+            assertThat(store.saved).isEmpty();
+
+            release.countDown();
+            waitForQueued(dispatcher, 0);
+            dispatcher.checkpoints().flush();
+            assertThat(dispatcher.getLowWatermark()).isEqualTo("p2");
+        }
+        assertThat(store.load()).isEqualTo("p2");
+    }
+
+    @Test
+    void retriesFailedBatchesBeforeAdvancing() throws Exception {
+        List<String> handled = new CopyOnWriteArrayList<>();
+        int[] failures = {2};
+        EventHandler handler = batch -> {
+            if (failures[0]-- > 0) {
+                throw new IllegalStateException("boom");
+            }
+            batch.forEach(e -> handled.add(e.getEventId()));
+        };
+        MemoryCheckpointStore store = new MemoryCheckpointStore();
+
+        try (PartitionedEventDispatcher dispatcher = new PartitionedEventDispatcher(1, 4, handler, store)) {
+            dispatcher.onEvents(Arrays.asList(event(1, "a"), event(1, "b")));
+            dispatcher.checkpoints().save("p1");
+            waitForQueued(dispatcher, 0);
+        }
+
+        assertThat(handled).containsExactly("a", "b");
+        assertThat(store.load()).isEqualTo("p1");
+    }
+
+    @Test
+    void idleLanesWaitWithoutPolling() throws Exception {
+        List<String> handled = new CopyOnWriteArrayList<>();
+        EventHandler handler = batch -> batch.forEach(e -> handled.add(e.getEventId()));
+
+        try (PartitionedEventDispatcher dispatcher = new PartitionedEventDispatcher(2, 4, handler, new MemoryCheckpointStore())) {
+            dispatcher.onEvents(Arrays.asList(event(1, "a"), event(2, "b")));
+            waitForQueued(dispatcher, 0);
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!laneStates().stream().allMatch(Thread.State.WAITING::equals) && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertThat(laneStates()).isNotEmpty().containsOnly(Thread.State.WAITING);
+
+            dispatcher.onEvents(Arrays.asList(event(1, "c")));
+            waitForQueued(dispatcher, 0);
+        }
+        assertThat(handled).containsExactlyInAnyOrder("a", "b", "c");
+    }
+
+    private static List<Thread.State> laneStates() {
+        List<Thread.State> states = new ArrayList<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("smartsheet-event-lane-")) {
+                states.add(thread.getState());
+            }
+        }
+        return states;
+    }
+
+    private static void waitForQueued(PartitionedEventDispatcher dispatcher, long queued) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (dispatcher.getQueuedCount() != queued && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(dispatcher.getQueuedCount()).isEqualTo(queued);
+    }
+}
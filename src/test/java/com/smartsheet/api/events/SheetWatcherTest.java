@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.events;
+
+import com.smartsheet.api.ResourceNotFoundException;
+import com.smartsheet.api.SheetResources;
+import com.smartsheet.api.models.Error;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SheetWatcherTest {
+
+    @Test
+    void reportsChangesWithOldAndNewVersions() throws Exception {
+        SheetResources sheets = mock(SheetResources.class);
+        when(sheets.getSheetVersion(1L)).thenReturn(3, 3, 4, 4);
+        List<String> changes = new CopyOnWriteArrayList<>();
+        SheetWatcher watcher = SheetWatcher.builder(sheets, (id, oldVersion, newVersion) ->
+                        changes.add(id + ":" + oldVersion + "->" + newVersion))
+                .setMinIntervalMillis(20)
+                .setMaxIntervalMillis(80)
+                .setTickMillis(5)
+                .setPollsPerSecond(1000)
+                .build();
+        try {
+            watcher.watch(1L);
+            assertThat(watcher.getIntervalMillis(1L)).isEqualTo(20);
+            watcher.start();
+
+            waitFor(() -> !changes.isEmpty());
+            assertThat(changes).containsExactly("1:3->4");
+            waitFor(() -> watcher.getIntervalMillis(1L) == 80);
+        } finally {
+            watcher.close();
+        }
+        assertThat(watcher.getChangeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void sharesOneRateBudget() throws Exception {
+        SheetResources sheets = mock(SheetResources.class);
+        when(sheets.getSheetVersion(anyLong())).thenReturn(1);
+        SheetWatcher watcher = SheetWatcher.builder(sheets, (id, oldVersion, newVersion) -> { })
+                .setMinIntervalMillis(10)
+                .setTickMillis(5)
+                .setPollsPerSecond(20)
+                .build();
+        try {
+            for (long id = 1; id <= 100; id++) {
+                watcher.watch(id);
+            }
+            watcher.start();
+            Thread.sleep(500);
+            long polls = watcher.getPollCount();
+            assertThat(polls).isGreaterThan(0).isLessThanOrEqualTo(21);
+        } finally {
+            watcher.close();
+        }
+    }
+
+    @Test
+    void unwatchesMissingSheets() throws Exception {
+        SheetResources sheets = mock(SheetResources.class);
+        when(sheets.getSheetVersion(1L)).thenThrow(new ResourceNotFoundException(new Error().setErrorCode(1006)));
+        SheetWatcher watcher = SheetWatcher.builder(sheets, (id, oldVersion, newVersion) -> { })
+                .setTickMillis(5)
+                .build();
+        try {
+            watcher.watch(1L);
+            watcher.start();
+            waitFor(() -> watcher.getWatchedCount() == 0);
+        } finally {
+            watcher.close();
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
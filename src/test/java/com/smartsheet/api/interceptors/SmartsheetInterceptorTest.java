@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.interceptors;
+
+import com.smartsheet.api.ResourceNotFoundException;
+import com.smartsheet.api.Smartsheet;
+import com.smartsheet.api.SmartsheetBuilder;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.http.HttpClient;
+import com.smartsheet.api.internal.http.HttpEntity;
+import com.smartsheet.api.internal.http.HttpRequest;
+import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.models.ServerInfo;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SmartsheetInterceptorTest {
+
+    private final HttpClient httpClient = mock(HttpClient.class);
+
+    @Test
+    void interceptorsSeeCallsInOrder() throws Exception {
+        respond(200, "{\"formats\":{}}");
+        List<String> seen = new ArrayList<>();
+        Smartsheet smartsheet = new SmartsheetBuilder().setAccessToken("token").setHttpClient(httpClient)
+                .addInterceptor(recording("outer", seen))
+                .addInterceptor(recording("inner", seen))
+                .build();
+
+        ServerInfo serverInfo = smartsheet.serverInfoResources().getServerInfo();
+
+        assertThat(serverInfo).isNotNull();
+        assertThat(seen).containsExactly(
+                "outer before GET GET /serverinfo response=null",
+                "inner before GET GET /serverinfo response=null",
+                "inner after ServerInfo status=200",
+                "outer after ServerInfo status=200");
+    }
+
+    @Test
+    void interceptorCanShortCircuit() throws Exception {
+        ServerInfo cached = new ServerInfo();
+        Smartsheet smartsheet = new SmartsheetBuilder().setAccessToken("token").setHttpClient(httpClient)
+                .addInterceptor(new SmartsheetInterceptor() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <T> T intercept(Chain<T> chain) throws SmartsheetException {
+                        if (chain.call().getResultClass() == ServerInfo.class) {
+                            return (T) cached;
+                        }
+                        return chain.proceed();
+                    }
+                })
+                .build();
+
+        assertThat(smartsheet.serverInfoResources().getServerInfo()).isSameAs(cached);
+        verify(httpClient, never()).request(any());
+    }
+
+    @Test
+    void interceptorCanChangeRequestAndSeesErrors() throws Exception {
+        List<HttpRequest> sent = new ArrayList<>();
+        when(httpClient.request(any())).thenAnswer(invocation -> {
+            sent.add(invocation.getArgument(0));
+            return response(404, "{\"errorCode\":1006,\"message\":\"Not Found\"}");
+        });
+        List<Integer> statuses = new ArrayList<>();
+        Smartsheet smartsheet = new SmartsheetBuilder().setAccessToken("token").setHttpClient(httpClient)
+                .addInterceptor(new SmartsheetInterceptor() {
+                    @Override
+                    public <T> T intercept(Chain<T> chain) throws SmartsheetException {
+                        chain.call().getRequest().getHeaders().put("X-Request-Id", "42");
+                        try {
+                            return chain.proceed();
+                        } finally {
+                            statuses.add(chain.call().getResponse().getStatusCode());
+                        }
+                    }
+                })
+                .build();
+
+        assertThatThrownBy(() -> smartsheet.serverInfoResources().getServerInfo()).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(sent).singleElement().satisfies(request -> assertThat(request.getHeaders()).containsEntry("X-Request-Id", "42"));
+        assertThat(statuses).containsExactly(404);
+    }
+
+    @Test
+    void interceptorsSeeCallsBuiltByTheResources() throws Exception {
+        respond(200, "{}");
+        List<String> seen = new ArrayList<>();
+        Smartsheet smartsheet = new SmartsheetBuilder().setAccessToken("token").setHttpClient(httpClient)
+                .addInterceptor(recording("interceptor", seen))
+                .build();
+
+        smartsheet.eventResources().listEvents(1L, null, null, null);
+        smartsheet.webhookResources().resetSharedSecret(1);
+        smartsheet.passthroughResources().getRequest("sheets/1", null);
+
+        assertThat(seen).containsExactly(
+                "interceptor before GET GET /events response=null",
+                "interceptor after EventResult status=200",
+                "interceptor before ACTION POST /webhooks/{id}/resetsharedsecret response=null",
+                "interceptor after WebhookSharedSecret status=200",
+                "interceptor before PASSTHROUGH GET /sheets/{id} response=null",
+                "interceptor after String status=200");
+    }
+
+    private void respond(int status, String body) throws Exception {
+        when(httpClient.request(any())).thenAnswer(invocation -> response(status, body));
+    }
+
+    private static HttpResponse response(int status, String body) {
+        HttpEntity entity = new HttpEntity();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        entity.setContent(new ByteArrayInputStream(bytes));
+        entity.setContentLength(bytes.length);
+        entity.setContentType("application/json");
+        HttpResponse response = new HttpResponse();
+        response.setStatusCode(status);
+        response.setEntity(entity);
+        return response;
+    }
+
+    private static SmartsheetInterceptor recording(String name, List<String> seen) {
+        return new SmartsheetInterceptor() {
+            @Override
+            public <T> T intercept(Chain<T> chain) throws SmartsheetException {
+                ResourceCall<T> call = chain.call();
+                seen.add(name + " before " + call.getOperation() + " " + call.getRoute() + " response=" + call.getResponse());
+                T result = chain.proceed();
+                seen.add(name + " after " + result.getClass().getSimpleName() + " status=" + call.getResponse().getStatusCode());
+                return result;
+            }
+        };
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal;
+
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.http.HttpClientException;
+import com.smartsheet.api.internal.http.HttpMethod;
+import com.smartsheet.api.internal.http.HttpRequest;
+import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.internal.http.StubHttpClient;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.Sheet;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestCoalescerTest {
+
+    private static final String SHEET = "{\"id\":1,\"version\":3}";
+    private static final String NOT_FOUND = "{\"errorCode\":1006,\"message\":\"Not Found\"}";
+
+    private static SmartsheetImpl smartsheet(StubHttpClient httpClient, RequestCoalescer coalescer) {
+        SmartsheetImpl smartsheet = new SmartsheetImpl(StubHttpClient.BASE_URI, "accessToken", httpClient,
+                new JacksonJsonSerializer());
+        smartsheet.setRequestCoalescer(coalescer);
+        return smartsheet;
+    }
+
+    @Test
+    void concurrentIdenticalGetsShareOneRequest() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        StubHttpClient httpClient = new StubHttpClient() {
+            @Override
+            public HttpResponse request(HttpRequest request) throws HttpClientException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.request(request);
+            }
+        }.respond(HttpMethod.GET, "sheets/1", SHEET);
+        RequestCoalescer coalescer = new RequestCoalescer();
+        SmartsheetImpl smartsheet = smartsheet(httpClient, coalescer);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Sheet>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> smartsheet.sheetResources().getSheet(1L)));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (coalescer.getCoalescedCount() < 3 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            Sheet first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Sheet> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(httpClient.countRequests(HttpMethod.GET, "sheets/1")).isEqualTo(1);
+        assertThat(coalescer.getExecutedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void ttlAbsorbsBurstsPerIdentity() throws SmartsheetException {
+        StubHttpClient httpClient = new StubHttpClient().respond(HttpMethod.GET, "sheets/1", SHEET);
+        SmartsheetImpl smartsheet = smartsheet(httpClient, new RequestCoalescer(60_000));
+
+        Sheet first = smartsheet.sheetResources().getSheet(1L);
+        Sheet second = smartsheet.sheetResources().getSheet(1L);
+        smartsheet.setAssumedUser("someone@example.com");
+        Sheet third = smartsheet.sheetResources().getSheet(1L);
+
+        assertThat(second).isSameAs(first);
+        assertThat(third).isNotSameAs(first);
+        assertThat(httpClient.countRequests(HttpMethod.GET, "sheets/1")).isEqualTo(2);
+    }
+
+    @Test
+    void failuresAreNotRetained() throws SmartsheetException {
+        StubHttpClient httpClient = new StubHttpClient().respond(HttpMethod.GET, "sheets/1", 404, NOT_FOUND);
+        SmartsheetImpl smartsheet = smartsheet(httpClient, new RequestCoalescer(60_000));
+
+        assertThatThrownBy(() -> smartsheet.sheetResources().getSheet(1L)).isInstanceOf(SmartsheetException.class);
+        assertThatThrownBy(() -> smartsheet.sheetResources().getSheet(1L)).isInstanceOf(SmartsheetException.class);
+
+        assertThat(httpClient.countRequests(HttpMethod.GET, "sheets/1")).isEqualTo(2);
+    }
+
+    @Test
+    void sequentialGetsAreNotCoalescedWithoutTtl() throws SmartsheetException {
+        StubHttpClient httpClient = new StubHttpClient().respond(HttpMethod.GET, "sheets/1", SHEET);
+        SmartsheetImpl smartsheet = smartsheet(httpClient, new RequestCoalescer());
+
+        smartsheet.sheetResources().getSheet(1L);
+        smartsheet.sheetResources().getSheet(1L);
+
+        assertThat(httpClient.countRequests(HttpMethod.GET, "sheets/1")).isEqualTo(2);
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal;
+
+import com.smartsheet.api.CallOptions;
+import com.smartsheet.api.ResourceNotFoundException;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.http.AdaptiveConcurrencyLimiter;
+import com.smartsheet.api.internal.http.HttpMethod;
+import com.smartsheet.api.internal.http.HttpRequest;
+import com.smartsheet.api.internal.http.RequestCancelledException;
+import com.smartsheet.api.internal.http.StubHttpClient;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.Error;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestHedgerTest {
+
+    private static final String SHEET_ROUTE = "GET /sheets/{id}";
+
+    private static HttpRequest request(String path) {
+        HttpRequest request = new HttpRequest();
+        request.setUri(URI.create(StubHttpClient.BASE_URI + path));
+        request.setMethod(HttpMethod.GET);
+        request.setHeaders(new HashMap<>());
+        return request;
+    }
+
+    private static void warmUp(RequestHedger hedger, int count) throws SmartsheetException {
+        for (int i = 0; i < count; i++) {
+            hedger.execute(request("sheets/1"), null, request -> "fast");
+        }
+    }
+
+    /**
+     * The first request stalls until cancelled; the hedge answers right away.
+     */
+    private static String stallFirst(HttpRequest request, Thread caller) throws SmartsheetException {
+        if (Thread.currentThread() != caller) {
+            return "hedge";
+        }
+        CountDownLatch cancelled = new CountDownLatch(1);
+        request.getCallOptions().addCancelListener(cancelled::countDown);
+        try {
+            if (!cancelled.await(300, TimeUnit.MILLISECONDS)) {
+                return "slow";
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new RequestCancelledException("The call was cancelled", null);
+    }
+
+    private static String stalled(RequestHedger hedger, AdaptiveConcurrencyLimiter limiter, Thread caller)
+            throws SmartsheetException {
+        return hedger.execute(request("sheets/1"), limiter, request -> stallFirst(request, caller));
+    }
+
+    @Test
+    void hedgesSlowRequestsAndCancelsTheLoser() throws Exception {
+        RequestHedger hedger = RequestHedger.builder().setBudgetRatio(1).build();
+        assertThat(hedger.getDelayMillis(SHEET_ROUTE)).isEqualTo(-1);
+        warmUp(hedger, RequestHedger.DEFAULT_MIN_SAMPLES);
+        assertThat(hedger.getDelayMillis(SHEET_ROUTE)).isZero();
+        assertThat(hedger.getHedgedCount()).isZero();
+
+        Thread caller = Thread.currentThread();
+        assertThat(stalled(hedger, null, caller)).isEqualTo("hedge");
+        assertThat(hedger.getHedgedCount()).isEqualTo(1);
+        assertThat(hedger.getWonCount()).isEqualTo(1);
+    }
+
+    @Test
+    void winningHedgesRecordTheLatencySinceTheFirstRequest() throws Exception {
+        RequestHedger hedger = RequestHedger.builder().setPercentile(1).setMinDelayMillis(40).setMinSamples(1)
+                .setBudgetRatio(1).build();
+        warmUp(hedger, 1);
+        assertThat(hedger.getDelayMillis(SHEET_ROUTE)).isZero();
+
+        Thread caller = Thread.currentThread();
+        for (int i = 1; i < 16; i++) {
+            assertThat(stalled(hedger, null, caller)).isEqualTo("hedge");
+        }
+        assertThat(hedger.getWonCount()).isEqualTo(15);
+        assertThat(hedger.getDelayMillis(SHEET_ROUTE)).isGreaterThanOrEqualTo(40);
+    }
+
+    @Test
+    void budgetAndSaturatedLimiterCapHedges() throws Exception {
+        RequestHedger hedger = RequestHedger.builder().setBudgetRatio(0.25).setMaxBurst(1).build();
+        warmUp(hedger, RequestHedger.DEFAULT_MIN_SAMPLES);
+        Thread caller = Thread.currentThread();
+
+        assertThat(stalled(hedger, null, caller)).isEqualTo("hedge");
+        assertThat(stalled(hedger, null, caller)).isEqualTo("slow");
+        assertThat(hedger.getHedgedCount()).isEqualTo(1);
+        assertThat(hedger.getThrottledCount()).isEqualTo(1);
+
+        warmUp(hedger, 20);
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder().setInitialLimit(1).setMinLimit(1).build();
+        limiter.acquire();
+        Thread waiting = new Thread(() -> {
+            try {
+                limiter.acquire();
+            } catch (InterruptedException ignore) {
+                // done waiting
+            }
+        });
+        waiting.start();
+        try {
+            while (limiter.getQueueDepth() == 0) {
+                Thread.sleep(5);
+            }
+            assertThat(stalled(hedger, limiter, caller)).isEqualTo("slow");
+            assertThat(hedger.getHedgedCount()).isEqualTo(1);
+            assertThat(hedger.getThrottledCount()).isEqualTo(2);
+        } finally {
+            waiting.interrupt();
+        }
+    }
+
+    @Test
+    void onlyHedgesHedgedRoutesWithoutCallOptions() throws Exception {
+        RequestHedger hedger = RequestHedger.builder().setMinSamples(1).setBudgetRatio(1).build();
+        AtomicInteger attempts = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            hedger.execute(request("sheets/1/version"), null, request -> {
+                attempts.incrementAndGet();
+                return "version";
+            });
+        }
+        assertThat(hedger.getDelayMillis("GET /sheets/{id}/version")).isEqualTo(-1);
+
+        warmUp(hedger, 1);
+        HttpRequest withOptions = request("sheets/1");
+        CallOptions callOptions = CallOptions.timeout(1_000);
+        withOptions.setCallOptions(callOptions);
+        hedger.execute(withOptions, null, request -> {
+            attempts.incrementAndGet();
+            assertThat(request.getCallOptions()).isSameAs(callOptions);
+            return "sheet";
+        });
+        assertThat(attempts).hasValue(6);
+        assertThat(hedger.getHedgedCount()).isZero();
+    }
+
+    @Test
+    void firstErrorResponseWins() throws Exception {
+        RequestHedger hedger = RequestHedger.builder().setBudgetRatio(1).setMinDelayMillis(200).build();
+        warmUp(hedger, RequestHedger.DEFAULT_MIN_SAMPLES);
+
+        Error error = new Error();
+        error.setErrorCode(1006);
+        assertThatThrownBy(() -> hedger.execute(request("sheets/2"), null, request -> {
+            throw new ResourceNotFoundException(error);
+        })).isInstanceOf(ResourceNotFoundException.class);
+        Thread.sleep(300);
+        assertThat(hedger.getHedgedCount()).isZero();
+    }
+
+    @Test
+    void resourcesHedgeGetSheet() throws Exception {
+        StubHttpClient httpClient = new StubHttpClient().respond(HttpMethod.GET, "sheets/1", "{\"id\":1,\"version\":3}");
+        SmartsheetImpl smartsheet = new SmartsheetImpl(StubHttpClient.BASE_URI, "accessToken", httpClient, new JacksonJsonSerializer());
+        RequestHedger hedger = RequestHedger.builder().setMinSamples(2).build();
+        smartsheet.setRequestHedger(hedger);
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(smartsheet.sheetResources().getSheet(1L).getVersion()).isEqualTo(3);
+        }
+        assertThat(hedger.getDelayMillis(SHEET_ROUTE)).isNotNegative();
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThatThrownBy(() -> RequestHedger.builder().setPercentile(0).build()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RequestHedger.builder().setBudgetRatio(2).build()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RequestHedger.builder().setMinSamples(0).build()).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal;
+
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.cache.LruSheetCache;
+import com.smartsheet.api.internal.http.HttpMethod;
+import com.smartsheet.api.internal.http.HttpRequest;
+import com.smartsheet.api.internal.http.StubHttpClient;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SheetDeltaSyncTest {
+
+    private static final String COLUMNS = "\"columns\":[{\"id\":10,\"index\":0,\"title\":\"Task\",\"primary\":true}," +
+            "{\"id\":11,\"index\":1,\"title\":\"Status\"}]";
+    private static final String FULL = "{\"id\":1,\"version\":3,\"modifiedAt\":\"2026-10-01T10:00:00Z\",\"totalRowCount\":2," +
+            COLUMNS + ",\"rows\":[" +
+            "{\"id\":100,\"rowNumber\":1,\"cells\":[{\"columnId\":10,\"value\":\"a\"},{\"columnId\":11,\"value\":\"open\"}]}," +
+            "{\"id\":200,\"rowNumber\":2,\"cells\":[{\"columnId\":10,\"value\":\"b\"},{\"columnId\":11,\"value\":\"open\"}]}]}";
+    private static final String UNCHANGED = "{\"id\":1,\"version\":3}";
+
+    private StubHttpClient httpClient;
+    private SmartsheetImpl smartsheet;
+
+    @BeforeEach
+    public void setUp() {
+        httpClient = new StubHttpClient().respond(HttpMethod.GET, "sheets/1", FULL);
+        smartsheet = new SmartsheetImpl(StubHttpClient.BASE_URI, "accessToken", httpClient, new JacksonJsonSerializer());
+    }
+
+    @Test
+    void unchangedSheetIsReturnedAsIs() throws SmartsheetException {
+        httpClient.respond(HttpMethod.GET, "sheets/1", UNCHANGED);
+        Sheet previous = smartsheet.sheetResources().getSheet(1L);
+
+        Sheet refreshed = smartsheet.sheetResources().refreshSheet(previous, null, null, null);
+
+        assertThat(refreshed).isSameAs(previous);
+        String query = lastRequest().getUri().getQuery();
+        assertThat(query).contains("rowsModifiedSince=").contains("ifVersionAfter=3");
+    }
+
+    @Test
+    void modifiedRowsAreMergedInPlace() throws SmartsheetException {
+        httpClient.respond(HttpMethod.GET, "sheets/1", "{\"id\":1,\"version\":4,\"modifiedAt\":\"2026-10-01T11:00:00Z\"," +
+                "\"totalRowCount\":2," + COLUMNS + ",\"rows\":[" +
+                "{\"id\":200,\"rowNumber\":2,\"cells\":[{\"columnId\":10,\"value\":\"b\"},{\"columnId\":11,\"value\":\"done\"}]}]}");
+        Sheet previous = smartsheet.sheetResources().getSheet(1L);
+
+        Sheet refreshed = smartsheet.sheetResources().refreshSheet(previous, null, null, null);
+
+        assertThat(refreshed.getVersion()).isEqualTo(4);
+        assertThat(refreshed.getRows()).extracting(Row::getId).containsExactly(100L, 200L);
+        assertThat(refreshed.getRows().get(0)).isSameAs(previous.getRows().get(0));
+        assertThat(refreshed.getRows().get(1).getCells().get(1).getValue()).isEqualTo("done");
+        assertThat(previous.getRows().get(1).getCells().get(1).getValue()).isEqualTo("open");
+        assertThat(httpClient.countRequests(HttpMethod.GET, "sheets/1")).isEqualTo(2);
+    }
+
+    @Test
+    void deletedRowsAreReconciled() throws SmartsheetException {
+        httpClient.respond(HttpMethod.GET, "sheets/1", "{\"id\":1,\"version\":4,\"modifiedAt\":\"2026-10-01T11:00:00Z\"," +
+                        "\"totalRowCount\":1," + COLUMNS + ",\"rows\":[]}")
+                .respond(HttpMethod.GET, "sheets/1", "{\"id\":1,\"version\":4,\"totalRowCount\":1," +
+                        "\"columns\":[{\"id\":10,\"index\":0}],\"rows\":[" +
+                        "{\"id\":200,\"rowNumber\":1,\"cells\":[{\"columnId\":10,\"value\":\"b\"}]}]}");
+        Sheet previous = smartsheet.sheetResources().getSheet(1L);
+
+        Sheet refreshed = smartsheet.sheetResources().refreshSheet(previous, null, null, null);
+
+        assertThat(refreshed.getRows()).extracting(Row::getId).containsExactly(200L);
+        assertThat(refreshed.getRows().get(0).getRowNumber()).isEqualTo(1);
+        assertThat(refreshed.getRows().get(0).getCells()).hasSize(2);
+        assertThat(lastRequest().getUri().getQuery()).contains("columnIds=10").doesNotContain("rowsModifiedSince");
+    }
+
+    @Test
+    void addedRowsAreMergedInCurrentOrder() throws SmartsheetException {
+        httpClient.respond(HttpMethod.GET, "sheets/1", "{\"id\":1,\"version\":4,\"modifiedAt\":\"2026-10-01T11:00:00Z\"," +
+                        "\"totalRowCount\":3," + COLUMNS + ",\"rows\":[" +
+                        "{\"id\":300,\"rowNumber\":2,\"cells\":[{\"columnId\":10,\"value\":\"c\"},{\"columnId\":11,\"value\":\"new\"}]}]}")
+                .respond(HttpMethod.GET, "sheets/1", "{\"id\":1,\"version\":4,\"totalRowCount\":3," +
+                        "\"columns\":[{\"id\":10,\"index\":0}],\"rows\":[" +
+                        "{\"id\":100,\"rowNumber\":1,\"cells\":[{\"columnId\":10,\"value\":\"a\"}]}," +
+                        "{\"id\":300,\"rowNumber\":2,\"cells\":[{\"columnId\":10,\"value\":\"c\"}]}," +
+                        "{\"id\":200,\"rowNumber\":3,\"cells\":[{\"columnId\":10,\"value\":\"b\"}]}]}");
+        Sheet previous = smartsheet.sheetResources().getSheet(1L);
+
+        Sheet refreshed = smartsheet.sheetResources().refreshSheet(previous, null, null, null);
+
+        assertThat(refreshed.getRows()).extracting(Row::getId).containsExactly(100L, 300L, 200L);
+        assertThat(refreshed.getRows()).extracting(Row::getRowNumber).containsExactly(1, 2, 3);
+        assertThat(refreshed.getRows().get(2).getCells()).hasSize(2);
+        assertThat(previous.getRows().get(1).getRowNumber()).isEqualTo(2);
+    }
+
+    @Test
+    void columnChangeFallsBackToFullFetch() throws SmartsheetException {
+        httpClient.respond(HttpMethod.GET, "sheets/1", "{\"id\":1,\"version\":4,\"modifiedAt\":\"2026-10-01T11:00:00Z\"," +
+                        "\"totalRowCount\":2,\"columns\":[{\"id\":10,\"index\":0,\"title\":\"Task\",\"primary\":true}," +
+                        "{\"id\":11,\"index\":1,\"title\":\"State\"}],\"rows\":[]}")
+                .respond(HttpMethod.GET, "sheets/1", FULL);
+        Sheet previous = smartsheet.sheetResources().getSheet(1L);
+
+        Sheet refreshed = smartsheet.sheetResources().refreshSheet(previous, null, null, null);
+
+        assertThat(refreshed.getRows()).hasSize(2);
+        assertThat(lastRequest().getUri().getQuery()).isNull();
+        assertThat(httpClient.countRequests(HttpMethod.GET, "sheets/1")).isEqualTo(3);
+    }
+
+    @Test
+    void cachedSheetIsRefreshedWithDelta() throws SmartsheetException {
+        httpClient.respond(HttpMethod.GET, "sheets/1", "{\"id\":1,\"version\":4,\"modifiedAt\":\"2026-10-01T11:00:00Z\"," +
+                "\"totalRowCount\":2," + COLUMNS + ",\"rows\":[" +
+                "{\"id\":100,\"rowNumber\":1,\"cells\":[{\"columnId\":10,\"value\":\"a\"},{\"columnId\":11,\"value\":\"done\"}]}]}");
+        LruSheetCache cache = new LruSheetCache();
+        smartsheet.setSheetCache(cache);
+
+        smartsheet.sheetResources().getSheetCached(1L, null, null, null);
+        Sheet refreshed = smartsheet.sheetResources().getSheetCached(1L, null, null, null);
+
+        assertThat(refreshed.getVersion()).isEqualTo(4);
+        assertThat(refreshed.getRows().get(0).getCells().get(1).getValue()).isEqualTo("done");
+        assertThat(lastRequest().getUri().getQuery()).contains("rowsModifiedSince=");
+        assertThat(cache.getStats().getReloadCount()).isEqualTo(1);
+    }
+
+    private HttpRequest lastRequest() {
+        List<HttpRequest> requests = httpClient.getRequests();
+        return requests.get(requests.size() - 1);
+    }
+}
@@ -16,7 +16,9 @@
 
 package com.smartsheet.api.internal;
 
+import com.smartsheet.api.SheetResources;
 import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.cache.LruSheetCache;
 import com.smartsheet.api.internal.http.DefaultHttpClient;
 import com.smartsheet.api.models.Column;
 import com.smartsheet.api.models.ContainerDestination;
@@ -61,6 +63,9 @@ import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class SheetResourcesImplTest extends ResourcesImplBase {
     private SheetResourcesImpl sheetResource;
@@ -101,6 +106,53 @@ class SheetResourcesImplTest extends ResourcesImplBase {
         assertThat(sheets.getData()).hasSize(2);
     }
 
+    @Test
+    void testGetSheetCached() throws SmartsheetException, IOException {
+        server.setResponseBody(new File("src/test/resources/getSheet.json"));
+        LruSheetCache cache = new LruSheetCache();
+        sheetResource.getSmartsheet().setSheetCache(cache);
+
+        Sheet first = sheetResource.getSheetCached(123123L, null, null, null);
+        assertThat(server.getLastRequestUrl()).doesNotContain("ifVersionAfter");
+
+        Sheet second = sheetResource.getSheetCached(123123L, null, null, null);
+        assertThat(second.getVersion()).isEqualTo(first.getVersion());
+        assertThat(second.getColumns()).hasSize(first.getColumns().size());
+        assertThat(cache.getStats().getMissCount()).isEqualTo(1);
+        assertThat(cache.getStats().getReloadCount()).isEqualTo(1);
+
+        server.setResponseBody("{\"id\":123123,\"version\":0}");
+        Sheet third = sheetResource.getSheetCached(123123L, null, null, null);
+        assertThat(third).isSameAs(second);
+        assertThat(cache.getStats().getRevalidationCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getSheetCachedDefaultsToGetSheet() throws SmartsheetException {
+        SheetResources sheets = mock(SheetResources.class);
+        Sheet sheet = new Sheet();
+        EnumSet<SheetInclusion> includes = EnumSet.of(SheetInclusion.FORMAT);
+        EnumSet<ObjectExclusion> excludes = EnumSet.of(ObjectExclusion.NONEXISTENT_CELLS);
+        Set<Long> columnIds = Set.of(7L);
+        when(sheets.getSheet(1L, includes, excludes, null, null, columnIds, null, null)).thenReturn(sheet);
+        when(sheets.getSheetCached(1L, includes, excludes, columnIds)).thenCallRealMethod();
+
+        assertThat(sheets.getSheetCached(1L, includes, excludes, columnIds)).isSameAs(sheet);
+        verify(sheets).getSheet(1L, includes, excludes, null, null, columnIds, null, null);
+    }
+
+    @Test
+    void refreshSheetDefaultsToFullFetch() throws SmartsheetException {
+        SheetResources sheets = mock(SheetResources.class);
+        Sheet previous = new Sheet();
+        previous.setId(1L);
+        Sheet current = new Sheet();
+        when(sheets.getSheet(1L, null, null, null, null, null, null, null)).thenReturn(current);
+        when(sheets.refreshSheet(previous, null, null, null)).thenCallRealMethod();
+
+        assertThat(sheets.refreshSheet(previous, null, null, null)).isSameAs(current);
+    }
+
     @Test
     void testGetSheet() throws SmartsheetException, IOException {
 
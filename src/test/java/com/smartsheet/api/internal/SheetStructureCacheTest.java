@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal;
+
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.http.HttpMethod;
+import com.smartsheet.api.internal.http.HttpRequest;
+import com.smartsheet.api.internal.http.StubHttpClient;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.Row;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SheetStructureCacheTest {
+
+    private static final String COLUMNS = "{\"pageNumber\":1,\"totalPages\":1,\"totalCount\":2,\"data\":[" +
+            "{\"id\":11,\"index\":1,\"title\":\"Status\"}," +
+            "{\"id\":10,\"index\":0,\"title\":\"Task\",\"primary\":true}]}";
+    private static final String PRIMARY_COLUMN_ROWS = "{\"id\":1,\"version\":3,\"columns\":[{\"id\":10,\"index\":0}],\"rows\":[" +
+            "{\"id\":100,\"rowNumber\":1,\"cells\":[{\"columnId\":10,\"value\":\"a\"}]}," +
+            "{\"id\":200,\"rowNumber\":2,\"cells\":[{\"columnId\":10,\"value\":\"b\"}]}]}";
+    private static final String UPDATED_ROWS = "{\"message\":\"SUCCESS\",\"resultCode\":0,\"result\":[" +
+            "{\"id\":200,\"rowNumber\":2,\"cells\":[{\"columnId\":11,\"value\":\"done\"}]}]}";
+
+    private StubHttpClient httpClient;
+    private SmartsheetImpl smartsheet;
+
+    @BeforeEach
+    public void setUp() {
+        httpClient = new StubHttpClient()
+                .respond(HttpMethod.GET, "sheets/1/version", "{\"version\":3}")
+                .respond(HttpMethod.GET, "sheets/1/columns", COLUMNS)
+                .respond(HttpMethod.GET, "sheets/1", PRIMARY_COLUMN_ROWS)
+                .respond(HttpMethod.PUT, "sheets/1/rows", UPDATED_ROWS);
+        smartsheet = new SmartsheetImpl(StubHttpClient.BASE_URI, "accessToken", httpClient, new JacksonJsonSerializer());
+    }
+
+    @Test
+    void updateCellByIndexResolvesIdsFromStructure() throws SmartsheetException, IOException {
+        Row row = smartsheet.sheetResources().rowResources().updateCell(1L, 2, 2, "done");
+
+        assertThat(row.getId()).isEqualTo(200L);
+        List<HttpRequest> requests = httpClient.getRequests();
+        HttpRequest sheetRequest = requests.get(2);
+        assertThat(sheetRequest.getUri().getQuery()).contains("columnIds=10").contains("exclude=nonexistentCells");
+        HttpRequest update = requests.get(3);
+        String body = IOUtils.toString(update.getEntity().getContent(), StandardCharsets.UTF_8);
+        assertThat(body).contains("\"id\":200").contains("\"columnId\":11").contains("\"value\":\"done\"");
+    }
+
+    @Test
+    void structureIsReusedWhileVersionIsUnchanged() throws SmartsheetException {
+        smartsheet.sheetResources().rowResources().updateCell(1L, 1, 1, "x");
+        smartsheet.sheetResources().rowResources().updateCell(1L, 2, 2, "y");
+
+        assertThat(httpClient.countRequests(HttpMethod.GET, "sheets/1")).isEqualTo(1);
+        assertThat(httpClient.countRequests(HttpMethod.GET, "sheets/1/columns")).isEqualTo(1);
+        assertThat(httpClient.countRequests(HttpMethod.GET, "sheets/1/version")).isEqualTo(2);
+        assertThat(httpClient.countRequests(HttpMethod.PUT, "sheets/1/rows")).isEqualTo(2);
+    }
+
+    @Test
+    void cellUpdatesKeepTheStructureCurrent() throws SmartsheetException {
+        httpClient = new StubHttpClient()
+                .respond(HttpMethod.GET, "sheets/1/version", "{\"version\":3}")
+                .respond(HttpMethod.GET, "sheets/1/version", "{\"version\":4}")
+                .respond(HttpMethod.GET, "sheets/1/columns", COLUMNS)
+                .respond(HttpMethod.GET, "sheets/1", PRIMARY_COLUMN_ROWS)
+                .respond(HttpMethod.PUT, "sheets/1/rows", UPDATED_ROWS.replace("\"resultCode\":0", "\"resultCode\":0,\"version\":4"))
+                .respond(HttpMethod.PUT, "sheets/1/rows", UPDATED_ROWS.replace("\"resultCode\":0", "\"resultCode\":0,\"version\":5"));
+        smartsheet = new SmartsheetImpl(StubHttpClient.BASE_URI, "accessToken", httpClient, new JacksonJsonSerializer());
+
+        smartsheet.sheetResources().rowResources().updateCell(1L, 1, 1, "x");
+        int sent = httpClient.getRequests().size();
+        smartsheet.sheetResources().rowResources().updateCell(1L, 2, 2, "y");
+
+        // a single request (the version check) before the write
+        List<HttpRequest> second = httpClient.getRequests().subList(sent, httpClient.getRequests().size());
+        assertThat(second).extracting(HttpRequest::getMethod).containsExactly(HttpMethod.GET, HttpMethod.PUT);
+        assertThat(second.get(0).getUri().getPath()).endsWith("sheets/1/version");
+        assertThat(httpClient.countRequests(HttpMethod.GET, "sheets/1/columns")).isEqualTo(1);
+    }
+
+    @Test
+    void structureOnlyAdvancesOverItsOwnWrite() throws SmartsheetException {
+        httpClient = new StubHttpClient()
+                .respond(HttpMethod.GET, "sheets/1/version", "{\"version\":3}")
+                .respond(HttpMethod.GET, "sheets/1/version", "{\"version\":3}")
+                .respond(HttpMethod.GET, "sheets/1/version", "{\"version\":4}")
+                .respond(HttpMethod.GET, "sheets/1/columns", COLUMNS)
+                .respond(HttpMethod.GET, "sheets/1", PRIMARY_COLUMN_ROWS);
+        smartsheet = new SmartsheetImpl(StubHttpClient.BASE_URI, "accessToken", httpClient, new JacksonJsonSerializer());
+        SheetStructureCache cache = smartsheet.getSheetStructureCache();
+        SheetStructureCache.SheetStructure structure = cache.getStructure(1L);
+
+        cache.advance(structure, 5);
+        cache.advance(structure, null);
+        assertThat(cache.getStructure(1L)).isSameAs(structure);
+        cache.advance(structure, 4);
+        cache.advance(structure, 4);
+        assertThat(cache.getStructure(1L).getVersion()).isEqualTo(4);
+        assertThat(httpClient.countRequests(HttpMethod.GET, "sheets/1")).isEqualTo(1);
+    }
+
+    @Test
+    void structureIsReloadedWhenVersionChanges() throws SmartsheetException {
+        httpClient.respond(HttpMethod.GET, "sheets/1/version", "{\"version\":4}")
+                .respond(HttpMethod.GET, "sheets/1", PRIMARY_COLUMN_ROWS.replace("\"version\":3", "\"version\":4"));
+        SheetStructureCache cache = smartsheet.getSheetStructureCache();
+
+        cache.getStructure(1L);
+        SheetStructureCache.SheetStructure structure = cache.getStructure(1L);
+
+        assertThat(httpClient.countRequests(HttpMethod.GET, "sheets/1")).isEqualTo(2);
+        assertThat(httpClient.countRequests(HttpMethod.GET, "sheets/1/version")).isEqualTo(2);
+        assertThat(structure.getVersion()).isEqualTo(4);
+        assertThat(structure.getColumnId(1)).isEqualTo(10L);
+        assertThat(structure.getColumnId(2)).isEqualTo(11L);
+        assertThat(structure.getRowId(1)).isEqualTo(100L);
+        assertThat(structure.getRowCount()).isEqualTo(2);
+    }
+
+    @Test
+    void columnsListedWhileTheSheetChangesAreListedAgain() throws SmartsheetException {
+        httpClient = new StubHttpClient()
+                .respond(HttpMethod.GET, "sheets/1/version", "{\"version\":2}")
+                .respond(HttpMethod.GET, "sheets/1/columns", COLUMNS)
+                .respond(HttpMethod.GET, "sheets/1", PRIMARY_COLUMN_ROWS);
+        smartsheet = new SmartsheetImpl(StubHttpClient.BASE_URI, "accessToken", httpClient, new JacksonJsonSerializer());
+
+        SheetStructureCache.SheetStructure structure = smartsheet.getSheetStructureCache().getStructure(1L);
+
+        assertThat(structure.getVersion()).isEqualTo(3);
+        assertThat(httpClient.countRequests(HttpMethod.GET, "sheets/1/columns")).isEqualTo(2);
+        assertThat(httpClient.countRequests(HttpMethod.GET, "sheets/1")).isEqualTo(2);
+        assertThat(httpClient.countRequests(HttpMethod.GET, "sheets/1/version")).isEqualTo(1);
+    }
+
+    @Test
+    void sheetThatKeepsChangingIsFetchedWhole() throws SmartsheetException {
+        httpClient = new StubHttpClient()
+                .respond(HttpMethod.GET, "sheets/1/version", "{\"version\":1}")
+                .respond(HttpMethod.GET, "sheets/1/columns", COLUMNS);
+        for (int version = 2; version <= SheetStructureCache.MAX_LOAD_ATTEMPTS + 2; version++) {
+            httpClient.respond(HttpMethod.GET, "sheets/1", PRIMARY_COLUMN_ROWS.replace("\"version\":3", "\"version\":" + version));
+        }
+        smartsheet = new SmartsheetImpl(StubHttpClient.BASE_URI, "accessToken", httpClient, new JacksonJsonSerializer());
+
+        SheetStructureCache.SheetStructure structure = smartsheet.getSheetStructureCache().getStructure(1L);
+
+        List<HttpRequest> requests = httpClient.getRequests();
+        HttpRequest last = requests.get(requests.size() - 1);
+        assertThat(last.getUri().getQuery()).doesNotContain("columnIds");
+        assertThat(structure.getVersion()).isEqualTo(SheetStructureCache.MAX_LOAD_ATTEMPTS + 2);
+        assertThat(httpClient.countRequests(HttpMethod.GET, "sheets/1/columns")).isEqualTo(SheetStructureCache.MAX_LOAD_ATTEMPTS);
+    }
+
+    @Test
+    void updateCellOutOfRange() {
+        assertThatThrownBy(() -> smartsheet.sheetResources().rowResources().updateCell(1L, 3, 1, "x"))
+                .isInstanceOf(SmartsheetException.class)
+                .hasMessageContaining("row at index3");
+        assertThatThrownBy(() -> smartsheet.sheetResources().rowResources().updateCell(1L, 1, 3, "x"))
+                .isInstanceOf(SmartsheetException.class)
+                .hasMessageContaining("column at index3");
+    }
+}
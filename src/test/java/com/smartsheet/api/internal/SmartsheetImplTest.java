@@ -16,12 +16,24 @@
 
 package com.smartsheet.api.internal;
 
+import com.smartsheet.api.CallOptions;
+import com.smartsheet.api.Smartsheet;
+import com.smartsheet.api.cache.LruSheetCache;
 import com.smartsheet.api.internal.http.DefaultHttpClient;
 import com.smartsheet.api.internal.http.HttpClient;
+import com.smartsheet.api.internal.http.StubHttpClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.lang.ref.Reference;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class SmartsheetImplTest extends ResourcesImplBase {
 
@@ -51,6 +63,137 @@ class SmartsheetImplTest extends ResourcesImplBase {
         assertThat(smartsheet.getBaseURI()).hasToString(baseURI);
     }
 
+    @Test
+    void testResolve() {
+        assertThat(smartsheet.resolve("sheets/1/rows?include=format%2Cdiscussions"))
+                .isEqualTo(smartsheet.getBaseURI().resolve("sheets/1/rows?include=format%2Cdiscussions"))
+                .hasToString(baseURI + "sheets/1/rows?include=format%2Cdiscussions");
+        assertThat(smartsheet.resolve("/2.0/sheets")).hasToString("http://localhost:9090/2.0/sheets");
+        assertThat(smartsheet.resolve("https://example.com/x")).hasToString("https://example.com/x");
+        assertThat(smartsheet.resolve("sheets/../users")).hasToString(baseURI + "users");
+        assertThat(new SmartsheetImpl("http://localhost:9090/1.1", accessToken).resolve("sheets"))
+                .hasToString("http://localhost:9090/sheets");
+    }
+
+    @Test
+    void testHeaderTemplateFollowsIdentity() {
+        Map<String, String> headers = smartsheet.getHeaderTemplate();
+        assertThat(smartsheet.getHeaderTemplate()).isSameAs(headers);
+
+        smartsheet.setAssumedUser("jane doe@example.com");
+        Map<String, String> assumed = smartsheet.getHeaderTemplate();
+        assertThat(assumed).isNotSameAs(headers).containsEntry("Assume-User", "jane+doe%40example.com");
+
+        smartsheet.setAccessToken("other");
+        assertThat(smartsheet.getHeaderTemplate()).containsEntry("Authorization", "Bearer other")
+                .containsEntry("Assume-User", "jane+doe%40example.com");
+    }
+
+    @Test
+    void testWithIdentitySharesTransportButNotIdentity() {
+        smartsheet.setAssumedUser("owner@example.com");
+        SmartsheetImpl tenant = smartsheet.withIdentity("tenantToken", "jane@example.com", "sync");
+
+        assertThat(tenant.getHttpClient()).isSameAs(smartsheet.getHttpClient());
+        assertThat(tenant.getJsonSerializer()).isSameAs(smartsheet.getJsonSerializer());
+        assertThat(tenant.getHeaderTemplate()).containsEntry("Authorization", "Bearer tenantToken")
+                .containsEntry("Assume-User", "jane%40example.com")
+                .containsEntry("Smartsheet-Change-Agent", "sync");
+        assertThat(smartsheet.getHeaderTemplate()).containsEntry("Authorization", "Bearer " + accessToken)
+                .containsEntry("Assume-User", "owner%40example.com")
+                .doesNotContainKey("Smartsheet-Change-Agent");
+        assertThat(tenant.sheetResources()).isNotSameAs(smartsheet.sheetResources());
+
+        smartsheet.setSheetCache(new LruSheetCache());
+        assertThat(tenant.getSheetCache()).isSameAs(smartsheet.getSheetCache());
+    }
+
+    @Test
+    void testViewKeepsSharedHttpClientOpen() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        StubHttpClient stub = new StubHttpClient() {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        SmartsheetImpl view = new SmartsheetImpl(baseURI, accessToken, stub, serializer).withIdentity("tenantToken", null, null);
+
+        // the parent is only reachable through the view
+        collectGarbageUntil(closed::get, 500);
+        assertThat(closed).isFalse();
+        Reference.reachabilityFence(view);
+
+        view = null;
+        collectGarbageUntil(closed::get, 5_000);
+        assertThat(closed).isTrue();
+    }
+
+    private static void collectGarbageUntil(BooleanSupplier condition, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            System.gc();
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void testWithCallOptionsSharesIdentity() {
+        CallOptions callOptions = CallOptions.timeout(1_000);
+        SmartsheetImpl view = smartsheet.withCallOptions(callOptions);
+
+        assertThat(view.getCallOptions()).isSameAs(callOptions);
+        assertThat(smartsheet.getCallOptions()).isNull();
+        assertThat(view.getHttpClient()).isSameAs(smartsheet.getHttpClient());
+        smartsheet.setAccessToken("refreshed");
+        assertThat(view.getAccessToken()).isEqualTo("refreshed");
+        assertThat(view.withIdentity("tenantToken", null, null).getCallOptions()).isSameAs(callOptions);
+    }
+
+    @Test
+    void testWithIdentityScopesCachedSheets() {
+        assertThat(smartsheet.getCacheScope()).isNull();
+        String scope = smartsheet.withIdentity("tenantToken", "jane@example.com", null).getCacheScope();
+
+        assertThat(scope).isNotNull().doesNotContain("tenantToken")
+                .isEqualTo(smartsheet.withIdentity("tenantToken", "jane@example.com", "other").getCacheScope())
+                .isNotEqualTo(smartsheet.withIdentity("tenantToken", null, null).getCacheScope())
+                .isNotEqualTo(smartsheet.withIdentity("otherToken", "jane@example.com", null).getCacheScope());
+    }
+
+    @Test
+    void testWithIdentityDefaultsToUnsupported() {
+        Smartsheet other = mock(Smartsheet.class);
+        when(other.withIdentity("tenantToken", null, null)).thenCallRealMethod();
+
+        assertThatThrownBy(() -> other.withIdentity("tenantToken", null, null))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void testWithCallOptionsDefaultsToUnsupported() {
+        Smartsheet other = mock(Smartsheet.class);
+        CallOptions callOptions = CallOptions.timeout(1_000);
+        when(other.withCallOptions(callOptions)).thenCallRealMethod();
+
+        assertThatThrownBy(() -> other.withCallOptions(callOptions)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void testClientScopesCachedSheetsOnceItsIdentityChanges() {
+        smartsheet.setAssumedUser("jane@example.com");
+        String assumed = smartsheet.getCacheScope();
+        smartsheet.setAssumedUser("john@example.com");
+
+        assertThat(assumed).isNotNull().isNotEqualTo(smartsheet.getCacheScope());
+        smartsheet.setAccessToken("otherToken");
+        smartsheet.setAssumedUser(null);
+        assertThat(smartsheet.getCacheScope()).isNotNull();
+        smartsheet.setAccessToken(accessToken);
+        assertThat(smartsheet.getCacheScope()).isNull();
+        assertThat(smartsheet.withCallOptions(CallOptions.timeout(1_000)).getCacheScope()).isNull();
+    }
+
     @Test
     void testGetAssumedUser() {
         assertThat(smartsheet.getAssumedUser()).isNull();
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+import com.smartsheet.api.internal.http.AdaptiveConcurrencyLimiter.Signal;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void callersOverTheLimitQueueUntilASlotIsReleased() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder().setInitialLimit(2).setMaxLimit(2).build();
+        limiter.acquire();
+        limiter.acquire();
+
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try {
+                limiter.acquire();
+                acquired.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiter.start();
+        while (limiter.getQueueDepth() == 0) {
+            Thread.sleep(1);
+        }
+        assertThat(acquired.await(50, TimeUnit.MILLISECONDS)).isFalse();
+
+        limiter.release(10 * MILLIS, Signal.SUCCESS);
+
+        assertThat(acquired.await(5, TimeUnit.SECONDS)).isTrue();
+        waiter.join();
+        assertThat(limiter.getQueueDepth()).isZero();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void limitGrowsWhileLatencyHoldsAndShrinksWhenItRises() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder().setInitialLimit(4).setMaxLimit(40).build();
+
+        for (int i = 0; i < 50; i++) {
+            saturate(limiter, 10 * MILLIS);
+        }
+        int grown = limiter.getLimit();
+        assertThat(grown).isGreaterThan(4).isLessThanOrEqualTo(40);
+
+        // requests suddenly queue up on the server
+        saturate(limiter, 100 * MILLIS);
+        assertThat(limiter.getLimit()).isLessThan(grown);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void limitDoesNotGrowWhileMostlyUnused() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder().setInitialLimit(10).build();
+
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire();
+            limiter.release(10 * MILLIS, Signal.SUCCESS);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void overloadCutsTheLimitOncePerRoundTrip() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder().setInitialLimit(20).build();
+        for (int i = 0; i < 6; i++) {
+            limiter.acquire();
+        }
+        // a slow answer makes a round trip last a second, so the burst of rejections below counts once
+        limiter.release(1000 * MILLIS, Signal.SUCCESS);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.release(0, Signal.OVERLOAD);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(14);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void overloadNeverCutsBelowTheMinimum() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder().setInitialLimit(4).setMinLimit(2).build();
+
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+            limiter.release(0, Signal.OVERLOAD);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsInconsistentSettings() {
+        assertThatThrownBy(() -> AdaptiveConcurrencyLimiter.builder().setMinLimit(10).setMaxLimit(5).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AdaptiveConcurrencyLimiter.builder().setBackoffRatio(1).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Fill the limit, then complete all requests with the given round-trip time.
+     */
+    private static void saturate(AdaptiveConcurrencyLimiter limiter, long rttNanos) throws InterruptedException {
+        int limit = limiter.getLimit();
+        for (int i = 0; i < limit; i++) {
+            limiter.acquire();
+        }
+        for (int i = 0; i < limit; i++) {
+            limiter.release(rttNanos, Signal.SUCCESS);
+        }
+    }
+}
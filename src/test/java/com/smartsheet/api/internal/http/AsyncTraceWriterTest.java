@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+import com.smartsheet.api.Trace;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.Error;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncTraceWriterTest {
+
+    @Test
+    void dropsOldestWaitingTraceWhenFull() throws Exception {
+        StringWriter output = new StringWriter();
+        AsyncTraceWriter writer = new AsyncTraceWriter(new PrintWriter(output), 2);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        writer.write(() -> {
+            writing.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "first";
+        });
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        writer.println("second");
+        writer.println("third");
+        writer.println("fourth");
+        release.countDown();
+
+        assertThat(writer.flush(5000)).isTrue();
+        assertThat(output.toString().split(System.lineSeparator())).containsExactly("first", "third", "fourth");
+        assertThat(writer.getDroppedCount()).isEqualTo(1);
+        writer.close();
+    }
+
+    @Test
+    void tracesFailuresButSamplesSuccesses() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            boolean fail = exchange.getRequestURI().getPath().endsWith("/missing");
+            byte[] body = (fail ? "{\"errorCode\":1006,\"message\":\"Not Found\"}" : "{\"id\":1}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(fail ? 404 : 200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        ByteArrayOutputStream traceStream = new ByteArrayOutputStream();
+        DefaultHttpClient.setTraceStream(traceStream);
+        DefaultHttpClient client = new DefaultHttpClient(HttpClients.createDefault(), new JacksonJsonSerializer()) {
+            @Override
+            public long calcBackoff(int previousAttempts, long totalElapsedTimeMillis, Error error) {
+                return -1;
+            }
+        };
+        client.setTraces(Trace.Request, Trace.Response);
+        client.setTraceSampleRate(0);
+        try {
+            String base = "http://127.0.0.1:" + server.getAddress().getPort() + "/2.0/sheets/";
+            for (String path : new String[]{"found", "missing"}) {
+                HttpRequest request = new HttpRequest();
+                request.setMethod(HttpMethod.GET);
+                request.setUri(URI.create(base + path));
+                client.request(request);
+                client.releaseConnection();
+            }
+            assertThat(DefaultHttpClient.flushTraces(5000)).isTrue();
+        } finally {
+            client.close();
+            server.stop(0);
+            DefaultHttpClient.setTraceStream(System.out);
+        }
+
+        String output = traceStream.toString(StandardCharsets.UTF_8);
+        assertThat(output).contains("/2.0/sheets/missing").contains("Not Found").doesNotContain("/2.0/sheets/found");
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+import com.smartsheet.api.CallOptions;
+import com.smartsheet.api.Smartsheet;
+import com.smartsheet.api.SmartsheetBuilder;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.RequestHedger;
+import com.smartsheet.api.internal.SmartsheetImpl;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.Error;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DefaultHttpClientTest {
+
+    private static final String SHEET_BODY = "{\"id\":1,\"name\":\"Plan\"}";
+
+    private static final String ERROR_BODY = "{\"errorCode\":4004,\"message\":\"An unexpected error has occurred.\"}";
+
+    private ServerSocket server;
+    private DefaultHttpClient httpClient;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    void deadlineAbortsResponseStillBeingRead() throws Exception {
+        Smartsheet smartsheet = client(startTrickling(null)).withCallOptions(CallOptions.timeout(300));
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> smartsheet.sheetResources().getSheet(1)).isInstanceOf(DeadlineExceededException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2_000);
+    }
+
+    @Test
+    void cancelAbortsResponseStillBeingRead() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        CallOptions callOptions = CallOptions.cancellable();
+        Smartsheet smartsheet = client(startTrickling(reading)).withCallOptions(callOptions);
+
+        CompletableFuture<Object> call = CompletableFuture.supplyAsync(() -> {
+            try {
+                return smartsheet.sheetResources().getSheet(1);
+            } catch (SmartsheetException e) {
+                throw new CompletionException(e);
+            }
+        });
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+        callOptions.cancel();
+
+        assertThatThrownBy(() -> call.get(2, TimeUnit.SECONDS)).hasCauseInstanceOf(RequestCancelledException.class);
+    }
+
+    @Test
+    void cancelEndsBackoff() throws Exception {
+        CountDownLatch failed = new CountDownLatch(1);
+        server = serve(out -> {
+            byte[] body = ERROR_BODY.getBytes(StandardCharsets.UTF_8);
+            out.write(("HTTP/1.1 500 Server Error\r\nContent-Type: application/json\r\nContent-Length: " + body.length +
+                    "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.write(body);
+            out.flush();
+            failed.countDown();
+        });
+        httpClient = new DefaultHttpClient(HttpClients.createDefault(), new JacksonJsonSerializer()) {
+            @Override
+            public long calcBackoff(int previousAttempts, long totalElapsedTimeMillis, Error error) {
+                return 10_000;
+            }
+        };
+        CallOptions callOptions = CallOptions.cancellable();
+        Smartsheet smartsheet = client(server).withCallOptions(callOptions);
+
+        CompletableFuture<Object> call = CompletableFuture.supplyAsync(() -> {
+            try {
+                return smartsheet.sheetResources().getSheet(1);
+            } catch (SmartsheetException e) {
+                throw new CompletionException(e);
+            }
+        });
+        assertThat(failed.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(50);
+        callOptions.cancel();
+
+        assertThatThrownBy(() -> call.get(2, TimeUnit.SECONDS)).hasCauseInstanceOf(RequestCancelledException.class);
+    }
+
+    @Test
+    void hedgeWinsOverResponseStillBeingRead() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        server = serve(out -> {
+            // the request that sets the route's delay and the hedge are quick, the request being hedged stalls
+            if (requests.incrementAndGet() == 2) {
+                trickle(out, null);
+            } else {
+                byte[] body = SHEET_BODY.getBytes(StandardCharsets.UTF_8);
+                out.write(("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Length: " + body.length +
+                        "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                out.write(body);
+                out.flush();
+            }
+        });
+        SmartsheetImpl smartsheet = (SmartsheetImpl) client(server);
+        // hedged well after the request it hedges has been sent
+        RequestHedger hedger = RequestHedger.builder().setPercentile(1).setMinDelayMillis(200).setBudgetRatio(1)
+                .setMinSamples(1).build();
+        smartsheet.setRequestHedger(hedger);
+        smartsheet.sheetResources().getSheet(1);
+
+        long start = System.nanoTime();
+        assertThat(smartsheet.sheetResources().getSheet(1).getName()).isEqualTo("Plan");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2_000);
+        assertThat(hedger.getWonCount()).isEqualTo(1);
+    }
+
+    /**
+     * Start a server which trickles the body of its responses.
+     */
+    private ServerSocket startTrickling(CountDownLatch reading) throws IOException {
+        server = serve(out -> trickle(out, reading));
+        return server;
+    }
+
+    /**
+     * Send the headers of a successful response, then its body a byte at a time, each well within the socket timeout,
+     * so that only an abort ends the reading.
+     */
+    private static void trickle(OutputStream out, CountDownLatch reading) throws IOException {
+        out.write("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Length: 100000\r\n\r\n{"
+                .getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        if (reading != null) {
+            reading.countDown();
+        }
+        try {
+            while (true) {
+                Thread.sleep(50);
+                out.write(' ');
+                out.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Smartsheet client(ServerSocket server) {
+        if (httpClient == null) {
+            httpClient = new DefaultHttpClient(HttpClients.createDefault(), new JacksonJsonSerializer());
+        }
+        return new SmartsheetBuilder().setBaseURI("http://localhost:" + server.getLocalPort() + "/2.0/")
+                .setAccessToken("token").setHttpClient(httpClient).build();
+    }
+
+    /**
+     * Start a server answering each request on a connection of its own.
+     */
+    private static ServerSocket serve(Responder responder) throws IOException {
+        ServerSocket serverSocket = new ServerSocket(0);
+        Thread acceptor = new Thread(() -> {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    Thread handler = new Thread(() -> respond(socket, responder));
+                    handler.setDaemon(true);
+                    handler.start();
+                } catch (IOException e) {
+                    // closed
+                }
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+        return serverSocket;
+    }
+
+    private static void respond(Socket socket, Responder responder) {
+        try (Socket closing = socket) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(closing.getInputStream(), StandardCharsets.US_ASCII));
+            String line = in.readLine();
+            while (line != null && !line.isEmpty()) {
+                line = in.readLine();
+            }
+            responder.respond(closing.getOutputStream());
+        } catch (IOException e) {
+            // the client went away
+        }
+    }
+
+    @FunctionalInterface
+    private interface Responder {
+        void respond(OutputStream out) throws IOException;
+    }
+}
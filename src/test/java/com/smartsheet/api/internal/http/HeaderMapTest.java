@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+import org.apache.http.Header;
+import org.apache.http.message.BasicHeader;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HeaderMapTest {
+
+    @Test
+    void copyOnWriteLeavesTemplateUnchanged() {
+        Map<String, String> template = new HashMap<>();
+        template.put("Authorization", "Bearer token");
+        HeaderMap first = HeaderMap.copyOnWrite(template);
+        HeaderMap second = HeaderMap.copyOnWrite(template);
+
+        first.put("Accept", "text/csv");
+        first.remove("Authorization");
+
+        assertThat(first).containsOnly(Map.entry("Accept", "text/csv"));
+        assertThat(second).containsOnly(Map.entry("Authorization", "Bearer token"));
+        assertThat(template).containsOnly(Map.entry("Authorization", "Bearer token"));
+    }
+
+    @Test
+    void viewsAndEntriesCopyTemplateOnChange() {
+        Map<String, String> template = new HashMap<>();
+        template.put("Authorization", "Bearer token");
+        template.put("Accept", "application/json");
+        template.put("User-Agent", "sdk");
+
+        HeaderMap removed = HeaderMap.copyOnWrite(template);
+        removed.keySet().remove("Accept");
+        removed.values().removeIf("sdk"::equals);
+        assertThat(removed).containsOnly(Map.entry("Authorization", "Bearer token"));
+
+        HeaderMap replaced = HeaderMap.copyOnWrite(template);
+        replaced.replaceAll((name, value) -> value.toUpperCase());
+        assertThat(replaced).containsEntry("Accept", "APPLICATION/JSON").hasSize(3);
+
+        HeaderMap set = HeaderMap.copyOnWrite(template);
+        for (Map.Entry<String, String> entry : set.entrySet()) {
+            if (entry.getKey().equals("User-Agent")) {
+                assertThat(entry.setValue("app")).isEqualTo("sdk");
+            }
+        }
+        assertThat(set).containsEntry("User-Agent", "app").hasSize(3);
+
+        assertThat(template).containsOnly(Map.entry("Authorization", "Bearer token"), Map.entry("Accept", "application/json"),
+                Map.entry("User-Agent", "sdk"));
+    }
+
+    @Test
+    void concurrentReadersSeeAllApacheHeaders() {
+        Header[] apacheHeaders = new Header[50];
+        for (int i = 0; i < apacheHeaders.length; i++) {
+            apacheHeaders[i] = new BasicHeader("X-Header-" + i, String.valueOf(i));
+        }
+        for (int round = 0; round < 200; round++) {
+            HeaderMap headers = HeaderMap.of(apacheHeaders);
+            List<CompletableFuture<Integer>> readers = new ArrayList<>();
+            for (int reader = 0; reader < 4; reader++) {
+                readers.add(CompletableFuture.supplyAsync(headers::size));
+            }
+            for (CompletableFuture<Integer> reader : readers) {
+                assertThat(reader.join()).isEqualTo(apacheHeaders.length);
+            }
+        }
+    }
+
+    @Test
+    void ofApacheHeadersKeepsLastValue() {
+        HeaderMap headers = HeaderMap.of(new Header[]{
+            new BasicHeader("Content-Type", "application/json"),
+            new BasicHeader("Retry-After", "1"),
+            new BasicHeader("Retry-After", "2"),
+        });
+
+        assertThat(headers).hasSize(2).containsEntry("Retry-After", "2").containsEntry("Content-Type", "application/json");
+        headers.put("X-Extra", "x");
+        assertThat(headers).hasSize(3);
+    }
+}
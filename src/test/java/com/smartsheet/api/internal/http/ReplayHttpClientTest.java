@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+import com.smartsheet.api.internal.SmartsheetImpl;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReplayHttpClientTest {
+    private static final String SHEET = "{\"id\":1,\"name\":\"Plan\",\"version\":3,\"rows\":[{\"id\":10,\"rowNumber\":1," +
+            "\"cells\":[{\"columnId\":5,\"value\":\"Task\"}]}]}";
+
+    @Test
+    void replaysARecordedSessionThroughTheSdk(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("session.cassette");
+        StubHttpClient stub = new StubHttpClient()
+                .respond(HttpMethod.GET, "sheets/1", SHEET)
+                .respond(HttpMethod.POST, "sheets/1/rows", "{\"message\":\"SUCCESS\",\"resultCode\":0,\"result\":[{\"id\":11}]}");
+        RecordingHttpClient recorder = new RecordingHttpClient(stub, file);
+        SmartsheetImpl recording = new SmartsheetImpl(StubHttpClient.BASE_URI, "secret-token", recorder, new JacksonJsonSerializer());
+        Row row = new Row();
+        row.setCells(Collections.singletonList(new Cell(5L).setValue("New task")));
+
+        Sheet recorded = recording.sheetResources().getSheet(1L);
+        recording.sheetResources().rowResources().addRows(1L, Collections.singletonList(row));
+        recorder.close();
+
+        HttpCassette cassette = HttpCassette.load(file);
+        List<HttpCassette.Interaction> interactions = cassette.getInteractions();
+        assertThat(interactions).extracting(HttpCassette.Interaction::getRoute)
+                .containsExactly("GET /sheets/{id}", "POST /sheets/{id}/rows");
+        assertThat(interactions.get(0).getUri()).isEqualTo("/2.0/sheets/1");
+        assertThat(interactions.get(0).getRequestHeaders()).doesNotContainKey("Authorization").containsKey("Content-Type");
+        assertThat(new String(interactions.get(1).getRequestBody(), StandardCharsets.UTF_8)).contains("New task");
+        assertThat(new String(interactions.get(0).getResponseBody(), StandardCharsets.UTF_8)).isEqualTo(SHEET);
+        assertThat(new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1)).doesNotContain("secret-token");
+
+        ReplayHttpClient replay = new ReplayHttpClient(cassette, false);
+        SmartsheetImpl replaying = new SmartsheetImpl("https://elsewhere.test/2.0/", "other", replay, new JacksonJsonSerializer());
+        for (int i = 0; i < 3; i++) {
+            Sheet sheet = replaying.sheetResources().getSheet(1L);
+            assertThat(sheet.getName()).isEqualTo(recorded.getName());
+            assertThat(sheet.getRows().get(0).getCells().get(0).getValue()).isEqualTo("Task");
+        }
+        assertThat(replaying.sheetResources().rowResources().addRows(1L, Collections.singletonList(row)))
+                .extracting(Row::getId).containsExactly(11L);
+        assertThat(replay.getReplayedCount()).isEqualTo(4);
+    }
+
+    @Test
+    void fallsBackToTheRouteAndServesInOrder() throws Exception {
+        HttpCassette cassette = new HttpCassette();
+        cassette.add(interaction("sheets/1?include=format", "{\"id\":1}", 0));
+        cassette.add(interaction("sheets/2", "{\"id\":2}", 0));
+        ReplayHttpClient replay = new ReplayHttpClient(cassette, false);
+
+        assertThat(body(replay.request(request("sheets/1?include=format")))).isEqualTo("{\"id\":1}");
+        assertThat(body(replay.request(request("sheets/2")))).isEqualTo("{\"id\":2}");
+        assertThat(body(replay.request(request("sheets/3?level=2")))).isEqualTo("{\"id\":1}");
+        assertThat(body(replay.request(request("sheets/3?level=2")))).isEqualTo("{\"id\":2}");
+        assertThat(body(replay.request(request("sheets/3?level=2")))).isEqualTo("{\"id\":1}");
+        assertThatThrownBy(() -> replay.request(request("folders/1"))).isInstanceOf(HttpClientException.class);
+    }
+
+    @Test
+    void replaysRecordedLatencyOnlyWhenAsked() throws Exception {
+        HttpCassette cassette = new HttpCassette();
+        cassette.add(interaction("sheets/1", "{\"id\":1}", 200_000_000L));
+
+        long start = System.nanoTime();
+        new ReplayHttpClient(cassette, false).request(request("sheets/1"));
+        long fast = System.nanoTime() - start;
+        start = System.nanoTime();
+        new ReplayHttpClient(cassette, true).request(request("sheets/1"));
+        long paced = System.nanoTime() - start;
+
+        assertThat(fast).isLessThan(100_000_000L);
+        assertThat(paced).isGreaterThanOrEqualTo(200_000_000L);
+    }
+
+    private static HttpCassette.Interaction interaction(String path, String body, long elapsedNanos) throws Exception {
+        HttpResponse response = new HttpResponse();
+        response.setStatus(200, "HTTP/1.1 200");
+        response.setHeaders(new HashMap<>());
+        HttpEntity entity = new HttpEntity();
+        entity.setContentType("application/json");
+        response.setEntity(entity);
+        return new HttpCassette.Interaction(request(path), null, response, body.getBytes(StandardCharsets.UTF_8), elapsedNanos);
+    }
+
+    private static HttpRequest request(String path) {
+        HttpRequest request = new HttpRequest();
+        request.setMethod(HttpMethod.GET);
+        request.setUri(URI.create(StubHttpClient.BASE_URI + path));
+        request.setHeaders(new HashMap<>());
+        return request;
+    }
+
+    private static String body(HttpResponse response) throws Exception {
+        return new String(response.getEntity().getContent().readAllBytes(), StandardCharsets.UTF_8);
+    }
+}
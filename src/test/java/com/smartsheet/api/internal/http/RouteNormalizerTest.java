@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteNormalizerTest {
+
+    @Test
+    void replacesIdsAndDropsVersionAndQuery() {
+        assertThat(RouteNormalizer.normalize(HttpMethod.GET, URI.create("https://api.smartsheet.com/2.0/sheets/123?include=format")))
+                .isEqualTo("GET /sheets/{id}");
+        assertThat(RouteNormalizer.normalize(HttpMethod.PUT, URI.create("https://api.smartsheet.com/2.0/sheets/1/rows/22/")))
+                .isEqualTo("PUT /sheets/{id}/rows/{id}");
+        assertThat(RouteNormalizer.normalize(HttpMethod.DELETE, URI.create("https://api.test/2.0/sheets/1/shares/AQAISF82FOeE")))
+                .isEqualTo("DELETE /sheets/{id}/shares/{id}");
+        assertThat(RouteNormalizer.normalize(HttpMethod.GET, URI.create("https://api.test/2.0/users/me")))
+                .isEqualTo("GET /users/me");
+        assertThat(RouteNormalizer.normalize(HttpMethod.GET, URI.create("https://api.test/2.0/")))
+                .isEqualTo("GET /");
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An in-memory {@link HttpClient} that answers requests from canned responses registered per method and path, and
+ * records every request it receives. Paths are matched relative to {@link #BASE_URI} with the query string ignored.
+ */
+public class StubHttpClient implements HttpClient {
+    public static final String BASE_URI = "https://api.test/2.0/";
+
+    private final Map<String, List<String>> responses = new HashMap<>();
+    private final Map<String, Integer> statuses = new HashMap<>();
+    private final List<HttpRequest> requests = new ArrayList<>();
+
+    /**
+     * Register the body returned for a method and path. Registering several bodies for the same route returns them in
+     * order, repeating the last one once the others have been used.
+     */
+    public synchronized StubHttpClient respond(HttpMethod method, String path, String body) {
+        responses.computeIfAbsent(key(method, path), k -> new ArrayList<>()).add(body);
+        return this;
+    }
+
+    /**
+     * Register a non-200 status (with an error body) for a method and path.
+     */
+    public synchronized StubHttpClient respond(HttpMethod method, String path, int status, String body) {
+        statuses.put(key(method, path), status);
+        return respond(method, path, body);
+    }
+
+    @Override
+    public HttpResponse request(HttpRequest request) throws HttpClientException {
+        String key = key(request.getMethod(), relativePath(request.getUri()));
+        String body;
+        int status;
+        synchronized (this) {
+            requests.add(request);
+            List<String> bodies = responses.get(key);
+            if (bodies == null) {
+                throw new HttpClientException("no stub registered for " + key);
+            }
+            body = bodies.size() > 1 ? bodies.remove(0) : bodies.get(0);
+            status = statuses.getOrDefault(key, 200);
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        HttpEntity entity = new HttpEntity();
+        entity.setContentType("application/json");
+        entity.setContentLength(bytes.length);
+        entity.setContent(new ByteArrayInputStream(bytes));
+
+        HttpResponse response = new HttpResponse();
+        response.setStatus(status, "HTTP/1.1 " + status);
+        response.setHeaders(new HashMap<>());
+        response.setEntity(entity);
+        return response;
+    }
+
+    /**
+     * @return every request received so far, in order
+     */
+    public synchronized List<HttpRequest> getRequests() {
+        return new ArrayList<>(requests);
+    }
+
+    /**
+     * @return the number of requests received for a method and path
+     */
+    public synchronized int countRequests(HttpMethod method, String path) {
+        String key = key(method, path);
+        int count = 0;
+        for (HttpRequest request : requests) {
+            if (key.equals(key(request.getMethod(), relativePath(request.getUri())))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void releaseConnection() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static String relativePath(URI uri) {
+        return URI.create(BASE_URI).relativize(URI.create(uri.getScheme() + "://" + uri.getAuthority() + uri.getPath())).getPath();
+    }
+
+    private static String key(HttpMethod method, String path) {
+        return method + " " + path;
+    }
+}
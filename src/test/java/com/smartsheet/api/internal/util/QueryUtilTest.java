@@ -19,8 +19,11 @@ package com.smartsheet.api.internal.util;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -161,4 +164,37 @@ class QueryUtilTest {
             assertThat(result).isEqualTo("baseUrl.com?paramTwo=valueTwo");
         }
     }
+
+    @Nested
+    class AppendEncoded {
+        @Test
+        void appendEncoded_matchesUrlEncoder() {
+            String nonAscii = "caf" + (char) 0xE9 + " " + (char) 0x20AC;
+            for (String value : List.of("plain", "1001,1002", "a b&c=d/e?f", "~!@#$%^()[]{}|\\;:'\"<>", nonAscii, "")) {
+                // Act
+                StringBuilder result = new StringBuilder();
+                QueryUtil.appendEncoded(result, value);
+
+                // Assert
+                assertThat(result).hasToString(URLEncoder.encode(value, StandardCharsets.UTF_8));
+            }
+        }
+
+        @Test
+        void generateUrl_numbersAndEmptyValues() {
+            // Arrange
+            Map<String, Object> params = new LinkedHashMap<>();
+            params.put("page", 3);
+            params.put("empty", "");
+            params.put("rowsModifiedSince", null);
+            params.put("ifVersionAfter", -41L);
+            params.put("include", "format,objectValue");
+
+            // Act
+            String result = QueryUtil.generateUrl("sheets/1", params);
+
+            // Assert
+            assertThat(result).isEqualTo("sheets/1?page=3&ifVersionAfter=-41&include=format%2CobjectValue");
+        }
+    }
 }
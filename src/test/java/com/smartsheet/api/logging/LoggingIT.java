@@ -42,6 +42,7 @@ class LoggingIT {
         assertThatThrownBy(() -> client.sheetResources().getSheet(42, null, null, null, null, null, 1, 1))
                 .isInstanceOf(SmartsheetException.class);
 
+        DefaultHttpClient.flushTraces(5000);
         String output = traceStream.toString();
         // not super-robust but asserts some of the important parts
         assertThat(output)
@@ -63,6 +64,7 @@ class LoggingIT {
         assertThatThrownBy(() -> client.sheetResources().getSheet(42, null, null, null, null, null, 1, 1))
                 .isInstanceOf(SmartsheetException.class);
 
+        DefaultHttpClient.flushTraces(5000);
         String output = traceStream.toString();
         // not super-robust but asserts some of the important parts
         assertThat(output)
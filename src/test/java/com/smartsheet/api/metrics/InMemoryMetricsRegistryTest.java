@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.metrics;
+
+import com.smartsheet.api.internal.SmartsheetImpl;
+import com.smartsheet.api.internal.http.DefaultHttpClient;
+import com.smartsheet.api.internal.http.HttpClientException;
+import com.smartsheet.api.internal.http.HttpMethod;
+import com.smartsheet.api.internal.http.HttpRequest;
+import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.internal.http.MeteredConnectionManager;
+import com.smartsheet.api.internal.http.StubHttpClient;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.Error;
+import com.smartsheet.api.models.Folder;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryMetricsRegistryTest {
+
+    @Test
+    void histogramPercentilesAreWithinABucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000);
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(1000);
+        assertThat(histogram.getMax()).isEqualTo(1_000_000);
+        assertThat(histogram.getPercentile(50)).isBetween(500_000L, 625_000L);
+        assertThat(histogram.getPercentile(99)).isBetween(990_000L, 1_000_000L);
+        assertThat(new LatencyHistogram().getPercentile(50)).isZero();
+    }
+
+    @Test
+    void recordsSerializationThroughSmartsheet() throws Exception {
+        StubHttpClient httpClient = new StubHttpClient()
+                .respond(HttpMethod.GET, "folders/5", "{\"id\":5,\"name\":\"Plans\"}")
+                .respond(HttpMethod.PUT, "folders/5", "{\"message\":\"SUCCESS\",\"resultCode\":0,\"result\":{\"id\":5}}");
+        SmartsheetImpl smartsheet = new SmartsheetImpl(StubHttpClient.BASE_URI, "accessToken", httpClient,
+                new JacksonJsonSerializer());
+        InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+        smartsheet.setMetrics(registry);
+
+        smartsheet.folderResources().getFolder(5L, null);
+        smartsheet.folderResources().updateFolder(new Folder(5L).setName("Plans"));
+
+        MetricsSnapshot snapshot = registry.snapshot();
+        assertThat(snapshot.getTimer("json.deserialize Folder").getCount()).isEqualTo(2);
+        assertThat(snapshot.getCounter("json.deserialize.bytes Folder")).isGreaterThan(20);
+        assertThat(snapshot.getTimer("json.serialize Folder").getCount()).isEqualTo(1);
+        assertThat(snapshot.getCounter("json.serialize.bytes Folder")).isPositive();
+
+        smartsheet.setMetrics(null);
+        smartsheet.folderResources().getFolder(5L, null);
+        assertThat(registry.snapshot().getTimer("json.deserialize Folder").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void serializedSizeIsInUtf8Bytes() throws Exception {
+        StubHttpClient httpClient = new StubHttpClient()
+                .respond(HttpMethod.PUT, "folders/5", "{\"message\":\"SUCCESS\",\"resultCode\":0,\"result\":{\"id\":5}}");
+        SmartsheetImpl smartsheet = new SmartsheetImpl(StubHttpClient.BASE_URI, "accessToken", httpClient,
+                new JacksonJsonSerializer());
+        InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+        smartsheet.setMetrics(registry);
+        Folder folder = new Folder(5L).setName("Plän Ω 計画 📅");
+
+        smartsheet.folderResources().updateFolder(folder);
+
+        byte[] body = IOUtils.toByteArray(httpClient.getRequests().get(0).getEntity().getContent());
+        assertThat(new String(body, StandardCharsets.UTF_8)).contains("Plän");
+        assertThat(registry.snapshot().getCounter("json.serialize.bytes Folder")).isEqualTo(body.length);
+    }
+
+    @Test
+    void recordsFailedAttempts() throws Exception {
+        int port;
+        try (ServerSocket unused = new ServerSocket(0)) {
+            port = unused.getLocalPort();
+        }
+        InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+        DefaultHttpClient client = new DefaultHttpClient();
+        client.setMetrics(registry);
+        try {
+            HttpRequest request = new HttpRequest();
+            request.setMethod(HttpMethod.GET);
+            request.setUri(URI.create("http://127.0.0.1:" + port + "/2.0/sheets/123"));
+            assertThatThrownBy(() -> client.request(request)).isInstanceOf(HttpClientException.class);
+        } finally {
+            client.close();
+        }
+
+        assertThat(registry.snapshot().getTimer("http.request GET /sheets/{id} 0xx").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsAttemptsRetriesAndPoolWaits() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            boolean fail = calls.getAndIncrement() == 0;
+            byte[] body = (fail ? "{\"errorCode\":4004,\"message\":\"retry\"}" : "{\"id\":1}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(fail ? 500 : 200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+        DefaultHttpClient client = new DefaultHttpClient(
+                HttpClients.custom().setConnectionManager(new MeteredConnectionManager(registry)).build(),
+                new JacksonJsonSerializer()) {
+            @Override
+            public long calcBackoff(int previousAttempts, long totalElapsedTimeMillis, Error error) {
+                return 1;
+            }
+        };
+        client.setMetrics(registry);
+        try {
+            HttpRequest request = new HttpRequest();
+            request.setMethod(HttpMethod.GET);
+            request.setUri(URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/2.0/sheets/123?level=2"));
+            HttpResponse response = client.request(request);
+            assertThat(response.getStatusCode()).isEqualTo(200);
+            client.releaseConnection();
+        } finally {
+            client.close();
+            server.stop(0);
+        }
+
+        MetricsSnapshot snapshot = registry.snapshot();
+        assertThat(snapshot.getTimer("http.request GET /sheets/{id} 5xx").getCount()).isEqualTo(1);
+        assertThat(snapshot.getTimer("http.request GET /sheets/{id} 2xx").getCount()).isEqualTo(1);
+        assertThat(snapshot.getCounter("http.retries GET /sheets/{id}")).isEqualTo(1);
+        assertThat(snapshot.getCounter("http.bytes.in GET /sheets/{id}")).isPositive();
+        assertThat(snapshot.getTimer("http.pool.wait").getCount()).isEqualTo(2);
+    }
+}
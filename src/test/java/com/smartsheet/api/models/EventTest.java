@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.enums.EventAction;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventTest {
+
+    private static final String EVENTS = "{\"nextStreamPosition\":\"p1\",\"moreAvailable\":false,\"data\":[" +
+            "{\"eventId\":\"e1\",\"objectType\":\"SHEET\",\"action\":\"RENAME\",\"objectId\":1," +
+            "\"additionalDetails\":{\"sheetName\":\"Plan\",\"oldName\":\"Draft\",\"nested\":{\"count\":3}}}," +
+            "{\"eventId\":\"e2\",\"objectType\":\"SHEET\",\"action\":\"LOAD\",\"objectId\":2}]}";
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class RenameDetails {
+        private String sheetName;
+        private String oldName;
+
+        public String getSheetName() {
+            return sheetName;
+        }
+
+        public void setSheetName(String sheetName) {
+            this.sheetName = sheetName;
+        }
+
+        public String getOldName() {
+            return oldName;
+        }
+
+        public void setOldName(String oldName) {
+            this.oldName = oldName;
+        }
+    }
+
+    private static List<Event> readEvents() throws Exception {
+        return new JacksonJsonSerializer()
+                .deserializeEventResult(new ByteArrayInputStream(EVENTS.getBytes(StandardCharsets.UTF_8)))
+                .getData();
+    }
+
+    @Test
+    void additionalDetailsAreDecodedOnAccess() throws Exception {
+        List<Event> events = readEvents();
+
+        Event rename = events.get(0);
+        assertThat(rename.getAction()).isEqualTo(EventAction.RENAME);
+        Map<String, Object> details = rename.getAdditionalDetails();
+        assertThat(details).containsEntry("sheetName", "Plan").containsEntry("oldName", "Draft");
+        assertThat(details.get("nested")).isEqualTo(Collections.singletonMap("count", 3));
+        assertThat(rename.getAdditionalDetails()).isSameAs(details);
+        assertThat(events.get(1).getAdditionalDetails()).isNull();
+    }
+
+    @Test
+    void additionalDetailsDecodeIntoTypedClass() throws Exception {
+        List<Event> events = readEvents();
+
+        RenameDetails details = events.get(0).getAdditionalDetailsAs(RenameDetails.class);
+        assertThat(details.getSheetName()).isEqualTo("Plan");
+        assertThat(details.getOldName()).isEqualTo("Draft");
+        assertThat(events.get(0).getAdditionalDetailsAs(RenameDetails.class).getSheetName()).isEqualTo("Plan");
+        assertThat(events.get(1).getAdditionalDetailsAs(RenameDetails.class)).isNull();
+    }
+
+    @Test
+    void additionalDetailsSetDirectly() {
+        Event event = new Event().setAdditionalDetails(Collections.singletonMap("sheetName", "Plan"));
+
+        assertThat(event.getAdditionalDetails()).containsEntry("sheetName", "Plan");
+        assertThatThrownBy(() -> event.getAdditionalDetailsAs(RenameDetails.class))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.models;
+
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.format.Format;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Memory-footprint regression suite: deserializes sheets of 1k, 10k and 100k cells and checks the estimated retained
+ * size of the models (see {@link ObjectSizeEstimator}) against budgets, both per model instance and per fixture.
+ * <p>
+ * The per-model budgets are the current sizes, so adding a field to a model fails here; the fixture budgets are the
+ * current sizes plus about 5%. A failure lists every budget exceeded, then the measured sizes and a per-class breakdown
+ * of the largest fixture. If the growth is intended, raise the budgets in the same change.
+ */
+class ModelFootprintTest {
+    private static final int COLUMNS = 10;
+    private static final String[] TAGS = {"backend", "frontend", "infra", "urgent", "blocked", "review", "docs"};
+    private static final String[] FORMATS = {",,1,,,,,,,3,,,,,,,", ",,,,,,,,,18,,,,,,,", "0,2,1,1,1,2,0,1,4,22,1,0,0,0,0,0,"};
+
+    /**
+     * Size budgets, in bytes, for one instance of each model, not counting the objects it references.
+     */
+    private static final Map<Class<?>, Integer> SHALLOW_BUDGETS = new LinkedHashMap<>();
+
+    /**
+     * Size budgets, in bytes, for each fixture (rows of {@link #COLUMNS} cells) and for each cell in it.
+     */
+    private static final Map<Integer, long[]> FIXTURE_BUDGETS = new LinkedHashMap<>();
+
+    static {
+        SHALLOW_BUDGETS.put(Sheet.class, 144);
+        SHALLOW_BUDGETS.put(Column.class, 96);
+        SHALLOW_BUDGETS.put(Row.class, 128);
+        SHALLOW_BUDGETS.put(Cell.class, 80);
+        SHALLOW_BUDGETS.put(Format.class, 16);
+        SHALLOW_BUDGETS.put(ContactObjectValue.class, 32);
+        SHALLOW_BUDGETS.put(MultiContactObjectValue.class, 16);
+        SHALLOW_BUDGETS.put(MultiPicklistObjectValue.class, 16);
+        SHALLOW_BUDGETS.put(PredecessorList.class, 16);
+        SHALLOW_BUDGETS.put(Predecessor.class, 40);
+        SHALLOW_BUDGETS.put(StringObjectValue.class, 16);
+        SHALLOW_BUDGETS.put(NumberObjectValue.class, 16);
+        SHALLOW_BUDGETS.put(BooleanObjectValue.class, 16);
+
+        FIXTURE_BUDGETS.put(100, new long[]{310_000, 310});
+        FIXTURE_BUDGETS.put(1_000, new long[]{3_110_000, 311});
+        FIXTURE_BUDGETS.put(10_000, new long[]{31_300_000, 313});
+    }
+
+    @Test
+    void modelsStayWithinBudget() throws Exception {
+        List<String> regressions = new ArrayList<>();
+        List<String> figures = new ArrayList<>();
+        for (Map.Entry<Class<?>, Integer> budget : SHALLOW_BUDGETS.entrySet()) {
+            int size = ObjectSizeEstimator.shallowSize(budget.getKey());
+            figures.add(String.format("%-28s %6d bytes (budget %d)", budget.getKey().getSimpleName(), size, budget.getValue()));
+            if (size > budget.getValue()) {
+                regressions.add(budget.getKey().getSimpleName() + " is " + size + " bytes, budget " + budget.getValue());
+            }
+        }
+
+        JacksonJsonSerializer serializer = new JacksonJsonSerializer();
+        ObjectSizeEstimator largest = null;
+        for (Map.Entry<Integer, long[]> budget : FIXTURE_BUDGETS.entrySet()) {
+            int rows = budget.getKey();
+            Sheet sheet = serializer.deserialize(Sheet.class, new ByteArrayInputStream(sheetJson(rows)));
+            assertThat(sheet.getRows()).hasSize(rows);
+            largest = ObjectSizeEstimator.measure(sheet);
+            long cells = (long) rows * COLUMNS;
+            long perCell = largest.getTotal() / cells;
+            figures.add(String.format("%,7d cells %,12d bytes %6d bytes/cell (budget %,d, %d/cell)", cells, largest.getTotal(), perCell,
+                    budget.getValue()[0], budget.getValue()[1]));
+            if (largest.getTotal() > budget.getValue()[0]) {
+                regressions.add(cells + " cells retain " + largest.getTotal() + " bytes, budget " + budget.getValue()[0]);
+            }
+            if (perCell > budget.getValue()[1]) {
+                regressions.add(cells + " cells retain " + perCell + " bytes per cell, budget " + budget.getValue()[1]);
+            }
+        }
+        largest.getByType().entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[0]).reversed())
+                .limit(15)
+                .forEach(e -> figures.add(String.format("  %-60s %,12d bytes %,9d instances", e.getKey(), e.getValue()[0],
+                        e.getValue()[1])));
+
+        assertThat(regressions).as("footprint regressions%n%s", String.join(System.lineSeparator(), figures)).isEmpty();
+    }
+
+    @Test
+    void estimatorCountsSharedObjectsOnce() {
+        ContactObjectValue contact = new ContactObjectValue();
+        contact.setEmail("user@example.com");
+        List<Cell> cells = new ArrayList<>();
+        cells.add(new Cell(1L).setObjectValue(contact));
+        long one = ObjectSizeEstimator.measure(cells).getTotal();
+        cells.add(new Cell(2L).setObjectValue(contact));
+        long two = ObjectSizeEstimator.measure(cells).getTotal();
+
+        assertThat(two - one).isEqualTo(ObjectSizeEstimator.shallowSize(Cell.class));
+    }
+
+    @Test
+    void estimatorSizesStringsByEncoding() {
+        long latin1 = ObjectSizeEstimator.measure("abcdefgh").getTotal();
+        long utf16 = ObjectSizeEstimator.measure("abcdefg" + (char) 0x20AC).getTotal();
+
+        assertThat(latin1).isEqualTo(24 + 24);
+        assertThat(utf16).isEqualTo(24 + 32);
+    }
+
+    private static byte[] sheetJson(int rowCount) {
+        StringBuilder json = new StringBuilder(rowCount * 1000);
+        json.append("{\"id\":4583173393803140,\"name\":\"Release plan\",\"version\":42,\"totalRowCount\":").append(rowCount)
+                .append(",\"accessLevel\":\"OWNER\",\"columns\":[");
+        String[] types = {"TEXT_NUMBER", "CONTACT_LIST", "MULTI_CONTACT_LIST", "PREDECESSOR", "MULTI_PICKLIST", "DATE",
+            "TEXT_NUMBER", "CHECKBOX", "TEXT_NUMBER", "PICKLIST"};
+        for (int c = 0; c < COLUMNS; c++) {
+            json.append("{\"id\":").append(columnId(c)).append(",\"index\":").append(c).append(",\"title\":\"Column ").append(c)
+                    .append("\",\"type\":\"").append(types[c]).append("\",\"width\":150},");
+        }
+        json.setLength(json.length() - 1);
+        json.append("],\"rows\":[");
+        for (int i = 1; i <= rowCount; i++) {
+            json.append("{\"id\":").append(7_000_000_000_000L + i).append(",\"rowNumber\":").append(i)
+                    .append(",\"expanded\":true,\"createdAt\":\"2024-01-01T10:15:30Z\"")
+                    .append(",\"modifiedAt\":\"2024-03-10T08:00:00Z\",\"cells\":[");
+            cell(json, 0).append(",\"value\":\"Task ").append(i).append("\",\"displayValue\":\"Task ").append(i)
+                    .append("\",\"format\":\"").append(FORMATS[i % FORMATS.length]).append("\"},");
+            cell(json, 1).append(",\"value\":\"user").append(i % 50).append("@example.com\",\"objectValue\":")
+                    .append(contactJson("user" + i % 50, "User " + i % 50)).append("},");
+            cell(json, 2).append(",\"displayValue\":\"A, B\",\"objectValue\":{\"objectType\":\"MULTI_CONTACT\",\"values\":[")
+                    .append(contactJson("a" + i % 7, "Reviewer A")).append(',').append(contactJson("b" + i % 11, "Reviewer B"))
+                    .append("]}},");
+            cell(json, 3).append(",\"value\":\"").append(i).append("FS\",\"objectValue\":{\"objectType\":\"PREDECESSOR_LIST\",")
+                    .append("\"predecessors\":[{\"rowId\":").append(7_000_000_000_000L + i + 1).append(",\"rowNumber\":").append(i + 1)
+                    .append(",\"type\":\"FS\",\"inCriticalPath\":false,\"invalid\":false}]}},");
+            cell(json, 4).append(",\"value\":\"").append(tag(i)).append(", ").append(tag(i + 3))
+                    .append("\",\"objectValue\":{\"objectType\":\"MULTI_PICKLIST\",\"values\":[\"").append(tag(i)).append("\",\"")
+                    .append(tag(i + 3)).append("\"]}},");
+            cell(json, 5).append(",\"value\":\"").append(String.format("2024-%02d-%02d", 1 + i % 12, 1 + i % 28)).append("\"},");
+            cell(json, 6).append(",\"value\":").append(i % 40).append(",\"displayValue\":\"").append(i % 40).append("\"},");
+            cell(json, 7).append(",\"value\":").append(i % 3 == 0).append("},");
+            cell(json, 8).append(",\"value\":\"Note for row ").append(i).append("\"},");
+            cell(json, 9).append(",\"value\":\"").append(tag(i)).append("\",\"displayValue\":\"").append(tag(i)).append("\"}]},");
+        }
+        json.setLength(json.length() - 1);
+        json.append("]}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static StringBuilder cell(StringBuilder json, int column) {
+        return json.append("{\"columnId\":").append(columnId(column));
+    }
+
+    private static long columnId(int column) {
+        return 1001L + column;
+    }
+
+    private static String contactJson(String user, String name) {
+        return "{\"objectType\":\"CONTACT\",\"email\":\"" + user + "@example.com\",\"name\":\"" + name + "\"}";
+    }
+
+    private static String tag(int i) {
+        return TAGS[i % TAGS.length];
+    }
+}
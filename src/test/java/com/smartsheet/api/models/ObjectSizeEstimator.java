@@ -0,0 +1,258 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.models;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Estimates the retained heap size of an object graph for a 64-bit JVM with compressed references (12 byte object
+ * headers, 4 byte references, 8 byte alignment). The estimate depends only on the graph, not on the JVM running it,
+ * so budgets based on it are stable across machines.
+ * <p>
+ * Classes outside the JDK are measured field by field, reflectively. JDK classes (whose fields are not accessible)
+ * are modelled from their public state: strings by length and encoding, an {@link ArrayList} as one grown an element
+ * at a time (as Jackson builds them), and maps as a {@link HashMap} or {@link LinkedHashMap} at the default load
+ * factor. Enum constants, {@code Boolean}s and small boxed integers are shared JVM-wide and count as 0.
+ * Every object is counted once, however many references it has.
+ */
+final class ObjectSizeEstimator {
+    static final int HEADER = 12;
+    static final int REFERENCE = 4;
+    static final int ARRAY_HEADER = 16;
+    static final int ALIGNMENT = 8;
+
+    private static final Map<Class<?>, Integer> SHALLOW_SIZES = new HashMap<>();
+    private static final Map<Class<?>, List<Field>> REFERENCE_FIELDS = new HashMap<>();
+
+    private final Map<Object, Boolean> visited = new IdentityHashMap<>();
+    private final Map<String, long[]> byType = new TreeMap<>();
+    private long total;
+
+    /**
+     * Estimate the retained size of an object graph.
+     *
+     * @param root the root object
+     * @return the estimator, holding the total and the breakdown by type
+     */
+    static ObjectSizeEstimator measure(Object root) {
+        ObjectSizeEstimator estimator = new ObjectSizeEstimator();
+        List<Object> pending = new ArrayList<>();
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            estimator.visit(pending.remove(pending.size() - 1), pending);
+        }
+        return estimator;
+    }
+
+    /**
+     * @param type a class outside the JDK
+     * @return the size of one instance, not counting the objects it references
+     */
+    static int shallowSize(Class<?> type) {
+        synchronized (SHALLOW_SIZES) {
+            Integer size = SHALLOW_SIZES.get(type);
+            if (size == null) {
+                long fields = 0;
+                List<Field> references = new ArrayList<>();
+                for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                    for (Field field : c.getDeclaredFields()) {
+                        if (!Modifier.isStatic(field.getModifiers())) {
+                            fields += fieldSize(field.getType());
+                            if (!field.getType().isPrimitive()) {
+                                field.setAccessible(true);
+                                references.add(field);
+                            }
+                        }
+                    }
+                }
+                size = (int) align(HEADER + fields);
+                SHALLOW_SIZES.put(type, size);
+                REFERENCE_FIELDS.put(type, references);
+            }
+            return size;
+        }
+    }
+
+    /**
+     * @return the estimated retained size in bytes
+     */
+    long getTotal() {
+        return total;
+    }
+
+    /**
+     * @return the estimated bytes and instance count per class name
+     */
+    Map<String, long[]> getByType() {
+        return byType;
+    }
+
+    private void visit(Object object, List<Object> pending) {
+        if (object == null || isShared(object) || visited.put(object, Boolean.TRUE) != null) {
+            return;
+        }
+        Class<?> type = object.getClass();
+        long size;
+        if (type.isArray()) {
+            size = arraySize(object, pending);
+        } else if (isJdk(type)) {
+            size = jdkSize(object, pending);
+        } else {
+            size = shallowSize(type);
+            List<Field> references;
+            synchronized (SHALLOW_SIZES) {
+                references = REFERENCE_FIELDS.get(type);
+            }
+            for (Field field : references) {
+                try {
+                    pending.add(field.get(object));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+        total += size;
+        long[] entry = byType.computeIfAbsent(type.getName(), k -> new long[2]);
+        entry[0] += size;
+        entry[1]++;
+    }
+
+    private long arraySize(Object array, List<Object> pending) {
+        Class<?> component = array.getClass().getComponentType();
+        int length = Array.getLength(array);
+        if (!component.isPrimitive()) {
+            for (int i = 0; i < length; i++) {
+                pending.add(Array.get(array, i));
+            }
+        }
+        return align(ARRAY_HEADER + (long) length * fieldSize(component));
+    }
+
+    private long jdkSize(Object object, List<Object> pending) {
+        if (object instanceof String) {
+            String string = (String) object;
+            boolean latin1 = string.chars().allMatch(c -> c <= 0xFF);
+            return align(HEADER + REFERENCE + 4 + 1 + 1) + align(ARRAY_HEADER + (long) string.length() * (latin1 ? 1 : 2));
+        }
+        if (object instanceof Integer || object instanceof Float || object instanceof Short || object instanceof Character ||
+                object instanceof Byte) {
+            return align(HEADER + 4);
+        }
+        if (object instanceof Long || object instanceof Double) {
+            return align(HEADER + 8);
+        }
+        if (object instanceof Date) {
+            return align(HEADER + 8 + REFERENCE);
+        }
+        if (object instanceof BigInteger) {
+            return align(HEADER + 4 * 4 + REFERENCE) + align(ARRAY_HEADER + 4L * ((((BigInteger) object).bitLength() + 31) / 32));
+        }
+        if (object instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) object;
+            pending.add(decimal.unscaledValue().bitLength() > 63 ? decimal.unscaledValue() : null);
+            return align(HEADER + 8 + 4 + 4 + 2 * REFERENCE);
+        }
+        if (object instanceof Collection) {
+            Collection<?> collection = (Collection<?>) object;
+            pending.addAll(collection);
+            if (collection.isEmpty() && !(object instanceof ArrayList)) {
+                return 0;
+            }
+            return align(HEADER + 4 + 4 + REFERENCE) + align(ARRAY_HEADER + (long) arrayListCapacity(collection.size()) * REFERENCE);
+        }
+        if (object instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) object;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                pending.add(entry.getKey());
+                pending.add(entry.getValue());
+            }
+            if (map.isEmpty()) {
+                return 0;
+            }
+            boolean linked = object instanceof LinkedHashMap;
+            long node = align(HEADER + 4 + 3 * REFERENCE + (linked ? 2 * REFERENCE : 0));
+            return align(HEADER + 4 * 4 + 4 * REFERENCE + (linked ? 2 * REFERENCE + 1 : 0)) +
+                    align(ARRAY_HEADER + (long) hashMapCapacity(map.size()) * REFERENCE) + map.size() * node;
+        }
+        return align(HEADER);
+    }
+
+    private static boolean isShared(Object object) {
+        if (object instanceof Enum || object instanceof Boolean || object instanceof Class) {
+            return true;
+        }
+        if (object instanceof Integer || object instanceof Long || object instanceof Short || object instanceof Byte) {
+            long value = ((Number) object).longValue();
+            return value >= -128 && value <= 127;
+        }
+        return object instanceof Set && ((Set<?>) object).isEmpty() && isJdk(object.getClass());
+    }
+
+    private static boolean isJdk(Class<?> type) {
+        return type.getModule().isNamed() && type.getName().startsWith("java.");
+    }
+
+    private static int fieldSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE;
+    }
+
+    private static int arrayListCapacity(int size) {
+        int capacity = 10;
+        while (capacity < size) {
+            capacity += capacity >> 1;
+        }
+        return capacity;
+    }
+
+    private static int hashMapCapacity(int size) {
+        int capacity = 16;
+        while (size > capacity * 3 / 4) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static long align(long size) {
+        return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.oauth;
+
+import com.smartsheet.api.AccessTokenExpiredException;
+import com.smartsheet.api.Smartsheet;
+import com.smartsheet.api.SmartsheetBuilder;
+import com.smartsheet.api.internal.http.HttpClient;
+import com.smartsheet.api.internal.http.HttpEntity;
+import com.smartsheet.api.internal.http.HttpRequest;
+import com.smartsheet.api.internal.http.HttpResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OAuthTokenManagerTest {
+
+    private static final String SERVER_INFO = "{\"formats\":{}}";
+    private static final String EXPIRED = "{\"errorCode\":1003,\"message\":\"Your Access Token has expired.\"}";
+
+    private final HttpClient httpClient = mock(HttpClient.class);
+    private final OAuthFlow oauthFlow = mock(OAuthFlow.class);
+    private final AtomicInteger refreshes = new AtomicInteger();
+    private final List<String> authorizations = Collections.synchronizedList(new ArrayList<>());
+    private OAuthTokenManager manager;
+
+    @AfterEach
+    void tearDown() {
+        if (manager != null) {
+            manager.close();
+        }
+    }
+
+    @Test
+    void concurrentCallsWithExpiredTokenShareOneRefresh() throws Exception {
+        refreshTo("fresh", 3600, 100);
+        respond(SERVER_INFO);
+        manager = OAuthTokenManager.builder(oauthFlow, token("stale", 3600)).setExpiresAt(Instant.now().minusSeconds(1)).build();
+        Smartsheet smartsheet = new SmartsheetBuilder().setHttpClient(httpClient).setTokenManager(manager).build();
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> calls = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                calls.add(callers.submit(() -> smartsheet.serverInfoResources().getServerInfo()));
+            }
+            for (Future<?> call : calls) {
+                call.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertThat(refreshes).hasValue(1);
+        assertThat(authorizations).hasSize(8).containsOnly("Bearer fresh");
+        assertThat(manager.getAccessToken()).isEqualTo("fresh");
+    }
+
+    @Test
+    void refreshesAheadOfExpiryInBackground() throws Exception {
+        refreshTo("fresh", 3600, 0);
+        respond(SERVER_INFO);
+        BlockingQueue<Token> refreshed = new ArrayBlockingQueue<>(1);
+        manager = OAuthTokenManager.builder(oauthFlow, token("first", 1)).setTokenListener(refreshed::add).build();
+        Smartsheet smartsheet = new SmartsheetBuilder().setHttpClient(httpClient).setTokenManager(manager).build();
+
+        smartsheet.serverInfoResources().getServerInfo();
+        assertThat(refreshed.poll(5, TimeUnit.SECONDS)).extracting(Token::getAccessToken).isEqualTo("fresh");
+        smartsheet.serverInfoResources().getServerInfo();
+
+        assertThat(authorizations).containsExactly("Bearer first", "Bearer fresh");
+        assertThat(refreshes).hasValue(1);
+    }
+
+    @Test
+    void callFailingWithExpiredTokenIsRetriedOnceAfterRefresh() throws Exception {
+        refreshTo("fresh", 0, 0);
+        respond(EXPIRED, SERVER_INFO);
+        manager = OAuthTokenManager.builder(oauthFlow, token("revoked", 0)).build();
+        Smartsheet smartsheet = new SmartsheetBuilder().setHttpClient(httpClient).setTokenManager(manager).build();
+
+        assertThat(smartsheet.serverInfoResources().getServerInfo()).isNotNull();
+
+        assertThat(authorizations).containsExactly("Bearer revoked", "Bearer fresh");
+        assertThat(refreshes).hasValue(1);
+    }
+
+    @Test
+    void callsOfOtherIdentitiesPassThrough() throws Exception {
+        refreshTo("fresh", 0, 0);
+        respond(EXPIRED);
+        manager = OAuthTokenManager.builder(oauthFlow, token("mine", 0)).build();
+        Smartsheet smartsheet = new SmartsheetBuilder().setHttpClient(httpClient).setTokenManager(manager).build();
+        Smartsheet other = smartsheet.withIdentity("theirs", null, null);
+
+        assertThatThrownBy(() -> other.serverInfoResources().getServerInfo()).isInstanceOf(AccessTokenExpiredException.class);
+
+        assertThat(authorizations).containsExactly("Bearer theirs");
+        assertThat(refreshes).hasValue(0);
+    }
+
+    @Test
+    void failedRefreshFailsTheCall() throws Exception {
+        when(oauthFlow.refreshToken(any())).thenThrow(new InvalidOAuthGrantException("Invalid refresh token"));
+        respond(SERVER_INFO);
+        manager = OAuthTokenManager.builder(oauthFlow, token("stale", 3600)).setExpiresAt(Instant.now().minusSeconds(1)).build();
+        Smartsheet smartsheet = new SmartsheetBuilder().setHttpClient(httpClient).setTokenManager(manager).build();
+
+        assertThatThrownBy(() -> smartsheet.serverInfoResources().getServerInfo()).isInstanceOf(InvalidOAuthGrantException.class);
+        assertThat(authorizations).isEmpty();
+    }
+
+    private void refreshTo(String accessToken, long expiresInSeconds, long delayMillis) throws Exception {
+        when(oauthFlow.refreshToken(any())).thenAnswer(invocation -> {
+            refreshes.incrementAndGet();
+            Thread.sleep(delayMillis);
+            return token(accessToken, expiresInSeconds);
+        });
+    }
+
+    private void respond(String... bodies) throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        when(httpClient.request(any())).thenAnswer(invocation -> {
+            HttpRequest request = invocation.getArgument(0);
+            authorizations.add(request.getHeaders().get("Authorization"));
+            String body = bodies[Math.min(calls.getAndIncrement(), bodies.length - 1)];
+            return response(EXPIRED.equals(body) ? 401 : 200, body);
+        });
+    }
+
+    private static Token token(String accessToken, long expiresInSeconds) {
+        Token token = new Token();
+        token.setAccessToken(accessToken);
+        token.setRefreshToken("refresh-" + accessToken);
+        token.setExpiresInSeconds(expiresInSeconds);
+        return token;
+    }
+
+    private static HttpResponse response(int status, String body) {
+        HttpEntity entity = new HttpEntity();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        entity.setContent(new ByteArrayInputStream(bytes));
+        entity.setContentLength(bytes.length);
+        entity.setContentType("application/json");
+        HttpResponse response = new HttpResponse();
+        response.setStatusCode(status);
+        response.setEntity(entity);
+        return response;
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.simulator;
+
+import com.smartsheet.api.Smartsheet;
+import com.smartsheet.api.SmartsheetBuilder;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.http.DefaultHttpClient;
+import com.smartsheet.api.metrics.LatencyHistogram;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.ColumnType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Macro-benchmark of the SDK against a {@link SmartsheetSimulator}: several threads make real SDK calls over HTTP
+ * for a fixed time per scenario, and the throughput and p50/p99 latency of each scenario are reported. The scenarios
+ * are bulk row writes (100 rows per request), paging through a 10,000 row sheet (500 rows per page) and reading a
+ * whole 2,000 row sheet.</p>
+ *
+ * <p>Run it with {@code ./gradlew simulatorBenchmark}; these {@code -P} properties (or system properties when run
+ * directly) configure it: {@code simulator.threads} (8), {@code simulator.seconds} per scenario (10),
+ * {@code simulator.latencyMillis} (5), {@code simulator.rateLimit} requests per minute (0 for none),
+ * {@code simulator.errorRate} (0) and {@code simulator.partialFailureRate} (0).</p>
+ *
+ * <p>Each thread uses its own {@link Smartsheet} client, because a client's HTTP client serves one request at a
+ * time.</p>
+ */
+public final class SimulatorBenchmark {
+    private static final int WRITE_BATCH = 100;
+    private static final int PAGED_SHEET_ROWS = 10_000;
+    private static final int PAGE_SIZE = 500;
+    private static final int READ_SHEET_ROWS = 2_000;
+    private static final String[] STATUSES = {"Not started", "In progress", "Blocked", "Done"};
+
+    private SimulatorBenchmark() {
+    }
+
+    //CHECKSTYLE:OFF: UncommentedMain
+    /**
+     * Run the benchmark with the configuration in system properties and print a report.
+     *
+     * @param args ignored
+     * @throws Exception if the simulator can't be started
+     */
+    public static void main(String[] args) throws Exception {
+        SmartsheetSimulator.Builder faults = SmartsheetSimulator.builder()
+                .setLatency(Long.getLong("simulator.latencyMillis", 5), 0)
+                .setRateLimit(Integer.getInteger("simulator.rateLimit", 0))
+                .setErrorRate(Double.parseDouble(System.getProperty("simulator.errorRate", "0")))
+                .setPartialFailureRate(Double.parseDouble(System.getProperty("simulator.partialFailureRate", "0")));
+        int threads = Integer.getInteger("simulator.threads", 8);
+        long seconds = Long.getLong("simulator.seconds", 10);
+
+        try (SmartsheetSimulator simulator = faults.setMaxThreads(Math.max(16, threads * 2)).build().start()) {
+            System.out.printf(Locale.ROOT, "%d threads, %d s per scenario%n", threads, seconds);
+            System.out.printf(Locale.ROOT, "%-16s %9s %9s %10s %8s %8s %7s%n",
+                    "scenario", "requests", "req/s", "items/s", "p50 ms", "p99 ms", "errors");
+            for (ScenarioResult result : run(simulator, threads, TimeUnit.SECONDS.toMillis(seconds))) {
+                System.out.println(result);
+            }
+            System.out.printf(Locale.ROOT, "simulator: %d requests, %d rate limited (4003), %d server errors (4004), %d rows failed%n",
+                    simulator.getRequestCount(), simulator.getRateLimitedCount(), simulator.getServerErrorCount(),
+                    simulator.getFailedRowCount());
+        }
+    }
+
+    /**
+     * Run every scenario against a started simulator.
+     *
+     * @param simulator      the simulator
+     * @param threads        the number of concurrent callers
+     * @param durationMillis how long to run each scenario
+     * @return the results, one per scenario
+     * @throws Exception if seeding the simulator fails or a caller fails unexpectedly
+     */
+    public static List<ScenarioResult> run(SmartsheetSimulator simulator, int threads, long durationMillis) throws Exception {
+        SimulatorStore store = simulator.getStore();
+        long pagedSheetId = seedSheet(store, "Paged", PAGED_SHEET_ROWS);
+        long readSheetId = seedSheet(store, "Read", READ_SHEET_ROWS);
+        int pages = PAGED_SHEET_ROWS / PAGE_SIZE;
+
+        List<ScenarioResult> results = new ArrayList<>();
+        results.add(runScenario("bulk row writes", simulator, threads, durationMillis, worker -> {
+            long sheetId = seedSheet(store, "Writes " + worker, 0);
+            List<Long> columnIds = columnIds(store.getColumns(sheetId));
+            return (smartsheet, iteration) -> {
+                List<Row> rows = rows(columnIds, iteration * WRITE_BATCH, WRITE_BATCH);
+                return smartsheet.sheetResources().rowResources().addRowsAllowPartialSuccess(sheetId, rows).getResult().size();
+            };
+        }));
+        results.add(runScenario("sheet paging", simulator, threads, durationMillis, worker -> (smartsheet, iteration) ->
+                smartsheet.sheetResources().getSheet(pagedSheetId, null, null, null, null, null, PAGE_SIZE,
+                        1 + (int) ((iteration + worker) % pages)).getRows().size()));
+        results.add(runScenario("sheet reads", simulator, threads, durationMillis, worker -> (smartsheet, iteration) ->
+                smartsheet.sheetResources().getSheet(readSheetId).getRows().size()));
+        return results;
+    }
+
+    private static ScenarioResult runScenario(String name, SmartsheetSimulator simulator, int threads, long durationMillis,
+                                              WorkerFactory factory) throws Exception {
+        ScenarioResult result = new ScenarioResult(name);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Void>> workers = new ArrayList<>();
+            long start = System.nanoTime();
+            long deadline = start + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+            for (int i = 0; i < threads; i++) {
+                Operation operation = factory.create(i);
+                workers.add(executor.submit(() -> {
+                    work(simulator, operation, deadline, result);
+                    return null;
+                }));
+            }
+            for (Future<Void> worker : workers) {
+                worker.get();
+            }
+            result.elapsedNanos = System.nanoTime() - start;
+        } finally {
+            executor.shutdownNow();
+        }
+        return result;
+    }
+
+    private static void work(SmartsheetSimulator simulator, Operation operation, long deadline, ScenarioResult result)
+            throws IOException {
+        DefaultHttpClient httpClient = new DefaultHttpClient();
+        Smartsheet smartsheet = new SmartsheetBuilder()
+                .setBaseURI(simulator.getBaseUri())
+                .setAccessToken("simulator")
+                .setHttpClient(httpClient)
+                .build();
+        try {
+            for (long iteration = 0; System.nanoTime() < deadline; iteration++) {
+                long start = System.nanoTime();
+                try {
+                    result.items.add(operation.call(smartsheet, iteration));
+                } catch (SmartsheetException e) {
+                    result.errors.increment();
+                }
+                result.latencies.record(System.nanoTime() - start);
+            }
+        } finally {
+            httpClient.close();
+        }
+    }
+
+    private static long seedSheet(SimulatorStore store, String name, int rowCount) throws SmartsheetException {
+        Sheet sheet = new Sheet();
+        sheet.setName(name);
+        sheet.setColumns(Arrays.asList(
+                new Column().setTitle("Task").setType(ColumnType.TEXT_NUMBER).setPrimary(true),
+                new Column().setTitle("Status").setType(ColumnType.PICKLIST),
+                new Column().setTitle("Estimate").setType(ColumnType.TEXT_NUMBER),
+                new Column().setTitle("Done").setType(ColumnType.CHECKBOX)));
+        long sheetId = store.createSheet(sheet).getId();
+        List<Long> columnIds = columnIds(store.getColumns(sheetId));
+        for (int from = 0; from < rowCount; from += WRITE_BATCH) {
+            store.addRows(sheetId, rows(columnIds, from, Math.min(WRITE_BATCH, rowCount - from)));
+        }
+        return sheetId;
+    }
+
+    private static List<Long> columnIds(List<Column> columns) {
+        List<Long> ids = new ArrayList<>(columns.size());
+        for (Column column : columns) {
+            ids.add(column.getId());
+        }
+        return ids;
+    }
+
+    private static List<Row> rows(List<Long> columnIds, long first, int count) {
+        List<Row> rows = new ArrayList<>(count);
+        for (long i = first; i < first + count; i++) {
+            Row row = new Row();
+            row.setToBottom(true);
+            row.setCells(Arrays.asList(
+                    new Cell(columnIds.get(0)).setValue("Task " + i),
+                    new Cell(columnIds.get(1)).setValue(STATUSES[(int) (i % STATUSES.length)]),
+                    new Cell(columnIds.get(2)).setValue(i % 40),
+                    new Cell(columnIds.get(3)).setValue(i % 3 == 0)));
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * One call of a scenario.
+     */
+    private interface Operation {
+        /**
+         * @param smartsheet the caller's client
+         * @param iteration  the number of calls the caller made before
+         * @return the number of items (rows) read or written
+         * @throws SmartsheetException if the call fails
+         */
+        int call(Smartsheet smartsheet, long iteration) throws SmartsheetException;
+    }
+
+    /**
+     * Prepares the operation of one caller.
+     */
+    private interface WorkerFactory {
+        Operation create(int worker) throws SmartsheetException;
+    }
+
+    /**
+     * The outcome of one scenario.
+     */
+    public static final class ScenarioResult {
+        private final String name;
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final LongAdder items = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private long elapsedNanos;
+
+        private ScenarioResult(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @return the scenario name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the number of calls, including failed ones
+         */
+        public long getRequests() {
+            return latencies.getCount();
+        }
+
+        /**
+         * @return the number of calls that threw an exception
+         */
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        /**
+         * @return the number of rows read or written
+         */
+        public long getItems() {
+            return items.sum();
+        }
+
+        /**
+         * @return calls per second
+         */
+        public double getThroughput() {
+            return getRequests() * (double) TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsedNanos);
+        }
+
+        /**
+         * @param percentile the percentile, from 0 to 100
+         * @return the call latency at the percentile, in milliseconds
+         */
+        public double getLatencyMillis(double percentile) {
+            return latencies.getPercentile(percentile) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-16s %9d %9.1f %10.1f %8.2f %8.2f %7d", name, getRequests(), getThroughput(),
+                    getItems() * getThroughput() / Math.max(1, getRequests()), getLatencyMillis(50), getLatencyMillis(99), getErrors());
+        }
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.simulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartsheet.api.InvalidRequestException;
+import com.smartsheet.api.ResourceNotFoundException;
+import com.smartsheet.api.SmartsheetRestException;
+import com.smartsheet.api.internal.json.JSONSerializerException;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.BulkItemFailure;
+import com.smartsheet.api.models.BulkItemResult;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Error;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.Result;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import org.apache.commons.io.IOUtils;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Routes requests to the {@link SimulatorStore}, after injecting the faults the {@link SmartsheetSimulator} is
+ * configured with. Errors are answered with the status and error body the real API uses.
+ */
+final class SimulatorHandler extends AbstractHandler {
+    private static final String API_PREFIX = "/2.0/";
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+    private static final String SUCCESS = "SUCCESS";
+    private static final int INVALID_REQUEST = 1008;
+    private static final int INVALID_CELL_VALUE = 1042;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int DEFAULT_MAX_EVENTS = 1000;
+
+    private final SmartsheetSimulator simulator;
+    private final SimulatorStore store;
+    private final JacksonJsonSerializer serializer = new JacksonJsonSerializer();
+
+    /**
+     * Writes responses; unlike the request mapper it includes the ids the API treats as read-only.
+     */
+    private final ObjectMapper responseMapper = JacksonJsonSerializer.newSnapshotMapper();
+
+    SimulatorHandler(SmartsheetSimulator simulator) {
+        this.simulator = simulator;
+        this.store = simulator.getStore();
+    }
+
+    @Override
+    public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        baseRequest.setHandled(true);
+        simulator.requestReceived();
+        byte[] body = IOUtils.toByteArray(request.getInputStream());
+        try {
+            simulator.delay();
+            if (!simulator.acquirePermit()) {
+                writeError(response, 429, 4003, "Rate limit exceeded.");
+            } else if (simulator.injectServerError()) {
+                writeError(response, 500, 4004, "An unexpected error has occurred. Please retry your request.");
+            } else if (!target.startsWith(API_PREFIX)) {
+                writeError(response, 404, 1006, "Not Found");
+            } else {
+                write(response, 200, route(request, target.substring(API_PREFIX.length()).split("/"), body));
+            }
+        } catch (ResourceNotFoundException e) {
+            writeError(response, 404, e.getErrorCode(), e.getMessage());
+        } catch (SmartsheetRestException e) {
+            writeError(response, 400, e.getErrorCode(), e.getMessage());
+        } catch (JSONSerializerException | IOException e) {
+            writeError(response, 400, INVALID_REQUEST, "Unable to parse request. " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writeError(response, 503, 4001, "The simulator is shutting down.");
+        }
+    }
+
+    private Object route(HttpServletRequest request, String[] path, byte[] body)
+            throws SmartsheetRestException, JSONSerializerException, IOException {
+        String method = request.getMethod();
+        if (path.length == 1 && "events".equals(path[0]) && GET.equals(method)) {
+            return events(request);
+        }
+        if (!"sheets".equals(path[0])) {
+            throw notFound(method, path);
+        }
+        if (path.length == 1) {
+            if (GET.equals(method)) {
+                return page(store.listSheets(), request);
+            }
+            if (POST.equals(method)) {
+                return result(store.createSheet(serializer.deserialize(Sheet.class, new ByteArrayInputStream(body))), null);
+            }
+            throw notFound(method, path);
+        }
+        long sheetId = id(path[1]);
+        String resource = path.length > 2 ? path[2] : "";
+        switch (method + " " + resource + (path.length > 3 ? "/{id}" : "")) {
+            case "GET ":
+                return store.getSheet(sheetId, ids(request.getParameter("rowIds")), intParam(request, "pageSize"),
+                        intParam(request, "page"), intParam(request, "ifVersionAfter"));
+            case "DELETE ":
+                store.deleteSheet(sheetId);
+                return result(null, null);
+            case "GET version":
+                Sheet version = new Sheet();
+                version.setVersion(store.getVersion(sheetId));
+                return version;
+            case "GET columns":
+                return page(store.getColumns(sheetId), request);
+            case "POST columns":
+                return result(store.addColumns(sheetId, list(Column.class, body)), store.getVersion(sheetId));
+            case "GET rows/{id}":
+                return store.getRow(sheetId, id(path[3]));
+            case "POST rows":
+            case "PUT rows":
+                return writeRows(request, sheetId, list(Row.class, body));
+            case "DELETE rows":
+                Set<Long> rowIds = ids(request.getParameter("ids"));
+                if (rowIds == null) {
+                    throw invalid("ids is required");
+                }
+                return result(store.deleteRows(sheetId, rowIds, Boolean.parseBoolean(request.getParameter("ignoreRowsNotFound"))),
+                        store.getVersion(sheetId));
+            case "GET attachments":
+                return page(store.getAttachments(sheetId), request);
+            case "POST attachments":
+                return result(store.addAttachment(sheetId, fileName(request.getHeader("Content-Disposition")),
+                        request.getContentType(), body.length), null);
+            default:
+                throw notFound(method, path);
+        }
+    }
+
+    private Result<List<Row>> writeRows(HttpServletRequest request, long sheetId, List<Row> rows) throws SmartsheetRestException {
+        boolean allowPartialSuccess = Boolean.parseBoolean(request.getParameter("allowPartialSuccess"));
+        List<Row> accepted = new ArrayList<>(rows.size());
+        List<BulkItemFailure> failures = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (simulator.injectRowFailure()) {
+                BulkItemFailure failure = new BulkItemFailure();
+                failure.setIndex(i);
+                failure.setRowId(rows.get(i).getId());
+                failure.setError(new Error().setErrorCode(INVALID_CELL_VALUE)
+                        .setMessage("The value for a cell did not conform to the strict requirements of its column type."));
+                failures.add(failure);
+            } else {
+                accepted.add(rows.get(i));
+            }
+        }
+        if (!failures.isEmpty() && !allowPartialSuccess) {
+            Error error = failures.get(0).getError();
+            throw new InvalidRequestException(error.setDetail(Collections.singletonMap("index", failures.get(0).getIndex())));
+        }
+        List<Row> saved = POST.equals(request.getMethod()) ? store.addRows(sheetId, accepted) : store.updateRows(sheetId, accepted);
+        Result<List<Row>> result;
+        if (allowPartialSuccess) {
+            BulkItemResult<Row> bulk = new BulkItemResult<>();
+            bulk.setFailedItems(failures);
+            result = bulk;
+        } else {
+            result = new Result<>();
+        }
+        result.setMessage(failures.isEmpty() ? SUCCESS : "PARTIAL_SUCCESS");
+        result.setResultCode(failures.isEmpty() ? 0 : 3);
+        result.setResult(saved);
+        result.setVersion(store.getVersion(sheetId));
+        return result;
+    }
+
+    private Object events(HttpServletRequest request) throws InvalidRequestException {
+        String streamPosition = request.getParameter("streamPosition");
+        String since = request.getParameter("since");
+        if ((streamPosition == null) == (since == null)) {
+            throw invalid("Exactly one of since and streamPosition is required");
+        }
+        Integer maxCount = intParam(request, "maxCount");
+        return store.getEvents(streamPosition, since == null ? 0 : parseSince(since), maxCount == null ? DEFAULT_MAX_EVENTS : maxCount);
+    }
+
+    private static long parseSince(String since) throws InvalidRequestException {
+        try {
+            return Long.parseLong(since);
+        } catch (NumberFormatException e) {
+            // not epoch millis; try the date formats below
+        }
+        try {
+            return Instant.parse(since).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            // not ISO-8601 with a 'Z' zone; try the SDK's format
+        }
+        try {
+            return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ").parse(since).getTime();
+        } catch (ParseException e) {
+            throw invalid("Invalid since " + since);
+        }
+    }
+
+    private static <T> PagedResult<T> page(List<T> all, HttpServletRequest request) throws InvalidRequestException {
+        PagedResult<T> result = new PagedResult<>();
+        int pageSize = all.size();
+        int page = 1;
+        if (!Boolean.parseBoolean(request.getParameter("includeAll"))) {
+            Integer requestedSize = intParam(request, "pageSize");
+            Integer requestedPage = intParam(request, "page");
+            pageSize = requestedSize == null ? DEFAULT_PAGE_SIZE : requestedSize;
+            page = requestedPage == null ? 1 : requestedPage;
+        }
+        int from = Math.min(all.size(), (page - 1) * Math.max(1, pageSize));
+        int to = Math.min(all.size(), from + pageSize);
+        result.setData(new ArrayList<>(all.subList(from, to)));
+        result.setPageNumber(page);
+        result.setPageSize(pageSize);
+        result.setTotalCount(all.size());
+        result.setTotalPages(pageSize == 0 ? 0 : (all.size() + pageSize - 1) / pageSize);
+        return result;
+    }
+
+    private static <T> Result<T> result(T value, Integer version) {
+        Result<T> result = new Result<>();
+        result.setMessage(SUCCESS);
+        result.setResultCode(0);
+        result.setResult(value);
+        result.setVersion(version);
+        return result;
+    }
+
+    private <T> List<T> list(Class<T> type, byte[] body) throws IOException, JSONSerializerException {
+        int start = 0;
+        while (start < body.length && Character.isWhitespace(body[start])) {
+            start++;
+        }
+        ByteArrayInputStream in = new ByteArrayInputStream(body);
+        if (start < body.length && body[start] == '{') {
+            List<T> single = new ArrayList<>(1);
+            single.add(serializer.deserialize(type, in));
+            return single;
+        }
+        return serializer.deserializeList(type, in);
+    }
+
+    private static String fileName(String contentDisposition) {
+        String marker = "filename=\"";
+        int start = contentDisposition == null ? -1 : contentDisposition.indexOf(marker);
+        if (start < 0) {
+            return "attachment";
+        }
+        start += marker.length();
+        int end = contentDisposition.indexOf('"', start);
+        return URLDecoder.decode(contentDisposition.substring(start, end < 0 ? contentDisposition.length() : end), StandardCharsets.UTF_8);
+    }
+
+    private static Integer intParam(HttpServletRequest request, String name) throws InvalidRequestException {
+        String value = request.getParameter(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw invalid("Invalid " + name + " " + value);
+        }
+    }
+
+    private static Set<Long> ids(String commaSeparated) throws InvalidRequestException {
+        if (commaSeparated == null || commaSeparated.isEmpty()) {
+            return null;
+        }
+        Set<Long> ids = new HashSet<>();
+        for (String id : commaSeparated.split(",")) {
+            ids.add(id(id));
+        }
+        return ids;
+    }
+
+    private static long id(String id) throws InvalidRequestException {
+        try {
+            return Long.parseLong(id.trim());
+        } catch (NumberFormatException e) {
+            throw invalid("Invalid id " + id);
+        }
+    }
+
+    private static InvalidRequestException invalid(String message) {
+        return new InvalidRequestException(new Error().setErrorCode(INVALID_REQUEST).setMessage(message));
+    }
+
+    private static ResourceNotFoundException notFound(String method, String[] path) {
+        return new ResourceNotFoundException(new Error().setErrorCode(1006)
+                .setMessage("Not Found: " + method + " /" + String.join("/", path)));
+    }
+
+    private void write(HttpServletResponse response, int status, Object body) throws IOException {
+        response.setStatus(status);
+        response.setContentType("application/json;charset=UTF-8");
+        try (OutputStream out = response.getOutputStream()) {
+            responseMapper.writeValue(out, body);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, int status, int errorCode, String message) throws IOException {
+        write(response, status, new Error().setErrorCode(errorCode).setMessage(message).setRefId(Long.toHexString(System.nanoTime())));
+    }
+}
@@ -0,0 +1,490 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.simulator;
+
+import com.smartsheet.api.InvalidRequestException;
+import com.smartsheet.api.ResourceNotFoundException;
+import com.smartsheet.api.models.Attachment;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Error;
+import com.smartsheet.api.models.Event;
+import com.smartsheet.api.models.EventResult;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.AttachmentType;
+import com.smartsheet.api.models.enums.EventAction;
+import com.smartsheet.api.models.enums.EventObjectType;
+import com.smartsheet.api.models.enums.EventSource;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>The in-memory state behind {@link SmartsheetSimulator}: sheets with their columns, rows and attachments, and the
+ * event stream. Every change bumps the sheet version and appends an event, like the real API.</p>
+ *
+ * <p>Stored rows are never modified; updates replace them, so a sheet can be serialized outside its lock. Failures
+ * are reported with the SDK's own exceptions ({@link ResourceNotFoundException}, {@link InvalidRequestException}),
+ * which carry the error code to answer with.</p>
+ *
+ * <p>Thread Safety: This class is thread safe; each sheet is guarded by its own lock.</p>
+ */
+public final class SimulatorStore {
+    private static final int NOT_FOUND = 1006;
+    private static final int INVALID_REQUEST = 1008;
+
+    private final AtomicLong ids = new AtomicLong(1_000_000);
+    private final Map<Long, SheetState> sheets = new ConcurrentHashMap<>();
+    private final List<Event> events = new ArrayList<>();
+    private final List<Long> eventTimes = new ArrayList<>();
+
+    /**
+     * Create a sheet with the given name and columns.
+     *
+     * @param sheet the sheet to create
+     * @return the created sheet, with ids assigned
+     */
+    public Sheet createSheet(Sheet sheet) {
+        SheetState state = new SheetState(ids.incrementAndGet(), sheet.getName());
+        if (sheet.getColumns() != null) {
+            state.addColumns(sheet.getColumns(), ids);
+        }
+        sheets.put(state.id, state);
+        addEvent(EventObjectType.SHEET, EventAction.CREATE, state.id, null);
+        synchronized (state) {
+            Sheet created = state.header();
+            created.setColumns(new ArrayList<>(state.columns));
+            return created;
+        }
+    }
+
+    /**
+     * @return the id, name and version of every sheet
+     */
+    public List<Sheet> listSheets() {
+        List<Sheet> result = new ArrayList<>();
+        for (SheetState state : sheets.values()) {
+            synchronized (state) {
+                result.add(state.header());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get a sheet, optionally restricted to some rows.
+     *
+     * @param sheetId        the sheet id
+     * @param rowIds         only return these rows (null for all)
+     * @param pageSize       the number of rows per page (null for all)
+     * @param page           the 1-based page number (null for the first)
+     * @param ifVersionAfter only return the version if the sheet has not changed after it (null to always return it)
+     * @return the sheet
+     */
+    public Sheet getSheet(long sheetId, Set<Long> rowIds, Integer pageSize, Integer page, Integer ifVersionAfter)
+            throws ResourceNotFoundException {
+        SheetState state = state(sheetId);
+        synchronized (state) {
+            if (ifVersionAfter != null && state.version <= ifVersionAfter) {
+                Sheet unchanged = new Sheet();
+                unchanged.setVersion(state.version);
+                return unchanged;
+            }
+            Sheet sheet = state.header();
+            sheet.setColumns(new ArrayList<>(state.columns));
+            sheet.setTotalRowCount(state.rows.size());
+            int from = 0;
+            int to = state.rows.size();
+            if (pageSize != null) {
+                from = Math.min(to, (Math.max(1, page == null ? 1 : page) - 1) * pageSize);
+                to = Math.min(to, from + pageSize);
+            }
+            List<Row> rows = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                Row row = state.rows.get(i);
+                if (rowIds == null || rowIds.contains(row.getId())) {
+                    rows.add(numbered(row, i + 1));
+                }
+            }
+            sheet.setRows(rows);
+            return sheet;
+        }
+    }
+
+    /**
+     * @param sheetId the sheet id
+     * @return the current version of the sheet
+     */
+    public int getVersion(long sheetId) throws ResourceNotFoundException {
+        SheetState state = state(sheetId);
+        synchronized (state) {
+            return state.version;
+        }
+    }
+
+    /**
+     * Delete a sheet.
+     *
+     * @param sheetId the sheet id
+     */
+    public void deleteSheet(long sheetId) throws ResourceNotFoundException {
+        if (sheets.remove(sheetId) == null) {
+            throw notFound("Sheet " + sheetId);
+        }
+        addEvent(EventObjectType.SHEET, EventAction.DELETE, sheetId, null);
+    }
+
+    /**
+     * @param sheetId the sheet id
+     * @return the columns of the sheet
+     */
+    public List<Column> getColumns(long sheetId) throws ResourceNotFoundException {
+        SheetState state = state(sheetId);
+        synchronized (state) {
+            return new ArrayList<>(state.columns);
+        }
+    }
+
+    /**
+     * Add columns to a sheet, at their index or at the end.
+     *
+     * @param sheetId the sheet id
+     * @param columns the columns to add
+     * @return the added columns, with ids assigned
+     */
+    public List<Column> addColumns(long sheetId, List<Column> columns) throws ResourceNotFoundException {
+        SheetState state = state(sheetId);
+        List<Column> added;
+        synchronized (state) {
+            added = state.addColumns(columns, ids);
+            state.version++;
+        }
+        addEvent(EventObjectType.SHEET, EventAction.UPDATE, sheetId, Collections.singletonMap("columnsAdded", added.size()));
+        return added;
+    }
+
+    /**
+     * @param sheetId the sheet id
+     * @param rowId   the row id
+     * @return the row
+     */
+    public Row getRow(long sheetId, long rowId) throws ResourceNotFoundException {
+        SheetState state = state(sheetId);
+        synchronized (state) {
+            Row row = state.rowIndex.get(rowId);
+            if (row == null) {
+                throw notFound("Row " + rowId);
+            }
+            return numbered(row, state.rows.indexOf(row) + 1);
+        }
+    }
+
+    /**
+     * Add rows to the top or (by default) the bottom of a sheet.
+     *
+     * @param sheetId the sheet id
+     * @param rows    the rows to add
+     * @return the added rows, with ids assigned
+     */
+    public List<Row> addRows(long sheetId, List<Row> rows) throws ResourceNotFoundException {
+        SheetState state = state(sheetId);
+        List<Row> added = new ArrayList<>(rows.size());
+        synchronized (state) {
+            Date now = new Date();
+            int top = 0;
+            for (Row row : rows) {
+                Row stored = state.store(new Row(ids.incrementAndGet()), row.getCells(), now, now);
+                if (Boolean.TRUE.equals(row.getToTop())) {
+                    state.rows.add(top++, stored);
+                } else {
+                    state.rows.add(stored);
+                }
+                added.add(stored);
+            }
+            state.version++;
+        }
+        addEvent(EventObjectType.SHEET, EventAction.UPDATE, sheetId, Collections.singletonMap("rowsAdded", added.size()));
+        return added;
+    }
+
+    /**
+     * Update the cells of rows; cells are matched by column id and other cells are kept.
+     *
+     * @param sheetId the sheet id
+     * @param rows    the rows to update
+     * @return the updated rows
+     */
+    public List<Row> updateRows(long sheetId, List<Row> rows) throws ResourceNotFoundException {
+        SheetState state = state(sheetId);
+        List<Row> updated = new ArrayList<>(rows.size());
+        synchronized (state) {
+            for (Row row : rows) {
+                if (row.getId() == null || !state.rowIndex.containsKey(row.getId())) {
+                    throw notFound("Row " + row.getId());
+                }
+            }
+            Date now = new Date();
+            for (Row row : rows) {
+                Row current = state.rowIndex.get(row.getId());
+                Map<Long, Cell> cells = new LinkedHashMap<>();
+                for (Cell cell : current.getCells()) {
+                    cells.put(cell.getColumnId(), cell);
+                }
+                if (row.getCells() != null) {
+                    for (Cell cell : row.getCells()) {
+                        cells.put(cell.getColumnId(), cell);
+                    }
+                }
+                Row replacement = state.store(new Row(row.getId()), cells.values(), current.getCreatedAt(), now);
+                state.rows.set(state.rows.indexOf(current), replacement);
+                updated.add(replacement);
+            }
+            state.version++;
+        }
+        addEvent(EventObjectType.SHEET, EventAction.UPDATE, sheetId, Collections.singletonMap("rowsUpdated", updated.size()));
+        return updated;
+    }
+
+    /**
+     * Delete rows.
+     *
+     * @param sheetId            the sheet id
+     * @param rowIds             the ids of the rows to delete
+     * @param ignoreRowsNotFound whether unknown ids are skipped rather than failing the request
+     * @return the ids of the deleted rows
+     */
+    public List<Long> deleteRows(long sheetId, Collection<Long> rowIds, boolean ignoreRowsNotFound) throws ResourceNotFoundException {
+        SheetState state = state(sheetId);
+        List<Long> deleted = new ArrayList<>();
+        synchronized (state) {
+            for (Long rowId : rowIds) {
+                if (!ignoreRowsNotFound && !state.rowIndex.containsKey(rowId)) {
+                    throw notFound("Row " + rowId);
+                }
+            }
+            for (Long rowId : rowIds) {
+                Row row = state.rowIndex.remove(rowId);
+                if (row != null) {
+                    state.rows.remove(row);
+                    deleted.add(rowId);
+                }
+            }
+            state.version++;
+        }
+        addEvent(EventObjectType.SHEET, EventAction.UPDATE, sheetId, Collections.singletonMap("rowsDeleted", deleted.size()));
+        return deleted;
+    }
+
+    /**
+     * @param sheetId the sheet id
+     * @return the attachments of the sheet
+     */
+    public List<Attachment> getAttachments(long sheetId) throws ResourceNotFoundException {
+        SheetState state = state(sheetId);
+        synchronized (state) {
+            return new ArrayList<>(state.attachments);
+        }
+    }
+
+    /**
+     * Record a file attached to a sheet; the content itself is not kept.
+     *
+     * @param sheetId  the sheet id
+     * @param name     the file name
+     * @param mimeType the content type
+     * @param size     the size in bytes
+     * @return the attachment
+     */
+    public Attachment addAttachment(long sheetId, String name, String mimeType, long size) throws ResourceNotFoundException {
+        SheetState state = state(sheetId);
+        Attachment attachment = new Attachment();
+        attachment.setId(ids.incrementAndGet());
+        attachment.setName(name)
+                .setMimeType(mimeType)
+                .setSizeInKb((size + 1023) / 1024)
+                .setAttachmentType(AttachmentType.FILE)
+                .setParentId(sheetId)
+                .setCreatedAt(new Date());
+        synchronized (state) {
+            state.attachments.add(attachment);
+        }
+        addEvent(EventObjectType.ATTACHMENT, EventAction.CREATE, attachment.getId(), Collections.singletonMap("sheetId", sheetId));
+        return attachment;
+    }
+
+    /**
+     * Read the event stream.
+     *
+     * @param streamPosition the position returned by the previous read, or null to start at {@code since}
+     * @param since          the earliest event time in epoch millis, used when there is no stream position
+     * @param maxCount       the maximum number of events to return
+     * @return the events
+     */
+    public EventResult getEvents(String streamPosition, long since, int maxCount) throws InvalidRequestException {
+        EventResult result = new EventResult();
+        synchronized (events) {
+            int from;
+            if (streamPosition != null) {
+                try {
+                    from = Math.min(events.size(), Integer.parseInt(streamPosition));
+                } catch (NumberFormatException e) {
+                    throw new InvalidRequestException(new Error().setErrorCode(INVALID_REQUEST)
+                            .setMessage("Invalid streamPosition " + streamPosition));
+                }
+            } else {
+                from = 0;
+                while (from < eventTimes.size() && eventTimes.get(from) < since) {
+                    from++;
+                }
+            }
+            int to = Math.min(events.size(), from + maxCount);
+            result.setData(new ArrayList<>(events.subList(from, to)));
+            result.setNextStreamPosition(Integer.toString(to));
+            result.setMoreAvailable(to < events.size());
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of sheets
+     */
+    public int getSheetCount() {
+        return sheets.size();
+    }
+
+    /**
+     * @return the number of events recorded so far
+     */
+    public int getEventCount() {
+        synchronized (events) {
+            return events.size();
+        }
+    }
+
+    private SheetState state(long sheetId) throws ResourceNotFoundException {
+        SheetState state = sheets.get(sheetId);
+        if (state == null) {
+            throw notFound("Sheet " + sheetId);
+        }
+        return state;
+    }
+
+    private void addEvent(EventObjectType objectType, EventAction action, long objectId, Map<String, Object> details) {
+        long now = System.currentTimeMillis();
+        Event event = new Event()
+                .setObjectType(objectType)
+                .setAction(action)
+                .setObjectId(objectId)
+                .setSource(EventSource.API_INTEGRATED_APP)
+                .setEventTimestamp(Instant.ofEpochMilli(now).toString());
+        if (details != null) {
+            event.setAdditionalDetails(new HashMap<>(details));
+        }
+        synchronized (events) {
+            event.setEventId(Integer.toString(events.size()));
+            events.add(event);
+            eventTimes.add(now);
+        }
+    }
+
+    private static Row numbered(Row row, int rowNumber) {
+        Row copy = new Row(row.getId());
+        copy.setSheetId(row.getSheetId());
+        copy.setRowNumber(rowNumber);
+        copy.setExpanded(true);
+        copy.setCreatedAt(row.getCreatedAt());
+        copy.setModifiedAt(row.getModifiedAt());
+        copy.setCells(row.getCells());
+        return copy;
+    }
+
+    private static ResourceNotFoundException notFound(String what) {
+        return new ResourceNotFoundException(new Error().setErrorCode(NOT_FOUND).setMessage(what + " not found."));
+    }
+
+    /**
+     * A sheet; guarded by its own monitor.
+     */
+    private static final class SheetState {
+        private final long id;
+        private final String name;
+        private final List<Column> columns = new ArrayList<>();
+        private final List<Row> rows = new ArrayList<>();
+        private final Map<Long, Row> rowIndex = new HashMap<>();
+        private final List<Attachment> attachments = new ArrayList<>();
+        private int version = 1;
+
+        SheetState(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        Sheet header() {
+            Sheet sheet = new Sheet(id);
+            sheet.setName(name);
+            sheet.setVersion(version);
+            return sheet;
+        }
+
+        List<Column> addColumns(List<Column> added, AtomicLong ids) {
+            List<Column> result = new ArrayList<>(added.size());
+            for (Column column : added) {
+                Column stored = new Column(ids.incrementAndGet())
+                        .setTitle(column.getTitle())
+                        .setType(column.getType())
+                        .setPrimary(column.getPrimary());
+                int index = column.getIndex() == null ? columns.size() : Math.min(column.getIndex(), columns.size());
+                columns.add(index, stored);
+                result.add(stored);
+            }
+            for (int i = 0; i < columns.size(); i++) {
+                columns.get(i).setIndex(i);
+            }
+            return result;
+        }
+
+        Row store(Row row, Collection<Cell> cells, Date createdAt, Date modifiedAt) {
+            List<Cell> stored = new ArrayList<>();
+            if (cells != null) {
+                for (Cell cell : cells) {
+                    Object value = cell.getValue();
+                    stored.add(new Cell(cell.getColumnId())
+                            .setValue(value)
+                            .setObjectValue(cell.getObjectValue())
+                            .setDisplayValue(value == null ? cell.getDisplayValue() : value.toString()));
+                }
+            }
+            row.setSheetId(id);
+            row.setCells(stored);
+            row.setCreatedAt(createdAt);
+            row.setModifiedAt(modifiedAt);
+            rowIndex.put(row.getId(), row);
+            return row;
+        }
+    }
+}
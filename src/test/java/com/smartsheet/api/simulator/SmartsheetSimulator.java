@@ -0,0 +1,334 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.simulator;
+
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>An in-process stand-in for the Smartsheet API, for load and scale tests that should not touch production. It
+ * serves the core sheet, row, column, attachment and event endpoints from an in-memory {@link SimulatorStore} on an
+ * ephemeral local port, and can inject latency, rate limiting (errorCode 4003), transient server errors (4004) and
+ * partial-success row failures.</p>
+ *
+ * <p>Point a client at {@link #getBaseUri()}; the access token is not checked. Faults are drawn from a seeded
+ * random generator, so a single-threaded run is repeatable.</p>
+ *
+ * <p>Thread Safety: This class is thread safe.</p>
+ */
+public final class SmartsheetSimulator implements AutoCloseable {
+    private final SimulatorStore store = new SimulatorStore();
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final int requestsPerMinute;
+    private final double errorRate;
+    private final double partialFailureRate;
+    private final int maxThreads;
+    private final Random random;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder failedRows = new LongAdder();
+
+    /**
+     * Rate limit token bucket; guarded by this.
+     */
+    private double permits;
+    private long permitsUpdatedNanos;
+
+    private Server server;
+    private String baseUri;
+
+    private SmartsheetSimulator(Builder builder) {
+        this.latencyMillis = builder.latencyMillis;
+        this.jitterMillis = builder.jitterMillis;
+        this.requestsPerMinute = builder.requestsPerMinute;
+        this.errorRate = builder.errorRate;
+        this.partialFailureRate = builder.partialFailureRate;
+        this.maxThreads = builder.maxThreads;
+        this.random = new Random(builder.seed);
+        this.permits = burst();
+        this.permitsUpdatedNanos = System.nanoTime();
+    }
+
+    /**
+     * @return a builder for a simulator without any injected faults
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Start serving on an ephemeral port.
+     *
+     * @return this simulator
+     * @throws Exception if the server can't be started
+     */
+    public synchronized SmartsheetSimulator start() throws Exception {
+        if (server == null) {
+            Server jetty = new Server(new QueuedThreadPool(maxThreads, Math.min(8, maxThreads)));
+            ServerConnector connector = new ServerConnector(jetty, 1, 1);
+            connector.setHost("127.0.0.1");
+            connector.setPort(0);
+            jetty.addConnector(connector);
+            jetty.setHandler(new SimulatorHandler(this));
+            jetty.start();
+            server = jetty;
+            baseUri = "http://127.0.0.1:" + connector.getLocalPort() + "/2.0/";
+        }
+        return this;
+    }
+
+    /**
+     * Stop serving; the store is kept.
+     *
+     * @throws IOException if the server can't be stopped
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (server != null) {
+            try {
+                server.stop();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw (IOException) new InterruptedIOException("interrupted while stopping the simulator").initCause(e);
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException("failed to stop the simulator", e);
+            } finally {
+                server = null;
+            }
+        }
+    }
+
+    /**
+     * @return the base URI to give to {@code SmartsheetBuilder.setBaseURI}, or null if not started
+     */
+    public synchronized String getBaseUri() {
+        return baseUri;
+    }
+
+    /**
+     * @return the in-memory store, to seed or inspect data directly
+     */
+    public SimulatorStore getStore() {
+        return store;
+    }
+
+    /**
+     * @return the number of requests received
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * @return the number of requests answered with errorCode 4003
+     */
+    public long getRateLimitedCount() {
+        return rateLimited.sum();
+    }
+
+    /**
+     * @return the number of requests answered with errorCode 4004
+     */
+    public long getServerErrorCount() {
+        return serverErrors.sum();
+    }
+
+    /**
+     * @return the number of rows rejected by injected partial-success failures
+     */
+    public long getFailedRowCount() {
+        return failedRows.sum();
+    }
+
+    void requestReceived() {
+        requests.increment();
+    }
+
+    void delay() throws InterruptedException {
+        long millis = latencyMillis;
+        if (jitterMillis > 0) {
+            synchronized (random) {
+                millis += (long) (random.nextDouble() * jitterMillis);
+            }
+        }
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+    synchronized boolean acquirePermit() {
+        if (requestsPerMinute <= 0) {
+            return true;
+        }
+        long now = System.nanoTime();
+        permits = Math.min(burst(), permits + (now - permitsUpdatedNanos) * requestsPerMinute / (double) TimeUnit.MINUTES.toNanos(1));
+        permitsUpdatedNanos = now;
+        if (permits < 1) {
+            rateLimited.increment();
+            return false;
+        }
+        permits--;
+        return true;
+    }
+
+    boolean injectServerError() {
+        if (chance(errorRate)) {
+            serverErrors.increment();
+            return true;
+        }
+        return false;
+    }
+
+    boolean injectRowFailure() {
+        if (chance(partialFailureRate)) {
+            failedRows.increment();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean chance(double rate) {
+        if (rate <= 0) {
+            return false;
+        }
+        synchronized (random) {
+            return random.nextDouble() < rate;
+        }
+    }
+
+    private double burst() {
+        return Math.max(1, requestsPerMinute / 60.0);
+    }
+
+    /**
+     * Configures the faults a {@link SmartsheetSimulator} injects.
+     */
+    public static final class Builder {
+        private long latencyMillis;
+        private long jitterMillis;
+        private int requestsPerMinute;
+        private double errorRate;
+        private double partialFailureRate;
+        private int maxThreads = 200;
+        private long seed = 1;
+
+        private Builder() {
+        }
+
+        /**
+         * Delay every response.
+         *
+         * @param latencyMillis the fixed delay
+         * @param jitterMillis  the upper bound of a uniformly distributed extra delay
+         * @return this builder
+         */
+        public Builder setLatency(long latencyMillis, long jitterMillis) {
+            if (latencyMillis < 0 || jitterMillis < 0) {
+                throw new IllegalArgumentException("latency must not be negative");
+            }
+            this.latencyMillis = latencyMillis;
+            this.jitterMillis = jitterMillis;
+            return this;
+        }
+
+        /**
+         * Answer requests beyond a rate with HTTP 429 and errorCode 4003. Up to a second's worth of requests may
+         * arrive in a burst. The real API allows 300 requests per minute per token.
+         *
+         * @param requestsPerMinute the allowed rate, or 0 for no limit
+         * @return this builder
+         */
+        public Builder setRateLimit(int requestsPerMinute) {
+            if (requestsPerMinute < 0) {
+                throw new IllegalArgumentException("requestsPerMinute must not be negative");
+            }
+            this.requestsPerMinute = requestsPerMinute;
+            return this;
+        }
+
+        /**
+         * Answer a fraction of requests with HTTP 500 and errorCode 4004, which the SDK retries.
+         *
+         * @param errorRate the fraction, from 0 to 1
+         * @return this builder
+         */
+        public Builder setErrorRate(double errorRate) {
+            this.errorRate = checkRate(errorRate);
+            return this;
+        }
+
+        /**
+         * Reject a fraction of the rows in bulk row requests. With {@code allowPartialSuccess=true} the other rows
+         * are saved and the rejected ones are reported as failed items; otherwise the whole request fails with HTTP
+         * 400.
+         *
+         * @param partialFailureRate the fraction of rows, from 0 to 1
+         * @return this builder
+         */
+        public Builder setPartialFailureRate(double partialFailureRate) {
+            this.partialFailureRate = checkRate(partialFailureRate);
+            return this;
+        }
+
+        /**
+         * @param maxThreads the size of the server thread pool, two of which accept and select connections
+         * @return this builder
+         */
+        public Builder setMaxThreads(int maxThreads) {
+            if (maxThreads < 4) {
+                throw new IllegalArgumentException("maxThreads must be at least 4");
+            }
+            this.maxThreads = maxThreads;
+            return this;
+        }
+
+        /**
+         * @param seed the seed of the random generator for latency jitter and faults
+         * @return this builder
+         */
+        public Builder setSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * @return a simulator that is not started yet
+         */
+        public SmartsheetSimulator build() {
+            return new SmartsheetSimulator(this);
+        }
+
+        private static double checkRate(double rate) {
+            if (rate < 0 || rate > 1) {
+                throw new IllegalArgumentException("rate must be between 0 and 1");
+            }
+            return rate;
+        }
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.simulator;
+
+import com.smartsheet.api.CallOptions;
+import com.smartsheet.api.InvalidRequestException;
+import com.smartsheet.api.Smartsheet;
+import com.smartsheet.api.SmartsheetBuilder;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.SmartsheetRestException;
+import com.smartsheet.api.internal.RequestHedger;
+import com.smartsheet.api.internal.SmartsheetImpl;
+import com.smartsheet.api.internal.http.AdaptiveConcurrencyLimiter;
+import com.smartsheet.api.internal.http.DeadlineExceededException;
+import com.smartsheet.api.internal.http.DefaultHttpClient;
+import com.smartsheet.api.internal.http.RequestCancelledException;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.Attachment;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Error;
+import com.smartsheet.api.models.EventResult;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.PartialRowUpdateResult;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.ColumnType;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SmartsheetSimulatorTest {
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (AutoCloseable resource : resources) {
+            resource.close();
+        }
+    }
+
+    @Test
+    void servesSheetsRowsColumnsAttachmentsAndEvents() throws Exception {
+        Date start = new Date(System.currentTimeMillis() - 1000);
+        Smartsheet smartsheet = client(start(SmartsheetSimulator.builder()), true);
+
+        Sheet sheet = new Sheet();
+        sheet.setName("Plan");
+        sheet.setColumns(Arrays.asList(new Column().setTitle("Task").setType(ColumnType.TEXT_NUMBER).setPrimary(true),
+                new Column().setTitle("Done").setType(ColumnType.CHECKBOX)));
+        Sheet created = smartsheet.sheetResources().createSheet(sheet);
+        long sheetId = created.getId();
+        long taskColumn = created.getColumns().get(0).getId();
+
+        List<Row> added = smartsheet.sheetResources().rowResources().addRows(sheetId, rows(taskColumn, 5));
+        assertThat(added).hasSize(5);
+        Row top = new Row();
+        top.setToTop(true);
+        top.setCells(Collections.singletonList(new Cell(taskColumn).setValue("First")));
+        smartsheet.sheetResources().rowResources().addRows(sheetId, Collections.singletonList(top));
+
+        Row update = new Row(added.get(0).getId());
+        update.setCells(Collections.singletonList(new Cell(taskColumn).setValue("Renamed")));
+        smartsheet.sheetResources().rowResources().updateRows(sheetId, Collections.singletonList(update));
+        assertThat(smartsheet.sheetResources().rowResources().deleteRows(sheetId,
+                new HashSet<>(Collections.singletonList(added.get(4).getId())), false)).hasSize(1);
+
+        Sheet page = smartsheet.sheetResources().getSheet(sheetId, null, null, null, null, null, 2, 1);
+        assertThat(page.getTotalRowCount()).isEqualTo(5);
+        assertThat(page.getRows()).extracting(row -> row.getCells().get(0).getDisplayValue()).containsExactly("First", "Renamed");
+        assertThat(page.getRows().get(1).getRowNumber()).isEqualTo(2);
+        assertThat(smartsheet.sheetResources().getSheetVersion(sheetId)).isEqualTo(5);
+
+        PagedResult<Column> columns = smartsheet.sheetResources().columnResources().listColumns(sheetId, null, null);
+        assertThat(columns.getData()).extracting(Column::getTitle).containsExactly("Task", "Done");
+
+        byte[] content = "hello".getBytes(StandardCharsets.UTF_8);
+        Attachment attachment = smartsheet.sheetResources().attachmentResources()
+                .attachFile(sheetId, new ByteArrayInputStream(content), "text/plain", content.length, "notes.txt");
+        assertThat(attachment.getName()).isEqualTo("notes.txt");
+        PagedResult<Attachment> attachments = smartsheet.sheetResources().attachmentResources()
+                .listAttachments(sheetId, new PaginationParameters(true, null, null));
+        assertThat(attachments.getTotalCount()).isEqualTo(1);
+
+        EventResult events = smartsheet.eventResources().listEvents(start, null, 3, null);
+        assertThat(events.getData()).hasSize(3);
+        assertThat(events.getMoreAvailable()).isTrue();
+        EventResult rest = smartsheet.eventResources().listEvents(null, events.getNextStreamPosition(), 100, null);
+        assertThat(rest.getData()).hasSize(3);
+        assertThat(rest.getMoreAvailable()).isFalse();
+
+        smartsheet.sheetResources().deleteSheet(sheetId);
+        assertThatThrownBy(() -> smartsheet.sheetResources().getSheet(sheetId))
+                .isInstanceOf(SmartsheetRestException.class)
+                .extracting(e -> ((SmartsheetRestException) e).getErrorCode()).isEqualTo(1006);
+    }
+
+    @Test
+    void injectsRateLimitingAndServerErrors() throws Exception {
+        SmartsheetSimulator limited = start(SmartsheetSimulator.builder().setRateLimit(1));
+        long sheetId = limited.getStore().createSheet(new Sheet()).getId();
+        Smartsheet smartsheet = client(limited, false);
+        smartsheet.sheetResources().getSheetVersion(sheetId);
+        assertThatThrownBy(() -> smartsheet.sheetResources().getSheetVersion(sheetId))
+                .isInstanceOf(SmartsheetRestException.class)
+                .extracting(e -> ((SmartsheetRestException) e).getErrorCode()).isEqualTo(4003);
+        assertThat(limited.getRateLimitedCount()).isEqualTo(1);
+
+        SmartsheetSimulator failing = start(SmartsheetSimulator.builder().setErrorRate(0.5).setSeed(7));
+        long otherSheetId = failing.getStore().createSheet(new Sheet()).getId();
+        Smartsheet retrying = client(failing, true);
+        for (int i = 0; i < 10; i++) {
+            retrying.sheetResources().getSheetVersion(otherSheetId);
+        }
+        assertThat(failing.getServerErrorCount()).isPositive();
+        assertThat(failing.getRequestCount()).isEqualTo(10 + failing.getServerErrorCount());
+    }
+
+    @Test
+    void concurrencyLimiterBacksOffOnRateLimiting() throws Exception {
+        SmartsheetSimulator limited = start(SmartsheetSimulator.builder().setRateLimit(2));
+        long sheetId = limited.getStore().createSheet(new Sheet()).getId();
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder().setInitialLimit(16).build();
+        Smartsheet smartsheet = client(limited, false);
+        ((SmartsheetImpl) smartsheet).setConcurrencyLimiter(limiter);
+
+        for (int i = 0; i < 5; i++) {
+            try {
+                smartsheet.sheetResources().getSheetVersion(sheetId);
+            } catch (SmartsheetRestException e) {
+                assertThat(e.getErrorCode()).isEqualTo(4003);
+            }
+        }
+
+        assertThat(limited.getRateLimitedCount()).isPositive();
+        assertThat(limiter.getLimit()).isLessThan(16);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void deadlineBoundsSlowCallsAndRetries() throws Exception {
+        SmartsheetSimulator slow = start(SmartsheetSimulator.builder().setLatency(5_000, 0));
+        long sheetId = slow.getStore().createSheet(new Sheet()).getId();
+        Smartsheet smartsheet = client(slow, true).withCallOptions(CallOptions.timeout(200));
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> smartsheet.sheetResources().getSheetVersion(sheetId)).isInstanceOf(DeadlineExceededException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2_000);
+
+        SmartsheetSimulator failing = start(SmartsheetSimulator.builder().setErrorRate(1));
+        long otherSheetId = failing.getStore().createSheet(new Sheet()).getId();
+        Smartsheet retrying = client(failing, true).withCallOptions(CallOptions.timeout(300));
+        assertThatThrownBy(() -> retrying.sheetResources().getSheetVersion(otherSheetId))
+                .isInstanceOf(DeadlineExceededException.class);
+        assertThat(failing.getServerErrorCount()).isPositive();
+    }
+
+    @Test
+    void cancelAbortsCallsInFlight() throws Exception {
+        SmartsheetSimulator slow = start(SmartsheetSimulator.builder().setLatency(5_000, 0));
+        long sheetId = slow.getStore().createSheet(new Sheet()).getId();
+        CallOptions callOptions = CallOptions.cancellable();
+        Smartsheet smartsheet = client(slow, false).withCallOptions(callOptions);
+
+        CompletableFuture<Integer> call = CompletableFuture.supplyAsync(() -> {
+            try {
+                return smartsheet.sheetResources().getSheetVersion(sheetId);
+            } catch (SmartsheetException e) {
+                throw new CompletionException(e);
+            }
+        });
+        while (slow.getRequestCount() == 0) {
+            Thread.sleep(5);
+        }
+        callOptions.cancel();
+
+        assertThatThrownBy(() -> call.get(2, TimeUnit.SECONDS)).hasCauseInstanceOf(RequestCancelledException.class);
+        assertThatThrownBy(() -> smartsheet.sheetResources().getSheetVersion(sheetId)).isInstanceOf(RequestCancelledException.class);
+        assertThat(slow.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void hedgedRequestsReleaseTheirOwnConnections() throws Exception {
+        SmartsheetSimulator simulator = start(SmartsheetSimulator.builder().setLatency(5, 60).setSeed(7));
+        Sheet sheet = new Sheet();
+        sheet.setColumns(Collections.singletonList(new Column().setTitle("Task").setType(ColumnType.TEXT_NUMBER)));
+        Sheet created = simulator.getStore().createSheet(sheet);
+        long sheetId = created.getId();
+        // large enough that responses are still being read when another request completes
+        simulator.getStore().addRows(sheetId, rows(created.getColumns().get(0).getId(), 500));
+        // two connections per route: a leaked one soon makes leases time out
+        PoolingHttpClientConnectionManager connections = new PoolingHttpClientConnectionManager();
+        DefaultHttpClient httpClient = new DefaultHttpClient(HttpClients.custom().setConnectionManager(connections)
+                .setDefaultRequestConfig(RequestConfig.custom().setConnectionRequestTimeout(5_000).build()).build(),
+                new JacksonJsonSerializer());
+        resources.add(httpClient::close);
+        SmartsheetImpl smartsheet = (SmartsheetImpl) new SmartsheetBuilder().setBaseURI(simulator.getBaseUri())
+                .setAccessToken("token").setHttpClient(httpClient).build();
+        RequestHedger hedger = RequestHedger.builder().setPercentile(0.5).setMinDelayMillis(0).setBudgetRatio(1)
+                .setMinSamples(1).build();
+        smartsheet.setRequestHedger(hedger);
+
+        int calls = 40;
+        for (int i = 0; i < calls; i++) {
+            assertThat(smartsheet.sheetResources().getSheet(sheetId).getRows()).hasSize(500);
+        }
+
+        assertThat(hedger.getHedgedCount()).isPositive();
+        // the hedges reached the API while the requests they hedged were in flight
+        assertThat(simulator.getRequestCount()).isGreaterThan(calls);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (connections.getTotalStats().getLeased() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(connections.getTotalStats().getLeased()).isZero();
+    }
+
+    @Test
+    void injectsPartialSuccessFailures() throws Exception {
+        SmartsheetSimulator simulator = start(SmartsheetSimulator.builder().setPartialFailureRate(0.3).setSeed(3));
+        Sheet sheet = new Sheet();
+        sheet.setColumns(Collections.singletonList(new Column().setTitle("Task").setType(ColumnType.TEXT_NUMBER)));
+        Sheet created = simulator.getStore().createSheet(sheet);
+        long columnId = created.getColumns().get(0).getId();
+        Smartsheet smartsheet = client(simulator, true);
+
+        PartialRowUpdateResult result = smartsheet.sheetResources().rowResources()
+                .addRowsAllowPartialSuccess(created.getId(), rows(columnId, 20));
+        assertThat(result.getFailedItems()).isNotEmpty();
+        assertThat(result.getResult().size() + result.getFailedItems().size()).isEqualTo(20);
+        assertThat(result.getFailedItems().get(0).getError().getErrorCode()).isEqualTo(1042);
+        assertThat(simulator.getStore().getSheet(created.getId(), null, null, null, null).getTotalRowCount())
+                .isEqualTo(result.getResult().size());
+
+        assertThatThrownBy(() -> smartsheet.sheetResources().rowResources().addRows(created.getId(), rows(columnId, 20)))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void benchmarkReportsEveryScenario() throws Exception {
+        SmartsheetSimulator simulator = start(SmartsheetSimulator.builder());
+
+        List<SimulatorBenchmark.ScenarioResult> results = SimulatorBenchmark.run(simulator, 2, 200);
+
+        assertThat(results).extracting(SimulatorBenchmark.ScenarioResult::getName)
+                .containsExactly("bulk row writes", "sheet paging", "sheet reads");
+        for (SimulatorBenchmark.ScenarioResult result : results) {
+            assertThat(result.getRequests()).isPositive();
+            assertThat(result.getErrors()).isZero();
+            assertThat(result.getItems()).isPositive();
+            assertThat(result.getLatencyMillis(99)).isGreaterThanOrEqualTo(result.getLatencyMillis(50));
+        }
+    }
+
+    private SmartsheetSimulator start(SmartsheetSimulator.Builder builder) throws Exception {
+        SmartsheetSimulator simulator = builder.setMaxThreads(8).build().start();
+        resources.add(simulator);
+        return simulator;
+    }
+
+    private Smartsheet client(SmartsheetSimulator simulator, boolean retry) {
+        DefaultHttpClient httpClient = new DefaultHttpClient(HttpClients.createDefault(), new JacksonJsonSerializer()) {
+            @Override
+            public long calcBackoff(int previousAttempts, long totalElapsedTimeMillis, Error error) {
+                return retry ? 1 : -1;
+            }
+        };
+        resources.add(() -> {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        return new SmartsheetBuilder().setBaseURI(simulator.getBaseUri()).setAccessToken("token").setHttpClient(httpClient).build();
+    }
+
+    private static List<Row> rows(long columnId, int count) {
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Row row = new Row();
+            row.setToBottom(true);
+            row.setCells(Collections.singletonList(new Cell(columnId).setValue("Task " + i)));
+            rows.add(row);
+        }
+        return rows;
+    }
+}
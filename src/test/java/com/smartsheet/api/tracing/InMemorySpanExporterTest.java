@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.tracing;
+
+import com.smartsheet.api.FolderResources;
+import com.smartsheet.api.ResourceNotFoundException;
+import com.smartsheet.api.internal.FolderResourcesImpl;
+import com.smartsheet.api.internal.SmartsheetImpl;
+import com.smartsheet.api.internal.http.DefaultHttpClient;
+import com.smartsheet.api.internal.http.HttpMethod;
+import com.smartsheet.api.internal.http.StubHttpClient;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.Error;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemorySpanExporterTest {
+
+    @Test
+    void tracesResourceMethodsWithChildSpans() throws Exception {
+        StubHttpClient httpClient = new StubHttpClient()
+                .respond(HttpMethod.GET, "folders/5", "{\"id\":5,\"name\":\"Plans\"}")
+                .respond(HttpMethod.GET, "folders/6", 404, "{\"errorCode\":1006,\"message\":\"Not Found\"}")
+                .respond(HttpMethod.GET, "sheets/1/rows/2", "{\"id\":2}");
+        SmartsheetImpl smartsheet = new SmartsheetImpl(StubHttpClient.BASE_URI, "accessToken", httpClient,
+                new JacksonJsonSerializer());
+        InMemorySpanExporter exporter = new InMemorySpanExporter();
+        smartsheet.setTracer(exporter);
+
+        smartsheet.folderResources().getFolder(5L, null);
+        assertThatThrownBy(() -> smartsheet.folderResources().getFolder(6L, null)).isInstanceOf(ResourceNotFoundException.class);
+        smartsheet.sheetResources().rowResources().getRow(1L, 2L, null, null);
+
+        List<FinishedSpan> calls = exporter.getFinishedSpans("FolderResources.getFolder");
+        assertThat(calls).hasSize(2);
+        assertThat(calls.get(0).getParentId()).isZero();
+        assertThat(calls.get(0).getError()).isNull();
+        assertThat(calls.get(1).getError()).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(calls.get(1).getAttribute(SmartsheetTracer.ATTR_ERROR_CODE)).isEqualTo(1006L);
+
+        FinishedSpan deserialize = exporter.getFinishedSpans(SmartsheetTracer.SPAN_DESERIALIZE).get(0);
+        assertThat(deserialize.getParentId()).isEqualTo(calls.get(0).getId());
+        assertThat(deserialize.getAttribute(SmartsheetTracer.ATTR_TYPE)).isEqualTo("Folder");
+        assertThat((Long) deserialize.getAttribute(SmartsheetTracer.ATTR_BYTES)).isPositive();
+        assertThat(exporter.getFinishedSpans("SheetRowResources.getRow")).hasSize(1);
+        assertThat(exporter.getFinishedSpans("SheetResources.rowResources")).isEmpty();
+
+        smartsheet.setTracer(SmartsheetTracer.NOOP);
+        assertThat(smartsheet.folderResources()).isInstanceOf(FolderResourcesImpl.class);
+        exporter.reset();
+        smartsheet.sheetResources().rowResources().getRow(1L, 2L, null, null);
+        assertThat(exporter.getFinishedSpans()).isEmpty();
+    }
+
+    @Test
+    void tracesAttemptsAndBackoff() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            boolean fail = calls.getAndIncrement() == 0;
+            byte[] body = (fail ? "{\"errorCode\":4003,\"message\":\"slow down\"}" : "{\"id\":7}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(fail ? 429 : 200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        DefaultHttpClient client = new DefaultHttpClient(HttpClients.createDefault(), new JacksonJsonSerializer()) {
+            @Override
+            public long calcBackoff(int previousAttempts, long totalElapsedTimeMillis, Error error) {
+                return 1;
+            }
+        };
+        InMemorySpanExporter exporter = new InMemorySpanExporter();
+        try {
+            SmartsheetImpl smartsheet = new SmartsheetImpl("http://127.0.0.1:" + server.getAddress().getPort() + "/2.0/",
+                    "accessToken", client, new JacksonJsonSerializer());
+            smartsheet.setTracer(exporter);
+            FolderResources folders = smartsheet.folderResources();
+            assertThat(folders.getFolder(7L, null).getId()).isEqualTo(7L);
+        } finally {
+            client.close();
+            server.stop(0);
+        }
+
+        long callId = exporter.getFinishedSpans("FolderResources.getFolder").get(0).getId();
+        List<FinishedSpan> attempts = exporter.getFinishedSpans(SmartsheetTracer.SPAN_HTTP_ATTEMPT);
+        assertThat(attempts).hasSize(2).allSatisfy(span -> {
+            assertThat(span.getParentId()).isEqualTo(callId);
+            assertThat(span.getAttribute(SmartsheetTracer.ATTR_ROUTE)).isEqualTo("GET /folders/{id}");
+        });
+        assertThat(attempts.get(0).getAttribute(SmartsheetTracer.ATTR_STATUS)).isEqualTo(429L);
+        assertThat(attempts.get(0).getAttribute(SmartsheetTracer.ATTR_ERROR_CODE)).isEqualTo(4003L);
+        assertThat(attempts.get(1).getAttribute(SmartsheetTracer.ATTR_STATUS)).isEqualTo(200L);
+        assertThat(exporter.getFinishedSpans(SmartsheetTracer.SPAN_HTTP_BACKOFF)).hasSize(1)
+                .allSatisfy(span -> assertThat(span.getParentId()).isEqualTo(callId));
+    }
+}
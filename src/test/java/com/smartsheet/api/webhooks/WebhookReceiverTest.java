@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.webhooks;
+
+import com.smartsheet.api.models.WebhookCallback;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebhookReceiverTest {
+
+    private static final String SECRET = "secret";
+    private static final String CALLBACK = "{\"nonce\":\"n1\",\"webhookId\":7,\"scope\":\"sheet\",\"scopeObjectId\":42," +
+            "\"events\":[{\"objectType\":\"row\",\"eventType\":\"updated\",\"id\":11,\"userId\":3}]}";
+
+    private static String sign(String secret, byte[] body) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        StringBuilder hex = new StringBuilder();
+        for (byte b : mac.doFinal(body)) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int post(HttpServer server, byte[] body, boolean chunked) throws Exception {
+        URL url = new URL("http://127.0.0.1:" + server.getAddress().getPort() + "/hook");
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setReadTimeout(10_000);
+        if (chunked) {
+            connection.setChunkedStreamingMode(64);
+        }
+        connection.setRequestProperty(WebhookReceiver.HMAC_HEADER, sign(SECRET, body));
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body);
+        }
+        return connection.getResponseCode();
+    }
+
+    @Test
+    void answersChallenge() throws Exception {
+        WebhookReceiver receiver = WebhookReceiver.builder(callback -> { }).setSharedSecret(SECRET).build();
+        byte[] body = bytes("{\"challenge\":\"abc\",\"webhookId\":7}");
+
+        WebhookResponse response = receiver.handle("abc", sign(SECRET, body), body);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaders()).containsEntry(WebhookReceiver.CHALLENGE_RESPONSE_HEADER, "abc");
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8)).isEqualTo("{\"smartsheetHookResponse\":\"abc\"}");
+        assertThat(receiver.getChallengeCount()).isEqualTo(1);
+        assertThat(receiver.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void verifiesSignature() throws Exception {
+        WebhookReceiver receiver = WebhookReceiver.builder(callback -> { }).setSharedSecret("other").build();
+        receiver.putSharedSecret(7, SECRET);
+        byte[] body = bytes(CALLBACK);
+
+        assertThat(receiver.handle(null, null, body).getStatus()).isEqualTo(401);
+        assertThat(receiver.handle(null, sign("other", body), body).getStatus()).isEqualTo(401);
+        assertThat(receiver.handle(null, "zz", body).getStatus()).isEqualTo(401);
+        assertThat(receiver.handle(null, sign(SECRET, body), body).getStatus()).isEqualTo(200);
+        assertThat(receiver.getUnauthorizedCount()).isEqualTo(3);
+        assertThat(receiver.getReceivedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void appliesOverflowPolicy() throws Exception {
+        byte[] body = bytes(CALLBACK);
+        String hmac = sign(SECRET, body);
+
+        WebhookReceiver reject = WebhookReceiver.builder(callback -> { }).setSharedSecret(SECRET).setQueueCapacity(1).build();
+        assertThat(reject.handle(null, hmac, body).getStatus()).isEqualTo(200);
+        assertThat(reject.handle(null, hmac, body).getStatus()).isEqualTo(503);
+        assertThat(reject.getDroppedCount()).isEqualTo(1);
+
+        WebhookReceiver dropOldest = WebhookReceiver.builder(callback -> { })
+                .setSharedSecret(SECRET)
+                .setQueueCapacity(1)
+                .setOverflowPolicy(WebhookReceiver.OverflowPolicy.DROP_OLDEST)
+                .build();
+        assertThat(dropOldest.handle(null, hmac, body).getStatus()).isEqualTo(200);
+        assertThat(dropOldest.handle(null, hmac, body).getStatus()).isEqualTo(200);
+        assertThat(dropOldest.getDroppedCount()).isEqualTo(1);
+        assertThat(dropOldest.getQueueDepth()).isEqualTo(1);
+    }
+
+    @Test
+    void deliversCallbacksOverHttp() throws Exception {
+        List<WebhookCallback> received = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(1);
+        WebhookReceiver receiver = WebhookReceiver.builder(callback -> {
+            received.add(callback);
+            delivered.countDown();
+        }).setSharedSecret(SECRET).build();
+        HttpServer server = WebhookHttpHandler.start(receiver, new InetSocketAddress("127.0.0.1", 0), "/hook");
+        try {
+            byte[] body = bytes(CALLBACK);
+            URL url = new URL("http://127.0.0.1:" + server.getAddress().getPort() + "/hook");
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setRequestProperty(WebhookReceiver.HMAC_HEADER, sign(SECRET, body));
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body);
+            }
+            assertThat(connection.getResponseCode()).isEqualTo(200);
+            try (InputStream in = connection.getInputStream()) {
+                assertThat(in.readAllBytes()).isEmpty();
+            }
+
+            assertThat(delivered.await(10, TimeUnit.SECONDS)).isTrue();
+            WebhookCallback callback = received.get(0);
+            assertThat(callback.getWebhookId()).isEqualTo(7L);
+            assertThat(callback.getScopeObjectId()).isEqualTo(42L);
+            assertThat(callback.getEvents()).hasSize(1);
+            assertThat(callback.getEvents().get(0).getId()).isEqualTo(11L);
+            assertThat(callback.getEvents().get(0).getEventType()).isEqualTo("updated");
+        } finally {
+            server.stop(0);
+            receiver.close();
+        }
+        assertThat(receiver.getHandledCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsOversizedBodiesOverHttp() throws Exception {
+        WebhookReceiver receiver = WebhookReceiver.builder(callback -> { }).setSharedSecret(SECRET).build();
+        byte[] body = bytes(CALLBACK);
+        HttpServer server = WebhookHttpHandler.start(receiver, new InetSocketAddress("127.0.0.1", 0), "/hook",
+                body.length, 2);
+        try {
+            byte[] oversized = new byte[body.length + 1];
+            assertThat(post(server, oversized, false)).isEqualTo(413);
+            assertThat(post(server, oversized, true)).isEqualTo(413);
+            assertThat(post(server, body, true)).isEqualTo(200);
+        } finally {
+            server.stop(0);
+            receiver.close();
+        }
+        assertThat(receiver.getReceivedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void slowClientDoesNotHoldUpOtherCallbacks() throws Exception {
+        WebhookReceiver receiver = WebhookReceiver.builder(callback -> { }).setSharedSecret(SECRET).build();
+        HttpServer server = WebhookHttpHandler.start(receiver, new InetSocketAddress("127.0.0.1", 0), "/hook");
+        try (Socket slow = new Socket("127.0.0.1", server.getAddress().getPort())) {
+            // announces a body it never sends
+            slow.getOutputStream().write(bytes("POST /hook HTTP/1.1\r\nHost: localhost\r\nContent-Length: 100\r\n\r\n"));
+            slow.getOutputStream().flush();
+            Thread.sleep(100);
+
+            assertThat(post(server, bytes(CALLBACK), false)).isEqualTo(200);
+        } finally {
+            server.stop(0);
+            receiver.close();
+        }
+    }
+}
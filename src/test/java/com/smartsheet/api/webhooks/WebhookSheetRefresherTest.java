@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2025 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.webhooks;
+
+import com.smartsheet.api.SheetResources;
+import com.smartsheet.api.cache.LruSheetCache;
+import com.smartsheet.api.cache.SheetCache;
+import com.smartsheet.api.cache.SheetCacheKey;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.WebhookCallback;
+import com.smartsheet.api.models.WebhookCallbackEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WebhookSheetRefresherTest {
+
+    private static final long SHEET_ID = 42L;
+
+    private static Row row(long id, String value) {
+        Cell cell = new Cell();
+        cell.setColumnId(1L);
+        cell.setValue(value);
+        Row row = new Row();
+        row.setId(id);
+        row.setCells(new ArrayList<>(List.of(cell)));
+        return row;
+    }
+
+    private static Sheet sheet(int version, Row... rows) {
+        Sheet sheet = new Sheet();
+        sheet.setId(SHEET_ID);
+        sheet.setVersion(version);
+        sheet.setRows(new ArrayList<>(Arrays.asList(rows)));
+        sheet.setTotalRowCount(rows.length);
+        return sheet;
+    }
+
+    private static WebhookCallback callback(WebhookCallbackEvent... events) {
+        return new WebhookCallback().setScope("sheet").setScopeObjectId(SHEET_ID).setEvents(Arrays.asList(events));
+    }
+
+    private static WebhookCallbackEvent event(String objectType, String eventType, Long id, Long rowId) {
+        return new WebhookCallbackEvent().setObjectType(objectType).setEventType(eventType).setId(id).setRowId(rowId);
+    }
+
+    @Test
+    void patchesChangedRowsFetchedInOneCall() throws Exception {
+        SheetResources sheets = mock(SheetResources.class);
+        SheetCache cache = new LruSheetCache();
+        cache.put(SheetCacheKey.of(SHEET_ID), sheet(1, row(1, "a"), row(2, "b"), row(3, "c")));
+        when(sheets.getSheet(eq(SHEET_ID), isNull(), isNull(), eq(Set.of(1L, 3L)), isNull(), isNull(), isNull(), isNull()))
+                .thenReturn(sheet(2, row(1, "a2"), row(3, "c2")));
+
+        try (WebhookSheetRefresher refresher = new WebhookSheetRefresher(sheets, cache, 50)) {
+            refresher.onCallback(callback(event("cell", "updated", null, 1L)));
+            refresher.onCallback(callback(event("cell", "updated", null, 3L), event("row", "updated", 1L, null)));
+            waitFor(() -> refresher.getPatchedRowCount() == 2);
+
+            assertThat(refresher.getRowFetchCount()).isEqualTo(1);
+        }
+        Sheet patched = cache.getIfPresent(SheetCacheKey.of(SHEET_ID));
+        assertThat(patched.getVersion()).isEqualTo(2);
+        assertThat(patched.getTotalRowCount()).isEqualTo(3);
+        assertThat(patched.getRows()).extracting(r -> r.getCells().get(0).getValue()).containsExactly("a2", "b", "c2");
+    }
+
+    @Test
+    void unreportedChangesRefreshTheSheet() throws Exception {
+        SheetResources sheets = mock(SheetResources.class);
+        SheetCache cache = new LruSheetCache();
+        Sheet cached = sheet(1, row(1, "a"), row(2, "b"), row(3, "c"));
+        cache.put(SheetCacheKey.of(SHEET_ID), cached);
+        when(sheets.getSheet(eq(SHEET_ID), isNull(), isNull(), eq(Set.of(1L, 3L)), isNull(), isNull(), isNull(), isNull()))
+                .thenReturn(sheet(3, row(1, "a2"), row(3, "c2")));
+        when(sheets.refreshSheet(cached, null, null, null)).thenReturn(sheet(3, row(1, "a2"), row(2, "b2"), row(3, "c2")));
+
+        try (WebhookSheetRefresher refresher = new WebhookSheetRefresher(sheets, cache, 10)) {
+            // one save, while the sheet is two versions ahead: another save's callback was lost
+            String timestamp = "2025-01-01T00:00:00Z";
+            refresher.onCallback(callback(event("cell", "updated", null, 1L).setTimestamp(timestamp),
+                    event("cell", "updated", null, 3L).setTimestamp(timestamp)));
+            waitFor(() -> refresher.getDeltaRefreshCount() == 1);
+
+            assertThat(refresher.getRowFetchCount()).isEqualTo(1);
+            assertThat(refresher.getPatchedRowCount()).isZero();
+        }
+        waitFor(() -> cache.getIfPresent(SheetCacheKey.of(SHEET_ID)).getVersion() == 3);
+        assertThat(cache.getIfPresent(SheetCacheKey.of(SHEET_ID)).getRows())
+                .extracting(r -> r.getCells().get(0).getValue()).containsExactly("a2", "b2", "c2");
+    }
+
+    @Test
+    void newerSheetCachedMeanwhileIsKept() throws Exception {
+        SheetResources sheets = mock(SheetResources.class);
+        SheetCache cache = spy(new LruSheetCache());
+        SheetCacheKey key = SheetCacheKey.of(SHEET_ID);
+        Sheet cached = sheet(1, row(1, "a"));
+        cache.put(key, cached);
+        Sheet loaded = sheet(2, row(1, "a2"));
+        when(sheets.getSheet(eq(SHEET_ID), isNull(), isNull(), eq(Set.of(1L)), isNull(), isNull(), isNull(), isNull()))
+                .thenAnswer(invocation -> {
+                    // a concurrent read loads the sheet while its rows are fetched
+                    cache.put(key, loaded);
+                    return sheet(2, row(1, "a2"));
+                });
+
+        try (WebhookSheetRefresher refresher = new WebhookSheetRefresher(sheets, cache, 10)) {
+            refresher.onCallback(callback(event("cell", "updated", null, 1L)));
+            verify(cache, timeout(10_000)).replace(eq(key), same(cached), any());
+        }
+        assertThat(cache.getIfPresent(key)).isSameAs(loaded);
+    }
+
+    @Test
+    void structuralChangesReloadTheSheet() throws Exception {
+        SheetResources sheets = mock(SheetResources.class);
+        SheetCache cache = new LruSheetCache();
+        cache.put(SheetCacheKey.of(SHEET_ID), sheet(1, row(1, "a")));
+        when(sheets.getSheet(eq(SHEET_ID), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull()))
+                .thenReturn(sheet(5, row(1, "a")));
+
+        try (WebhookSheetRefresher refresher = new WebhookSheetRefresher(sheets, cache, 10)) {
+            refresher.onCallback(callback(event("cell", "updated", null, 1L), event("column", "created", 9L, null)));
+            waitFor(() -> refresher.getFullRefreshCount() == 1);
+        }
+        verify(sheets, never()).getSheet(eq(SHEET_ID), any(), any(), eq(Set.of(1L)), any(), any(), any(), any());
+        assertThat(cache.getIfPresent(SheetCacheKey.of(SHEET_ID)).getVersion()).isEqualTo(5);
+    }
+
+    @Test
+    void addedRowsRefreshIncrementally() throws Exception {
+        SheetResources sheets = mock(SheetResources.class);
+        SheetCache cache = new LruSheetCache();
+        Sheet cached = sheet(1, row(1, "a"));
+        cache.put(SheetCacheKey.of(SHEET_ID), cached);
+        when(sheets.refreshSheet(cached, null, null, null)).thenReturn(sheet(2, row(1, "a"), row(2, "b")));
+
+        try (WebhookSheetRefresher refresher = new WebhookSheetRefresher(sheets, cache, 10)) {
+            refresher.onCallback(callback(event("row", "created", 2L, null), event("cell", "updated", null, 2L)));
+            verify(sheets, timeout(10_000)).refreshSheet(cached, null, null, null);
+            waitFor(() -> refresher.getDeltaRefreshCount() == 1);
+        }
+        waitFor(() -> cache.getIfPresent(SheetCacheKey.of(SHEET_ID)).getVersion() == 2);
+    }
+
+    private interface Condition {
+        boolean holds();
+    }
+
+    private static void waitFor(Condition condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.holds() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.holds()).isTrue();
+    }
+}